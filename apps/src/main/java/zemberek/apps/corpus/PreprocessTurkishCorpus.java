@@ -9,17 +9,15 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import zemberek.apps.ConsoleApp;
-import zemberek.core.concurrency.BlockingExecutor;
 import zemberek.core.concurrency.ConcurrencyUtil;
 import zemberek.core.logging.Log;
 import zemberek.core.text.BlockTextLoader;
 import zemberek.core.text.TextChunk;
 import zemberek.core.text.TextIO;
+import zemberek.core.text.TextPipeline;
 import zemberek.core.text.TextUtil;
 import zemberek.core.turkish.Turkish;
 import zemberek.morphology.TurkishMorphology;
@@ -115,11 +113,6 @@ public class PreprocessTurkishCorpus extends ConsoleApp {
       }
     }
     Log.info("There are %d files to process.", paths.size());
-    long totalLines = 0;
-    for (Path path : paths) {
-      totalLines += TextIO.lineCount(path);
-    }
-    final long total = totalLines;
 
     if (paths.size() == 0) {
       Log.info("No corpus files found for input : %s", input);
@@ -133,47 +126,40 @@ public class PreprocessTurkishCorpus extends ConsoleApp {
     }
 
     try (PrintWriter pw = new PrintWriter(output.toFile(), "UTF-8")) {
-
       BlockTextLoader loader = BlockTextLoader.fromPaths(paths, 10_000);
-      BlockingExecutor executor = new BlockingExecutor(threadCount);
-
-      AtomicInteger count = new AtomicInteger(0);
-
-      for (TextChunk chunk : loader) {
-        executor.submit(() -> {
-          List<String> processed = chunk.getData().stream()
-              .filter(s -> !s.startsWith("<")) // ignore meta tag lines.
-              .map(TextUtil::normalizeSpacesAndSoftHyphens)
-              .collect(Collectors.toList());
-
-          List<String> sentences = TurkishSentenceExtractor.DEFAULT.fromParagraphs(processed);
-          sentences = sentences.stream()
-              .filter(s -> !TextUtil.containsCombiningDiacritics(s))
-              .map(s -> {
-                if (operation == Operation.LEMMA) {
-                  return replaceWordsWithLemma(s);
-                } else {
-                  return String.join(" ", TurkishTokenizer.DEFAULT.tokenizeToStrings(s));
-                }
-              })
-              .map(s -> toLowercase ? s.toLowerCase(Turkish.LOCALE) : s)
-              .collect(Collectors.toList());
-
-          synchronized (this) {
+      // sentences are written in input order.
+      TextPipeline.from(loader)
+          .threadCount(threadCount)
+          .name("Preprocess")
+          .run(this::process, sentences -> {
             sentences.forEach(pw::println);
             sentenceCount.addAndGet(sentences.size());
-            int c = count.addAndGet(chunk.size());
-            System.out.println(String.format("(%d of %d lines) processed.", c, total));
-          }
-        });
-      }
-      executor.shutdown();
-      executor.awaitTermination(1, TimeUnit.DAYS);
+          });
     }
 
     Log.info("%d sentences are written in %s", sentenceCount.get(), output);
   }
 
+  private List<String> process(TextChunk chunk) {
+    List<String> processed = chunk.getData().stream()
+        .filter(s -> !s.startsWith("<")) // ignore meta tag lines.
+        .map(TextUtil::normalizeSpacesAndSoftHyphens)
+        .collect(Collectors.toList());
+
+    List<String> sentences = TurkishSentenceExtractor.DEFAULT.fromParagraphs(processed);
+    return sentences.stream()
+        .filter(s -> !TextUtil.containsCombiningDiacritics(s))
+        .map(s -> {
+          if (operation == Operation.LEMMA) {
+            return replaceWordsWithLemma(s);
+          } else {
+            return String.join(" ", TurkishTokenizer.DEFAULT.tokenizeToStrings(s));
+          }
+        })
+        .map(s -> toLowercase ? s.toLowerCase(Turkish.LOCALE) : s)
+        .collect(Collectors.toList());
+  }
+
   private String replaceWordsWithLemma(String sentence) {
     SentenceAnalysis analysis = morphology.analyzeAndDisambiguate(sentence);
     List<String> res = new ArrayList<>();
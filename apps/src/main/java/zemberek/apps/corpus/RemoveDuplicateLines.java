@@ -2,20 +2,26 @@ package zemberek.apps.corpus;
 
 import com.beust.jcommander.Parameter;
 import com.google.common.base.Charsets;
+import com.google.common.collect.Iterables;
 import com.google.common.hash.Hashing;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
 
 import zemberek.apps.ConsoleApp;
 import zemberek.core.collections.LongUIntMap;
+import zemberek.core.concurrency.ConcurrencyUtil;
 import zemberek.core.io.IOUtil;
 import zemberek.core.logging.Log;
 import zemberek.core.text.BlockTextLoader;
 import zemberek.core.text.TextChunk;
+import zemberek.core.text.TextPipeline;
 import zemberek.core.turkish.Turkish;
 import zemberek.core.turkish.TurkishAlphabet;
 
@@ -46,6 +52,45 @@ public class RemoveDuplicateLines extends ConsoleApp {
             description = "Write count information for each line.")
     boolean writeCounts = false;
 
+  @Parameter(names = {"--threadCount", "-tc"},
+      description = "Amount of threads used for normalizing and hashing lines.")
+  int threadCount = ConcurrencyUtil.getHalfCpuCount();
+
+  @Parameter(names = {"--sharded", "-s"},
+      description = "Uses on-disk shards instead of in-memory maps. Use this for corpora that "
+          + "do not fit in memory.")
+  boolean sharded = false;
+
+  @Parameter(names = {"--shardCount"},
+      description = "Amount of shards in sharded mode, at most 65536. Rounded up to a power of "
+          + "two. Each processing thread loads one shard to memory, using about 24 bytes per key, "
+          + "or 44 bytes if counts are written. A line has one key, or minHashBands keys in near "
+          + "duplicate mode. At most 256 shard files are open at the same time. If not given, "
+          + "it is estimated from the corpus size.")
+  int shardCount = -1;
+
+  @Parameter(names = {"--tempDir"},
+      description = "Directory for shard files in sharded mode. By default system temp "
+          + "directory is used.")
+  Path tempDir;
+
+  @Parameter(names = {"--nearDuplicates", "-near"},
+      description = "Also removes lines that are similar to an earlier line using MinHash on "
+          + "normalized lines. Implies sharded mode.")
+  boolean nearDuplicates = false;
+
+  @Parameter(names = {"--minHashBands"},
+      description = "MinHash band count for near duplicate detection.")
+  int minHashBands = 16;
+
+  @Parameter(names = {"--minHashRows"},
+      description = "MinHash rows per band. More rows require more similarity.")
+  int minHashRows = 4;
+
+  @Parameter(names = {"--shingleSize"},
+      description = "Character shingle size for near duplicate detection.")
+  int shingleSize = 5;
+
 
   @Override
   public String description() {
@@ -56,6 +101,7 @@ public class RemoveDuplicateLines extends ConsoleApp {
 
   private int duplicateCount = 0, totalCount = 0;
   private int PROGRESS = 500_000;
+  private static final int BLOCK_SIZE = 10_000;
 
   private LongUIntMap index = new LongUIntMap(20_000_000);
   private LongUIntMap histogram = new LongUIntMap(5_000_000);
@@ -79,30 +125,53 @@ public class RemoveDuplicateLines extends ConsoleApp {
 
     Log.info("Input  : %s", corpus);
     Log.info("Output : %s", output);
+    if (sharded || nearDuplicates) {
+      removeWithShards();
+      return;
+    }
     Log.info("Finding duplicates.");
     findDuplicates();
     Log.info("Regenerating corpus.");
     recreateCorpus();
   }
 
-  private void findDuplicates() {
+  // Lines of a chunk and their hashes.
+  private static class HashedChunk {
 
-    BlockTextLoader loader = BlockTextLoader.fromPath(corpus, 10_000);
-    int lineCounter=0;
+    final TextChunk chunk;
+    final long[] hashes;
 
-    for (TextChunk block : loader) {
-      for (String line : block.getData()) {
-        String l = line;
+    HashedChunk(TextChunk chunk, long[] hashes) {
+      this.chunk = chunk;
+      this.hashes = hashes;
+    }
+  }
 
-        if (normalizeLines) {
-          l = process(line);
-        }
+  private HashedChunk hash(TextChunk chunk) {
+    long[] hashes = new long[chunk.size()];
+    int i = 0;
+    for (String line : chunk) {
+      hashes[i++] = longHash(normalizeLines ? process(line) : line);
+    }
+    return new HashedChunk(chunk, hashes);
+  }
+
+  // Hashing is done in parallel, map updates in line order.
+  private TextPipeline pipeline() {
+    BlockTextLoader loader = BlockTextLoader.fromPath(corpus, BLOCK_SIZE);
+    Iterable<TextChunk> chunks = count == -1 ?
+        loader : Iterables.limit(loader, (int) (count / BLOCK_SIZE + 1));
+    return TextPipeline.from(chunks).threadCount(threadCount).progressInterval(0);
+  }
+
+  private void findDuplicates() throws InterruptedException {
+
+    pipeline().run(this::hash, hashed -> {
+      for (long hash : hashed.hashes) {
         totalCount++;
-        lineCounter++;
         if (totalCount % PROGRESS == 0) {
           Log.info("Total lines read: %d. Duplicates: %d", totalCount, duplicateCount);
         }
-        long hash = longHash(l);
         if (index.containsKey(hash)) {
           duplicateCount++;
         } else {
@@ -110,14 +179,34 @@ public class RemoveDuplicateLines extends ConsoleApp {
         }
         histogram.increment(hash);
       }
-        if(count!=-1 && lineCounter>count) {
-            break;
-        }
-    }
+    });
     Log.info("Total lines read: %d. Duplicates: %d", totalCount, duplicateCount);
     Log.info("Duplicate Ratio: %.3f", duplicateCount * 100.0d / totalCount);
   }
 
+  private void removeWithShards() throws IOException, InterruptedException {
+    Function<String, long[]> keys;
+    if (nearDuplicates) {
+      keys = new ShardedLineDeduplicator.MinHashKeys(
+          minHashBands, minHashRows, shingleSize, locale);
+      if (writeCounts) {
+        Log.warn("Counts are not written in near duplicate mode.");
+        writeCounts = false;
+      }
+    } else {
+      keys = line -> new long[]{
+          ShardedLineDeduplicator.exactKey(normalizeLines ? process(line) : line)};
+    }
+    if (shardCount == -1) {
+      // about 256MB of text per shard.
+      long keysPerLine = nearDuplicates ? minHashBands : 1;
+      shardCount = (int) Math.min(1 << 16,
+          Math.max(16, Files.size(corpus) * keysPerLine / (256 << 20)));
+    }
+    new ShardedLineDeduplicator(keys, shardCount, threadCount, writeCounts, count, tempDir)
+        .run(corpus, output);
+  }
+
   private String process(String line) {
     String l = line.replaceAll("[^" + TurkishAlphabet.INSTANCE.getAllLetters() + "]", "");
     l = l.toLowerCase(locale);
@@ -128,38 +217,30 @@ public class RemoveDuplicateLines extends ConsoleApp {
     return Hashing.murmur3_128().hashString(line, Charsets.UTF_8).asLong();
   }
 
-  private void recreateCorpus() throws IOException {
-    int lineCounter = 0;
-    int writtenLines = 0;
+  private void recreateCorpus() throws IOException, InterruptedException {
+    int[] lineCounter = {0};
+    int[] writtenLines = {0};
     try (PrintWriter writer = new PrintWriter(
         new OutputStreamWriter(IOUtil.geBufferedOutputStream(output), "UTF-8"))) {
-      BlockTextLoader loader = BlockTextLoader.fromPath(corpus, 10_000);
-      for (TextChunk block : loader) {
-        for (String line : block.getData()) {
-          String l = line;
-          if (normalizeLines) {
-            l = process(line);
-          }
-          lineCounter++;
-          if (lineCounter % PROGRESS == 0) {
-            Log.info("Total lines read: %d. Lines Written: %d", lineCounter, writtenLines);
+      pipeline().run(this::hash, hashed -> {
+        List<String> lines = hashed.chunk.getData();
+        for (int i = 0; i < lines.size(); i++) {
+          lineCounter[0]++;
+          if (lineCounter[0] % PROGRESS == 0) {
+            Log.info("Total lines read: %d. Lines Written: %d", lineCounter[0], writtenLines[0]);
           }
-          long hash = longHash(l);
-          if (index.get(hash) == lineCounter) {
-            if(writeCounts) {
-                writer.println(histogram.get(hash)  + " " + line);
+          long hash = hashed.hashes[i];
+          if (index.get(hash) == lineCounter[0]) {
+            if (writeCounts) {
+              writer.println(histogram.get(hash) + " " + lines.get(i));
             } else {
-              writer.println(line);
+              writer.println(lines.get(i));
             }
-            writtenLines++;
+            writtenLines[0]++;
           }
         }
-          if(count!=-1 && lineCounter>count) {
-              break;
-          }
-      }
-
-      Log.info("Total lines read: %d. Lines Written: %d", lineCounter, writtenLines);
+      });
+      Log.info("Total lines read: %d. Lines Written: %d", lineCounter[0], writtenLines[0]);
     }
   }
 
@@ -0,0 +1,675 @@
+package zemberek.apps.corpus;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Iterables;
+import com.google.common.hash.Hashing;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import zemberek.core.io.IOUtil;
+import zemberek.core.logging.Log;
+import zemberek.core.text.BlockTextLoader;
+import zemberek.core.text.TextChunk;
+import zemberek.core.text.TextPipeline;
+
+/**
+ * Removes duplicate lines of corpora that are too large for in-memory hash tables.
+ * <ol>
+ * <li>Lines are converted to 64 bit keys in parallel. (key, line number) pairs are written to
+ * shard files, shard of a pair is selected with the top bits of its key. If there are more shards
+ * than the open file limit, pairs are first written to fewer files with less bits, then those are
+ * split again until there is a file per shard.</li>
+ * <li>Every shard is loaded to primitive arrays and sorted by key, shards are processed in
+ * parallel. For every group of equal keys, first line is the owner and others are duplicates.
+ * Duplicate line numbers, and if requested owner counts, are written in line order. If there are
+ * more result files than the open file limit, they are merged to fewer files.</li>
+ * <li>Corpus is read again and lines that are not duplicates are written in their original order.
+ * Shard results are merged on the fly, so only one shard is in the memory of a thread.</li>
+ * </ol>
+ * A line may produce several keys. Then it is removed if any of its keys is seen in an earlier
+ * line. This is used for near duplicate detection with {@link MinHashKeys}.
+ */
+class ShardedLineDeduplicator {
+
+  private static final int STREAM_BUFFER_SIZE = 1 << 16;
+  private static final int BLOCK_SIZE = 10_000;
+  static final int DEFAULT_MAX_OPEN_FILES = 256;
+
+  private final Function<String, long[]> keyFunction;
+  private final int shardBits;
+  private final int threadCount;
+  private final boolean writeCounts;
+  private final long lineLimit;
+  private final Path tempRoot;
+  private final int maxOpenFiles;
+  // amount of key bits a partitioning level uses, so a level writes at most maxOpenFiles files.
+  private final int levelBits;
+
+  /**
+   * @param keyFunction generates keys of a line. It is called from several threads.
+   * @param shardCount amount of shards. It is rounded up to a power of two.
+   * @param writeCounts if true, amount of lines with same key is written before owner lines.
+   * Only applies to single key functions.
+   * @param lineLimit if not -1, roughly this amount of lines are processed.
+   * @param tempRoot directory for shard files. If null, system temp directory is used.
+   */
+  ShardedLineDeduplicator(
+      Function<String, long[]> keyFunction,
+      int shardCount,
+      int threadCount,
+      boolean writeCounts,
+      long lineLimit,
+      Path tempRoot) {
+    this(keyFunction, shardCount, threadCount, writeCounts, lineLimit, tempRoot,
+        DEFAULT_MAX_OPEN_FILES);
+  }
+
+  /**
+   * @param maxOpenFiles maximum amount of shard files that are open at the same time. Must be in
+   * [4..65536]. Default is 256.
+   */
+  ShardedLineDeduplicator(
+      Function<String, long[]> keyFunction,
+      int shardCount,
+      int threadCount,
+      boolean writeCounts,
+      long lineLimit,
+      Path tempRoot,
+      int maxOpenFiles) {
+    if (shardCount < 1 || shardCount > (1 << 16)) {
+      throw new IllegalArgumentException("Shard count must be in [1..65536] but it is " +
+          shardCount);
+    }
+    if (maxOpenFiles < 4 || maxOpenFiles > (1 << 16)) {
+      throw new IllegalArgumentException("Max open file count must be in [4..65536] but it is " +
+          maxOpenFiles);
+    }
+    this.maxOpenFiles = maxOpenFiles;
+    this.levelBits = 31 - Integer.numberOfLeadingZeros(maxOpenFiles);
+    this.keyFunction = keyFunction;
+    this.shardBits = 32 - Integer.numberOfLeadingZeros(shardCount - 1);
+    this.threadCount = threadCount;
+    this.writeCounts = writeCounts;
+    this.lineLimit = lineLimit;
+    this.tempRoot = tempRoot;
+  }
+
+  static long exactKey(String line) {
+    return Hashing.murmur3_128().hashString(line, Charsets.UTF_8).asLong();
+  }
+
+  static class Result {
+
+    final long lineCount;
+    final long writtenCount;
+
+    Result(long lineCount, long writtenCount) {
+      this.lineCount = lineCount;
+      this.writtenCount = writtenCount;
+    }
+  }
+
+  Result run(Path input, Path output) throws IOException, InterruptedException {
+    Path tempDir = tempRoot == null ?
+        Files.createTempDirectory("dedup") : Files.createTempDirectory(tempRoot, "dedup");
+    try {
+      int shardCount = 1 << shardBits;
+      Log.info("Writing line keys to %d shards in %s", shardCount, tempDir);
+      long lineCount = writeShards(input, tempDir);
+      Log.info("%d lines are read. Finding duplicates in shards.", lineCount);
+      processShards(tempDir);
+      Log.info("Writing unique lines to %s", output);
+      long written = writeOutput(input, output, tempDir);
+      Log.info("Total lines read: %d. Lines Written: %d", lineCount, written);
+      return new Result(lineCount, written);
+    } finally {
+      deleteDirectory(tempDir);
+    }
+  }
+
+  // Deletes the shard directory. Temp root may be outside of the system temp directory, so
+  // IOUtil.deleteTempDir is not used.
+  private static void deleteDirectory(Path dir) throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private TextPipeline pipeline(Path input) {
+    BlockTextLoader loader = BlockTextLoader.fromPath(input, BLOCK_SIZE);
+    Iterable<TextChunk> chunks = lineLimit == -1 ?
+        loader : Iterables.limit(loader, (int) (lineLimit / BLOCK_SIZE + 1));
+    return TextPipeline.from(chunks).threadCount(threadCount).name("Deduplication");
+  }
+
+  private Path shardPath(Path dir, int shard) {
+    return partitionPath(dir, shardBits, shard);
+  }
+
+  // file of the keys whose top [bits] bits are [prefix].
+  private static Path partitionPath(Path dir, int bits, int prefix) {
+    return dir.resolve(bits + "-" + prefix + ".keys");
+  }
+
+  private static Path duplicatesPath(Path dir, int shard) {
+    return dir.resolve(shard + ".dup");
+  }
+
+  private static Path countsPath(Path dir, int shard) {
+    return dir.resolve(shard + ".counts");
+  }
+
+  private static int prefix(long key, int bits) {
+    return bits == 0 ? 0 : (int) (key >>> (64 - bits));
+  }
+
+  private long writeShards(Path input, Path dir) throws IOException, InterruptedException {
+    int firstBits = Math.min(shardBits, levelBits);
+    int partitionCount = 1 << firstBits;
+    DataOutputStream[] partitions = new DataOutputStream[partitionCount];
+    long[] lineCounter = {0};
+    try {
+      for (int i = 0; i < partitionCount; i++) {
+        partitions[i] = IOUtil.getDataOutputStream(
+            partitionPath(dir, firstBits, i), STREAM_BUFFER_SIZE);
+      }
+      // keys are generated in parallel, written in line order so line numbers are ascending in
+      // every partition.
+      pipeline(input).run(chunk -> {
+        long[][] keys = new long[chunk.size()][];
+        int i = 0;
+        for (String line : chunk) {
+          keys[i++] = keyFunction.apply(line);
+        }
+        return keys;
+      }, keys -> {
+        try {
+          for (long[] lineKeys : keys) {
+            for (long key : lineKeys) {
+              DataOutputStream dos = partitions[prefix(key, firstBits)];
+              dos.writeLong(key);
+              dos.writeLong(lineCounter[0]);
+            }
+            lineCounter[0]++;
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } finally {
+      for (DataOutputStream partition : partitions) {
+        if (partition != null) {
+          partition.close();
+        }
+      }
+    }
+    // partitions are split with more bits until there is a file per shard.
+    int bits = firstBits;
+    while (bits < shardBits) {
+      int nextBits = Math.min(shardBits, bits + levelBits);
+      for (int i = 0; i < 1 << bits; i++) {
+        splitPartition(dir, bits, i, nextBits);
+      }
+      bits = nextBits;
+    }
+    return lineCounter[0];
+  }
+
+  private static void splitPartition(Path dir, int bits, int prefix, int nextBits)
+      throws IOException {
+    Path path = partitionPath(dir, bits, prefix);
+    int splitCount = 1 << (nextBits - bits);
+    // prefixes of the keys in this partition start from this value.
+    int firstPrefix = prefix << (nextBits - bits);
+    DataOutputStream[] splits = new DataOutputStream[splitCount];
+    try (DataInputStream dis = IOUtil.getDataInputStream(path, STREAM_BUFFER_SIZE)) {
+      for (int i = 0; i < splitCount; i++) {
+        splits[i] = IOUtil.getDataOutputStream(
+            partitionPath(dir, nextBits, firstPrefix + i), STREAM_BUFFER_SIZE);
+      }
+      long pairCount = Files.size(path) / 16;
+      for (long i = 0; i < pairCount; i++) {
+        long key = dis.readLong();
+        DataOutputStream dos = splits[prefix(key, nextBits) - firstPrefix];
+        dos.writeLong(key);
+        dos.writeLong(dis.readLong());
+      }
+    } finally {
+      for (DataOutputStream split : splits) {
+        if (split != null) {
+          split.close();
+        }
+      }
+    }
+    Files.delete(path);
+  }
+
+  private void processShards(Path dir) throws IOException, InterruptedException {
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < 1 << shardBits; i++) {
+        int shard = i;
+        futures.add(executor.submit(() -> {
+          processShard(dir, shard);
+          return null;
+        }));
+      }
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (e.getCause() instanceof IOException) {
+            throw (IOException) e.getCause();
+          }
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void processShard(Path dir, int shard) throws IOException {
+    Path path = shardPath(dir, shard);
+    long size = Files.size(path) / 16;
+    if (size > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("Shard " + shard + " is too large. Use more shards.");
+    }
+    long[] keys = new long[(int) size];
+    long[] lines = new long[(int) size];
+    try (DataInputStream dis = IOUtil.getDataInputStream(path, STREAM_BUFFER_SIZE)) {
+      for (int i = 0; i < size; i++) {
+        keys[i] = dis.readLong();
+        lines[i] = dis.readLong();
+      }
+    }
+    Files.delete(path);
+    sort(keys, lines, 0, keys.length - 1);
+
+    // duplicates of different keys are mixed, so they are sorted by line number before writing.
+    long[] duplicates = new long[keys.length];
+    int duplicateCount = 0;
+    long[] owners = writeCounts ? new long[keys.length] : null;
+    int[] counts = writeCounts ? new int[keys.length] : null;
+    int ownerCount = 0;
+    int i = 0;
+    while (i < keys.length) {
+      int j = i + 1;
+      while (j < keys.length && keys[j] == keys[i]) {
+        if (lines[j] != lines[i]) { // a line may generate same key more than once.
+          duplicates[duplicateCount++] = lines[j];
+        }
+        j++;
+      }
+      if (writeCounts) {
+        owners[ownerCount] = lines[i];
+        counts[ownerCount++] = j - i;
+      }
+      i = j;
+    }
+    Arrays.sort(duplicates, 0, duplicateCount);
+    try (DataOutputStream dos = IOUtil
+        .getDataOutputStream(duplicatesPath(dir, shard), STREAM_BUFFER_SIZE)) {
+      for (int k = 0; k < duplicateCount; k++) {
+        dos.writeLong(duplicates[k]);
+      }
+    }
+    if (writeCounts) {
+      // owners are in key order.
+      sort(owners, counts, ownerCount);
+      try (DataOutputStream dos = IOUtil
+          .getDataOutputStream(countsPath(dir, shard), STREAM_BUFFER_SIZE)) {
+        for (int k = 0; k < ownerCount; k++) {
+          dos.writeLong(owners[k]);
+          dos.writeInt(counts[k]);
+        }
+      }
+    }
+  }
+
+  private long writeOutput(Path input, Path output, Path dir)
+      throws IOException, InterruptedException {
+    int shardCount = 1 << shardBits;
+    List<Path> duplicateFiles = new ArrayList<>();
+    List<Path> countFiles = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++) {
+      duplicateFiles.add(duplicatesPath(dir, i));
+      if (writeCounts) {
+        countFiles.add(countsPath(dir, i));
+      }
+    }
+    // both kinds of files are open while writing the output.
+    int limit = writeCounts ? maxOpenFiles / 2 : maxOpenFiles;
+    duplicateFiles = reduce(duplicateFiles, dir, false, limit);
+    countFiles = reduce(countFiles, dir, true, limit);
+
+    List<ShardReader> readers = new ArrayList<>();
+    PriorityQueue<ShardReader> duplicates = new PriorityQueue<>(duplicateFiles.size() + 1);
+    PriorityQueue<ShardReader> counts = new PriorityQueue<>(countFiles.size() + 1);
+    long[] lineCounter = {0};
+    long[] written = {0};
+    try (PrintWriter writer = new PrintWriter(
+        new OutputStreamWriter(IOUtil.geBufferedOutputStream(output), "UTF-8"))) {
+      for (Path path : duplicateFiles) {
+        ShardReader d = new ShardReader(path, false);
+        readers.add(d);
+        if (d.next()) {
+          duplicates.add(d);
+        }
+      }
+      for (Path path : countFiles) {
+        ShardReader c = new ShardReader(path, true);
+        readers.add(c);
+        if (c.next()) {
+          counts.add(c);
+        }
+      }
+      // chunks are not processed, pipeline only reads ahead of the writer.
+      pipeline(input).threadCount(1).progressInterval(0).run(chunk -> chunk, chunk -> {
+        try {
+          for (String line : chunk) {
+            long n = lineCounter[0]++;
+            boolean duplicate = false;
+            while (!duplicates.isEmpty() && duplicates.peek().line == n) {
+              duplicate = true;
+              advance(duplicates);
+            }
+            if (duplicate) {
+              continue;
+            }
+            if (writeCounts) {
+              int count = 1;
+              if (!counts.isEmpty() && counts.peek().line == n) {
+                count = counts.peek().count;
+                advance(counts);
+              }
+              writer.print(count);
+              writer.print(' ');
+            }
+            writer.println(line);
+            written[0]++;
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } finally {
+      for (ShardReader reader : readers) {
+        reader.close();
+      }
+    }
+    return written[0];
+  }
+
+  // Merges result files in groups until there are at most [limit] files.
+  private List<Path> reduce(List<Path> files, Path dir, boolean hasCounts, int limit)
+      throws IOException {
+    // one file is written while merging.
+    int groupSize = maxOpenFiles - 1;
+    int mergeIndex = 0;
+    while (files.size() > limit) {
+      List<Path> merged = new ArrayList<>();
+      for (int i = 0; i < files.size(); i += groupSize) {
+        Path target = dir.resolve("merged-" + mergeIndex++ + (hasCounts ? ".counts" : ".dup"));
+        merge(files.subList(i, Math.min(files.size(), i + groupSize)), target, hasCounts);
+        merged.add(target);
+      }
+      files = merged;
+    }
+    return files;
+  }
+
+  // Merges line ordered result files to [target] and deletes them.
+  private static void merge(List<Path> files, Path target, boolean hasCounts)
+      throws IOException {
+    List<ShardReader> readers = new ArrayList<>();
+    PriorityQueue<ShardReader> queue = new PriorityQueue<>(files.size());
+    try (DataOutputStream dos = IOUtil.getDataOutputStream(target, STREAM_BUFFER_SIZE)) {
+      for (Path path : files) {
+        ShardReader reader = new ShardReader(path, hasCounts);
+        readers.add(reader);
+        if (reader.next()) {
+          queue.add(reader);
+        }
+      }
+      while (!queue.isEmpty()) {
+        ShardReader reader = queue.peek();
+        dos.writeLong(reader.line);
+        if (hasCounts) {
+          dos.writeInt(reader.count);
+        }
+        advance(queue);
+      }
+    } finally {
+      for (ShardReader reader : readers) {
+        reader.close();
+      }
+    }
+    for (Path path : files) {
+      Files.delete(path);
+    }
+  }
+
+  private static void advance(PriorityQueue<ShardReader> queue) throws IOException {
+    ShardReader reader = queue.poll();
+    if (reader.next()) {
+      queue.add(reader);
+    }
+  }
+
+  // Reads line numbers, and counts if available, from a shard result file.
+  private static class ShardReader implements Comparable<ShardReader>, AutoCloseable {
+
+    final DataInputStream dis;
+    final boolean hasCounts;
+    long line;
+    int count;
+
+    ShardReader(Path path, boolean hasCounts) throws IOException {
+      this.dis = IOUtil.getDataInputStream(path, STREAM_BUFFER_SIZE);
+      this.hasCounts = hasCounts;
+    }
+
+    boolean next() throws IOException {
+      try {
+        line = dis.readLong();
+        if (hasCounts) {
+          count = dis.readInt();
+        }
+        return true;
+      } catch (EOFException e) {
+        return false;
+      }
+    }
+
+    @Override
+    public int compareTo(ShardReader o) {
+      return Long.compare(line, o.line);
+    }
+
+    @Override
+    public void close() throws IOException {
+      dis.close();
+    }
+  }
+
+  // Sorts pairs by key, then by value.
+  static void sort(long[] keys, long[] values, int left, int right) {
+    while (right - left > 16) {
+      int mid = (left + right) >>> 1;
+      long pk = keys[mid];
+      long pv = values[mid];
+      int i = left;
+      int j = right;
+      while (i <= j) {
+        while (compare(keys[i], values[i], pk, pv) < 0) {
+          i++;
+        }
+        while (compare(keys[j], values[j], pk, pv) > 0) {
+          j--;
+        }
+        if (i <= j) {
+          swap(keys, values, i, j);
+          i++;
+          j--;
+        }
+      }
+      // recurse to the smaller part to limit the stack depth.
+      if (j - left < right - i) {
+        sort(keys, values, left, j);
+        left = i;
+      } else {
+        sort(keys, values, i, right);
+        right = j;
+      }
+    }
+    for (int i = left + 1; i <= right; i++) {
+      for (int j = i; j > left && compare(keys[j], values[j], keys[j - 1], values[j - 1]) < 0;
+          j--) {
+        swap(keys, values, j, j - 1);
+      }
+    }
+  }
+
+  private static int compare(long k1, long v1, long k2, long v2) {
+    int c = Long.compare(k1, k2);
+    return c != 0 ? c : Long.compare(v1, v2);
+  }
+
+  private static void swap(long[] keys, long[] values, int i, int j) {
+    long k = keys[i];
+    keys[i] = keys[j];
+    keys[j] = k;
+    long v = values[i];
+    values[i] = values[j];
+    values[j] = v;
+  }
+
+  // Sorts [size] owner lines and their counts by line.
+  private static void sort(long[] lines, int[] counts, int size) {
+    long[] values = new long[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = counts[i];
+    }
+    sort(lines, values, 0, size - 1);
+    for (int i = 0; i < size; i++) {
+      counts[i] = (int) values[i];
+    }
+  }
+
+  /**
+   * Generates MinHash based locality sensitive keys of lines. Lines are lower cased, characters
+   * other than letters are replaced with spaces and character shingles are hashed. [bands] keys
+   * are generated from [bands * rows] minimum hash values. Two lines share at least one key with
+   * a high probability if Jaccard similarity of their shingle sets is above (1/bands)^(1/rows).
+   * For 16 bands and 4 rows this is about 0.5, for 8 bands and 8 rows about 0.77.
+   * <p>
+   * If normalized line is shorter than the shingle size, like lines without letters, it has too
+   * few shingles for similarity. Such lines get a single key of the exact line, so they are only
+   * removed if the same line is seen before.
+   */
+  static class MinHashKeys implements Function<String, long[]> {
+
+    private final int bands;
+    private final int rows;
+    private final int shingleSize;
+    private final Locale locale;
+    private final long[] seeds;
+
+    MinHashKeys(int bands, int rows, int shingleSize, Locale locale) {
+      if (bands < 1 || rows < 1 || shingleSize < 1) {
+        throw new IllegalArgumentException("bands, rows and shingle size must be positive.");
+      }
+      this.bands = bands;
+      this.rows = rows;
+      this.shingleSize = shingleSize;
+      this.locale = locale;
+      this.seeds = new long[bands * rows];
+      long s = 0x2545F4914F6CDD1DL;
+      for (int i = 0; i < seeds.length; i++) {
+        s = mix(s + i);
+        seeds[i] = s;
+      }
+    }
+
+    String normalize(String line) {
+      StringBuilder sb = new StringBuilder(line.length());
+      boolean space = true;
+      for (int i = 0; i < line.length(); i++) {
+        char c = line.charAt(i);
+        if (Character.isLetter(c)) {
+          sb.append(c);
+          space = false;
+        } else if (!space) {
+          sb.append(' ');
+          space = true;
+        }
+      }
+      if (sb.length() > 0 && space) {
+        sb.setLength(sb.length() - 1);
+      }
+      return sb.toString().toLowerCase(locale);
+    }
+
+    @Override
+    public long[] apply(String line) {
+      String s = normalize(line);
+      if (s.length() < shingleSize) {
+        return new long[]{exactKey(line)};
+      }
+      long[] mins = new long[seeds.length];
+      Arrays.fill(mins, Long.MAX_VALUE);
+      int shingleCount = s.length() - shingleSize + 1;
+      for (int i = 0; i < shingleCount; i++) {
+        long h = 0;
+        for (int j = i; j < i + shingleSize; j++) {
+          h = h * 1_000_003L + s.charAt(j);
+        }
+        for (int k = 0; k < seeds.length; k++) {
+          long v = mix(h ^ seeds[k]);
+          if (v < mins[k]) {
+            mins[k] = v;
+          }
+        }
+      }
+      long[] keys = new long[bands];
+      for (int b = 0; b < bands; b++) {
+        long h = mix(b + 1);
+        for (int r = 0; r < rows; r++) {
+          h = mix(h ^ mins[b * rows + r]);
+        }
+        keys[b] = h;
+      }
+      return keys;
+    }
+
+    // SplitMix64 finalizer.
+    private static long mix(long z) {
+      z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+      z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+      return z ^ (z >>> 31);
+    }
+  }
+}
@@ -49,6 +49,12 @@ public class TrainClassifier extends FastTextAppBase {
       description = "Learning rate. Should be between 0.01-2.0")
   float learningRate = FastTextClassifierTrainer.DEFAULT_LR;
 
+  @Parameter(names = {"--tempDir"},
+      description = "Directory for temporary training files. Training corpus is converted to "
+          + "word ids and written to this directory. If not used, system temporary directory "
+          + "is used.")
+  Path tempDir;
+
   @Override
   public String description() {
     return "Generates a text classification model from a training set. Classification algorithm"
@@ -82,6 +88,7 @@ public class TrainClassifier extends FastTextAppBase {
         .wordNgramOrder(wordNGrams)
         .dimension(dimension)
         .contextWindowSize(contextWindowSize)
+        .tempDir(tempDir)
         .build();
 
     Log.info("Training Started.");
@@ -2,10 +2,15 @@ package zemberek.apps.grpc;
 
 import com.beust.jcommander.Parameter;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import zemberek.apps.ConsoleApp;
 import zemberek.core.io.IOUtil;
 import zemberek.core.logging.Log;
+import zemberek.grpc.server.Slf4jLoggingBridge;
 import zemberek.grpc.server.ZemberekGrpcConfiguration;
+import zemberek.grpc.server.ZemberekGrpcConfiguration.ExecutorType;
 import zemberek.grpc.server.ZemberekGrpcServer;
 
 public class StartGrpcServer extends ConsoleApp {
@@ -19,6 +24,50 @@ public class StartGrpcServer extends ConsoleApp {
           + " external data.")
   public Path dataRoot;
 
+  @Parameter(names = {"--executor"},
+      description = "Executor type for running calls. DEFAULT, FIXED, FORK_JOIN or VIRTUAL. VIRTUAL"
+          + " requires Java 21 or later. Default is DEFAULT, the executor of gRPC.")
+  public ExecutorType executor;
+
+  @Parameter(names = {"--threads"},
+      description = "Thread count for call executor and for processing batch items. Default is "
+          + "the available processor count.")
+  public Integer threads;
+
+  @Parameter(names = {"--maxInFlight"},
+      description = "Maximum amount of concurrent calls per service. Extra calls are rejected. "
+          + "Default is 256.")
+  public Integer maxInFlight;
+
+  @Parameter(names = {"--batchQueueSize"},
+      description = "Maximum amount of batch and stream items waiting for a batch thread. Extra "
+          + "work is rejected. Default is 4096.")
+  public Integer batchQueueSize;
+
+  @Parameter(names = {"--classificationModel"},
+      description = "Classification model to load, as name=path. Can be used multiple times. "
+          + "Model with name `default` is used when requests do not specify a model.")
+  public List<String> classificationModels = new ArrayList<>();
+
+  @Parameter(names = {"--nerModel"},
+      description = "Named entity recognition model directory to load, as name=path. Can be used "
+          + "multiple times.")
+  public List<String> nerModels = new ArrayList<>();
+
+  @Parameter(names = {"--modelDirectory"},
+      description = "Enables the model administration service, which loads and unloads models at "
+          + "runtime. Models are only loaded from this directory. Service is not authenticated.")
+  public Path modelDirectory;
+
+  @Parameter(names = {"--slf4j"},
+      description = "Sends log messages to SLF4J. A SLF4J binding should be in the class path.")
+  public boolean slf4j;
+
+  @Parameter(names = {"--asyncLogQueueSize"},
+      description = "If positive, log messages are written by a background thread, buffering at "
+          + "most this amount of messages. Extra messages are dropped.")
+  public int asyncLogQueueSize = 0;
+
   @Override
   public String description() {
     return "Starts Zemberek gRPC Server. By default it uses port 6789";
@@ -26,14 +75,54 @@ public class StartGrpcServer extends ConsoleApp {
 
   @Override
   public void run() throws Exception {
-    ZemberekGrpcConfiguration configuration = null;
+    if (slf4j) {
+      Slf4jLoggingBridge.install();
+    } else if (asyncLogQueueSize > 0) {
+      Log.enableAsync(asyncLogQueueSize);
+    }
+    ZemberekGrpcConfiguration configuration = ZemberekGrpcConfiguration.defaultConfiguration();
     if (dataRoot != null) {
       IOUtil.checkDirectoryArgument(dataRoot, "Zemberek External Data Root");
       Log.info("Zemberek external data root is : %s", dataRoot.toFile().getAbsolutePath());
       configuration = ZemberekGrpcConfiguration.fromDataRoot(dataRoot);
     }
+    // only the options that are given override the configuration values.
+    if (executor != null || threads != null) {
+      configuration.executor(
+          executor == null ? configuration.getExecutorType() : executor,
+          threads == null ? configuration.getThreadCount() : threads);
+    }
+    if (maxInFlight != null) {
+      configuration.maxInFlight(maxInFlight);
+    }
+    if (batchQueueSize != null) {
+      configuration.batchQueueSize(batchQueueSize);
+    }
+    for (String s : classificationModels) {
+      configuration.classificationModel(modelName(s), modelPath(s));
+    }
+    for (String s : nerModels) {
+      configuration.nerModel(modelName(s), modelPath(s));
+    }
+    if (modelDirectory != null) {
+      configuration.modelDirectory(modelDirectory);
+    }
     ZemberekGrpcServer server = new ZemberekGrpcServer(port, configuration);
     server.start();
+    server.blockUntilShutdown();
+  }
+
+  private static String modelName(String nameAndPath) {
+    int index = nameAndPath.indexOf('=');
+    if (index <= 0) {
+      throw new IllegalArgumentException(
+          "Model should be in name=path format. But it is " + nameAndPath);
+    }
+    return nameAndPath.substring(0, index).trim();
+  }
+
+  private static Path modelPath(String nameAndPath) {
+    return Paths.get(nameAndPath.substring(nameAndPath.indexOf('=') + 1).trim());
   }
 
   public static void main(String[] args) {
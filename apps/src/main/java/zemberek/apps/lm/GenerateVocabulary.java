@@ -4,19 +4,25 @@ import com.beust.jcommander.Parameter;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.text.Collator;
 import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
 import zemberek.apps.ConsoleApp;
+import zemberek.core.collections.ConcurrentHistogram;
 import zemberek.core.collections.Histogram;
+import zemberek.core.collections.SpillingHistogram;
+import zemberek.core.concurrency.ConcurrencyUtil;
 import zemberek.core.io.SimpleTextReader;
 import zemberek.core.io.SimpleTextWriter;
 import zemberek.core.logging.Log;
+import zemberek.core.text.BlockTextLoader;
+import zemberek.core.text.TextChunk;
+import zemberek.core.text.TextPipeline;
 
 public class GenerateVocabulary extends ConsoleApp {
 
@@ -67,6 +73,19 @@ public class GenerateVocabulary extends ConsoleApp {
           description = "Minimum frequency of a word.")
   int minFreq = 1;
 
+  @Parameter(names = {"--threadCount", "-tc"},
+      description = "Amount of threads used for counting words.")
+  int threadCount = ConcurrencyUtil.getHalfCpuCount();
+
+  @Parameter(names = {"--maxKeysInMemory"},
+      description = "If used, word counts are written to temporary files when there are more "
+          + "than this amount of words in memory. Use it for corpora with very large vocabularies.")
+  int maxKeysInMemory = -1;
+
+  @Parameter(names = {"--tempDir"},
+      description = "Directory for temporary count files. Default is system temp directory.")
+  File tempDir = new File(System.getProperty("java.io.tmpdir"));
+
 
   public static void main(String[] args) {
     new GenerateVocabulary().execute(args);
@@ -106,76 +125,113 @@ public class GenerateVocabulary extends ConsoleApp {
       collator = Collator.getInstance(new Locale(sortLocale));
     }
     Log.info("Processing corpus: %s", corpus);
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(corpus), "utf-8"))) {
-      String line;
-      Histogram<String> histogram = new Histogram<>(50000);
-      int count = 0;
-      while ((line = reader.readLine()) != null) {
-        List<String> words = new ArrayList<>(10);
-        for (String word : Splitter.on(" ").omitEmptyStrings().trimResults().split(line)) {
-          if (word.length() > 30) {
-            Log.warn("Too long word %s", word);
+    Histogram<String> histogram;
+    long totalCount;
+    long lineCount;
+    if (maxKeysInMemory > 0) {
+      Log.info("Counts will be written to %s when there are more than %d words in memory.",
+          tempDir, maxKeysInMemory);
+      try (SpillingHistogram counts = new SpillingHistogram(tempDir.toPath(), maxKeysInMemory)) {
+        lineCount = countWords(h -> {
+          try {
+            counts.add(h);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
           }
-          if (!countMetaWords) {
-            if (word.contains("<") || word.equalsIgnoreCase(">")) {
-              continue;
-            }
-          }
-          words.add(word);
-        }
-
-        if (words.isEmpty())
-          continue;
-        histogram.add(words);
-        if (count % 500000 == 0 && count != 0)
-          Log.info("%d lines processed. Vocabulary Size: %d", count, histogram.size());
-        count++;
+        });
+        Log.info("Merging %d count files.", counts.spillCount());
+        // only the words that can be in the vocabulary are loaded.
+        histogram = counts.toHistogram(minFreq, top);
+        totalCount = counts.totalCount();
       }
-      Log.info("A total of %d lines have been processed. Vocabulary Size: %d", count, histogram.size());
+    } else {
+      ConcurrentHistogram<String> counts = new ConcurrentHistogram<>();
+      lineCount = countWords(counts::add);
+      histogram = counts.toHistogram();
+      totalCount = histogram.totalCount();
+    }
+    Log.info("A total of %d lines have been processed. Vocabulary Size: %d",
+        lineCount, histogram.size());
 
-      if (minFreq > 1) {
-        histogram.removeSmaller(minFreq);
-      }
+    if (minFreq > 1) {
+      histogram.removeSmaller(minFreq);
+    }
 
-      if (top >= histogram.size() || top == -1) {
-        top = histogram.size();
-        Log.info("All %d words will be in the vocabulary.", top);
-      } else Log.info("Top %d words will be used in the vocabulary.", top);
+    if (top >= histogram.size() || top == -1) {
+      top = histogram.size();
+      Log.info("All %d words will be in the vocabulary.", top);
+    } else Log.info("Top %d words will be used in the vocabulary.", top);
 
-      List<String> mostFrequent;
-      if (top > 0) {
-        mostFrequent = histogram.getTop(top);
-      } else {
-        mostFrequent = histogram.getSortedList();
-      }
+    List<String> mostFrequent;
+    if (top > 0) {
+      mostFrequent = histogram.getTop(top);
+    } else {
+      mostFrequent = histogram.getSortedList();
+    }
 
-      Log.info("Coverage: %.3f",
-              100d * ((double) histogram.totalCount(mostFrequent)) / histogram.totalCount());
+    Log.info("Coverage: %.3f",
+            100d * ((double) histogram.totalCount(mostFrequent)) / totalCount);
 
-      LinkedHashSet<String> resultSet = Sets.newLinkedHashSet(mostFrequent);
-      resultSet.addAll(wordsToInclude);
-      resultSet.removeAll(wordsToExclude);
+    LinkedHashSet<String> resultSet = Sets.newLinkedHashSet(mostFrequent);
+    resultSet.addAll(wordsToInclude);
+    resultSet.removeAll(wordsToExclude);
 
-      List<String> result = Lists.newArrayList(resultSet);
-      Log.info("Total size of vocabulary: %d", result.size());
-      if (ordered) {
-        Log.info("Sorting file with word order.");
-        Collections.sort(result, collator);
+    List<String> result = Lists.newArrayList(resultSet);
+    Log.info("Total size of vocabulary: %d", result.size());
+    if (ordered) {
+      Log.info("Sorting file with word order.");
+      Collections.sort(result, collator);
+    }
+    com.google.common.io.Files.createParentDirs(outFile);
+    Log.info("Saving to vocabulary file: %s", outFile);
+    if (!writeFrequencies) {
+      SimpleTextWriter.utf8Builder(outFile).addNewLineBeforClose().build().writeLines(result);
+    } else {
+      Log.info("Frequency values will be written with words.");
+      try (SimpleTextWriter stw = SimpleTextWriter.keepOpenUTF8Writer(outFile)) {
+        for (String s : result) {
+          stw.writeLine(s + frequencyFileDelimiter + histogram.getCount(s));
+        }
       }
-      com.google.common.io.Files.createParentDirs(outFile);
-      Log.info("Saving to vocabulary file: %s", outFile);
-      if (!writeFrequencies) {
-        SimpleTextWriter.utf8Builder(outFile).addNewLineBeforClose().build().writeLines(result);
-      } else {
-        Log.info("Frequency values will be written with words.");
-        try (SimpleTextWriter stw = SimpleTextWriter.keepOpenUTF8Writer(outFile)) {
-          for (String s : result) {
-            stw.writeLine(s + frequencyFileDelimiter + histogram.getCount(s));
+    }
+    Log.info("Done.");
+  }
+
+  // chunks are counted in parallel, local counts of a chunk are added to [target]. Returns the
+  // amount of lines that contain a counted word.
+  private long countWords(Consumer<Histogram<String>> target)
+      throws IOException, InterruptedException {
+    LongAdder lineCount = new LongAdder();
+    TextPipeline
+        .from(BlockTextLoader.fromPath(corpus.toPath(), 10_000))
+        .threadCount(threadCount)
+        .ordered(false)
+        .name("Vocabulary")
+        .run(chunk -> target.accept(countWords(chunk, lineCount)));
+    return lineCount.sum();
+  }
+
+  private Histogram<String> countWords(TextChunk chunk, LongAdder lineCount) {
+    Histogram<String> histogram = new Histogram<>();
+    for (String line : chunk) {
+      boolean counted = false;
+      for (String word : Splitter.on(" ").omitEmptyStrings().trimResults().split(line)) {
+        if (word.length() > 30) {
+          Log.warn("Too long word %s", word);
+        }
+        if (!countMetaWords) {
+          if (word.contains("<") || word.equalsIgnoreCase(">")) {
+            continue;
           }
         }
+        histogram.add(word);
+        counted = true;
+      }
+      if (counted) {
+        lineCount.increment();
       }
-      Log.info("Done.");
     }
+    return histogram;
   }
 
   private Set<String> getWordsFromFile(File file) throws IOException {
@@ -0,0 +1,119 @@
+package zemberek.apps.corpus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.core.turkish.Turkish;
+
+public class ShardedLineDeduplicatorTest {
+
+  @Test
+  public void exactDuplicatesTest() throws IOException, InterruptedException {
+    Random random = new Random(1);
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 30_000; i++) {
+      lines.add("line " + random.nextInt(5000));
+    }
+    Map<String, Integer> expected = new LinkedHashMap<>();
+    for (String line : lines) {
+      expected.merge(line, 1, Integer::sum);
+    }
+    Path input = Files.createTempFile("dedup", ".txt");
+    Path output = Files.createTempFile("dedup", ".out");
+    Files.write(input, lines, StandardCharsets.UTF_8);
+
+    for (int shardCount : new int[]{1, 5, 64}) {
+      new ShardedLineDeduplicator(
+          s -> new long[]{ShardedLineDeduplicator.exactKey(s)}, shardCount, 3, false, -1, null)
+          .run(input, output);
+      Assert.assertEquals(new ArrayList<>(expected.keySet()),
+          Files.readAllLines(output, StandardCharsets.UTF_8));
+    }
+
+    new ShardedLineDeduplicator(
+        s -> new long[]{ShardedLineDeduplicator.exactKey(s)}, 16, 3, true, -1, null)
+        .run(input, output);
+    List<String> withCounts = new ArrayList<>();
+    expected.forEach((k, v) -> withCounts.add(v + " " + k));
+    Assert.assertEquals(withCounts, Files.readAllLines(output, StandardCharsets.UTF_8));
+
+    // shards are written in several levels and results are merged before output.
+    new ShardedLineDeduplicator(
+        s -> new long[]{ShardedLineDeduplicator.exactKey(s)}, 64, 3, true, -1, null, 4)
+        .run(input, output);
+    Assert.assertEquals(withCounts, Files.readAllLines(output, StandardCharsets.UTF_8));
+
+    Files.delete(input);
+    Files.delete(output);
+  }
+
+  @Test
+  public void nearDuplicatesTest() throws IOException, InterruptedException {
+    List<String> lines = Arrays.asList(
+        "Ankara Türkiye'nin başkentidir ve ikinci büyük şehridir.",
+        "Bugün hava çok güzel.",
+        "ANKARA, Türkiye'nin başkentidir ve ikinci büyük şehridir!",
+        "Ankara Türkiye'nin başkentidir ve ikinci büyük şehridir",
+        "Yarın yağmur yağacak.",
+        "bugün hava çok güzel");
+    Path input = Files.createTempFile("dedup", ".txt");
+    Path output = Files.createTempFile("dedup", ".out");
+    Files.write(input, lines, StandardCharsets.UTF_8);
+
+    new ShardedLineDeduplicator(
+        new ShardedLineDeduplicator.MinHashKeys(16, 4, 5, Turkish.LOCALE), 4, 2, false, -1, null)
+        .run(input, output);
+    Assert.assertEquals(
+        Arrays.asList(lines.get(0), lines.get(1), lines.get(4)),
+        Files.readAllLines(output, StandardCharsets.UTF_8));
+
+    Files.delete(input);
+    Files.delete(output);
+  }
+
+  @Test
+  public void linesWithoutLettersTest() throws IOException, InterruptedException {
+    List<String> lines = Arrays.asList(
+        "123", "456", "", "12.5", "?", "456", "", "ab", "cd", "ab", "789 ...");
+    Path input = Files.createTempFile("dedup", ".txt");
+    Path output = Files.createTempFile("dedup", ".out");
+    Files.write(input, lines, StandardCharsets.UTF_8);
+
+    new ShardedLineDeduplicator(
+        new ShardedLineDeduplicator.MinHashKeys(16, 4, 5, Turkish.LOCALE), 4, 2, false, -1, null)
+        .run(input, output);
+    // lines that are too short for shingles are only removed if exactly same.
+    Assert.assertEquals(
+        Arrays.asList("123", "456", "", "12.5", "?", "ab", "cd", "789 ..."),
+        Files.readAllLines(output, StandardCharsets.UTF_8));
+
+    Files.delete(input);
+    Files.delete(output);
+  }
+
+  @Test
+  public void sortTest() {
+    Random random = new Random(2);
+    int size = 10_000;
+    long[] keys = new long[size];
+    long[] values = new long[size];
+    for (int i = 0; i < size; i++) {
+      keys[i] = random.nextInt(100);
+      values[i] = random.nextLong();
+    }
+    ShardedLineDeduplicator.sort(keys, values, 0, size - 1);
+    for (int i = 1; i < size; i++) {
+      Assert.assertTrue(keys[i - 1] < keys[i] ||
+          (keys[i - 1] == keys[i] && values[i - 1] <= values[i]));
+    }
+  }
+}
@@ -8,6 +8,11 @@ import zemberek.core.ScoredItem;
 import zemberek.core.embeddings.FastText;
 import zemberek.core.embeddings.FastText.EvaluationResult;
 
+/**
+ * Text classifier backed by a supervised FastText model. Prediction methods are thread safe, a
+ * single instance can be shared by all threads. Model weights are shared and only small buffers
+ * are allocated per thread.
+ */
 public class FastTextClassifier {
 
   private FastText fastText;
@@ -27,6 +32,17 @@ public class FastTextClassifier {
     return new FastTextClassifier(fastText);
   }
 
+  /**
+   * Loads the classifier with model matrices memory mapped from the file. See {@link
+   * FastText#loadMapped(Path)}
+   */
+  public static FastTextClassifier loadMapped(Path modelPath) throws IOException {
+    Preconditions.checkArgument(modelPath.toFile().exists(),
+        "%s does not exist.", modelPath);
+    FastText fastText = FastText.loadMapped(modelPath);
+    return new FastTextClassifier(fastText);
+  }
+
   public EvaluationResult evaluate(Path testPath, int k) throws IOException {
     return fastText.test(testPath, k);
   }
@@ -43,6 +59,18 @@ public class FastTextClassifier {
     return fastText.predict(input, k, threshold);
   }
 
+  /**
+   * Predicts labels of multiple inputs at once. Results are in the order of inputs. This is faster
+   * than calling {@link #predict(String, int)} for each input.
+   */
+  public List<List<ScoredItem<String>>> predict(List<String> inputs, int k) {
+    return fastText.predict(inputs, k);
+  }
+
+  public List<List<ScoredItem<String>>> predict(List<String> inputs, int k, float threshold) {
+    return fastText.predict(inputs, k, threshold);
+  }
+
 
   public List<String> getLabels() {
     return fastText.getLabels();
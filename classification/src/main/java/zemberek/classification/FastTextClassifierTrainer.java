@@ -52,6 +52,7 @@ public class FastTextClassifierTrainer {
     int dimension = DEFAULT_DIMENSION;
     int minWordCount = DEFAULT_MIN_WORD_COUNT;
     int quantizationCutOff = -1;
+    Path tempDir;
 
     public Builder lossType(LossType type) {
       this.type = type;
@@ -103,6 +104,15 @@ public class FastTextClassifierTrainer {
       return this;
     }
 
+    /**
+     * Directory for temporary files created during training. Training corpus is converted to
+     * word ids and written there, so it should have space for about the size of the corpus.
+     */
+    public Builder tempDir(Path tempDir) {
+      this.tempDir = tempDir;
+      return this;
+    }
+
     public FastTextClassifierTrainer build() {
       return new FastTextClassifierTrainer(this);
     }
@@ -124,6 +134,9 @@ public class FastTextClassifierTrainer {
     args.maxn = p.getMaxN();
     args.minCount = builder.minWordCount;
     args.cutoff = builder.quantizationCutOff;
+    if (builder.tempDir != null) {
+      args.tempDir = builder.tempDir.toString();
+    }
 
     FastTextTrainer trainer = new FastTextTrainer(args);
 
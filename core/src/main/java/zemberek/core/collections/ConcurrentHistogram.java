@@ -0,0 +1,217 @@
+package zemberek.core.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A thread safe histogram. Keys are distributed to stripes by their hash values, every stripe is a
+ * {@link UIntValueMap} guarded by its own lock, so threads counting different keys rarely wait
+ * each other. For the best throughput, threads should count into a local {@link Histogram} and add
+ * it with {@link #add(Histogram)}, which locks every stripe only once.
+ */
+public class ConcurrentHistogram<T> {
+
+  private final Stripe<T>[] stripes;
+  private final int mask;
+
+  // Lock of a stripe is the Stripe object, so its map can be replaced.
+  private static class Stripe<T> {
+
+    UIntValueMap<T> map = new UIntValueMap<>();
+  }
+
+  /**
+   * @param stripeCount amount of stripes. It is rounded up to a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  public ConcurrentHistogram(int stripeCount) {
+    if (stripeCount < 1) {
+      throw new IllegalArgumentException("Stripe count must be positive but it is " + stripeCount);
+    }
+    int size = Integer.highestOneBit(stripeCount - 1) << 1;
+    if (stripeCount == 1) {
+      size = 1;
+    }
+    stripes = new Stripe[size];
+    for (int i = 0; i < size; i++) {
+      stripes[i] = new Stripe<>();
+    }
+    mask = size - 1;
+  }
+
+  /**
+   * Creates a histogram with four stripes per available processor.
+   */
+  public ConcurrentHistogram() {
+    this(Runtime.getRuntime().availableProcessors() * 4);
+  }
+
+  private int stripeIndex(T key) {
+    int h = key.hashCode();
+    // spread the bits, UIntValueMap uses lower bits of the hash as well.
+    h ^= (h >>> 16);
+    h *= 0x85ebca6b;
+    return (h ^ (h >>> 13)) & mask;
+  }
+
+  /**
+   * Increments the count of [key] by one.
+   *
+   * @return new count of the key.
+   */
+  public int add(T key) {
+    return add(key, 1);
+  }
+
+  /**
+   * Increments the count of [key] by [count].
+   *
+   * @return new count of the key.
+   */
+  public int add(T key, int count) {
+    Stripe<T> stripe = stripes[stripeIndex(key)];
+    synchronized (stripe) {
+      return stripe.map.incrementByAmount(key, count);
+    }
+  }
+
+  /**
+   * Adds all counts of [histogram]. Keys are grouped by stripes first, so every stripe is locked
+   * once.
+   */
+  public void add(Histogram<T> histogram) {
+    List<IntValueMap.Entry<T>> entries = histogram.getEntryList();
+    // counting sort of the entries by stripe index.
+    int[] stripeIndexes = new int[entries.size()];
+    int[] offsets = new int[stripes.length + 1];
+    for (int i = 0; i < entries.size(); i++) {
+      int s = stripeIndex(entries.get(i).key);
+      stripeIndexes[i] = s;
+      offsets[s + 1]++;
+    }
+    for (int i = 0; i < stripes.length; i++) {
+      offsets[i + 1] += offsets[i];
+    }
+    int[] positions = offsets.clone();
+    int[] order = new int[entries.size()];
+    for (int i = 0; i < entries.size(); i++) {
+      order[positions[stripeIndexes[i]]++] = i;
+    }
+    for (int s = 0; s < stripes.length; s++) {
+      if (offsets[s] == offsets[s + 1]) {
+        continue;
+      }
+      Stripe<T> stripe = stripes[s];
+      synchronized (stripe) {
+        for (int k = offsets[s]; k < offsets[s + 1]; k++) {
+          IntValueMap.Entry<T> e = entries.get(order[k]);
+          stripe.map.incrementByAmount(e.key, e.count);
+        }
+      }
+    }
+  }
+
+  /**
+   * Adds all counts of [other]. [other] should not be modified during the call.
+   */
+  public void add(ConcurrentHistogram<T> other) {
+    for (Stripe<T> stripe : other.stripes) {
+      Histogram<T> h;
+      synchronized (stripe) {
+        h = new Histogram<>(stripe.map.size());
+        for (IntValueMap.Entry<T> e : stripe.map.iterableEntries()) {
+          h.add(e.key, e.count);
+        }
+      }
+      add(h);
+    }
+  }
+
+  /**
+   * Returns the count of [key], 0 if key does not exist.
+   */
+  public int getCount(T key) {
+    Stripe<T> stripe = stripes[stripeIndex(key)];
+    synchronized (stripe) {
+      int count = stripe.map.get(key);
+      return count == -1 ? 0 : count;
+    }
+  }
+
+  public boolean contains(T key) {
+    Stripe<T> stripe = stripes[stripeIndex(key)];
+    synchronized (stripe) {
+      return stripe.map.contains(key);
+    }
+  }
+
+  /**
+   * Returns the amount of keys. If the histogram is modified during the call, result is
+   * approximate.
+   */
+  public int size() {
+    int size = 0;
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.map.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the sum of all counts.
+   */
+  public long totalCount() {
+    long total = 0;
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        total += stripe.map.sumOfValues();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Returns entries of the histogram in no particular order.
+   */
+  public List<IntValueMap.Entry<T>> getEntryList() {
+    List<IntValueMap.Entry<T>> result = new ArrayList<>();
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        result.addAll(stripe.map.getAsEntryList());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Removes all keys and returns their entries in no particular order. Stripes are cleared one by
+   * one, so counts that are added during the call are either in the result or in the histogram.
+   */
+  public List<IntValueMap.Entry<T>> drain() {
+    List<IntValueMap.Entry<T>> result = new ArrayList<>();
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        result.addAll(stripe.map.getAsEntryList());
+        stripe.map = new UIntValueMap<>();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a copy of the counts as a single threaded Histogram.
+   */
+  public Histogram<T> toHistogram() {
+    Histogram<T> result = new Histogram<>(Math.max(size(), 1));
+    for (Stripe<T> stripe : stripes) {
+      synchronized (stripe) {
+        for (IntValueMap.Entry<T> e : stripe.map.iterableEntries()) {
+          result.set(e.key, e.count);
+        }
+      }
+    }
+    return result;
+  }
+}
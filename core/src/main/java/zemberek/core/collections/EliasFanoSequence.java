@@ -0,0 +1,180 @@
+package zemberek.core.collections;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * An immutable, compressed sequence of non decreasing, non negative long values with Elias-Fano
+ * encoding. For n values with maximum u, every value uses 2 + log(u/n) bits.
+ * <p>
+ * Lower L = floor(log(u/n)) bits of values are stored packed. Upper bits are stored in unary, value
+ * i sets bit (value >>> L) + i of a {@link RankSelectBitVector}. Accessing a value requires a
+ * select operation, so it is constant time.
+ * <p>
+ * Like RankSelectBitVector, a sequence can be read back directly from a (memory mapped)
+ * ByteBuffer with {@link #deserialize(ByteBuffer)}.
+ */
+public class EliasFanoSequence {
+
+  private final long size;
+  private final int lowBitCount;
+  private final long lowMask;
+  private final LongBuffer lowBits;
+  private final RankSelectBitVector highBits;
+
+  private EliasFanoSequence(long size, int lowBitCount, LongBuffer lowBits,
+      RankSelectBitVector highBits) {
+    this.size = size;
+    this.lowBitCount = lowBitCount;
+    this.lowMask = (1L << lowBitCount) - 1;
+    this.lowBits = lowBits;
+    this.highBits = highBits;
+  }
+
+  /**
+   * Creates a sequence from [values]. Values must be non negative and non decreasing.
+   */
+  public static EliasFanoSequence of(long[] values) {
+    long n = values.length;
+    long universe = n == 0 ? 0 : values[values.length - 1];
+    int lowBitCount = (n == 0 || universe <= n) ? 0 : 63 - Long.numberOfLeadingZeros(universe / n);
+    long lowMask = (1L << lowBitCount) - 1;
+
+    long[] low = new long[(int) ((n * lowBitCount + 63) >>> 6)];
+    long highSize = n + (universe >>> lowBitCount) + 1;
+    long[] high = new long[(int) ((highSize + 63) >>> 6)];
+    long previous = 0;
+    for (int i = 0; i < values.length; i++) {
+      long value = values[i];
+      if (value < previous) {
+        throw new IllegalArgumentException(
+            "Values must be non negative and non decreasing but value at " + i + " is " + value);
+      }
+      previous = value;
+      if (lowBitCount > 0) {
+        long bitPosition = (long) i * lowBitCount;
+        int w = (int) (bitPosition >>> 6);
+        int offset = (int) (bitPosition & 63);
+        long l = value & lowMask;
+        low[w] |= l << offset;
+        if (offset + lowBitCount > 64) {
+          low[w + 1] |= l >>> (64 - offset);
+        }
+      }
+      long h = (value >>> lowBitCount) + i;
+      high[(int) (h >>> 6)] |= 1L << (h & 63);
+    }
+    return new EliasFanoSequence(n, lowBitCount, LongBuffer.wrap(low),
+        new RankSelectBitVector(high, highSize));
+  }
+
+  /**
+   * Creates a sequence from [values]. Values must be non negative and non decreasing.
+   */
+  public static EliasFanoSequence of(int[] values) {
+    long[] longs = new long[values.length];
+    for (int i = 0; i < values.length; i++) {
+      longs[i] = values[i];
+    }
+    return of(longs);
+  }
+
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the value at [index].
+   */
+  public long get(long index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index must be in range [0, " + size + ") but it is "
+          + index);
+    }
+    return ((highBits.select1(index) - index) << lowBitCount) | low(index);
+  }
+
+  private long low(long index) {
+    if (lowBitCount == 0) {
+      return 0;
+    }
+    long bitPosition = index * lowBitCount;
+    int w = (int) (bitPosition >>> 6);
+    int offset = (int) (bitPosition & 63);
+    long l = lowBits.get(w) >>> offset;
+    if (offset + lowBitCount > 64) {
+      l |= lowBits.get(w + 1) << (64 - offset);
+    }
+    return l & lowMask;
+  }
+
+  /**
+   * Returns the index of the first value that is equal or larger than [value]. If there is no such
+   * value, returns size.
+   */
+  public long indexOfFirstGreaterOrEqual(long value) {
+    if (size == 0 || value > get(size - 1)) {
+      return size;
+    }
+    if (value <= 0) {
+      return 0;
+    }
+    long high = value >>> lowBitCount;
+    // values before the high-th zero have smaller upper bits.
+    long index = high == 0 ? 0 : highBits.select0(high - 1) + 1 - high;
+    while (get(index) < value) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * @return amount of bytes used by the structure, excluding object overheads.
+   */
+  public long sizeInBytes() {
+    return lowBits.limit() * 8L + highBits.sizeInBytes();
+  }
+
+  /**
+   * Format (big endian): long size, int low bit count, int low word count, long[] low words,
+   * RankSelectBitVector data of upper bits.
+   */
+  public void serialize(DataOutputStream dos) throws IOException {
+    dos.writeLong(size);
+    dos.writeInt(lowBitCount);
+    dos.writeInt(lowBits.limit());
+    for (int i = 0; i < lowBits.limit(); i++) {
+      dos.writeLong(lowBits.get(i));
+    }
+    highBits.serialize(dos);
+  }
+
+  public static EliasFanoSequence deserialize(DataInputStream dis) throws IOException {
+    long size = dis.readLong();
+    int lowBitCount = dis.readInt();
+    long[] low = new long[dis.readInt()];
+    for (int i = 0; i < low.length; i++) {
+      low[i] = dis.readLong();
+    }
+    RankSelectBitVector highBits = RankSelectBitVector.deserialize(dis);
+    return new EliasFanoSequence(size, lowBitCount, LongBuffer.wrap(low), highBits);
+  }
+
+  /**
+   * Creates a sequence from the serialized data that starts at the position of [buffer]. Data is
+   * not copied. After the call, position of the buffer is moved to the end of the data.
+   */
+  public static EliasFanoSequence deserialize(ByteBuffer buffer) {
+    ByteBuffer b = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    long size = b.getLong();
+    int lowBitCount = b.getInt();
+    LongBuffer low = RankSelectBitVector.longView(b, b.getInt());
+    RankSelectBitVector highBits = RankSelectBitVector.deserialize(b);
+    buffer.position(b.position());
+    return new EliasFanoSequence(size, lowBitCount, low, highBits);
+  }
+}
@@ -232,6 +232,18 @@ public final class IntMap<T> implements Iterable<T> {
     return expandAndCopy();
   }
 
+  /**
+   * Returns a copy of this map with same capacity. Changes to the copy do not affect this map, so
+   * it can be used for copy-on-write updates.
+   */
+  public IntMap<T> copy() {
+    IntMap<T> copy = new IntMap<>(keys.length, managed);
+    System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+    System.arraycopy(values, 0, copy.values, 0, values.length);
+    copy.keyCount = keyCount;
+    return copy;
+  }
+
   private IntMap<T> expandAndCopy() {
     int capacity = newCapacity();
     IntMap<T> newMap = new IntMap<>(capacity, managed);
@@ -54,6 +54,10 @@ public class IntVector {
     size += vec.size;
   }
 
+  public void clear() {
+    size = 0;
+  }
+
   public int get(int index) {
     return data[index];
   }
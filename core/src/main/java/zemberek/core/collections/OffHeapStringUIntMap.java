@@ -0,0 +1,498 @@
+package zemberek.core.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A String to unsigned int map for very large key sets, such as vocabularies of big corpora. Keys
+ * are not stored as String objects. Instead, UTF-8 bytes of a key, its hash and its value are
+ * appended to an arena of direct ByteBuffer pages. Hash table on the heap is a single long array
+ * with linear probing, every slot packs the arena offset of an entry with some bits of its hash.
+ * So a key costs around 20 bytes plus its UTF-8 length, instead of 60+ bytes of a String key in
+ * {@link UIntValueMap}.
+ * <p>
+ * Keys can be given as CharSequence or UTF-8 byte slices. Unpaired surrogate chars are encoded
+ * as '?', same as {@link String#getBytes}. Keys cannot be removed. Entries are iterated in
+ * insertion order. Arena pages start small and their size is doubled as keys are added, until
+ * they reach the page size, so small maps do not reserve a full page. Direct memory is released
+ * when the map is garbage collected. This class is not thread safe.
+ */
+public class OffHeapStringUIntMap {
+
+  static final int DEFAULT_INITIAL_SIZE = 1024;
+  static final int DEFAULT_PAGE_SIZE = 1 << 24;
+  // initial capacity of an arena page, it grows up to the page size.
+  static final int INITIAL_PAGE_CAPACITY = 1 << 12;
+  private static final double LOAD_FACTOR = 0.7;
+
+  // Entry layout in the arena: [int hash][int value][var-int length][UTF-8 bytes]
+  private static final int HEADER_SIZE = 8;
+
+  // lower 40 bits of a slot is arena offset + 1, so empty slot is 0. Upper 24 bits are hash bits.
+  private static final int OFFSET_BITS = 40;
+  private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+
+  private long[] slots;
+  private int modulo;
+  private int threshold;
+  private int keyCount;
+
+  private final int pageBits;
+  private final int pageSize;
+  private final List<ByteBuffer> pages = new ArrayList<>();
+  private ByteBuffer current;
+
+  // encoded bytes of the last CharSequence key.
+  private byte[] buffer = new byte[64];
+
+  public OffHeapStringUIntMap() {
+    this(DEFAULT_INITIAL_SIZE, DEFAULT_PAGE_SIZE);
+  }
+
+  public OffHeapStringUIntMap(int initialSize) {
+    this(initialSize, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * @param initialSize expected amount of keys.
+   * @param pageSize size of an arena page in bytes. It is rounded up to a power of two. A key can
+   * not be longer than a page.
+   */
+  public OffHeapStringUIntMap(int initialSize, int pageSize) {
+    if (initialSize < 1) {
+      throw new IllegalArgumentException("Size must be a positive value. But it is " + initialSize);
+    }
+    if (pageSize < 64 || pageSize > (1 << 30)) {
+      throw new IllegalArgumentException(
+          "Page size must be in range [64, 2^30]. But it is " + pageSize);
+    }
+    int k = 1;
+    while (k * LOAD_FACTOR < initialSize) {
+      k <<= 1;
+    }
+    initSlots(k);
+    this.pageBits = 32 - Integer.numberOfLeadingZeros(pageSize - 1);
+    this.pageSize = 1 << pageBits;
+  }
+
+  private void initSlots(int size) {
+    slots = new long[size];
+    modulo = size - 1;
+    threshold = (int) (size * LOAD_FACTOR);
+  }
+
+  /**
+   * Returns the value of [key], -1 if key does not exist.
+   */
+  public int get(CharSequence key) {
+    int length = encode(key);
+    return get(buffer, 0, length);
+  }
+
+  /**
+   * Returns the value of the key represented by UTF-8 bytes in [bytes], -1 if key does not exist.
+   */
+  public int get(byte[] bytes, int offset, int length) {
+    int slot = locate(bytes, offset, length, hash(bytes, offset, length));
+    return slot < 0 ? -1 : valueAt(slots[slot]);
+  }
+
+  public boolean containsKey(CharSequence key) {
+    return get(key) >= 0;
+  }
+
+  public boolean containsKey(byte[] bytes, int offset, int length) {
+    return get(bytes, offset, length) >= 0;
+  }
+
+  /**
+   * Sets the value of [key] to [value].
+   */
+  public void put(CharSequence key, int value) {
+    int length = encode(key);
+    put(buffer, 0, length, value);
+  }
+
+  public void put(byte[] bytes, int offset, int length, int value) {
+    checkValue(value);
+    long entry = findOrInsert(bytes, offset, length, value);
+    setValue(entry, value);
+  }
+
+  /**
+   * If [key] does not exist, adds it with [value]. Returns the value of the key after the call.
+   * This can be used for assigning indexes to keys, such as {@code map.putIfAbsent(word,
+   * map.size())}.
+   */
+  public int putIfAbsent(CharSequence key, int value) {
+    int length = encode(key);
+    return putIfAbsent(buffer, 0, length, value);
+  }
+
+  public int putIfAbsent(byte[] bytes, int offset, int length, int value) {
+    checkValue(value);
+    return valueAt(findOrInsert(bytes, offset, length, value));
+  }
+
+  /**
+   * Increments the value of [key] by 1. If key does not exist, it is added with value 1.
+   *
+   * @return new value.
+   */
+  public int increment(CharSequence key) {
+    return incrementByAmount(key, 1);
+  }
+
+  /**
+   * Increments the value of [key] by [amount]. If key does not exist, it is added with [amount].
+   *
+   * @return new value.
+   */
+  public int incrementByAmount(CharSequence key, int amount) {
+    int length = encode(key);
+    return incrementByAmount(buffer, 0, length, amount);
+  }
+
+  public int incrementByAmount(byte[] bytes, int offset, int length, int amount) {
+    if (amount < 0 && get(bytes, offset, length) < 0) {
+      checkValue(amount);
+    }
+    int before = keyCount;
+    long entry = findOrInsert(bytes, offset, length, amount);
+    if (keyCount > before) {
+      return amount;
+    }
+    int value = valueAt(entry) + amount;
+    if (value < 0) {
+      throw new IllegalStateException(
+          "Negative Value calculated after incrementing with " + amount);
+    }
+    setValue(entry, value);
+    return value;
+  }
+
+  /**
+   * Adds all counts of [histogram].
+   */
+  public void add(Histogram<String> histogram) {
+    for (IntValueMap.Entry<String> entry : histogram.getEntryList()) {
+      incrementByAmount(entry.key, entry.count);
+    }
+  }
+
+  /**
+   * Returns a Histogram of the keys whose values are at least [minValue].
+   */
+  public Histogram<String> toHistogram(int minValue) {
+    Histogram<String> result = new Histogram<>();
+    forEach((key, value) -> {
+      if (value >= minValue) {
+        result.set(key, value);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * @return amount of keys.
+   */
+  public int size() {
+    return keyCount;
+  }
+
+  /**
+   * @return sum of all values.
+   */
+  public long sumOfValues() {
+    long sum = 0;
+    for (long slot : slots) {
+      if (slot != 0) {
+        sum += valueAt(slot);
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * @return amount of direct memory used by the keys and values in bytes.
+   */
+  public long arenaSize() {
+    long size = 0;
+    for (ByteBuffer page : pages) {
+      size += page.position();
+    }
+    return size;
+  }
+
+  // amount of allocated direct memory in bytes.
+  long arenaCapacity() {
+    long capacity = 0;
+    for (ByteBuffer page : pages) {
+      capacity += page.capacity();
+    }
+    return capacity;
+  }
+
+  /**
+   * Calls [consumer] with all keys and values in insertion order.
+   */
+  public void forEach(ObjIntConsumer<String> consumer) {
+    byte[] bytes = new byte[64];
+    for (ByteBuffer page : pages) {
+      int p = 0;
+      int end = page.position();
+      while (p < end) {
+        int value = page.getInt(p + 4);
+        int length = 0;
+        int shift = 0;
+        p += HEADER_SIZE;
+        byte b;
+        do {
+          b = page.get(p++);
+          length |= (b & 0x7f) << shift;
+          shift += 7;
+        } while (b < 0);
+        if (bytes.length < length) {
+          bytes = new byte[length * 2];
+        }
+        for (int i = 0; i < length; i++) {
+          bytes[i] = page.get(p + i);
+        }
+        p += length;
+        consumer.accept(new String(bytes, 0, length, StandardCharsets.UTF_8), value);
+      }
+    }
+  }
+
+  /**
+   * @return keys in insertion order.
+   */
+  public List<String> getKeyList() {
+    List<String> keys = new ArrayList<>(keyCount);
+    forEach((key, value) -> keys.add(key));
+    return keys;
+  }
+
+  /**
+   * Removes all keys. Arena pages are dropped.
+   */
+  public void clear() {
+    Arrays.fill(slots, 0);
+    keyCount = 0;
+    pages.clear();
+    current = null;
+  }
+
+  private static void checkValue(int value) {
+    if (value < 0) {
+      throw new IllegalArgumentException("Cannot set a negative value " + value);
+    }
+  }
+
+  // Encodes [key] to UTF-8 bytes in buffer. Unpaired surrogates are encoded as '?' like
+  // String.getBytes does.
+  private int encode(CharSequence key) {
+    int n = key.length();
+    if (buffer.length < n * 3) {
+      buffer = new byte[n * 3 + 16];
+    }
+    byte[] b = buffer;
+    int k = 0;
+    for (int i = 0; i < n; i++) {
+      char c = key.charAt(i);
+      if (c < 0x80) {
+        b[k++] = (byte) c;
+      } else if (c < 0x800) {
+        b[k++] = (byte) (0xc0 | (c >> 6));
+        b[k++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < n
+            && Character.isLowSurrogate(key.charAt(i + 1))) {
+          int cp = Character.toCodePoint(c, key.charAt(++i));
+          b[k++] = (byte) (0xf0 | (cp >> 18));
+          b[k++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+          b[k++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+          b[k++] = (byte) (0x80 | (cp & 0x3f));
+        } else {
+          b[k++] = '?';
+        }
+      } else {
+        b[k++] = (byte) (0xe0 | (c >> 12));
+        b[k++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        b[k++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    return k;
+  }
+
+  // FNV-1a with a final mix, so lower and upper bits are both usable.
+  private static int hash(byte[] bytes, int offset, int length) {
+    int h = 0x811c9dc5;
+    for (int i = offset; i < offset + length; i++) {
+      h ^= (bytes[i] & 0xff);
+      h *= 0x01000193;
+    }
+    h ^= (h >>> 16);
+    h *= 0x85ebca6b;
+    h ^= (h >>> 13);
+    return h;
+  }
+
+  private static long tag(int hash) {
+    return ((long) (hash >>> 8)) << OFFSET_BITS;
+  }
+
+  // Returns the slot index of the key, or -(empty slot index)-1 if key does not exist.
+  private int locate(byte[] bytes, int offset, int length, int hash) {
+    int slot = hash & modulo;
+    long tag = tag(hash);
+    while (true) {
+      long s = slots[slot];
+      if (s == 0) {
+        return -slot - 1;
+      }
+      if ((s & ~OFFSET_MASK) == tag && keyEquals(s, bytes, offset, length, hash)) {
+        return slot;
+      }
+      slot = (slot + 1) & modulo;
+    }
+  }
+
+  private boolean keyEquals(long slot, byte[] bytes, int offset, int length, int hash) {
+    long arenaOffset = (slot & OFFSET_MASK) - 1;
+    ByteBuffer page = pages.get((int) (arenaOffset >>> pageBits));
+    int p = (int) (arenaOffset & (pageSize - 1));
+    if (page.getInt(p) != hash) {
+      return false;
+    }
+    p += HEADER_SIZE;
+    int keyLength = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = page.get(p++);
+      keyLength |= (b & 0x7f) << shift;
+      shift += 7;
+    } while (b < 0);
+    if (keyLength != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (page.get(p + i) != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // Returns the slot value of the key. If key does not exist, it is added with [value].
+  private long findOrInsert(byte[] bytes, int offset, int length, int value) {
+    int hash = hash(bytes, offset, length);
+    int slot = locate(bytes, offset, length, hash);
+    if (slot >= 0) {
+      return slots[slot];
+    }
+    if (keyCount == threshold) {
+      expand();
+      slot = locate(bytes, offset, length, hash);
+    }
+    slot = -slot - 1;
+    long arenaOffset = append(bytes, offset, length, hash, value);
+    long s = tag(hash) | (arenaOffset + 1);
+    slots[slot] = s;
+    keyCount++;
+    return s;
+  }
+
+  private long append(byte[] bytes, int offset, int length, int hash, int value) {
+    int entrySize = HEADER_SIZE + 5 + length;
+    if (entrySize > pageSize) {
+      throw new IllegalArgumentException(
+          "Key with " + length + " bytes does not fit to arena page size " + pageSize);
+    }
+    // last page grows if entry fits to it after growing, otherwise a new page is started.
+    if (current != null && current.remaining() < entrySize
+        && current.position() + entrySize <= pageSize) {
+      growCurrentPage(current.position() + entrySize);
+    }
+    if (current == null || current.remaining() < entrySize) {
+      if ((long) (pages.size() + 1) << pageBits > OFFSET_MASK) {
+        throw new IllegalStateException("Arena is full.");
+      }
+      int capacity = Math.min(pageSize, INITIAL_PAGE_CAPACITY);
+      while (capacity < entrySize) {
+        capacity <<= 1;
+      }
+      current = ByteBuffer.allocateDirect(capacity);
+      pages.add(current);
+    }
+    long arenaOffset = ((long) (pages.size() - 1) << pageBits) + current.position();
+    current.putInt(hash);
+    current.putInt(value);
+    int l = length;
+    while (l >= 0x80) {
+      current.put((byte) (l | 0x80));
+      l >>>= 7;
+    }
+    current.put((byte) l);
+    current.put(bytes, offset, length);
+    return arenaOffset;
+  }
+
+  // Copies the last page to a page with at least [minCapacity] bytes. Capacity is doubled until it
+  // is large enough. Offsets in the page do not change.
+  private void growCurrentPage(int minCapacity) {
+    int capacity = current.capacity();
+    while (capacity < minCapacity) {
+      capacity <<= 1;
+    }
+    ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+    ByteBuffer data = current.duplicate();
+    data.flip();
+    grown.put(data);
+    pages.set(pages.size() - 1, grown);
+    current = grown;
+  }
+
+  private int valueAt(long slot) {
+    long arenaOffset = (slot & OFFSET_MASK) - 1;
+    return pages.get((int) (arenaOffset >>> pageBits))
+        .getInt((int) (arenaOffset & (pageSize - 1)) + 4);
+  }
+
+  private void setValue(long slot, int value) {
+    long arenaOffset = (slot & OFFSET_MASK) - 1;
+    pages.get((int) (arenaOffset >>> pageBits))
+        .putInt((int) (arenaOffset & (pageSize - 1)) + 4, value);
+  }
+
+  private int hashAt(long slot) {
+    long arenaOffset = (slot & OFFSET_MASK) - 1;
+    return pages.get((int) (arenaOffset >>> pageBits))
+        .getInt((int) (arenaOffset & (pageSize - 1)));
+  }
+
+  private void expand() {
+    long size = slots.length * 2L;
+    if (size > (1 << 30)) {
+      throw new IllegalStateException("Too many items in collection " + this.getClass());
+    }
+    long[] old = slots;
+    initSlots((int) size);
+    // full hash values are read from the arena, keys are not compared.
+    for (long s : old) {
+      if (s == 0) {
+        continue;
+      }
+      int slot = hashAt(s) & modulo;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & modulo;
+      }
+      slots[slot] = s;
+    }
+  }
+}
@@ -0,0 +1,417 @@
+package zemberek.core.collections;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * An immutable bit vector with constant time rank and select operations.
+ * <p>
+ * Rank uses the rank9 layout of Vigna's "Broadword Implementation of Rank/Select Queries" (2008):
+ * bits are split to 512 bit blocks, for every block there are two longs, the amount of ones
+ * before the block and 9 bit relative counts of its 8 words. This costs 25% extra space. Select
+ * first finds a range of blocks from sampled positions of every 512th one (or zero). If the range
+ * is longer than 128 blocks, positions of its 512 ones are stored explicitly, which costs at most
+ * 50% of the range. Otherwise block counts of the range are binary searched in at most 7 steps,
+ * then the words of the found block are scanned.
+ * <p>
+ * Data is kept in Long and Int buffers. A vector can be serialized and read back directly from a
+ * (memory mapped) ByteBuffer with {@link #deserialize(ByteBuffer)} without copying.
+ */
+public class RankSelectBitVector {
+
+  private static final int BLOCK_SHIFT = 9; // 512 bits.
+  private static final int WORDS_PER_BLOCK = 8;
+  private static final int HINT_SHIFT = 9; // every 512th one or zero is sampled.
+  private static final int HINT_MASK = (1 << HINT_SHIFT) - 1;
+  // hint ranges longer than this many blocks keep explicit positions instead of being searched.
+  private static final int MAX_SEARCH_BLOCKS = 128;
+
+  private final long size;
+  private final long numberOfOnes;
+  private final LongBuffer words;
+  private final int blockCount;
+  // [ones before block b, 9 bit ones before words 1..7 of block b relative to block] pairs.
+  private final LongBuffer counts;
+  // select1Hints[j] is the block of (j * 512)th one. Last value is the last block.
+  private final IntBuffer select1Hints;
+  private final IntBuffer select0Hints;
+  // select1Explicit[j] is -1 if range of hint j is searched. Otherwise it is the index of the
+  // position of (j * 512)th one in select1Positions.
+  private final IntBuffer select1Explicit;
+  private final LongBuffer select1Positions;
+  private final IntBuffer select0Explicit;
+  private final LongBuffer select0Positions;
+
+  private RankSelectBitVector(long size, long numberOfOnes, LongBuffer words, LongBuffer counts,
+      IntBuffer select1Hints, IntBuffer select0Hints, IntBuffer select1Explicit,
+      LongBuffer select1Positions, IntBuffer select0Explicit, LongBuffer select0Positions) {
+    this.size = size;
+    this.numberOfOnes = numberOfOnes;
+    this.words = words;
+    this.blockCount = counts.limit() / 2;
+    this.counts = counts;
+    this.select1Hints = select1Hints;
+    this.select0Hints = select0Hints;
+    this.select1Explicit = select1Explicit;
+    this.select1Positions = select1Positions;
+    this.select0Explicit = select0Explicit;
+    this.select0Positions = select0Positions;
+  }
+
+  /**
+   * Creates a vector from the first [size] bits of [words]. Bit i is the (i mod 64)th bit of word
+   * i/64.
+   */
+  public RankSelectBitVector(long[] words, long size) {
+    if (size < 0 || size > words.length * 64L) {
+      throw new IllegalArgumentException("Cannot create vector with size:" + size);
+    }
+    int wordCount = (int) ((size + 63) >>> 6);
+    long[] w = new long[wordCount];
+    System.arraycopy(words, 0, w, 0, wordCount);
+    if ((size & 63) != 0) {
+      w[wordCount - 1] &= (1L << (size & 63)) - 1;
+    }
+    this.size = size;
+    this.words = LongBuffer.wrap(w);
+    this.blockCount = (wordCount + WORDS_PER_BLOCK - 1) / WORDS_PER_BLOCK;
+
+    long[] c = new long[blockCount * 2];
+    long total = 0;
+    for (int b = 0; b < blockCount; b++) {
+      c[b * 2] = total;
+      long relative = 0;
+      long inBlock = 0;
+      for (int j = 0; j < WORDS_PER_BLOCK; j++) {
+        if (j > 0) {
+          relative |= inBlock << (9 * (j - 1));
+        }
+        int wi = b * WORDS_PER_BLOCK + j;
+        if (wi < wordCount) {
+          inBlock += Long.bitCount(w[wi]);
+        }
+      }
+      c[b * 2 + 1] = relative;
+      total += inBlock;
+    }
+    this.numberOfOnes = total;
+    this.counts = LongBuffer.wrap(c);
+    this.select1Hints = IntBuffer.wrap(hints(true));
+    this.select0Hints = IntBuffer.wrap(hints(false));
+    int[] explicit1 = new int[select1Hints.limit() - 1];
+    this.select1Positions = LongBuffer.wrap(explicitPositions(true, explicit1));
+    this.select1Explicit = IntBuffer.wrap(explicit1);
+    int[] explicit0 = new int[select0Hints.limit() - 1];
+    this.select0Positions = LongBuffer.wrap(explicitPositions(false, explicit0));
+    this.select0Explicit = IntBuffer.wrap(explicit0);
+  }
+
+  public RankSelectBitVector(LongBitVector vector) {
+    this(vector.getLongArray(), vector.size());
+  }
+
+  private long onesBeforeBlock(int b) {
+    return counts.get(b * 2);
+  }
+
+  private long zerosBeforeBlock(int b) {
+    return ((long) b << BLOCK_SHIFT) - counts.get(b * 2);
+  }
+
+  // ones before word j of block b, relative to the block.
+  private int onesBeforeWord(int b, int j) {
+    return j == 0 ? 0 : (int) ((counts.get(b * 2 + 1) >>> (9 * (j - 1))) & 0x1FF);
+  }
+
+  private int[] hints(boolean one) {
+    long total = one ? numberOfOnes : size - numberOfOnes;
+    int[] result = new int[(int) ((total + (1 << HINT_SHIFT) - 1) >>> HINT_SHIFT) + 1];
+    int k = 0;
+    for (int b = 0; b < blockCount; b++) {
+      long blockEnd = b + 1 < blockCount
+          ? (one ? onesBeforeBlock(b + 1) : zerosBeforeBlock(b + 1))
+          : total;
+      while (k < result.length - 1 && ((long) k << HINT_SHIFT) < blockEnd) {
+        result[k++] = b;
+      }
+    }
+    result[result.length - 1] = Math.max(blockCount - 1, 0);
+    return result;
+  }
+
+  // Fills [explicit] and returns positions of the ones (or zeros) of hint ranges that are longer
+  // than MAX_SEARCH_BLOCKS.
+  private long[] explicitPositions(boolean one, int[] explicit) {
+    IntBuffer hints = one ? select1Hints : select0Hints;
+    long total = one ? numberOfOnes : size - numberOfOnes;
+    long count = 0;
+    for (int h = 0; h < explicit.length; h++) {
+      if (hints.get(h + 1) - hints.get(h) >= MAX_SEARCH_BLOCKS) {
+        explicit[h] = (int) count;
+        count += Math.min(1 << HINT_SHIFT, total - ((long) h << HINT_SHIFT));
+      } else {
+        explicit[h] = -1;
+      }
+    }
+    if (count > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many explicit select positions: " + count);
+    }
+    long[] positions = new long[(int) count];
+    for (int h = 0; h < explicit.length; h++) {
+      if (explicit[h] < 0) {
+        continue;
+      }
+      long first = (long) h << HINT_SHIFT;
+      long end = Math.min(first + (1 << HINT_SHIFT), total);
+      for (long k = first; k < end; k++) {
+        positions[explicit[h] + (int) (k - first)] = one ? searchSelect1(k) : searchSelect0(k);
+      }
+    }
+    return positions;
+  }
+
+  public long size() {
+    return size;
+  }
+
+  public long numberOfOnes() {
+    return numberOfOnes;
+  }
+
+  public long numberOfZeros() {
+    return size - numberOfOnes;
+  }
+
+  public boolean get(long i) {
+    return (words.get((int) (i >>> 6)) & (1L << (i & 63))) != 0;
+  }
+
+  /**
+   * Returns the amount of ones in range [0, i). [i] must be in range [0, size].
+   */
+  public long rank1(long i) {
+    if (i >= size) {
+      return numberOfOnes;
+    }
+    int w = (int) (i >>> 6);
+    int b = w >>> 3;
+    long rank = onesBeforeBlock(b) + onesBeforeWord(b, w & 7);
+    return rank + Long.bitCount(words.get(w) & ((1L << (i & 63)) - 1));
+  }
+
+  /**
+   * Returns the amount of zeros in range [0, i). [i] must be in range [0, size].
+   */
+  public long rank0(long i) {
+    return Math.min(i, size) - rank1(i);
+  }
+
+  /**
+   * Returns the position of the [k]th one bit. k starts from 0 and must be less than the amount of
+   * ones.
+   */
+  public long select1(long k) {
+    if (k < 0 || k >= numberOfOnes) {
+      throw new IllegalArgumentException(
+          "k must be in range [0, " + numberOfOnes + ") but it is " + k);
+    }
+    int e = select1Explicit.get((int) (k >>> HINT_SHIFT));
+    return e < 0 ? searchSelect1(k) : select1Positions.get(e + (int) (k & HINT_MASK));
+  }
+
+  private long searchSelect1(long k) {
+    int h = (int) (k >>> HINT_SHIFT);
+    int lo = select1Hints.get(h);
+    int hi = select1Hints.get(h + 1);
+    // last block whose ones before is not larger than k.
+    while (lo < hi) {
+      int mid = (lo + hi + 1) >>> 1;
+      if (onesBeforeBlock(mid) <= k) {
+        lo = mid;
+      } else {
+        hi = mid - 1;
+      }
+    }
+    int remaining = (int) (k - onesBeforeBlock(lo));
+    int j = 0;
+    while (j < WORDS_PER_BLOCK - 1 && onesBeforeWord(lo, j + 1) <= remaining) {
+      j++;
+    }
+    remaining -= onesBeforeWord(lo, j);
+    int w = lo * WORDS_PER_BLOCK + j;
+    return ((long) w << 6) + selectInWord(words.get(w), remaining);
+  }
+
+  /**
+   * Returns the position of the [k]th zero bit. k starts from 0 and must be less than the amount
+   * of zeros.
+   */
+  public long select0(long k) {
+    if (k < 0 || k >= size - numberOfOnes) {
+      throw new IllegalArgumentException(
+          "k must be in range [0, " + (size - numberOfOnes) + ") but it is " + k);
+    }
+    int e = select0Explicit.get((int) (k >>> HINT_SHIFT));
+    return e < 0 ? searchSelect0(k) : select0Positions.get(e + (int) (k & HINT_MASK));
+  }
+
+  private long searchSelect0(long k) {
+    int h = (int) (k >>> HINT_SHIFT);
+    int lo = select0Hints.get(h);
+    int hi = select0Hints.get(h + 1);
+    while (lo < hi) {
+      int mid = (lo + hi + 1) >>> 1;
+      if (zerosBeforeBlock(mid) <= k) {
+        lo = mid;
+      } else {
+        hi = mid - 1;
+      }
+    }
+    int remaining = (int) (k - zerosBeforeBlock(lo));
+    int j = 0;
+    while (j < WORDS_PER_BLOCK - 1 && (j + 1) * 64 - onesBeforeWord(lo, j + 1) <= remaining) {
+      j++;
+    }
+    remaining -= j * 64 - onesBeforeWord(lo, j);
+    int w = lo * WORDS_PER_BLOCK + j;
+    return ((long) w << 6) + selectInWord(~words.get(w), remaining);
+  }
+
+  // position of the [r]th one bit in [x].
+  static int selectInWord(long x, int r) {
+    int shift = 0;
+    int c;
+    while (r >= (c = Long.bitCount(x & 0xFF))) {
+      r -= c;
+      x >>>= 8;
+      shift += 8;
+    }
+    for (int i = 0; i < r; i++) {
+      x &= x - 1;
+    }
+    return shift + Long.numberOfTrailingZeros(x);
+  }
+
+  /**
+   * @return amount of bytes used by the structure, excluding object overheads.
+   */
+  public long sizeInBytes() {
+    return (words.limit() + counts.limit() + select1Positions.limit()
+        + select0Positions.limit()) * 8L
+        + (select1Hints.limit() + select0Hints.limit() + select1Explicit.limit()
+        + select0Explicit.limit()) * 4L;
+  }
+
+  /**
+   * Format (big endian): long size, long number of ones, int word count, long[] words, int block
+   * count, long[] counts, int hint count, int[] select1 hints, int hint count, int[] select0 hints,
+   * then for ones and zeros: int count, int[] explicit indexes, int position count, long[] explicit
+   * positions.
+   */
+  public void serialize(DataOutputStream dos) throws IOException {
+    dos.writeLong(size);
+    dos.writeLong(numberOfOnes);
+    dos.writeInt(words.limit());
+    for (int i = 0; i < words.limit(); i++) {
+      dos.writeLong(words.get(i));
+    }
+    dos.writeInt(blockCount);
+    for (int i = 0; i < counts.limit(); i++) {
+      dos.writeLong(counts.get(i));
+    }
+    writeInts(dos, select1Hints);
+    writeInts(dos, select0Hints);
+    writeInts(dos, select1Explicit);
+    writeLongs(dos, select1Positions);
+    writeInts(dos, select0Explicit);
+    writeLongs(dos, select0Positions);
+  }
+
+  private static void writeLongs(DataOutputStream dos, LongBuffer buffer) throws IOException {
+    dos.writeInt(buffer.limit());
+    for (int i = 0; i < buffer.limit(); i++) {
+      dos.writeLong(buffer.get(i));
+    }
+  }
+
+  private static void writeInts(DataOutputStream dos, IntBuffer buffer) throws IOException {
+    dos.writeInt(buffer.limit());
+    for (int i = 0; i < buffer.limit(); i++) {
+      dos.writeInt(buffer.get(i));
+    }
+  }
+
+  public static RankSelectBitVector deserialize(DataInputStream dis) throws IOException {
+    long size = dis.readLong();
+    long numberOfOnes = dis.readLong();
+    long[] words = readLongs(dis, dis.readInt());
+    long[] counts = readLongs(dis, dis.readInt() * 2);
+    int[] select1Hints = readInts(dis);
+    int[] select0Hints = readInts(dis);
+    int[] select1Explicit = readInts(dis);
+    long[] select1Positions = readLongs(dis, dis.readInt());
+    int[] select0Explicit = readInts(dis);
+    long[] select0Positions = readLongs(dis, dis.readInt());
+    return new RankSelectBitVector(size, numberOfOnes, LongBuffer.wrap(words),
+        LongBuffer.wrap(counts), IntBuffer.wrap(select1Hints), IntBuffer.wrap(select0Hints),
+        IntBuffer.wrap(select1Explicit), LongBuffer.wrap(select1Positions),
+        IntBuffer.wrap(select0Explicit), LongBuffer.wrap(select0Positions));
+  }
+
+  private static long[] readLongs(DataInputStream dis, int length) throws IOException {
+    long[] result = new long[length];
+    for (int i = 0; i < length; i++) {
+      result[i] = dis.readLong();
+    }
+    return result;
+  }
+
+  private static int[] readInts(DataInputStream dis) throws IOException {
+    int[] result = new int[dis.readInt()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = dis.readInt();
+    }
+    return result;
+  }
+
+  /**
+   * Creates a vector from the serialized data that starts at the position of [buffer]. Data is not
+   * copied, it is accessed from the buffer. After the call, position of the buffer is moved to the
+   * end of the data.
+   */
+  public static RankSelectBitVector deserialize(ByteBuffer buffer) {
+    ByteBuffer b = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    long size = b.getLong();
+    long numberOfOnes = b.getLong();
+    LongBuffer words = longView(b, b.getInt());
+    LongBuffer counts = longView(b, b.getInt() * 2);
+    IntBuffer select1Hints = intView(b, b.getInt());
+    IntBuffer select0Hints = intView(b, b.getInt());
+    IntBuffer select1Explicit = intView(b, b.getInt());
+    LongBuffer select1Positions = longView(b, b.getInt());
+    IntBuffer select0Explicit = intView(b, b.getInt());
+    LongBuffer select0Positions = longView(b, b.getInt());
+    buffer.position(b.position());
+    return new RankSelectBitVector(size, numberOfOnes, words, counts, select1Hints,
+        select0Hints, select1Explicit, select1Positions, select0Explicit, select0Positions);
+  }
+
+  static LongBuffer longView(ByteBuffer b, int length) {
+    ByteBuffer slice = b.slice();
+    slice.limit(length * 8);
+    b.position(b.position() + length * 8);
+    return slice.asLongBuffer();
+  }
+
+  static IntBuffer intView(ByteBuffer b, int length) {
+    ByteBuffer slice = b.slice();
+    slice.limit(length * 4);
+    b.position(b.position() + length * 4);
+    return slice.asIntBuffer();
+  }
+}
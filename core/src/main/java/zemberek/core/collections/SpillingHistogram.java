@@ -0,0 +1,337 @@
+package zemberek.core.collections;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import zemberek.core.collections.IntValueMap.Entry;
+import zemberek.core.io.IOUtil;
+import zemberek.core.logging.Log;
+
+/**
+ * A thread safe String histogram for key sets that do not fit in memory. Counts are kept in a
+ * {@link ConcurrentHistogram}; when the amount of keys exceeds a limit, they are sorted by key
+ * and written to a run file in a temporary directory. Results are obtained by merging the runs,
+ * which sums the counts of same keys, and sorting the merged entries by count with an external
+ * merge sort. So memory usage is bounded by the key limit.
+ * <pre>
+ *   try (SpillingHistogram histogram = new SpillingHistogram(tempDir, 10_000_000)) {
+ *     // from several threads
+ *     histogram.add(chunkHistogram);
+ *     ...
+ *     histogram.forEachSortedByCount(2, e -> { print(e.key, e.count); return true; });
+ *   }
+ * </pre>
+ */
+public class SpillingHistogram implements AutoCloseable {
+
+  private static final int STREAM_BUFFER_SIZE = 1 << 16;
+  // amount of single key additions between key limit checks.
+  private static final int CHECK_INTERVAL = 4096;
+
+  private static final Comparator<Entry<String>> BY_KEY = Comparator.comparing(e -> e.key);
+  private static final Comparator<Entry<String>> BY_COUNT =
+      Comparator.<Entry<String>>comparingInt(e -> -e.count).thenComparing(e -> e.key);
+
+  private final ConcurrentHistogram<String> memory = new ConcurrentHistogram<>();
+  private final int maxKeysInMemory;
+  private final Path tempDir;
+  private final List<Path> runs = new ArrayList<>();
+  // adds take the read lock, spilling and merging take the write lock.
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final AtomicInteger addCounter = new AtomicInteger();
+  private final LongAdder totalCount = new LongAdder();
+  private int fileCounter = 0;
+
+  /**
+   * @param tempRoot directory for temporary run files. A new directory is created in it.
+   * @param maxKeysInMemory keys are written to disk when their amount exceeds this.
+   */
+  public SpillingHistogram(Path tempRoot, int maxKeysInMemory) throws IOException {
+    if (maxKeysInMemory < 1) {
+      throw new IllegalArgumentException(
+          "Key limit must be positive but it is " + maxKeysInMemory);
+    }
+    Files.createDirectories(tempRoot);
+    this.tempDir = Files.createTempDirectory(tempRoot, "histogram");
+    this.maxKeysInMemory = maxKeysInMemory;
+  }
+
+  public void add(String key) throws IOException {
+    add(key, 1);
+  }
+
+  public void add(String key, int count) throws IOException {
+    lock.readLock().lock();
+    try {
+      memory.add(key, count);
+    } finally {
+      lock.readLock().unlock();
+    }
+    totalCount.add(count);
+    if (addCounter.incrementAndGet() % CHECK_INTERVAL == 0) {
+      spillIfFull();
+    }
+  }
+
+  /**
+   * Adds all counts of [histogram].
+   */
+  public void add(Histogram<String> histogram) throws IOException {
+    lock.readLock().lock();
+    try {
+      memory.add(histogram);
+    } finally {
+      lock.readLock().unlock();
+    }
+    totalCount.add(histogram.totalCount());
+    spillIfFull();
+  }
+
+  /**
+   * Returns the sum of all counts added.
+   */
+  public long totalCount() {
+    return totalCount.sum();
+  }
+
+  /**
+   * Returns the amount of run files written so far.
+   */
+  public int spillCount() {
+    lock.readLock().lock();
+    try {
+      return runs.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void spillIfFull() throws IOException {
+    if (memory.size() <= maxKeysInMemory) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      // another thread may have spilled already.
+      if (memory.size() > maxKeysInMemory) {
+        spill();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // Must be called with the write lock.
+  private void spill() throws IOException {
+    List<Entry<String>> entries = memory.drain();
+    if (entries.isEmpty()) {
+      return;
+    }
+    entries.sort(BY_KEY);
+    Path run = writeRun(entries, entries.size());
+    runs.add(run);
+    Log.debug("%d keys are written to %s", entries.size(), run);
+  }
+
+  private Path writeRun(List<Entry<String>> entries, int size) throws IOException {
+    Path path = tempDir.resolve("run-" + (fileCounter++));
+    try (DataOutputStream dos = IOUtil.getDataOutputStream(path, STREAM_BUFFER_SIZE)) {
+      dos.writeInt(size);
+      for (int i = 0; i < size; i++) {
+        Entry<String> e = entries.get(i);
+        writeKey(dos, e.key);
+        dos.writeInt(e.count);
+      }
+    }
+    return path;
+  }
+
+  // Keys are written as UTF-8 byte count and bytes. DataOutput.writeUTF cannot write strings
+  // longer than 65535 bytes.
+  private static void writeKey(DataOutputStream dos, String key) throws IOException {
+    byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+    dos.writeInt(bytes.length);
+    dos.write(bytes);
+  }
+
+  private static String readKey(DataInputStream dis) throws IOException {
+    byte[] bytes = new byte[dis.readInt()];
+    dis.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Calls [consumer] with all entries whose count is at least [minCount], in count descending
+   * order. Entries with same count are ordered by key. Iteration stops if consumer returns false.
+   * Histogram should not be modified during the call.
+   */
+  public void forEachSortedByCount(int minCount, Predicate<Entry<String>> consumer)
+      throws IOException {
+    lock.writeLock().lock();
+    try {
+      if (runs.isEmpty()) {
+        // everything is in memory.
+        List<Entry<String>> entries = memory.getEntryList();
+        entries.removeIf(e -> e.count < minCount);
+        entries.sort(BY_COUNT);
+        for (Entry<String> entry : entries) {
+          if (!consumer.test(entry)) {
+            return;
+          }
+        }
+        return;
+      }
+      spill();
+      // merge key sorted runs, then sort merged entries by count in runs of the key limit.
+      List<Path> countRuns = new ArrayList<>();
+      List<Entry<String>> buffer = new ArrayList<>();
+      merge(runs, BY_KEY, true, e -> {
+        if (e.count >= minCount) {
+          buffer.add(e);
+          if (buffer.size() >= maxKeysInMemory) {
+            buffer.sort(BY_COUNT);
+            countRuns.add(writeRun(buffer, buffer.size()));
+            buffer.clear();
+          }
+        }
+        return true;
+      });
+      if (!buffer.isEmpty()) {
+        buffer.sort(BY_COUNT);
+        countRuns.add(writeRun(buffer, buffer.size()));
+        buffer.clear();
+      }
+      try {
+        merge(countRuns, BY_COUNT, false, consumer::test);
+      } finally {
+        for (Path countRun : countRuns) {
+          Files.deleteIfExists(countRun);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns at most [top] entries with highest counts, whose count is at least [minCount], as a
+   * Histogram. If [top] is -1, all such entries are returned.
+   */
+  public Histogram<String> toHistogram(int minCount, int top) throws IOException {
+    Histogram<String> result = new Histogram<>();
+    forEachSortedByCount(minCount, e -> {
+      result.set(e.key, e.count);
+      return top == -1 || result.size() < top;
+    });
+    return result;
+  }
+
+  @FunctionalInterface
+  private interface EntryConsumer {
+
+    boolean accept(Entry<String> entry) throws IOException;
+  }
+
+  // k-way merge of run files. If [sum] is true, counts of equal keys are summed.
+  private static void merge(
+      List<Path> files,
+      Comparator<Entry<String>> comparator,
+      boolean sum,
+      EntryConsumer consumer) throws IOException {
+    PriorityQueue<RunReader> queue = new PriorityQueue<>(
+        Math.max(files.size(), 1), (a, b) -> comparator.compare(a.current, b.current));
+    List<RunReader> readers = new ArrayList<>();
+    try {
+      for (Path file : files) {
+        RunReader reader = new RunReader(file);
+        readers.add(reader);
+        if (reader.next()) {
+          queue.add(reader);
+        }
+      }
+      Entry<String> pending = null;
+      while (!queue.isEmpty()) {
+        RunReader reader = queue.poll();
+        Entry<String> e = reader.current;
+        if (reader.next()) {
+          queue.add(reader);
+        }
+        if (!sum) {
+          if (!consumer.accept(e)) {
+            return;
+          }
+          continue;
+        }
+        if (pending != null && pending.key.equals(e.key)) {
+          pending = new Entry<>(e.key, pending.count + e.count);
+        } else {
+          if (pending != null && !consumer.accept(pending)) {
+            return;
+          }
+          pending = e;
+        }
+      }
+      if (pending != null) {
+        consumer.accept(pending);
+      }
+    } finally {
+      for (RunReader reader : readers) {
+        reader.close();
+      }
+    }
+  }
+
+  private static class RunReader implements AutoCloseable {
+
+    final DataInputStream dis;
+    int remaining;
+    Entry<String> current;
+
+    RunReader(Path path) throws IOException {
+      this.dis = IOUtil.getDataInputStream(path, STREAM_BUFFER_SIZE);
+      this.remaining = dis.readInt();
+    }
+
+    boolean next() throws IOException {
+      if (remaining == 0) {
+        return false;
+      }
+      current = new Entry<>(readKey(dis), dis.readInt());
+      remaining--;
+      return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+      dis.close();
+    }
+  }
+
+  /**
+   * Deletes the temporary files.
+   */
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      for (Path run : runs) {
+        Files.deleteIfExists(run);
+      }
+      runs.clear();
+      Files.deleteIfExists(tempDir);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
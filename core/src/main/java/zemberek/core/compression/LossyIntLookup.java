@@ -8,7 +8,7 @@ import java.nio.file.Path;
 import java.util.List;
 import zemberek.core.collections.FloatValueMap;
 import zemberek.core.hash.Mphf;
-import zemberek.core.hash.MultiLevelMphf;
+import zemberek.core.hash.PartitionedMphf;
 import zemberek.core.hash.StringHashKeyProvider;
 import zemberek.core.io.Bytes;
 import zemberek.core.io.IOUtil;
@@ -58,7 +58,7 @@ public class LossyIntLookup {
   public static LossyIntLookup generate(FloatValueMap<String> lookup) {
     List<String> keyList = lookup.getKeyList();
     StringHashKeyProvider provider = new StringHashKeyProvider(keyList);
-    MultiLevelMphf mphf = MultiLevelMphf.generate(provider);
+    Mphf mphf = PartitionedMphf.generate(provider);
     int[] data = new int[keyList.size() * 2];
     for (String s : keyList) {
       int index = mphf.get(s);
@@ -110,7 +110,7 @@ public class LossyIntLookup {
     for (int i = 0; i < data.length; i++) {
       data[i] = dis.readInt();
     }
-    Mphf mphf = MultiLevelMphf.deserialize(dis);
+    Mphf mphf = Mphf.deserialize(dis);
     return new LossyIntLookup(mphf, data);
   }
 
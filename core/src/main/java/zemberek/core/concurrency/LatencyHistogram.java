@@ -0,0 +1,97 @@
+package zemberek.core.concurrency;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe histogram of non negative values, like durations in nanoseconds. Buckets are
+ * log-linear like HdrHistogram: every power of two range is divided to 32 equal buckets, so
+ * percentile values have at most ~3% relative error. Values smaller than 64 have their own
+ * buckets. Recording is lock free and does not allocate.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT * 2;
+  private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (64 - SUB_BUCKET_BITS);
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  static int bucketIndex(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    int msb = 63 - Long.numberOfLeadingZeros(value);
+    int shift = msb - SUB_BUCKET_BITS;
+    // value >> shift is in [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT)
+    return shift * SUB_BUCKET_COUNT + (int) (value >> shift);
+  }
+
+  // Highest value that falls into the bucket.
+  static long highestValue(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long m = index - shift * SUB_BUCKET_COUNT;
+    return ((m + 1) << shift) - 1;
+  }
+
+  /**
+   * Records [value]. Negative values are recorded as 0.
+   */
+  public void record(long value) {
+    if (value < 0) {
+      value = 0;
+    }
+    counts.incrementAndGet(bucketIndex(value));
+    count.increment();
+    sum.add(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  public long count() {
+    return count.sum();
+  }
+
+  public long max() {
+    return max.get();
+  }
+
+  public double mean() {
+    long c = count.sum();
+    return c == 0 ? 0 : (double) sum.sum() / c;
+  }
+
+  /**
+   * Returns the value that [percentile] percent of the recorded values are less than or equal
+   * to. Result is the highest value of the bucket, capped with the maximum recorded value.
+   *
+   * @param percentile value in [0..100]
+   */
+  public long percentile(double percentile) {
+    long total = 0;
+    long[] snapshot = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(percentile / 100d * total));
+    long cumulative = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      cumulative += snapshot[i];
+      if (cumulative >= target) {
+        return Math.min(highestValue(i), max.get());
+      }
+    }
+    return max.get();
+  }
+}
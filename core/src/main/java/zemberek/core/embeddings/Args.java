@@ -25,6 +25,8 @@ public class Args {
   public String label;
   public int verbose;
   public String pretrainedVectors;
+  // directory for temporary training files. If empty, default temporary directory is used.
+  public String tempDir;
   public SubWordHashProvider subWordHashProvider;
 
   public boolean qout = false;
@@ -47,6 +49,7 @@ public class Args {
     label = "__label__";
     verbose = 2;
     pretrainedVectors = "";
+    tempDir = "";
   }
 
   public static Args forWordVectors(model_name modelName) {
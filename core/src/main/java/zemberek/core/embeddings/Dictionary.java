@@ -146,6 +146,15 @@ class Dictionary {
   }
 
   static Dictionary load(DataInputStream dis, Args args) throws IOException {
+    return load(dis, args, false);
+  }
+
+  /**
+   * Loads the dictionary. If [lazySubwords] is true, sub-word hashes of words are not calculated
+   * during loading but when they are first requested. This reduces loading time of large models.
+   */
+  static Dictionary load(DataInputStream dis, Args args, boolean lazySubwords)
+      throws IOException {
 
     Dictionary dict = new Dictionary(args);
 
@@ -166,7 +175,16 @@ class Dictionary {
       int second = dis.readInt();
       dict.pruneidx_.put(first, second);
     }
-    dict.init();
+    if (lazySubwords) {
+      dict.initTableDiscard();
+      for (Entry entry : dict.words_) {
+        if (!entry.word.equals(EOS)) {
+          entry.subwords = null;
+        }
+      }
+    } else {
+      dict.init();
+    }
 
     int word2IntSize = (int) Math.ceil(dict.size_ / 0.7);
     dict.word2int_ = new int[word2IntSize];
@@ -239,7 +257,13 @@ class Dictionary {
   int[] getSubWords(int i) {
     assert (i >= 0);
     assert (i < nwords_);
-    return words_.get(i).subwords;
+    Entry entry = words_.get(i);
+    int[] subwords = entry.subwords;
+    if (subwords == null) {
+      subwords = computeSubWords(BOW + entry.word + EOW, i);
+      entry.subwords = subwords;
+    }
+    return subwords;
   }
 
   public List<String> getLabels() {
@@ -264,7 +288,7 @@ class Dictionary {
     }
   }
 
-  private boolean discard(int id, float rand) {
+  boolean discard(int id, float rand) {
     assert (id >= 0);
     assert (id < nwords_);
     return rand > pdiscard_[id];
@@ -401,6 +425,35 @@ class Dictionary {
     return ntokens;
   }
 
+  /**
+   * Same as {@link #getLine(String, IntVector, Random)} but words are not discarded randomly. This
+   * is used for converting a corpus to word ids once, discarding can be applied later with {@link
+   * #discard(int, float)}
+   */
+  int getLine(String line, IntVector words) {
+    int ntokens = 0;
+    List<String> tokens = tokenizer.splitToList(line);
+
+    for (String token : tokens) {
+      if (token.startsWith("#")) {
+        continue;
+      }
+      int h = hash(token);
+      int wid = getId(token, h);
+      if (wid < 0) {
+        continue;
+      }
+      ntokens++;
+      if (getType(wid) == TYPE_WORD) {
+        words.add(wid);
+      }
+      if (ntokens > MAX_LINE_SIZE || token.equals(EOS)) {
+        break;
+      }
+    }
+    return ntokens;
+  }
+
   void addSubwords(IntVector line, String token, int wid) {
     if (wid < 0) { // out of vocab
       if (!token.equals(EOS)) {
@@ -518,7 +571,8 @@ class Dictionary {
     String word;
     int count;
     int type;
-    int[] subwords = new int[0];
+    // null if it is not calculated yet.
+    volatile int[] subwords = new int[0];
   }
 
 }
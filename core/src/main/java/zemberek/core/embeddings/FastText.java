@@ -78,7 +78,7 @@ public class FastText {
     return true;
   }
 
-  private Vector getWordVector(String word) {
+  Vector getWordVector(String word) {
     int[] ngrams = dict_.getSubWords(word);
     Vector vec = new Vector(args_.dim);
     for (int i : ngrams) {
@@ -181,6 +181,34 @@ public class FastText {
     return new FastText(args_, dict_, model_);
   }
 
+  /**
+   * Loads a model for inference with its matrices and quantization codes memory mapped from the
+   * file. Loading takes very little time and heap, operating system loads the pages when they are
+   * needed and processes using the same file share them. Sub-word hashes of words are calculated
+   * when they are first used. Returned model cannot be modified or trained.
+   */
+  public static FastText loadMapped(Path path) throws IOException {
+    try (MappedModelInput input = new MappedModelInput(path)) {
+      DataInputStream dis = input.dis;
+      if (!checkModel(dis)) {
+        throw new IllegalStateException("Model file has wrong file format.");
+      }
+      Args args_ = Args.load(dis);
+      Dictionary dict_ = Dictionary.load(dis, args_, true);
+      Model model_ = Model.loadMapped(input, args_);
+      // Only hierarchical softmax needs target counts for inference. Negative sampling table is
+      // used only in training.
+      if (args_.loss == Args.loss_name.hierarchicalSoftmax) {
+        if (args_.model == Args.model_name.supervised) {
+          model_.setTargetCounts(dict_.getCounts(Dictionary.TYPE_LABEL));
+        } else {
+          model_.setTargetCounts(dict_.getCounts(Dictionary.TYPE_WORD));
+        }
+      }
+      return new FastText(args_, dict_, model_);
+    }
+  }
+
   public FastText quantize(Path path, Args qargs) throws IOException {
     try (DataInputStream dis = IOUtil.getDataInputStream(path)) {
       if (!checkModel(dis)) {
@@ -348,11 +376,22 @@ public class FastText {
     }
   }
 
+  // reads word ids of [s] to [line]. Random source of pooled inference buffers is used for
+  // discarding frequent words.
+  private void getLine(String s, IntVector line) {
+    Model.InferenceContext context = model_.acquireInferenceContext();
+    try {
+      dict_.getLine(s, line, context.rng);
+    } finally {
+      model_.releaseInferenceContext(context);
+    }
+  }
+
   Vector textVectors(List<String> paragraph) {
     Vector vec = new Vector(args_.dim);
     for (String s : paragraph) {
       IntVector line = new IntVector();
-      dict_.getLine(s, line, model_.getRng());
+      getLine(s, line);
       if (line.size() == 0) {
         continue;
       }
@@ -370,7 +409,7 @@ public class FastText {
 
     if (args_.model == model_name.supervised) {
       IntVector line = new IntVector();
-      dict_.getLine(s, line, model_.getRng());
+      getLine(s, line);
       for (int i : line.copyOf()) {
         addInputVector(svec, i);
       }
@@ -381,7 +420,7 @@ public class FastText {
     }
 
     IntVector line = new IntVector();
-    dict_.getLine(s, line, model_.getRng());
+    getLine(s, line);
     dict_.addWordNgramHashes(line, args_.wordNgrams);
     if (line.size() == 0) {
       return svec.getData();
@@ -443,6 +482,10 @@ public class FastText {
     return predict(line, k, -100f);
   }
 
+  /**
+   * Returns k best labels for the line with scores larger than the threshold. This method can be
+   * called concurrently.
+   */
   public List<ScoredItem<String>> predict(String line, int k, float threshold) {
     IntVector words = new IntVector();
     IntVector labels = new IntVector();
@@ -459,4 +502,44 @@ public class FastText {
     return result;
   }
 
+  public List<List<ScoredItem<String>>> predict(List<String> lines, int k) {
+    return predict(lines, k, -100f);
+  }
+
+  /**
+   * Batch version of {@link #predict(String, int, float)}. Results are in the order of input lines.
+   * For large amount of short inputs this is faster than predicting lines one by one.
+   */
+  public List<List<ScoredItem<String>>> predict(List<String> lines, int k, float threshold) {
+    // word ids of each line. It is null if line has no known words.
+    int[][] lineInputs = new int[lines.size()][];
+    List<int[]> inputs = new ArrayList<>(lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      IntVector words = new IntVector();
+      IntVector labels = new IntVector();
+      dict_.getLine(lines.get(i), words, labels);
+      if (!words.isempty()) {
+        lineInputs[i] = words.copyOf();
+        inputs.add(lineInputs[i]);
+      }
+    }
+    List<List<Model.FloatIntPair>> modelPredictions = inputs.isEmpty() ?
+        Collections.emptyList() : model_.predict(inputs, threshold, k);
+    List<List<ScoredItem<String>>> results = new ArrayList<>(lines.size());
+    int predictionIndex = 0;
+    for (int[] lineInput : lineInputs) {
+      if (lineInput == null) {
+        results.add(Collections.emptyList());
+        continue;
+      }
+      List<Model.FloatIntPair> pairs = modelPredictions.get(predictionIndex++);
+      List<ScoredItem<String>> result = new ArrayList<>(pairs.size());
+      for (Model.FloatIntPair pair : pairs) {
+        result.add(new ScoredItem<>(dict_.getLabel(pair.second), pair.first));
+      }
+      results.add(result);
+    }
+    return results;
+  }
+
 }
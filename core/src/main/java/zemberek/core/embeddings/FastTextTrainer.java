@@ -2,10 +2,11 @@ package zemberek.core.embeddings;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.eventbus.EventBus;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
-import java.util.List;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutorCompletionService;
@@ -13,11 +14,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import zemberek.core.collections.IntVector;
 import zemberek.core.logging.Log;
-import zemberek.core.text.BlockTextLoader;
-import zemberek.core.text.TextChunk;
-import zemberek.core.text.TextIO;
 
 public class FastTextTrainer {
 
@@ -66,32 +63,45 @@ public class FastTextTrainer {
     Stopwatch stopwatch = Stopwatch.createStarted();
     AtomicLong tokenCount = new AtomicLong(0);
 
-    ExecutorService es = Executors.newFixedThreadPool(args_.thread);
-    CompletionService<Model> completionService = new ExecutorCompletionService<>(es);
-    long charCount = TextIO.charCount(input, StandardCharsets.UTF_8);
-    Log.info("Training started.");
-    Stopwatch sw = Stopwatch.createStarted();
-    for (int i = 0; i < args_.thread; i++) {
-      // Here a model per thread is generated. It uses references to global model's input and output matrices.
-      // AFAIK, original Fasttext does not care about thread safety of those matrices.
-      Model threadModel = new Model(model_, i);
-
-      completionService.submit(new TrainTask(
-          i,
-          input,
-          (int) (i * charCount / args_.thread),
-          threadModel,
-          stopwatch,
-          dict_,
-          args_,
-          tokenCount));
-    }
-    es.shutdown();
+    // Corpus is converted to word ids once, training threads read their own shards of it.
+    Path idFile = args_.tempDir.isEmpty() ?
+        Files.createTempFile("fasttext-corpus", ".ids") :
+        Files.createTempFile(Paths.get(args_.tempDir), "fasttext-corpus", ".ids");
+    try {
+      TokenizedCorpus corpus = TokenizedCorpus.create(input, dict_, args_, idFile, args_.thread);
+      Log.info("Corpus is converted to ids. Shard count = %d", corpus.shardCount());
+
+      ExecutorService es = Executors.newFixedThreadPool(args_.thread);
+      CompletionService<Model> completionService = new ExecutorCompletionService<>(es);
+      Log.info("Training started.");
+      for (int i = 0; i < args_.thread; i++) {
+        // Here a model per thread is generated. It uses references to global model's input and output matrices.
+        // AFAIK, original Fasttext does not care about thread safety of those matrices.
+        Model threadModel = new Model(model_, i);
+
+        completionService.submit(new TrainTask(
+            i,
+            corpus.reader(i * corpus.shardCount() / args_.thread),
+            threadModel,
+            stopwatch,
+            dict_,
+            args_,
+            tokenCount));
+      }
+      es.shutdown();
 
-    int c = 0;
-    while (c < args_.thread) {
-      completionService.take().get();
-      c++;
+      int c = 0;
+      while (c < args_.thread) {
+        completionService.take().get();
+        c++;
+      }
+    } finally {
+      try {
+        Files.deleteIfExists(idFile);
+      } catch (IOException e) {
+        // file may still be mapped on some platforms.
+        idFile.toFile().deleteOnExit();
+      }
     }
     return new FastText(args_, dict_, model_);
   }
@@ -118,26 +128,29 @@ public class FastTextTrainer {
 
   private static class TrainTask implements Callable<Model> {
 
+    // Progress is reported by first thread with this interval when verbose > 1.
+    private static final int PROGRESS_LINE_INTERVAL = 1000;
+
     int threadId;
-    Path input;
-    int startCharIndex;
+    TokenizedCorpus.LineReader reader;
     Stopwatch stopwatch;
     AtomicLong tokenCount;
     Model model;
     Dictionary dictionary;
     Args args_;
 
+    // re-used for bag of words of cbow.
+    int[] bow = new int[64];
+
     TrainTask(int threadId,
-        Path input,
-        int startCharIndex,
+        TokenizedCorpus.LineReader reader,
         Model model,
         Stopwatch stopwatch,
         Dictionary dictionary,
         Args args_,
         AtomicLong tokenCount) {
       this.threadId = threadId;
-      this.input = input;
-      this.startCharIndex = startCharIndex;
+      this.reader = reader;
       this.model = model;
       this.stopwatch = stopwatch;
       this.tokenCount = tokenCount;
@@ -167,43 +180,56 @@ public class FastTextTrainer {
 
     }
 
-    private void supervised(Model model,
-        float lr,
-        int[] line,
-        int[] labels) {
-      if (labels.length == 0 || line.length == 0) {
+    private void supervised(Model model, float lr, TokenizedCorpus.Line line) {
+      if (line.labelCount == 0 || line.wordCount == 0) {
         return;
       }
-      int i = model.getRng().nextInt(labels.length);
-      model.update(line, labels[i], lr);
+      int i = model.getRng().nextInt(line.labelCount);
+      model.update(line.words, line.wordCount, line.labels[i], lr);
     }
 
-    private void cbow(Model model, float lr, int[] line) {
-      for (int w = 0; w < line.length; w++) {
+    private void cbow(Model model, float lr, int[] line, int length) {
+      for (int w = 0; w < length; w++) {
         int boundary = model.getRng().nextInt(args_.ws) + 1; // [1..args.ws]
-        IntVector bow = new IntVector();
+        int bowSize = 0;
         for (int c = -boundary; c <= boundary; c++) {
-          if (c != 0 && w + c >= 0 && w + c < line.length) {
+          if (c != 0 && w + c >= 0 && w + c < length) {
             int[] ngrams = dictionary.getSubWords(line[w + c]);
-            bow.addAll(ngrams);
+            if (bowSize + ngrams.length > bow.length) {
+              bow = Arrays.copyOf(bow, (bowSize + ngrams.length) * 2);
+            }
+            System.arraycopy(ngrams, 0, bow, bowSize, ngrams.length);
+            bowSize += ngrams.length;
           }
         }
-        model.update(bow.copyOf(), line[w], lr);
+        model.update(bow, bowSize, line[w], lr);
       }
     }
 
-    private void skipgram(Model model, float lr, int[] line) {
-      for (int w = 0; w < line.length; w++) {
+    private void skipgram(Model model, float lr, int[] line, int length) {
+      for (int w = 0; w < length; w++) {
         int boundary = model.getRng().nextInt(args_.ws) + 1; // [1..args.ws]
         int[] ngrams = dictionary.getSubWords(line[w]);
         for (int c = -boundary; c <= boundary; c++) {
-          if (c != 0 && w + c >= 0 && w + c < line.length) {
+          if (c != 0 && w + c >= 0 && w + c < length) {
             model.update(ngrams, line[w + c], lr);
           }
         }
       }
     }
 
+    // Applies frequent word discarding to words of the line in place, returns remaining word count.
+    private int discard(TokenizedCorpus.Line line) {
+      int k = 0;
+      for (int i = 0; i < line.wordCount; i++) {
+        int wid = line.words[i];
+        if (!dictionary.discard(wid, model.getRng().nextFloat())) {
+          line.words[k++] = wid;
+        }
+      }
+      return k;
+    }
+
     @Override
     public Model call() {
 
@@ -213,49 +239,41 @@ public class FastTextTrainer {
         model.setTargetCounts(dictionary.getCounts(Dictionary.TYPE_WORD));
       }
 
-      long ntokens = dictionary.ntokens();
+      long totalTokens = args_.epoch * dictionary.ntokens();
       long localTokenCount = 0;
-
-      Iterator<TextChunk> it = BlockTextLoader
-          .iteratorFromCharIndex(input, 1000, startCharIndex);
-      float progress = 0f;
-      while (true) {
-        while (it.hasNext()) {
-          List<String> lines = it.next().getData();
-          for (String lineStr : lines) {
-            if (tokenCount.get() >= args_.epoch * ntokens) {
-              if (threadId == 0 && args_.verbose > 0) {
-                printInfo(1.0f, model.getLoss());
-              }
-              return model;
-            }
-            IntVector line = new IntVector(15);
-            progress = (float) ((1.0 * tokenCount.get()) / (args_.epoch * ntokens));
-            float lr = (float) (args_.lr * (1.0 - progress));
-
-            if (args_.model == Args.model_name.supervised) {
-              IntVector labels = new IntVector();
-              localTokenCount += dictionary.getLine(lineStr, line, labels);
-              supervised(model, lr, line.copyOf(), labels.copyOf());
-            } else if (args_.model == Args.model_name.cbow) {
-              localTokenCount += dictionary.getLine(lineStr, line, model.getRng());
-              cbow(model, lr, line.copyOf());
-            } else if (args_.model == Args.model_name.skipGram) {
-              localTokenCount += dictionary.getLine(lineStr, line, model.getRng());
-              skipgram(model, lr, line.copyOf());
-            }
-            if (localTokenCount > args_.lrUpdateRate) {
-              tokenCount.getAndAdd(localTokenCount);
-              localTokenCount = 0;
-            }
-          }
-          if (threadId == 0 && args_.verbose > 1) {
-            printInfo(progress, model.getLoss());
-          }
+      // Shared token count is only accessed when local count is flushed, so threads do not
+      // contend on it for every line.
+      long globalTokenCount = tokenCount.get();
+      float progress = (float) ((1.0 * globalTokenCount) / totalTokens);
+      long lineCount = 0;
+
+      TokenizedCorpus.Line line = new TokenizedCorpus.Line();
+      while (globalTokenCount < totalTokens) {
+        float lr = (float) (args_.lr * (1.0 - progress));
+        reader.next(line);
+        localTokenCount += line.tokenCount;
+
+        if (args_.model == Args.model_name.supervised) {
+          supervised(model, lr, line);
+        } else if (args_.model == Args.model_name.cbow) {
+          cbow(model, lr, line.words, discard(line));
+        } else if (args_.model == Args.model_name.skipGram) {
+          skipgram(model, lr, line.words, discard(line));
+        }
+        if (localTokenCount > args_.lrUpdateRate) {
+          globalTokenCount = tokenCount.addAndGet(localTokenCount);
+          localTokenCount = 0;
+          progress = (float) ((1.0 * globalTokenCount) / totalTokens);
         }
-        // start from the beginning again.
-        it = BlockTextLoader.singlePathIterator(input, 1000);
+        lineCount++;
+        if (threadId == 0 && args_.verbose > 1 && lineCount % PROGRESS_LINE_INTERVAL == 0) {
+          printInfo(progress, model.getLoss());
+        }
+      }
+      if (threadId == 0 && args_.verbose > 0) {
+        printInfo(1.0f, model.getLoss());
       }
+      return model;
     }
   }
 
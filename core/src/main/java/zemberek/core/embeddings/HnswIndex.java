@@ -0,0 +1,763 @@
+package zemberek.core.embeddings;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import zemberek.core.ScoredItem;
+import zemberek.core.io.IOUtil;
+import zemberek.core.logging.Log;
+
+/**
+ * Approximate nearest neighbor index for word vectors. It is a Hierarchical Navigable Small World
+ * (HNSW) graph [Malkov and Yashunin, 2016]. Similarity is cosine similarity, so vectors are
+ * normalized when index is built. Search visits only a small part of the vectors, amount of
+ * candidates kept during the search (ef) defines the trade-off between speed and recall.
+ * <p>
+ * Index contains words, vectors and the graph, so it can be saved and loaded without the model it
+ * is built from. Queries are thread safe.
+ */
+public class HnswIndex {
+
+  private static final int MAGIC = 0x484e5357;
+
+  private final int dimension;
+  // Max amount of neighbors of a node in upper layers. In layer 0 it is 2*m.
+  private final int m;
+  private final int efSearch;
+
+  private final String[] words;
+  private final Map<String, Integer> wordIndexes;
+  // Normalized vectors, row major.
+  private final float[] vectors;
+  private final int[] nodeLevels;
+  // Layer 0 links. For each node [2m+1] slots, first slot is the link count.
+  private final int[] level0Links;
+  // Upper layer links of nodes. It is null for nodes that exist only in layer 0. Otherwise for each
+  // layer [m+1] slots, first slot is the link count.
+  private final int[][] upperLinks;
+  private int entryPoint = -1;
+  private int maxLevel = -1;
+
+  private HnswIndex(
+      int dimension,
+      int m,
+      int efSearch,
+      String[] words,
+      float[] vectors,
+      int[] nodeLevels,
+      int[] level0Links,
+      int[][] upperLinks) {
+    this.dimension = dimension;
+    this.m = m;
+    this.efSearch = efSearch;
+    this.words = words;
+    this.vectors = vectors;
+    this.nodeLevels = nodeLevels;
+    this.level0Links = level0Links;
+    this.upperLinks = upperLinks;
+    this.wordIndexes = new HashMap<>(words.length * 2);
+    for (int i = 0; i < words.length; i++) {
+      wordIndexes.put(words[i], i);
+    }
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+
+    private int m = 16;
+    private int efConstruction = 200;
+    private int efSearch = 50;
+    private long seed = 1;
+
+    /**
+     * Max amount of neighbors of a node. Larger values increase recall and index size. Default is
+     * 16.
+     */
+    public Builder m(int m) {
+      if (m < 2) {
+        throw new IllegalArgumentException("m must be at least 2. But it is " + m);
+      }
+      this.m = m;
+      return this;
+    }
+
+    /**
+     * Amount of candidates evaluated when connecting a node. Larger values create a better graph
+     * but building takes longer. Default is 200.
+     */
+    public Builder efConstruction(int efConstruction) {
+      this.efConstruction = efConstruction;
+      return this;
+    }
+
+    /**
+     * Default amount of candidates evaluated in searches. Default is 50.
+     */
+    public Builder efSearch(int efSearch) {
+      this.efSearch = efSearch;
+      return this;
+    }
+
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Builds the index from the words and vectors. Vectors with zero length are ignored.
+     */
+    public HnswIndex build(List<String> words, List<float[]> vectors) {
+      if (words.size() != vectors.size()) {
+        throw new IllegalArgumentException("Word and vector counts are not equal.");
+      }
+      if (words.isEmpty()) {
+        throw new IllegalArgumentException("Cannot build an index without vectors.");
+      }
+      int dimension = vectors.get(0).length;
+      float[] data = new float[checkedDataSize(words.size(), dimension)];
+      for (int i = 0; i < words.size(); i++) {
+        float[] v = vectors.get(i);
+        if (v.length != dimension) {
+          throw new IllegalArgumentException(
+              "Vector of " + words.get(i) + " has wrong dimension " + v.length);
+        }
+        System.arraycopy(v, 0, data, i * dimension, dimension);
+      }
+      return build(words.toArray(new String[0]), data, dimension);
+    }
+
+    /**
+     * Builds the index from word vectors of a FastText model. Vectors are written directly to the
+     * array used by the index.
+     */
+    public HnswIndex build(FastText fastText) {
+      Dictionary dictionary = fastText.getDictionary();
+      int dimension = fastText.getArgs().dim;
+      String[] words = new String[dictionary.nwords()];
+      float[] data = new float[checkedDataSize(words.length, dimension)];
+      int count = 0;
+      for (int i = 0; i < dictionary.nwords(); i++) {
+        String word = dictionary.getWord(i);
+        if (word.equals(Dictionary.EOS)) {
+          continue;
+        }
+        words[count] = word;
+        System.arraycopy(fastText.getWordVector(word).getData(), 0, data, count * dimension,
+            dimension);
+        count++;
+      }
+      return build(
+          Arrays.copyOf(words, count),
+          count == words.length ? data : Arrays.copyOf(data, count * dimension),
+          dimension);
+    }
+
+    /**
+     * Builds the index from [words] and their row major [vectors]. Vectors are normalized in place
+     * and the array is kept by the index, so callers should not use it afterwards. Vectors with
+     * zero length are ignored.
+     */
+    public HnswIndex build(String[] words, float[] vectors, int dimension) {
+      if (dimension <= 0 || vectors.length != words.length * dimension) {
+        throw new IllegalArgumentException("Vector array size " + vectors.length
+            + " does not match word count " + words.length + " and dimension " + dimension);
+      }
+      if (words.length == 0) {
+        throw new IllegalArgumentException("Cannot build an index without vectors.");
+      }
+      // normalize and move vectors with non zero length to the beginning of the array.
+      String[] indexWords = new String[words.length];
+      int count = 0;
+      for (int i = 0; i < words.length; i++) {
+        int offset = i * dimension;
+        float sum = 0;
+        for (int j = 0; j < dimension; j++) {
+          sum += vectors[offset + j] * vectors[offset + j];
+        }
+        float norm = (float) Math.sqrt(sum);
+        if (norm == 0) {
+          continue;
+        }
+        int target = count * dimension;
+        for (int j = 0; j < dimension; j++) {
+          vectors[target + j] = vectors[offset + j] / norm;
+        }
+        indexWords[count++] = words[i];
+      }
+      if (count == 0) {
+        throw new IllegalArgumentException("Cannot build an index without non zero vectors.");
+      }
+      if ((long) count * (2 * m + 1) > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Too many vectors for the index: " + count);
+      }
+      float[] data = count == words.length ? vectors :
+          Arrays.copyOf(vectors, count * dimension);
+
+      Random random = new Random(seed);
+      double levelMultiplier = 1 / Math.log(m);
+      int[] levels = new int[count];
+      int[][] upperLinks = new int[count][];
+      for (int i = 0; i < count; i++) {
+        levels[i] = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        if (levels[i] > 0) {
+          upperLinks[i] = new int[levels[i] * (m + 1)];
+        }
+      }
+      HnswIndex index = new HnswIndex(
+          dimension,
+          m,
+          efSearch,
+          count == words.length ? indexWords : Arrays.copyOf(indexWords, count),
+          data,
+          levels,
+          new int[count * (2 * m + 1)],
+          upperLinks);
+      // building is single threaded, so one visited set is used for all insertions.
+      VisitedSet visited = new VisitedSet(efConstruction * 4);
+      for (int i = 0; i < count; i++) {
+        index.insert(i, efConstruction, visited);
+        if (i > 0 && i % 100_000 == 0) {
+          Log.info("%d of %d vectors are indexed.", i, count);
+        }
+      }
+      return index;
+    }
+
+    private static int checkedDataSize(int count, int dimension) {
+      if ((long) count * dimension > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Too many vectors for the index: " + count);
+      }
+      return count * dimension;
+    }
+  }
+
+  public int size() {
+    return words.length;
+  }
+
+  public int getDimension() {
+    return dimension;
+  }
+
+  public boolean containsWord(String word) {
+    return wordIndexes.containsKey(word);
+  }
+
+  /**
+   * Returns normalized vector of the word or null if word does not exist in the index.
+   */
+  public float[] getVector(String word) {
+    Integer index = wordIndexes.get(word);
+    if (index == null) {
+      return null;
+    }
+    return Arrays.copyOfRange(vectors, index * dimension, (index + 1) * dimension);
+  }
+
+  /**
+   * Returns k words most similar to [word] with their cosine similarity values, in descending
+   * order. Word itself is not included. Returns an empty list if word is not in the index.
+   */
+  public List<ScoredItem<String>> nearestK(String word, int k) {
+    return nearestK(word, k, efSearch);
+  }
+
+  /**
+   * Same as {@link #nearestK(String, int)} but search uses [ef] candidates. Larger ef values give
+   * higher recall but slower search.
+   */
+  public List<ScoredItem<String>> nearestK(String word, int k, int ef) {
+    Integer index = wordIndexes.get(word);
+    if (index == null) {
+      return Collections.emptyList();
+    }
+    float[] query = Arrays.copyOfRange(vectors, index * dimension, (index + 1) * dimension);
+    return search(query, k, ef, index);
+  }
+
+  /**
+   * Returns k words most similar to [vector] with their cosine similarity values, in descending
+   * order.
+   */
+  public List<ScoredItem<String>> nearestK(float[] vector, int k) {
+    return nearestK(vector, k, efSearch);
+  }
+
+  public List<ScoredItem<String>> nearestK(float[] vector, int k, int ef) {
+    if (vector.length != dimension) {
+      throw new IllegalArgumentException(
+          "Vector dimension must be " + dimension + " but it is " + vector.length);
+    }
+    float norm = norm(vector);
+    if (norm == 0) {
+      return Collections.emptyList();
+    }
+    float[] query = new float[dimension];
+    for (int i = 0; i < dimension; i++) {
+      query[i] = vector[i] / norm;
+    }
+    return search(query, k, ef, -1);
+  }
+
+  private List<ScoredItem<String>> search(float[] query, int k, int ef, int excluded) {
+    if (k <= 0) {
+      throw new IllegalArgumentException("k needs to be 1 or higher! Value = " + k);
+    }
+    // one more candidate is needed if query word itself will be removed.
+    int size = excluded >= 0 ? k + 1 : k;
+    int current = entryPoint;
+    for (int level = maxLevel; level > 0; level--) {
+      current = greedyClosest(query, current, level);
+    }
+    int layerEf = Math.max(ef, size);
+    NodeQueue results = searchLayer(query, new int[]{current}, layerEf, 0,
+        new VisitedSet(layerEf * 4));
+    while (results.size() > size) {
+      results.pop();
+    }
+    List<ScoredItem<String>> items = new ArrayList<>(results.size());
+    while (results.size() > 0) {
+      float score = results.topScore();
+      int node = results.pop();
+      if (node != excluded) {
+        items.add(new ScoredItem<>(words[node], score));
+      }
+    }
+    Collections.reverse(items);
+    return items.size() > k ? new ArrayList<>(items.subList(0, k)) : items;
+  }
+
+  private void insert(int node, int efConstruction, VisitedSet visited) {
+    if (entryPoint == -1) {
+      entryPoint = node;
+      maxLevel = nodeLevels[node];
+      return;
+    }
+    float[] query = Arrays.copyOfRange(vectors, node * dimension, (node + 1) * dimension);
+    int nodeLevel = nodeLevels[node];
+    int current = entryPoint;
+    for (int level = maxLevel; level > nodeLevel; level--) {
+      current = greedyClosest(query, current, level);
+    }
+    int[] entryPoints = {current};
+    for (int level = Math.min(nodeLevel, maxLevel); level >= 0; level--) {
+      NodeQueue candidates = searchLayer(query, entryPoints, efConstruction, level, visited);
+      entryPoints = candidates.ids();
+      int maxLinks = level == 0 ? 2 * m : m;
+      int[] neighbors = selectNeighbors(node, candidates, m);
+      setLinks(node, level, neighbors, neighbors.length);
+      for (int neighbor : neighbors) {
+        addLink(neighbor, node, level, maxLinks);
+      }
+    }
+    if (nodeLevel > maxLevel) {
+      maxLevel = nodeLevel;
+      entryPoint = node;
+    }
+  }
+
+  // Adds [node] to the links of [target]. If links are full, links are re-selected.
+  private void addLink(int target, int node, int level, int maxLinks) {
+    int[] links = links(target, level);
+    int offset = linkOffset(target, level);
+    int count = links[offset];
+    if (count < maxLinks) {
+      links[offset + count + 1] = node;
+      links[offset] = count + 1;
+      return;
+    }
+    NodeQueue candidates = new NodeQueue(count + 1);
+    candidates.add(node, similarity(target, node));
+    for (int i = 0; i < count; i++) {
+      int neighbor = links[offset + i + 1];
+      candidates.add(neighbor, similarity(target, neighbor));
+    }
+    int[] selected = selectNeighbors(target, candidates, maxLinks);
+    setLinks(target, level, selected, selected.length);
+  }
+
+  private void setLinks(int node, int level, int[] neighbors, int count) {
+    int[] links = links(node, level);
+    int offset = linkOffset(node, level);
+    links[offset] = count;
+    System.arraycopy(neighbors, 0, links, offset + 1, count);
+  }
+
+  private int[] links(int node, int level) {
+    return level == 0 ? level0Links : upperLinks[node];
+  }
+
+  private int linkOffset(int node, int level) {
+    return level == 0 ? node * (2 * m + 1) : (level - 1) * (m + 1);
+  }
+
+  /**
+   * Selects at most [max] neighbors from candidates with the heuristic of the HNSW paper. A
+   * candidate is selected only if it is more similar to the node than to already selected ones.
+   * This keeps links to different directions and improves recall for clustered data.
+   */
+  private int[] selectNeighbors(int node, NodeQueue candidates, int max) {
+    int[] sorted = candidates.idsBySimilarityDescending();
+    int[] selected = new int[Math.min(max, sorted.length)];
+    int count = 0;
+    for (int candidate : sorted) {
+      if (count == max) {
+        break;
+      }
+      if (candidate == node) {
+        continue;
+      }
+      float similarity = similarity(node, candidate);
+      boolean good = true;
+      for (int i = 0; i < count; i++) {
+        if (similarity(selected[i], candidate) > similarity) {
+          good = false;
+          break;
+        }
+      }
+      if (good) {
+        selected[count++] = candidate;
+      }
+    }
+    return count == selected.length ? selected : Arrays.copyOf(selected, count);
+  }
+
+  private int greedyClosest(float[] query, int start, int level) {
+    int current = start;
+    float best = similarity(query, current);
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      int[] links = links(current, level);
+      int offset = linkOffset(current, level);
+      int count = links[offset];
+      for (int i = 1; i <= count; i++) {
+        int neighbor = links[offset + i];
+        float s = similarity(query, neighbor);
+        if (s > best) {
+          best = s;
+          current = neighbor;
+          changed = true;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * Returns at most [ef] nodes most similar to the query in a layer. Returned queue gives the
+   * least similar node first.
+   */
+  private NodeQueue searchLayer(float[] query, int[] entryPoints, int ef, int level,
+      VisitedSet visited) {
+    visited.clear();
+    // candidates are ordered by negative similarity, so that most similar is popped first.
+    NodeQueue candidates = new NodeQueue(ef * 2);
+    NodeQueue results = new NodeQueue(ef + 1);
+    for (int entry : entryPoints) {
+      float s = similarity(query, entry);
+      visited.add(entry);
+      candidates.add(entry, -s);
+      results.add(entry, s);
+      if (results.size() > ef) {
+        results.pop();
+      }
+    }
+    while (candidates.size() > 0) {
+      float s = -candidates.topScore();
+      int candidate = candidates.pop();
+      if (results.size() >= ef && s < results.topScore()) {
+        break;
+      }
+      int[] links = links(candidate, level);
+      int offset = linkOffset(candidate, level);
+      int count = links[offset];
+      for (int i = 1; i <= count; i++) {
+        int neighbor = links[offset + i];
+        if (!visited.add(neighbor)) {
+          continue;
+        }
+        float ns = similarity(query, neighbor);
+        if (results.size() < ef || ns > results.topScore()) {
+          candidates.add(neighbor, -ns);
+          results.add(neighbor, ns);
+          if (results.size() > ef) {
+            results.pop();
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  private float similarity(float[] query, int node) {
+    int offset = node * dimension;
+    float d = 0;
+    for (int i = 0; i < dimension; i++) {
+      d += query[i] * vectors[offset + i];
+    }
+    return d;
+  }
+
+  private float similarity(int a, int b) {
+    int offsetA = a * dimension;
+    int offsetB = b * dimension;
+    float d = 0;
+    for (int i = 0; i < dimension; i++) {
+      d += vectors[offsetA + i] * vectors[offsetB + i];
+    }
+    return d;
+  }
+
+  private static float norm(float[] v) {
+    float sum = 0;
+    for (float f : v) {
+      sum += f * f;
+    }
+    return (float) Math.sqrt(sum);
+  }
+
+  public void save(Path path) throws IOException {
+    try (DataOutputStream dos = IOUtil.getDataOutputStream(path)) {
+      dos.writeInt(MAGIC);
+      dos.writeInt(dimension);
+      dos.writeInt(m);
+      dos.writeInt(efSearch);
+      dos.writeInt(words.length);
+      dos.writeInt(entryPoint);
+      dos.writeInt(maxLevel);
+      for (String word : words) {
+        dos.writeUTF(word);
+      }
+      for (float v : vectors) {
+        dos.writeFloat(v);
+      }
+      for (int level : nodeLevels) {
+        dos.writeInt(level);
+      }
+      for (int link : level0Links) {
+        dos.writeInt(link);
+      }
+      for (int[] links : upperLinks) {
+        if (links == null) {
+          continue;
+        }
+        for (int link : links) {
+          dos.writeInt(link);
+        }
+      }
+    }
+  }
+
+  public static HnswIndex load(Path path) throws IOException {
+    try (DataInputStream dis = IOUtil.getDataInputStream(path)) {
+      int magic = dis.readInt();
+      if (magic != MAGIC) {
+        throw new IllegalStateException("File does not carry expected value in the beginning.");
+      }
+      int dimension = dis.readInt();
+      int m = dis.readInt();
+      int efSearch = dis.readInt();
+      int count = dis.readInt();
+      int entryPoint = dis.readInt();
+      int maxLevel = dis.readInt();
+      String[] words = new String[count];
+      for (int i = 0; i < count; i++) {
+        words[i] = dis.readUTF();
+      }
+      float[] vectors = new float[count * dimension];
+      for (int i = 0; i < vectors.length; i++) {
+        vectors[i] = dis.readFloat();
+      }
+      int[] levels = new int[count];
+      for (int i = 0; i < count; i++) {
+        levels[i] = dis.readInt();
+      }
+      int[] level0Links = new int[count * (2 * m + 1)];
+      for (int i = 0; i < level0Links.length; i++) {
+        level0Links[i] = dis.readInt();
+      }
+      int[][] upperLinks = new int[count][];
+      for (int i = 0; i < count; i++) {
+        if (levels[i] == 0) {
+          continue;
+        }
+        upperLinks[i] = new int[levels[i] * (m + 1)];
+        for (int j = 0; j < upperLinks[i].length; j++) {
+          upperLinks[i][j] = dis.readInt();
+        }
+      }
+      HnswIndex index = new HnswIndex(
+          dimension, m, efSearch, words, vectors, levels, level0Links, upperLinks);
+      index.entryPoint = entryPoint;
+      index.maxLevel = maxLevel;
+      return index;
+    }
+  }
+
+  /**
+   * Binary min heap of node ids with float scores.
+   */
+  private static class NodeQueue {
+
+    int[] ids;
+    float[] scores;
+    int size;
+
+    NodeQueue(int capacity) {
+      ids = new int[Math.max(capacity, 2)];
+      scores = new float[ids.length];
+    }
+
+    int size() {
+      return size;
+    }
+
+    float topScore() {
+      return scores[0];
+    }
+
+    void add(int id, float score) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+        scores = Arrays.copyOf(scores, size * 2);
+      }
+      int i = size++;
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (scores[parent] <= score) {
+          break;
+        }
+        ids[i] = ids[parent];
+        scores[i] = scores[parent];
+        i = parent;
+      }
+      ids[i] = id;
+      scores[i] = score;
+    }
+
+    int pop() {
+      int result = ids[0];
+      size--;
+      int lastId = ids[size];
+      float lastScore = scores[size];
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && scores[child + 1] < scores[child]) {
+          child++;
+        }
+        if (scores[child] >= lastScore) {
+          break;
+        }
+        ids[i] = ids[child];
+        scores[i] = scores[child];
+        i = child;
+      }
+      ids[i] = lastId;
+      scores[i] = lastScore;
+      return result;
+    }
+
+    int[] ids() {
+      return Arrays.copyOf(ids, size);
+    }
+
+    // This is used for queues that keep similarity as score.
+    int[] idsBySimilarityDescending() {
+      int[] result = new int[size];
+      NodeQueue copy = new NodeQueue(size);
+      for (int i = 0; i < size; i++) {
+        copy.add(ids[i], scores[i]);
+      }
+      for (int i = size - 1; i >= 0; i--) {
+        result[i] = copy.pop();
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Marks visited nodes during a search. It is an open addressing hash set, so its size depends on
+   * the amount of visited nodes, not on the index size. A slot is in use only if its stamp is the
+   * current epoch, so clearing only increments the epoch.
+   */
+  private static class VisitedSet {
+
+    int[] nodes;
+    int[] stamps;
+    int epoch = 1;
+    int size;
+
+    VisitedSet(int expectedSize) {
+      int capacity = 16;
+      while (capacity < expectedSize * 2) {
+        capacity <<= 1;
+      }
+      nodes = new int[capacity];
+      stamps = new int[capacity];
+    }
+
+    void clear() {
+      size = 0;
+      epoch++;
+      if (epoch == Integer.MAX_VALUE) {
+        Arrays.fill(stamps, 0);
+        epoch = 1;
+      }
+    }
+
+    // returns false if node is already visited.
+    boolean add(int node) {
+      if (size * 2 >= nodes.length) {
+        expand();
+      }
+      int mask = nodes.length - 1;
+      int slot = slot(node, mask);
+      while (stamps[slot] == epoch) {
+        if (nodes[slot] == node) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      stamps[slot] = epoch;
+      nodes[slot] = node;
+      size++;
+      return true;
+    }
+
+    private static int slot(int node, int mask) {
+      int h = node * 0x9E3779B9;
+      return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void expand() {
+      int[] oldNodes = nodes;
+      int[] oldStamps = stamps;
+      int oldEpoch = epoch;
+      nodes = new int[oldNodes.length * 2];
+      stamps = new int[oldNodes.length * 2];
+      epoch = 1;
+      size = 0;
+      for (int i = 0; i < oldNodes.length; i++) {
+        if (oldStamps[i] == oldEpoch) {
+          add(oldNodes[i]);
+        }
+      }
+    }
+  }
+}
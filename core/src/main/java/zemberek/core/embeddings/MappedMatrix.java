@@ -0,0 +1,138 @@
+package zemberek.core.embeddings;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * A read only Matrix whose values are memory mapped from a model file. Because a mapped region
+ * cannot be larger than 2GB, rows are split to multiple blocks. Operations that modify the values
+ * throw UnsupportedOperationException.
+ */
+class MappedMatrix extends Matrix {
+
+  private final FloatBuffer[] blocks;
+  private final int rowsPerBlock;
+
+  private MappedMatrix(int m_, int n_, FloatBuffer[] blocks, int rowsPerBlock) {
+    super(m_, n_, (float[][]) null);
+    this.blocks = blocks;
+    this.rowsPerBlock = rowsPerBlock;
+  }
+
+  static MappedMatrix map(MappedModelInput in, int m_, int n_) throws IOException {
+    int rowsPerBlock = Math.min(m_, Integer.MAX_VALUE / (n_ * 4));
+    FloatBuffer[] blocks = new FloatBuffer[(m_ + rowsPerBlock - 1) / rowsPerBlock];
+    for (int i = 0; i < blocks.length; i++) {
+      int rowCount = Math.min(rowsPerBlock, m_ - i * rowsPerBlock);
+      blocks[i] = in.map((long) rowCount * n_ * 4).asFloatBuffer();
+    }
+    return new MappedMatrix(m_, n_, blocks, rowsPerBlock);
+  }
+
+  @Override
+  float at(int i, int j) {
+    return blocks[i / rowsPerBlock].get((i % rowsPerBlock) * n_ + j);
+  }
+
+  @Override
+  float dotRow(Vector vec, int i) {
+    assert (i >= 0);
+    assert (i < m_);
+    assert (vec.size() == n_);
+    FloatBuffer block = blocks[i / rowsPerBlock];
+    int offset = (i % rowsPerBlock) * n_;
+    float d = 0.0f;
+    for (int j = 0; j < n_; j++) {
+      d += block.get(offset + j) * vec.data_[j];
+    }
+    return d;
+  }
+
+  @Override
+  float dotRow(float[] vec, int offset, int i) {
+    FloatBuffer block = blocks[i / rowsPerBlock];
+    int rowOffset = (i % rowsPerBlock) * n_;
+    float d = 0.0f;
+    for (int j = 0; j < n_; j++) {
+      d += block.get(rowOffset + j) * vec[offset + j];
+    }
+    return d;
+  }
+
+  @Override
+  float l2NormRow(int i) {
+    FloatBuffer block = blocks[i / rowsPerBlock];
+    int offset = (i % rowsPerBlock) * n_;
+    float norm = 0f;
+    for (int j = 0; j < n_; j++) {
+      float v = block.get(offset + j);
+      norm += v * v;
+    }
+    return (float) Math.sqrt(norm);
+  }
+
+  @Override
+  float[] getData1D() {
+    if ((long) m_ * n_ > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Matrix is too large to be copied to an array.");
+    }
+    float[] result = new float[m_ * n_];
+    int offset = 0;
+    for (FloatBuffer block : blocks) {
+      FloatBuffer b = block.duplicate();
+      int size = b.remaining();
+      b.get(result, offset, size);
+      offset += size;
+    }
+    return result;
+  }
+
+  @Override
+  Matrix copy() {
+    return new Matrix(m_, n_, getData1D());
+  }
+
+  @Override
+  void save(DataOutputStream dos) throws IOException {
+    dos.writeInt(m_);
+    dos.writeInt(n_);
+    float[] row = new float[n_];
+    ByteBuffer buffer = ByteBuffer.allocate(n_ * 4);
+    for (FloatBuffer block : blocks) {
+      FloatBuffer b = block.duplicate();
+      while (b.hasRemaining()) {
+        b.get(row);
+        buffer.clear();
+        buffer.asFloatBuffer().put(row);
+        dos.write(buffer.array());
+      }
+    }
+  }
+
+  @Override
+  void set(int row, int col, float val) {
+    throw new UnsupportedOperationException("Memory mapped matrix is read only.");
+  }
+
+  @Override
+  void uniform(float a) {
+    throw new UnsupportedOperationException("Memory mapped matrix is read only.");
+  }
+
+  @Override
+  void addRow(Vector vec, int i, float a) {
+    throw new UnsupportedOperationException("Memory mapped matrix is read only.");
+  }
+
+  @Override
+  void multiplyRow(Vector nums, int ib, int ie) {
+    throw new UnsupportedOperationException("Memory mapped matrix is read only.");
+  }
+
+  @Override
+  void divideRow(Vector denoms, int ib, int ie) {
+    throw new UnsupportedOperationException("Memory mapped matrix is read only.");
+  }
+}
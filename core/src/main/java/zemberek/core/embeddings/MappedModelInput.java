@@ -0,0 +1,46 @@
+package zemberek.core.embeddings;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a model file sequentially, but large blocks of it, like matrix values, can be memory mapped
+ * instead of being copied to the heap. Mapped buffers remain valid after this input is closed.
+ */
+class MappedModelInput implements Closeable {
+
+  private final FileChannel channel;
+  private final CountingInputStream counter;
+  final DataInputStream dis;
+
+  MappedModelInput(Path path) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.counter = new CountingInputStream(new BufferedInputStream(Files.newInputStream(path)));
+    this.dis = new DataInputStream(counter);
+  }
+
+  /**
+   * Maps next [byteCount] bytes of the file as read only and skips them.
+   */
+  MappedByteBuffer map(long byteCount) throws IOException {
+    MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, counter.getCount(), byteCount);
+    ByteStreams.skipFully(dis, byteCount);
+    return buffer;
+  }
+
+  @Override
+  public void close() throws IOException {
+    dis.close();
+    channel.close();
+  }
+}
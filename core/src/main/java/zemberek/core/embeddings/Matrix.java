@@ -15,13 +15,13 @@ class Matrix {
   int n_;
   float[][] data_;
 
-  private Matrix(int m_, int n_, float[][] data_) {
+  Matrix(int m_, int n_, float[][] data_) {
     this.m_ = m_;
     this.n_ = n_;
     this.data_ = data_;
   }
 
-  private Matrix(int m_, int n_, float[] data_) {
+  Matrix(int m_, int n_, float[] data_) {
     this.m_ = m_;
     this.n_ = n_;
     this.data_ = new float[m_][n_];
@@ -98,6 +98,18 @@ class Matrix {
     return new Matrix(m_, n_, data);
   }
 
+  /**
+   * Maps the matrix values from the model input instead of loading them to the heap.
+   */
+  static Matrix loadMapped(MappedModelInput in) throws IOException {
+    int m_ = in.dis.readInt();
+    int n_ = in.dis.readInt();
+    if (m_ == 0 || n_ == 0) {
+      return new Matrix(m_, n_);
+    }
+    return MappedMatrix.map(in, m_, n_);
+  }
+
   /**
    * Fills the Matrix with uniform random numbers in [-a a] range.
    */
@@ -140,6 +152,18 @@ class Matrix {
     return d;
   }
 
+  /**
+   * Calculates dot product of [i]th row and the values of [vec] that start at [offset].
+   */
+  float dotRow(float[] vec, int offset, int i) {
+    float[] row = data_[i];
+    float d = 0.0f;
+    for (int j = 0; j < n_; j++) {
+      d += row[j] * vec[offset + j];
+    }
+    return d;
+  }
+
   void multiplyRow(Vector nums) {
     multiplyRow(nums, 0, -1);
   }
@@ -262,7 +286,7 @@ class Matrix {
     int n = amount > n_ ? n_ : amount;
     System.out.print(s + "[" + i + "] = ");
     for (int k = 0; k < n; k++) {
-      System.out.print(String.format(Locale.ENGLISH,"%.4f ", data_[i][k]));
+      System.out.print(String.format(Locale.ENGLISH,"%.4f ", at(i, k)));
     }
     System.out.println();
   }
@@ -8,6 +8,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
 import zemberek.core.collections.IntVector;
 import zemberek.core.embeddings.Args.model_name;
 import zemberek.core.math.FloatArrays;
@@ -18,6 +19,10 @@ class Model {
   private static final int SIGMOID_TABLE_SIZE = 512;
   private static final int MAX_SIGMOID = 8;
   private static final int LOG_TABLE_SIZE = 512;
+  // Amount of inputs processed together in batch prediction.
+  private static final int BATCH_BLOCK_SIZE = 32;
+  // Amount of output matrix rows multiplied with all inputs of a block at once.
+  private static final int OUTPUT_ROW_BLOCK_SIZE = 64;
   private static final Comparator<FloatIntPair> PAIR_COMPARATOR =
       (l, r) -> Float.compare(l.first, r.first);
   private static float[] t_sigmoid;
@@ -45,6 +50,17 @@ class Model {
   private HierarchicalSoftmax hierarchicalSoftmax;
 
   private Random rng;
+  private int seed;
+
+  // Training buffers.
+  private Vector trainHidden;
+  private Vector trainGrad;
+
+  // Prediction does not modify the weights, so one model can serve multiple threads. But each
+  // call needs its own buffers for intermediate results. Released buffers are kept in a bounded
+  // pool owned by the model, so they are not retained after the model is dropped.
+  private final ArrayBlockingQueue<InferenceContext> inferenceContexts =
+      new ArrayBlockingQueue<>(Math.max(2, Runtime.getRuntime().availableProcessors() * 2));
 
   Model(Matrix wi,
       Matrix wo,
@@ -52,6 +68,7 @@ class Model {
       int seed) {
     output_ = new Vector(wo.m_);
     rng = new Random(seed);
+    this.seed = seed;
     wi_ = wi;
     wo_ = wo;
     args_ = args;
@@ -66,6 +83,21 @@ class Model {
   }
 
   static Model load(DataInputStream dis, Args args_) throws IOException {
+    return load(dis, args_, null);
+  }
+
+  /**
+   * Loads the model with matrices and quantization codes memory mapped from the input. Such models
+   * can only be used for inference.
+   */
+  static Model loadMapped(MappedModelInput in, Args args_) throws IOException {
+    return load(in.dis, args_, in);
+  }
+
+  private static Model load(
+      DataInputStream dis,
+      Args args_,
+      MappedModelInput mappedInput) throws IOException {
 
     boolean quant_input = dis.readBoolean();
 
@@ -75,22 +107,20 @@ class Model {
     QMatrix qOutput_ = null;
 
     if (quant_input) {
-      qInput_ = new QMatrix();
-      qInput_.load(dis);
+      qInput_ = loadQMatrix(dis, mappedInput);
       input_ = Matrix.EMPTY;
     } else {
-      input_ = Matrix.load(dis);
+      input_ = mappedInput == null ? Matrix.load(dis) : Matrix.loadMapped(mappedInput);
     }
 
     //TODO: I dont like this. we should not override Args value like this.
     args_.qout = dis.readBoolean();
 
     if (quant_input && args_.qout) {
-      qOutput_ = new QMatrix();
-      qOutput_.load(dis);
+      qOutput_ = loadQMatrix(dis, mappedInput);
       output_ = Matrix.EMPTY;
     } else {
-      output_ = Matrix.load(dis);
+      output_ = mappedInput == null ? Matrix.load(dis) : Matrix.loadMapped(mappedInput);
     }
 
     Model model_ = new Model(input_, output_, args_, 0);
@@ -100,6 +130,17 @@ class Model {
     return model_;
   }
 
+  private static QMatrix loadQMatrix(DataInputStream dis, MappedModelInput mappedInput)
+      throws IOException {
+    QMatrix matrix = new QMatrix();
+    if (mappedInput == null) {
+      matrix.load(dis);
+    } else {
+      matrix.loadMapped(mappedInput);
+    }
+    return matrix;
+  }
+
   private static void initSigmoid() {
     t_sigmoid = new float[SIGMOID_TABLE_SIZE + 1];
     for (int i = 0; i < SIGMOID_TABLE_SIZE + 1; i++) {
@@ -128,6 +169,22 @@ class Model {
     return rng;
   }
 
+  /**
+   * Returns inference buffers from the pool, or new buffers if pool is empty. Buffers must not be
+   * shared between threads, and should be returned with {@link #releaseInferenceContext}.
+   */
+  InferenceContext acquireInferenceContext() {
+    InferenceContext context = inferenceContexts.poll();
+    return context != null ? context : new InferenceContext(hsz_, osz_, seed);
+  }
+
+  /**
+   * Returns buffers to the pool. If pool is full they are dropped.
+   */
+  void releaseInferenceContext(InferenceContext context) {
+    inferenceContexts.offer(context);
+  }
+
   private float binaryLogistic(
       Vector grad,
       Vector hidden,
@@ -186,7 +243,7 @@ class Model {
     } else {
       output.mul(wo_, hidden);
     }
-    float max = FloatArrays.max(output_.data_);
+    float max = FloatArrays.max(output.data_);
     float z = 0.0f;
 
     for (int i = 0; i < osz_; i++) {
@@ -218,22 +275,34 @@ class Model {
   // then sums all current word embeddings of input[] to this vector and averages it.
   Vector computeHidden(int[] input) {
     Vector hidden = new Vector(hsz_);
-    for (int i : input) {
+    computeHidden(input, hidden);
+    return hidden;
+  }
+
+  void computeHidden(int[] input, Vector hidden) {
+    computeHidden(input, input.length, hidden);
+  }
+
+  // uses first [length] values of input.
+  private void computeHidden(int[] input, int length, Vector hidden) {
+    hidden.zero();
+    for (int k = 0; k < length; k++) {
+      int i = input[k];
       if (quant_) {
         hidden.addRow(qwi_, i);
       } else {
         hidden.addRow(wi_, i);
       }
     }
-    hidden.mul((float) (1.0 / input.length));
-    return hidden;
+    hidden.mul((float) (1.0 / length));
   }
 
   List<FloatIntPair> predict(
       int k,
       float threshold,
       Vector hidden,
-      Vector output) {
+      Vector output,
+      PriorityQueue<FloatIntPair> heap) {
 
     if (k <= 0) {
       throw new IllegalArgumentException("k needs to be 1 or higher! Value = " + k);
@@ -244,20 +313,145 @@ class Model {
           "Model needs to be supervised for prediction! Mmodel = " + args_.model);
     }
 
-    PriorityQueue<FloatIntPair> heap = new PriorityQueue<>(k + 1, PAIR_COMPARATOR);
+    heap.clear();
     if (args_.loss == Args.loss_name.hierarchicalSoftmax) {
       dfs(k, threshold, 2 * osz_ - 2, 0.0f, heap, hidden);
     } else {
       findKBest(k, threshold, heap, hidden, output);
     }
     List<FloatIntPair> result = new ArrayList<>(heap);
+    heap.clear();
     Collections.sort(result);
     return result;
   }
 
+  /**
+   * Returns k best labels for the input. This method is thread safe, intermediate results are
+   * written to buffers that are used only by this call.
+   */
   List<FloatIntPair> predict(int[] input, float threshold, int k) {
-    Vector hidden_ = computeHidden(input);
-    return predict(k, threshold, hidden_, output_);
+    InferenceContext context = acquireInferenceContext();
+    try {
+      computeHidden(input, context.hidden);
+      return predict(k, threshold, context.hidden, context.output, context.heap);
+    } finally {
+      releaseInferenceContext(context);
+    }
+  }
+
+  /**
+   * Returns k best labels for each input. For softmax and negative sampling losses, hidden vectors
+   * of a block of inputs are multiplied with a contiguous copy of the output matrix at once, and
+   * best labels are selected without creating intermediate objects. Results are same as calling
+   * {@link #predict(int[], float, int)} for each input. Inputs must not be empty.
+   */
+  List<List<FloatIntPair>> predict(List<int[]> inputs, float threshold, int k) {
+    if (k <= 0) {
+      throw new IllegalArgumentException("k needs to be 1 or higher! Value = " + k);
+    }
+    if (args_.model != model_name.supervised) {
+      throw new IllegalArgumentException(
+          "Model needs to be supervised for prediction! Mmodel = " + args_.model);
+    }
+    List<List<FloatIntPair>> results = new ArrayList<>(inputs.size());
+    if (args_.loss == Args.loss_name.hierarchicalSoftmax || (quant_ && args_.qout)) {
+      for (int[] input : inputs) {
+        results.add(predict(input, threshold, k));
+      }
+      return results;
+    }
+
+    Vector hidden = new Vector(hsz_);
+    int blockSize = Math.min(BATCH_BLOCK_SIZE, inputs.size());
+    float[] hiddenBlock = new float[blockSize * hsz_];
+    float[] outputBlock = new float[blockSize * osz_];
+    float[] bestScores = new float[k];
+    int[] bestIds = new int[k];
+
+    for (int begin = 0; begin < inputs.size(); begin += blockSize) {
+      int count = Math.min(blockSize, inputs.size() - begin);
+      for (int b = 0; b < count; b++) {
+        computeHidden(inputs.get(begin + b), hidden);
+        System.arraycopy(hidden.data_, 0, hiddenBlock, b * hsz_, hsz_);
+      }
+      multiplyBlock(hiddenBlock, outputBlock, count);
+      for (int b = 0; b < count; b++) {
+        softmax(outputBlock, b * osz_);
+        int found = selectKBest(outputBlock, b * osz_, threshold, k, bestScores, bestIds);
+        List<FloatIntPair> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+          result.add(new FloatIntPair(bestScores[i], bestIds[i]));
+        }
+        results.add(result);
+      }
+    }
+    return results;
+  }
+
+  // Calculates output[b * osz_ + i] = dot(row i, hidden b) for [count] hidden vectors. Output rows
+  // are processed in blocks so that a block stays in cache while it is used for all inputs. Rows
+  // are read from the output matrix itself, it is not copied. Summation order of a dot product is
+  // same as Vector.mul(Matrix, Vector).
+  private void multiplyBlock(float[] hiddenBlock, float[] output, int count) {
+    for (int rowBegin = 0; rowBegin < osz_; rowBegin += OUTPUT_ROW_BLOCK_SIZE) {
+      int rowEnd = Math.min(rowBegin + OUTPUT_ROW_BLOCK_SIZE, osz_);
+      for (int b = 0; b < count; b++) {
+        int hiddenOffset = b * hsz_;
+        int outputOffset = b * osz_;
+        for (int i = rowBegin; i < rowEnd; i++) {
+          output[outputOffset + i] = wo_.dotRow(hiddenBlock, hiddenOffset, i);
+        }
+      }
+    }
+  }
+
+  // Applies softmax to output[offset, offset + osz_) same as computeOutputSoftmax.
+  private void softmax(float[] output, int offset) {
+    float max = output[offset];
+    for (int i = 1; i < osz_; i++) {
+      if (output[offset + i] > max) {
+        max = output[offset + i];
+      }
+    }
+    float z = 0.0f;
+    for (int i = offset; i < offset + osz_; i++) {
+      output[i] = (float) Math.exp(output[i] - max);
+      z += output[i];
+    }
+    for (int i = offset; i < offset + osz_; i++) {
+      output[i] /= z;
+    }
+  }
+
+  // Writes log probabilities and ids of k best outputs larger than threshold to [bestScores] and
+  // [bestIds] in descending order. Returns the amount of items written.
+  private int selectKBest(
+      float[] output,
+      int offset,
+      float threshold,
+      int k,
+      float[] bestScores,
+      int[] bestIds) {
+    int size = 0;
+    for (int i = 0; i < osz_; i++) {
+      float p = output[offset + i];
+      if (p < threshold) {
+        continue;
+      }
+      float score = stdLog(p);
+      if (size == k && score <= bestScores[k - 1]) {
+        continue;
+      }
+      int j = size < k ? size++ : k - 1;
+      while (j > 0 && bestScores[j - 1] < score) {
+        bestScores[j] = bestScores[j - 1];
+        bestIds[j] = bestIds[j - 1];
+        j--;
+      }
+      bestScores[j] = score;
+      bestIds[j] = i;
+    }
+    return size;
   }
 
   private void findKBest(
@@ -323,13 +517,26 @@ class Model {
   // target is the label
   // lr is the current learning rate.
   void update(int[] input, int target, float lr) {
+    update(input, input.length, target, lr);
+  }
+
+  // Same as update(int[], int, float) but only first [length] values of input are used.
+  // Hidden and gradient vectors are re-used, so a model instance must be used by a single
+  // training thread.
+  void update(int[] input, int length, int target, float lr) {
     assert (target >= 0);
     assert (target < osz_);
-    if (input.length == 0) {
+    if (length == 0) {
       return;
     }
-    Vector hidden_ = computeHidden(input);
-    Vector grad_ = new Vector(hsz_);
+    if (trainHidden == null) {
+      trainHidden = new Vector(hsz_);
+      trainGrad = new Vector(hsz_);
+    }
+    Vector hidden_ = trainHidden;
+    computeHidden(input, length, hidden_);
+    Vector grad_ = trainGrad;
+    grad_.zero();
     if (args_.loss == Args.loss_name.negativeSampling) {
       loss_ += negativeSampling(grad_, hidden_, target, lr);
     } else if (args_.loss == Args.loss_name.hierarchicalSoftmax) {
@@ -340,11 +547,11 @@ class Model {
     nexamples_ += 1;
 
     if (args_.model == Args.model_name.supervised) {
-      grad_.mul((float) (1.0 / input.length));
+      grad_.mul((float) (1.0 / length));
     }
 
-    for (int i : input) {
-      wi_.addRow(grad_, i, 1.0f);
+    for (int k = 0; k < length; k++) {
+      wi_.addRow(grad_, input[k], 1.0f);
     }
   }
 
@@ -508,6 +715,23 @@ class Model {
     }
   }
 
+  /**
+   * Buffers used during inference. An instance is used by one call at a time.
+   */
+  static class InferenceContext {
+
+    final Vector hidden;
+    final Vector output;
+    final PriorityQueue<FloatIntPair> heap = new PriorityQueue<>(PAIR_COMPARATOR);
+    final Random rng;
+
+    InferenceContext(int hiddenSize, int outputSize, int seed) {
+      this.hidden = new Vector(hiddenSize);
+      this.output = new Vector(outputSize);
+      this.rng = new Random(seed);
+    }
+  }
+
   private static class Node {
 
     int parent;
@@ -3,6 +3,7 @@ package zemberek.core.embeddings;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Random;
 import zemberek.core.collections.IntVector;
@@ -325,6 +326,10 @@ class ProductQuantizer {
 
   }
 
+  /**
+   * Codes in a byte array. Heap codes are accessed from the array directly, only codes that are
+   * memory mapped from a file use {@link BufferBArray}.
+   */
   static class BArray {
 
     int pointer;
@@ -341,6 +346,17 @@ class ProductQuantizer {
       this.data = data;
     }
 
+    /**
+     * Creates a BArray for the codes in [buffer]. If buffer has a backing array, it is used
+     * directly.
+     */
+    static BArray of(ByteBuffer buffer) {
+      if (buffer.hasArray()) {
+        return new BArray(buffer.arrayOffset(), buffer.array());
+      }
+      return new BufferBArray(0, buffer);
+    }
+
     byte get(int i) {
       return data[pointer + i];
     }
@@ -353,4 +369,31 @@ class ProductQuantizer {
       return new BArray(pointer + offset, this.data);
     }
   }
+
+  // Codes in a buffer without a backing array, like memory mapped codes.
+  static class BufferBArray extends BArray {
+
+    ByteBuffer buffer;
+
+    BufferBArray(int pointer, ByteBuffer buffer) {
+      super(pointer, null);
+      this.buffer = buffer;
+    }
+
+    @Override
+    byte get(int i) {
+      return buffer.get(pointer + i);
+    }
+
+    @Override
+    void set(int i, byte value) {
+      buffer.put(pointer + i, value);
+    }
+
+    @Override
+    BArray ref(int offset) {
+      return new BufferBArray(pointer + offset, this.buffer);
+    }
+  }
+
 }
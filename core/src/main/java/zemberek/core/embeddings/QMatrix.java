@@ -3,14 +3,16 @@ package zemberek.core.embeddings;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 class QMatrix {
 
   ProductQuantizer pq_;
   ProductQuantizer npq_;
 
-  byte[] codes_;
-  byte[] norm_codes_;
+  // Codes are either in heap or memory mapped from the model file.
+  ByteBuffer codes_;
+  ByteBuffer norm_codes_;
 
   boolean qnorm_;
 
@@ -31,13 +33,13 @@ class QMatrix {
     n_ = mat.n_;
     codesize_ = m_ * ((n_ + dsub - 1) / dsub);
     if(codesize_>0) {
-      codes_ = new byte[codesize_];
+      codes_ = ByteBuffer.allocate(codesize_);
     } else {
       throw new IllegalStateException("Code size must be a positive number.");
     }
     pq_ = new ProductQuantizer(n_, dsub);
     if (qnorm_) {
-      norm_codes_ = new byte[m_];
+      norm_codes_ = ByteBuffer.allocate(m_);
       npq_ = new ProductQuantizer(1, 1);
     }
     quantize(mat);
@@ -50,7 +52,7 @@ class QMatrix {
     float[] dataptr = norms.data_;
     npq_.train(m_, dataptr);
     ProductQuantizer.FArray fArray = new ProductQuantizer.FArray(dataptr);
-    ProductQuantizer.BArray bArray = new ProductQuantizer.BArray(norm_codes_);
+    ProductQuantizer.BArray bArray = ProductQuantizer.BArray.of(norm_codes_);
     npq_.compute_codes(fArray, bArray, m_);
   }
 
@@ -66,16 +68,16 @@ class QMatrix {
     float[] data1D = matrix.getData1D();
     pq_.train(m_, data1D);
     ProductQuantizer.FArray fArray = new ProductQuantizer.FArray(data1D);
-    ProductQuantizer.BArray bArray = new ProductQuantizer.BArray(codes_);
+    ProductQuantizer.BArray bArray = ProductQuantizer.BArray.of(codes_);
     pq_.compute_codes(fArray, bArray, m_);
   }
 
   void addToVector(Vector x, int t) {
     float norm = 1;
     if (qnorm_) {
-      norm = npq_.get_centroids(0, norm_codes_[t]).get(0);
+      norm = npq_.get_centroids(0, norm_codes_.get(t)).get(0);
     }
-    pq_.addcode(x, new ProductQuantizer.BArray(codes_), t, norm);
+    pq_.addcode(x, ProductQuantizer.BArray.of(codes_), t, norm);
   }
 
   float dotRow(Vector vec, int i) {
@@ -84,9 +86,9 @@ class QMatrix {
     assert (vec.size() == n_);
     float norm = 1;
     if (qnorm_) {
-      norm = npq_.get_centroids(0, norm_codes_[i]).get(0);
+      norm = npq_.get_centroids(0, norm_codes_.get(i)).get(0);
     }
-    return pq_.mulcode(vec, new ProductQuantizer.BArray(codes_), i, norm);
+    return pq_.mulcode(vec, ProductQuantizer.BArray.of(codes_), i, norm);
   }
 
   int getM() {
@@ -102,28 +104,64 @@ class QMatrix {
     out.writeInt(m_);
     out.writeInt(n_);
     out.writeInt(codesize_);
-    out.write(codes_);
+    writeBytes(codes_, out);
     pq_.save(out);
     if (qnorm_) {
-      out.write(norm_codes_);
+      writeBytes(norm_codes_, out);
       npq_.save(out);
     }
   }
 
+  private static void writeBytes(ByteBuffer buffer, DataOutputStream out) throws IOException {
+    if (buffer.hasArray()) {
+      out.write(buffer.array(), buffer.arrayOffset(), buffer.capacity());
+      return;
+    }
+    ByteBuffer b = buffer.duplicate();
+    b.clear();
+    byte[] block = new byte[Math.min(b.remaining(), 1 << 20)];
+    while (b.hasRemaining()) {
+      int size = Math.min(block.length, b.remaining());
+      b.get(block, 0, size);
+      out.write(block, 0, size);
+    }
+  }
+
   void load(DataInputStream in) throws IOException {
+    load(in, null);
+  }
+
+  /**
+   * Loads the matrix. Codes are mapped from the file instead of being copied to heap.
+   */
+  void loadMapped(MappedModelInput in) throws IOException {
+    load(in.dis, in);
+  }
+
+  private void load(DataInputStream in, MappedModelInput mappedInput) throws IOException {
     qnorm_ = in.readBoolean();
     m_ = in.readInt();
     n_ = in.readInt();
     codesize_ = in.readInt();
-    codes_ = new byte[codesize_];
-    in.readFully(codes_);
+    codes_ = readBytes(in, mappedInput, codesize_);
     pq_ = new ProductQuantizer();
     pq_.load(in);
     if (qnorm_) {
-      byte[] normCodesData = new byte[m_];
-      in.readFully(normCodesData);
+      norm_codes_ = readBytes(in, mappedInput, m_);
       npq_ = new ProductQuantizer();
       npq_.load(in);
     }
   }
+
+  private static ByteBuffer readBytes(
+      DataInputStream in,
+      MappedModelInput mappedInput,
+      int size) throws IOException {
+    if (mappedInput != null) {
+      return mappedInput.map(size);
+    }
+    byte[] data = new byte[size];
+    in.readFully(data);
+    return ByteBuffer.wrap(data);
+  }
 }
@@ -0,0 +1,269 @@
+package zemberek.core.embeddings;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import zemberek.core.collections.IntVector;
+import zemberek.core.io.IOUtil;
+import zemberek.core.text.TextChunk;
+import zemberek.core.text.TextSplit;
+
+/**
+ * A training corpus converted to dictionary ids. Conversion is done once, so training epochs do
+ * not read, decode and tokenize the text again. Each line is stored as int values:
+ * <pre>
+ *   [token count] [word count] [word ids...] [label count] [label ids...]
+ * </pre>
+ * For unsupervised models words are not discarded during conversion, discarding is applied in
+ * training. File is memory mapped as shards that start at line boundaries. Training threads start
+ * reading from different shards, so each thread mostly works on its own part of the file.
+ */
+class TokenizedCorpus {
+
+  // A shard is at most 1GB.
+  private static final int MAX_SHARD_INT_COUNT = 1 << 28;
+  // Line start positions are recorded with this interval to be used as shard boundaries.
+  private static final int CHECKPOINT_LINE_INTERVAL = 1000;
+
+  private final IntBuffer[] shards;
+
+  private TokenizedCorpus(IntBuffer[] shards) {
+    this.shards = shards;
+  }
+
+  int shardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Converts lines of [input] to ids with [dictionary], writes them to [output] and maps the
+   * result. Input is split to [minShardCount] byte ranges that are converted in parallel, then
+   * results are appended to [output] in input order. Corpus is split to at least [minShardCount]
+   * shards if it has enough lines.
+   *
+   * @throws IllegalArgumentException if [input] does not contain any tokens.
+   */
+  static TokenizedCorpus create(
+      Path input,
+      Dictionary dictionary,
+      Args args,
+      Path output,
+      int minShardCount) throws IOException {
+
+    List<TextSplit> splits = TextSplit.split(input, 0, Math.max(minShardCount, 1), 10_000);
+    List<Path> partFiles = new ArrayList<>(splits.size());
+    for (TextSplit split : splits) {
+      partFiles.add(output.resolveSibling(output.getFileName() + "." + split.splitIndex));
+    }
+    // int positions of line starts, recorded every CHECKPOINT_LINE_INTERVAL lines.
+    List<Long> checkpoints = new ArrayList<>();
+    // parts start new shards, so shards of a part are read from its own split.
+    Set<Long> partStarts = new HashSet<>();
+    long position = 0;
+    long totalTokenCount = 0;
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(splits.size(), 1));
+    try {
+      List<Future<Part>> parts = new ArrayList<>(splits.size());
+      for (int i = 0; i < splits.size(); i++) {
+        TextSplit split = splits.get(i);
+        Path partFile = partFiles.get(i);
+        parts.add(executor.submit(() -> convert(split, dictionary, args, partFile)));
+      }
+      try (FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+          StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        for (int i = 0; i < parts.size(); i++) {
+          Part part = getPart(parts.get(i));
+          partStarts.add(position);
+          for (long checkpoint : part.checkpoints) {
+            checkpoints.add(position + checkpoint);
+          }
+          totalTokenCount += part.tokenCount;
+          try (FileChannel in = FileChannel.open(partFiles.get(i), StandardOpenOption.READ)) {
+            long size = in.size();
+            long transferred = 0;
+            while (transferred < size) {
+              transferred += in.transferTo(transferred, size - transferred, out);
+            }
+          }
+          position += part.intCount;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+      for (Path partFile : partFiles) {
+        Files.deleteIfExists(partFile);
+      }
+    }
+    if (totalTokenCount == 0) {
+      throw new IllegalArgumentException("Corpus " + input + " does not contain any tokens.");
+    }
+    checkpoints.add(position);
+    return map(output, checkpoints, partStarts, position, minShardCount);
+  }
+
+  // Ids of the lines of a split, written to a file.
+  private static class Part {
+
+    // int positions of line starts in the part file.
+    final List<Long> checkpoints = new ArrayList<>();
+    long intCount;
+    long tokenCount;
+  }
+
+  private static Part getPart(Future<Part> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Corpus conversion is interrupted.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static Part convert(TextSplit split, Dictionary dictionary, Args args, Path output)
+      throws IOException {
+    Part part = new Part();
+    long lineCount = 0;
+    IntVector words = new IntVector();
+    IntVector labels = new IntVector();
+    try (DataOutputStream dos = IOUtil.getDataOutputStream(output)) {
+      for (TextChunk chunk : split) {
+        for (String line : chunk) {
+          if (lineCount % CHECKPOINT_LINE_INTERVAL == 0) {
+            part.checkpoints.add(part.intCount);
+          }
+          words.clear();
+          labels.clear();
+          int tokenCount;
+          if (args.model == Args.model_name.supervised) {
+            tokenCount = dictionary.getLine(line, words, labels);
+          } else {
+            tokenCount = dictionary.getLine(line, words);
+          }
+          part.tokenCount += tokenCount;
+          dos.writeInt(tokenCount);
+          dos.writeInt(words.size());
+          for (int i = 0; i < words.size(); i++) {
+            dos.writeInt(words.get(i));
+          }
+          dos.writeInt(labels.size());
+          for (int i = 0; i < labels.size(); i++) {
+            dos.writeInt(labels.get(i));
+          }
+          part.intCount += 3 + words.size() + labels.size();
+          lineCount++;
+        }
+      }
+    }
+    return part;
+  }
+
+  private static TokenizedCorpus map(
+      Path file,
+      List<Long> checkpoints,
+      Set<Long> partStarts,
+      long intCount,
+      int minShardCount) throws IOException {
+    if (intCount == 0) {
+      throw new IllegalArgumentException("Corpus file " + file + " is empty.");
+    }
+    long shardSize = Math.min(
+        Math.max(intCount / Math.max(minShardCount, 1), 1), MAX_SHARD_INT_COUNT);
+    List<IntBuffer> shards = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long shardStart = 0;
+      for (int i = 1; i < checkpoints.size(); i++) {
+        long end = checkpoints.get(i);
+        boolean last = i == checkpoints.size() - 1;
+        long nextEnd = last ? end : checkpoints.get(i + 1);
+        // close the shard if a new part starts, if it is large enough or if adding next block
+        // exceeds the limit.
+        if (end > shardStart && (last || partStarts.contains(end) || end - shardStart >= shardSize
+            || nextEnd - shardStart > MAX_SHARD_INT_COUNT)) {
+          shards.add(channel
+              .map(MapMode.READ_ONLY, shardStart * 4, (end - shardStart) * 4)
+              .asIntBuffer());
+          shardStart = end;
+        }
+      }
+    }
+    return new TokenizedCorpus(shards.toArray(new IntBuffer[0]));
+  }
+
+  /**
+   * Creates a reader that starts from the beginning of the shard with index [shardIndex]. Reader
+   * continues with next shards and returns to the first shard after the last one.
+   */
+  LineReader reader(int shardIndex) {
+    return new LineReader(shardIndex % shards.length);
+  }
+
+  /**
+   * Word and label ids of a line. Arrays are re-used for all lines read.
+   */
+  static class Line {
+
+    int tokenCount;
+    int[] words = new int[32];
+    int wordCount;
+    int[] labels = new int[4];
+    int labelCount;
+  }
+
+  class LineReader {
+
+    private int shard;
+    private int position;
+
+    LineReader(int shard) {
+      this.shard = shard;
+    }
+
+    /**
+     * Reads next line to [line].
+     */
+    void next(Line line) {
+      IntBuffer buffer = shards[shard];
+      line.tokenCount = buffer.get(position++);
+      line.wordCount = buffer.get(position++);
+      if (line.words.length < line.wordCount) {
+        line.words = Arrays.copyOf(line.words, line.wordCount + line.wordCount / 2);
+      }
+      for (int i = 0; i < line.wordCount; i++) {
+        line.words[i] = buffer.get(position++);
+      }
+      line.labelCount = buffer.get(position++);
+      if (line.labels.length < line.labelCount) {
+        line.labels = Arrays.copyOf(line.labels, line.labelCount + line.labelCount / 2);
+      }
+      for (int i = 0; i < line.labelCount; i++) {
+        line.labels[i] = buffer.get(position++);
+      }
+      if (position == buffer.limit()) {
+        shard = (shard + 1) % shards.length;
+        position = 0;
+      }
+    }
+  }
+}
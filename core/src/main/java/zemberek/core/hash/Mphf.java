@@ -1,11 +1,43 @@
 package zemberek.core.hash;
 
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 public interface Mphf {
 
+  /**
+   * Reads a serialized {@link MultiLevelMphf} or {@link PartitionedMphf} from [dis].
+   */
+  static Mphf deserialize(DataInputStream dis) throws IOException {
+    int first = dis.readInt();
+    if (first == PartitionedMphf.MAGIC) {
+      return PartitionedMphf.deserializeData(dis);
+    }
+    return MultiLevelMphf.deserialize(first, dis);
+  }
+
+  /**
+   * Reads a serialized {@link MultiLevelMphf} or {@link PartitionedMphf} that starts at the
+   * position of [buffer], without copying its arrays to the heap. After the call, position of the
+   * buffer is moved to the end of the data.
+   */
+  static Mphf deserialize(ByteBuffer buffer) {
+    ByteBuffer b = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    int first = b.getInt();
+    Mphf mphf;
+    if (first == PartitionedMphf.MAGIC) {
+      mphf = PartitionedMphf.deserializeData(b);
+    } else {
+      mphf = MultiLevelMphf.deserialize(first, b);
+    }
+    buffer.position(b.position());
+    return mphf;
+  }
+
   int get(int[] key);
 
   int get(int[] key, int hash);
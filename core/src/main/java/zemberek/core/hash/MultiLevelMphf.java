@@ -9,6 +9,9 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -131,6 +134,19 @@ public class MultiLevelMphf implements Mphf {
     return d & 0x7fffffff;
   }
 
+  /**
+   * Calculates default seeded hash values of all prefixes of data[begin, end). After the call,
+   * result[k] is equal to hash(data, begin, begin + k + 1, -1). This is useful when hash values of
+   * a gram and its lower order prefixes are all required, such as in back-off calculations.
+   */
+  public static void prefixHashes(int[] data, int begin, int end, int[] result) {
+    int d = INITIAL_HASH_SEED;
+    for (int i = begin; i < end; i++) {
+      d = (d ^ data[i]) * HASH_MULTIPLIER;
+      result[i - begin] = d & 0x7fffffff;
+    }
+  }
+
   /**
    * A custom deserializer.
    *
@@ -169,7 +185,10 @@ public class MultiLevelMphf implements Mphf {
    * @throws IOException if an error occurs during stream access.
    */
   public static MultiLevelMphf deserialize(DataInputStream dis) throws IOException {
-    int levelCount = dis.readInt();
+    return deserialize(dis.readInt(), dis);
+  }
+
+  static MultiLevelMphf deserialize(int levelCount, DataInputStream dis) throws IOException {
     HashIndexes[] indexes = new HashIndexes[levelCount];
     for (int i = 0; i < levelCount; i++) {
       int keycount = dis.readInt();
@@ -181,7 +200,39 @@ public class MultiLevelMphf implements Mphf {
       for (int j = 0; j < failedIndexesCount; j++) {
         failedIndexes[j] = dis.readInt();
       }
-      indexes[i] = new HashIndexes(keycount, bucketAmount, hashSeedValues, failedIndexes);
+      indexes[i] = new ArrayHashIndexes(keycount, bucketAmount, hashSeedValues, failedIndexes);
+    }
+    return new MultiLevelMphf(indexes);
+  }
+
+  /**
+   * Creates a MultiLevelMphf from the serialized data that starts at the position of [buffer].
+   * Format is same as the stream format. Bucket seed values and failed indexes are not copied, they
+   * are accessed directly from the buffer, so a MappedByteBuffer of a model file can be used
+   * without loading it to the heap. After the call, position of the buffer is moved to the end of
+   * the data.
+   */
+  public static MultiLevelMphf deserialize(ByteBuffer buffer) {
+    ByteBuffer b = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+    MultiLevelMphf mphf = deserialize(b.getInt(), b);
+    buffer.position(b.position());
+    return mphf;
+  }
+
+  // reads levels from big endian [b] and moves its position to the end of the data.
+  static MultiLevelMphf deserialize(int levelCount, ByteBuffer b) {
+    HashIndexes[] indexes = new HashIndexes[levelCount];
+    for (int i = 0; i < levelCount; i++) {
+      int keyCount = b.getInt();
+      int bucketAmount = b.getInt();
+      ByteBuffer seeds = b.slice();
+      seeds.limit(bucketAmount);
+      b.position(b.position() + bucketAmount);
+      int failedIndexesCount = b.getInt();
+      ByteBuffer failed = b.slice();
+      failed.limit(failedIndexesCount * 4);
+      b.position(b.position() + failedIndexesCount * 4);
+      indexes[i] = new BufferHashIndexes(keyCount, bucketAmount, seeds, failed.asIntBuffer());
     }
     return new MultiLevelMphf(indexes);
   }
@@ -217,7 +268,7 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(key, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(key, seed) % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(key, seed) % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -231,8 +282,8 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(k0, k1, k2, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(k0, k1, k2, seed)
-              % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(k0, k1, k2, seed)
+              % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -246,8 +297,8 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(k0, k1, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(k0, k1, seed)
-              % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(k0, k1, seed)
+              % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -277,7 +328,7 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(key, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(key, seed) % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(key, seed) % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -307,7 +358,7 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(key, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(key, seed) % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(key, seed) % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -328,8 +379,8 @@ public class MultiLevelMphf implements Mphf {
         if (i == 0) {
           return hash(key, begin, end, seed) % hashLevelData[0].keyAmount;
         } else {
-          return hashLevelData[i - 1].failedIndexes[hash(key, begin, end, seed)
-              % hashLevelData[i].keyAmount];
+          return hashLevelData[i - 1].failedIndex(hash(key, begin, end, seed)
+              % hashLevelData[i].keyAmount);
         }
       }
     }
@@ -344,8 +395,8 @@ public class MultiLevelMphf implements Mphf {
     long result = 12; // array overhead
     for (HashIndexes data : hashLevelData) {
       result += 12; // array overhead for failed buckets
-      result += data.bucketHashSeedValues.length;
-      result += data.failedIndexes.length * 4;
+      result += data.bucketAmount;
+      result += data.failedIndexCount() * 4;
     }
     return result;
   }
@@ -389,24 +440,41 @@ public class MultiLevelMphf implements Mphf {
     for (HashIndexes index : hashLevelData) {
       dos.writeInt(index.keyAmount);
       dos.writeInt(index.bucketAmount);
-      dos.write(index.bucketHashSeedValues);
-      dos.writeInt(index.failedIndexes.length);
-      for (int i : index.failedIndexes) {
-        dos.writeInt(i);
+      index.writeSeeds(dos);
+      dos.writeInt(index.failedIndexCount());
+      for (int i = 0; i < index.failedIndexCount(); i++) {
+        dos.writeInt(index.failedIndex(i));
       }
     }
   }
 
-  private static class HashIndexes {
+  private abstract static class HashIndexes {
 
     final int keyAmount;
     final int bucketAmount;
-    final byte[] bucketHashSeedValues;
-    final int[] failedIndexes;
 
-    HashIndexes(int keyAmount, int bucketAmount, byte[] bucketHashSeedValues, int[] failedIndexes) {
+    HashIndexes(int keyAmount, int bucketAmount) {
       this.keyAmount = keyAmount;
       this.bucketAmount = bucketAmount;
+    }
+
+    abstract int getSeed(int fingerPrint);
+
+    abstract int failedIndex(int i);
+
+    abstract int failedIndexCount();
+
+    abstract void writeSeeds(DataOutputStream dos) throws IOException;
+  }
+
+  private static class ArrayHashIndexes extends HashIndexes {
+
+    final byte[] bucketHashSeedValues;
+    final int[] failedIndexes;
+
+    ArrayHashIndexes(int keyAmount, int bucketAmount, byte[] bucketHashSeedValues,
+        int[] failedIndexes) {
+      super(keyAmount, bucketAmount);
       this.bucketHashSeedValues = bucketHashSeedValues;
       this.failedIndexes = failedIndexes;
     }
@@ -414,6 +482,50 @@ public class MultiLevelMphf implements Mphf {
     int getSeed(int fingerPrint) {
       return (bucketHashSeedValues[fingerPrint % bucketAmount]) & 0xff;
     }
+
+    int failedIndex(int i) {
+      return failedIndexes[i];
+    }
+
+    int failedIndexCount() {
+      return failedIndexes.length;
+    }
+
+    void writeSeeds(DataOutputStream dos) throws IOException {
+      dos.write(bucketHashSeedValues);
+    }
+  }
+
+  // Seeds and failed indexes are views of a serialized buffer.
+  private static class BufferHashIndexes extends HashIndexes {
+
+    final ByteBuffer bucketHashSeedValues;
+    final IntBuffer failedIndexes;
+
+    BufferHashIndexes(int keyAmount, int bucketAmount, ByteBuffer bucketHashSeedValues,
+        IntBuffer failedIndexes) {
+      super(keyAmount, bucketAmount);
+      this.bucketHashSeedValues = bucketHashSeedValues;
+      this.failedIndexes = failedIndexes;
+    }
+
+    int getSeed(int fingerPrint) {
+      return (bucketHashSeedValues.get(fingerPrint % bucketAmount)) & 0xff;
+    }
+
+    int failedIndex(int i) {
+      return failedIndexes.get(i);
+    }
+
+    int failedIndexCount() {
+      return failedIndexes.limit();
+    }
+
+    void writeSeeds(DataOutputStream dos) throws IOException {
+      for (int i = 0; i < bucketAmount; i++) {
+        dos.write(bucketHashSeedValues.get(i));
+      }
+    }
   }
 
   private static class BucketCalculator {
@@ -522,7 +634,7 @@ public class MultiLevelMphf implements Mphf {
 
       if (failedBuckets.size() == 0) {
         // we are done.
-        indexes.add(new HashIndexes(keyAmount, buckets.length, hashSeedArray, new int[0]));
+        indexes.add(new ArrayHashIndexes(keyAmount, buckets.length, hashSeedArray, new int[0]));
         return;
       }
 
@@ -580,11 +692,11 @@ public class MultiLevelMphf implements Mphf {
         int k = 0;
         for (int i = 0; i < bitVector.size(); i++) {
           if (!bitVector.get(i)) {
-            failedHashValues[k++] = indexes.get(currentLevel - 1).failedIndexes[i];
+            failedHashValues[k++] = indexes.get(currentLevel - 1).failedIndex(i);
           }
         }
       }
-      indexes.add(new HashIndexes(keyAmount, buckets.length, hashSeedArray, failedHashValues));
+      indexes.add(new ArrayHashIndexes(keyAmount, buckets.length, hashSeedArray, failedHashValues));
 
       // recurse for failed buckets.
       calculateIndexes(nextLevelBuckets, failedKeyCount, indexes);
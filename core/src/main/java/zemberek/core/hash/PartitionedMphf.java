@@ -0,0 +1,279 @@
+package zemberek.core.hash;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import zemberek.core.logging.Log;
+
+/**
+ * A MPHF that splits keys to partitions by their hash values and uses a {@link MultiLevelMphf} for
+ * each partition. Partitions are independent, so they are generated concurrently. Hash value of a
+ * key is the hash value in its partition plus the total key count of the previous partitions.
+ * <p>
+ * Partition count only depends on the key count, so generated structure does not depend on the
+ * amount of threads. If there are not enough keys for more than one partition, a MultiLevelMphf
+ * is generated instead.
+ * <p>
+ * Serialized data starts with {@link #MAGIC}, which distinguishes it from MultiLevelMphf data.
+ * Use {@link Mphf#deserialize(DataInputStream)} or {@link Mphf#deserialize(ByteBuffer)} for
+ * reading either of them.
+ */
+public class PartitionedMphf implements Mphf {
+
+  // negative, so it cannot be the level count of a MultiLevelMphf.
+  public static final int MAGIC = 0xCAFE_4D50;
+  // average amount of keys in a partition.
+  static final int DEFAULT_PARTITION_SIZE = 1 << 17;
+
+  final MultiLevelMphf[] mphfs;
+  final int[] offsets;
+  final int size;
+
+  private PartitionedMphf(MultiLevelMphf[] mphfs, int[] offsets) {
+    this.mphfs = mphfs;
+    this.offsets = offsets;
+    int size = 0;
+    for (MultiLevelMphf mphf : mphfs) {
+      size += mphf.size();
+    }
+    this.size = size;
+  }
+
+  /**
+   * Generates a MPHF for the keys of [keyProvider] using all available processors.
+   */
+  public static Mphf generate(IntHashKeyProvider keyProvider) {
+    return generate(keyProvider, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Generates a MPHF for the keys of [keyProvider] with [threadCount] threads.
+   * {@link IntHashKeyProvider#getKey(int)} of the provider is called from multiple threads.
+   */
+  public static Mphf generate(IntHashKeyProvider keyProvider, int threadCount) {
+    return generate(keyProvider, threadCount, DEFAULT_PARTITION_SIZE);
+  }
+
+  static Mphf generate(IntHashKeyProvider keyProvider, int threadCount, int partitionSize) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("Thread count must be positive but it is " + threadCount);
+    }
+    int keyAmount = keyProvider.keyAmount();
+    int partitionCount = keyAmount / partitionSize;
+    if (partitionCount < 2) {
+      return MultiLevelMphf.generate(keyProvider);
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      // find partitions of keys.
+      int[] keyPartitions = new int[keyAmount];
+      int rangeSize = Math.max(keyAmount / (threadCount * 4), 1);
+      List<Callable<Void>> tasks = new ArrayList<>();
+      for (int start = 0; start < keyAmount; start += rangeSize) {
+        final int s = start;
+        final int end = Math.min(start + rangeSize, keyAmount);
+        tasks.add(() -> {
+          for (int i = s; i < end; i++) {
+            keyPartitions[i] = partition(MultiLevelMphf.hash(keyProvider.getKey(i), -1),
+                partitionCount);
+          }
+          return null;
+        });
+      }
+      invokeAll(executor, tasks);
+
+      // counting sort of key indexes by partition.
+      int[] starts = new int[partitionCount + 1];
+      for (int p : keyPartitions) {
+        starts[p + 1]++;
+      }
+      for (int i = 0; i < partitionCount; i++) {
+        starts[i + 1] += starts[i];
+      }
+      int[] positions = starts.clone();
+      int[] sortedKeys = new int[keyAmount];
+      for (int i = 0; i < keyAmount; i++) {
+        sortedKeys[positions[keyPartitions[i]]++] = i;
+      }
+
+      MultiLevelMphf[] mphfs = new MultiLevelMphf[partitionCount];
+      List<Callable<Void>> partitionTasks = new ArrayList<>();
+      for (int i = 0; i < partitionCount; i++) {
+        final int p = i;
+        partitionTasks.add(() -> {
+          mphfs[p] = MultiLevelMphf.generate(
+              new SubsetKeyProvider(keyProvider, sortedKeys, starts[p], starts[p + 1]));
+          return null;
+        });
+      }
+      invokeAll(executor, partitionTasks);
+      int[] offsets = new int[partitionCount];
+      System.arraycopy(starts, 0, offsets, 0, partitionCount);
+      PartitionedMphf result = new PartitionedMphf(mphfs, offsets);
+      Log.debug("MPHF is generated for %d keys with %d partitions.", keyAmount, partitionCount);
+      return result;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static void invokeAll(ExecutorService executor, List<Callable<Void>> tasks) {
+    try {
+      for (Future<Void> future : executor.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("MPHF generation is interrupted.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  // Hash is mixed first, because MultiLevelMphf uses the same hash for selecting buckets.
+  static int partition(int hash, int partitionCount) {
+    int h = hash * 0x9E3779B9;
+    h ^= (h >>> 16);
+    return (int) (((h & 0xffffffffL) * partitionCount) >>> 32);
+  }
+
+  private static class SubsetKeyProvider implements IntHashKeyProvider {
+
+    final IntHashKeyProvider provider;
+    final int[] keyIndexes;
+    final int start;
+    final int end;
+
+    SubsetKeyProvider(IntHashKeyProvider provider, int[] keyIndexes, int start, int end) {
+      this.provider = provider;
+      this.keyIndexes = keyIndexes;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public int[] getKey(int index) {
+      return provider.getKey(keyIndexes[start + index]);
+    }
+
+    @Override
+    public int keyAmount() {
+      return end - start;
+    }
+  }
+
+  // reads the data after the magic value.
+  static PartitionedMphf deserializeData(DataInputStream dis) throws IOException {
+    int partitionCount = dis.readInt();
+    int[] offsets = new int[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      offsets[i] = dis.readInt();
+    }
+    MultiLevelMphf[] mphfs = new MultiLevelMphf[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      mphfs[i] = MultiLevelMphf.deserialize(dis);
+    }
+    return new PartitionedMphf(mphfs, offsets);
+  }
+
+  // reads the data after the magic value from big endian [b].
+  static PartitionedMphf deserializeData(ByteBuffer b) {
+    int partitionCount = b.getInt();
+    int[] offsets = new int[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      offsets[i] = b.getInt();
+    }
+    MultiLevelMphf[] mphfs = new MultiLevelMphf[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      mphfs[i] = MultiLevelMphf.deserialize(b.getInt(), b);
+    }
+    return new PartitionedMphf(mphfs, offsets);
+  }
+
+  public int get(int[] key) {
+    return get(key, MultiLevelMphf.hash(key, -1));
+  }
+
+  public int get(int[] key, int hash) {
+    int p = partition(hash, mphfs.length);
+    return mphfs[p].get(key, hash) + offsets[p];
+  }
+
+  public int get(String key) {
+    return get(key, MultiLevelMphf.hash(key, -1));
+  }
+
+  public int get(String key, int hash) {
+    int p = partition(hash, mphfs.length);
+    return mphfs[p].get(key, hash) + offsets[p];
+  }
+
+  public int get(int k0, int k1, int k2, int hash) {
+    int p = partition(hash, mphfs.length);
+    return mphfs[p].get(k0, k1, k2, hash) + offsets[p];
+  }
+
+  public int get(int k0, int k1, int hash) {
+    int p = partition(hash, mphfs.length);
+    return mphfs[p].get(k0, k1, hash) + offsets[p];
+  }
+
+  public int get(int[] key, int begin, int end, int hash) {
+    int p = partition(hash, mphfs.length);
+    return mphfs[p].get(key, begin, end, hash) + offsets[p];
+  }
+
+  public int getPartitionCount() {
+    return mphfs.length;
+  }
+
+  public void serialize(File file) throws IOException {
+    try (BufferedOutputStream os = new BufferedOutputStream(new FileOutputStream(file),
+        1000000)) {
+      serialize(os);
+    }
+  }
+
+  /**
+   * Format: int magic, int partition count, int[] offsets, MultiLevelMphf data of partitions.
+   */
+  public void serialize(OutputStream os) throws IOException {
+    DataOutputStream dos = new DataOutputStream(os);
+    dos.writeInt(MAGIC);
+    dos.writeInt(mphfs.length);
+    for (int offset : offsets) {
+      dos.writeInt(offset);
+    }
+    for (MultiLevelMphf mphf : mphfs) {
+      mphf.serialize(dos);
+    }
+    dos.flush();
+  }
+
+  public double averageBitsPerKey() {
+    long total = 12 + offsets.length * 4L;
+    for (MultiLevelMphf mphf : mphfs) {
+      total += mphf.totalBytesUsed();
+    }
+    return ((double) total * 8) / size;
+  }
+
+  public int size() {
+    return size;
+  }
+}
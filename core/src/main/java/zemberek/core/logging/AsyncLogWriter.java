@@ -0,0 +1,100 @@
+package zemberek.core.logging;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Writes log records in a background thread. Records are kept in a bounded ring buffer, if it is
+ * full, new records are dropped instead of blocking the logging thread. Amount of dropped records
+ * is logged when the buffer becomes empty.
+ */
+final class AsyncLogWriter {
+
+  private final ArrayBlockingQueue<LogRecord> queue;
+  private final Consumer<LogRecord> sink;
+  private final AtomicLong dropped = new AtomicLong();
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  AsyncLogWriter(int capacity, Consumer<LogRecord> sink) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.sink = sink;
+    this.thread = new Thread(this::run, "zemberek-async-log");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * @return false if record is dropped because queue is full.
+   */
+  boolean submit(LogRecord record) {
+    if (queue.offer(record)) {
+      return true;
+    }
+    dropped.incrementAndGet();
+    return false;
+  }
+
+  private void run() {
+    while (running || !queue.isEmpty()) {
+      try {
+        LogRecord record = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (record != null) {
+          sink.accept(record);
+        } else {
+          reportDropped();
+        }
+      } catch (InterruptedException e) {
+        running = false;
+      } catch (RuntimeException e) {
+        // a failing handler should not stop the writer.
+        e.printStackTrace();
+      }
+    }
+    reportDropped();
+  }
+
+  private void reportDropped() {
+    long count = dropped.getAndSet(0);
+    if (count > 0) {
+      LogRecord record = new LogRecord(Level.WARNING,
+          count + " log messages are dropped because async log queue was full.");
+      record.setSourceClassName(Log.class.getName());
+      record.setSourceMethodName("log");
+      sink.accept(record);
+    }
+  }
+
+  /**
+   * Writes the remaining records and stops the writer thread.
+   */
+  void close() {
+    running = false;
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  // Parameters may change until the record is written, so mutable ones are converted to Strings.
+  static Object[] snapshot(Object[] params) {
+    Object[] result = null;
+    for (int i = 0; i < params.length; i++) {
+      Object p = params[i];
+      if (p == null || p instanceof String || p instanceof Number || p instanceof Boolean
+          || p instanceof Character || p instanceof Enum || p instanceof Throwable) {
+        continue;
+      }
+      if (result == null) {
+        result = params.clone();
+      }
+      result[i] = String.valueOf(p);
+    }
+    return result == null ? params : result;
+  }
+}
@@ -17,6 +17,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Formatter;
@@ -29,6 +30,14 @@ import zemberek.core.io.Strings;
 
 /**
  * A convenient Log class.
+ * <p>
+ * Level is checked before anything else, so disabled log calls are cheap. Caller information is
+ * only collected for messages that are logged, or when there are class specific levels. For
+ * messages that are expensive to create, methods with a Supplier parameter can be used.
+ * <p>
+ * By default messages are formatted and written in the calling thread. With
+ * {@link #enableAsync(int)} they are written by a background thread instead. Messages can also be
+ * sent to another logging system with a {@link LoggingBridge}.
  */
 public final class Log {
 
@@ -38,7 +47,9 @@ public final class Log {
   private static final Map<File, FileHandler> fileHandlers = new ConcurrentHashMap<>();
   private static final Map<String, LogLevel> classLevelMap = new ConcurrentHashMap<>();
   public static OutputStream fileStream;
-  static Level currentLevel = Level.INFO;
+  static volatile Level currentLevel = Level.INFO;
+  private static volatile LoggingBridge bridge;
+  private static volatile AsyncLogWriter asyncWriter;
   static SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss.SSS", Locale.ENGLISH);
   static Map<Level, String> levelShortStringMap = new HashMap<>();
 
@@ -50,10 +61,15 @@ public final class Log {
     logger.setUseParentHandlers(false);
     ConsoleHandler ch = new ConsoleHandler();
     ch.setFormatter(new CUSTOM_FORMAT());
-    ch.setLevel(currentLevel);
+    // levels are checked before records are created.
+    ch.setLevel(Level.ALL);
+    logger.setLevel(Level.ALL);
     logger.addHandler(ch);
     Runtime.getRuntime()
-        .addShutdownHook(new Thread(() -> fileHandlers.values().forEach(FileHandler::close)));
+        .addShutdownHook(new Thread(() -> {
+          disableAsync();
+          fileHandlers.values().forEach(FileHandler::close);
+        }));
   }
 
   static {
@@ -80,13 +96,54 @@ public final class Log {
   }
 
   private static void setLevel(Level level) {
-    logger.setLevel(level);
-    for (Handler handler : logger.getHandlers()) {
-      handler.setLevel(level);
-    }
     currentLevel = level;
   }
 
+  /**
+   * Sends log messages to [bridge] instead of the handlers of this class. Level checks are also
+   * delegated to it. Class levels added with {@link #addClassLevel(Class, LogLevel)} still apply.
+   */
+  public static void setBridge(LoggingBridge bridge) {
+    Log.bridge = Objects.requireNonNull(bridge);
+  }
+
+  /**
+   * Removes the bridge, messages are written by the handlers of this class again.
+   */
+  public static void removeBridge() {
+    bridge = null;
+  }
+
+  /**
+   * After this call, log records are put to a bounded queue with [capacity] and they are formatted
+   * and written by a background thread. If the queue is full, records are dropped and the amount
+   * of dropped records is logged later. Parameters of the messages are converted to Strings in the
+   * calling thread, except numbers, booleans, characters, Strings and enums.
+   */
+  public static synchronized void enableAsync(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive but it is " + capacity);
+    }
+    disableAsync();
+    asyncWriter = new AsyncLogWriter(capacity, logger::log);
+  }
+
+  /**
+   * Writes the remaining records of the async queue and goes back to writing in the calling
+   * thread. Does nothing if async writing is not enabled.
+   */
+  public static synchronized void disableAsync() {
+    AsyncLogWriter writer = asyncWriter;
+    if (writer != null) {
+      asyncWriter = null;
+      writer.close();
+    }
+  }
+
+  public static boolean isAsync() {
+    return asyncWriter != null;
+  }
+
   /**
    * @return true if Log is in debug level.
    */
@@ -123,9 +180,18 @@ public final class Log {
   }
 
   private static boolean checkLevel(Level level) {
+    LoggingBridge b = bridge;
+    if (b != null) {
+      return b.isEnabled(LogLevel.of(level));
+    }
     return currentLevel.intValue() <= level.intValue();
   }
 
+  // A class level may enable a message, so if there are any, caller needs to be found first.
+  private static boolean mayLog(Level level) {
+    return !classLevelMap.isEmpty() || checkLevel(level);
+  }
+
   /**
    * Trace level logging. This can be used for cases finer grained than debug level.
    *
@@ -147,6 +213,15 @@ public final class Log {
     log(Level.FINER, object.toString());
   }
 
+  /**
+   * Logs the message of [messageSupplier]. Supplier is not called if the level is not enabled.
+   */
+  public static void trace(Supplier<String> messageSupplier) {
+    if (mayLog(Level.FINER)) {
+      log(Level.FINER, messageSupplier.get());
+    }
+  }
+
   public static void debug(String message, Object... params) {
     log(Level.FINE, message, params);
   }
@@ -161,6 +236,15 @@ public final class Log {
     log(Level.FINE, object.toString());
   }
 
+  /**
+   * Logs the message of [messageSupplier]. Supplier is not called if the level is not enabled.
+   */
+  public static void debug(Supplier<String> messageSupplier) {
+    if (mayLog(Level.FINE)) {
+      log(Level.FINE, messageSupplier.get());
+    }
+  }
+
   public static void info() {
     log(Level.INFO, "");
   }
@@ -179,6 +263,15 @@ public final class Log {
     log(Level.INFO, object.toString());
   }
 
+  /**
+   * Logs the message of [messageSupplier]. Supplier is not called if the level is not enabled.
+   */
+  public static void info(Supplier<String> messageSupplier) {
+    if (mayLog(Level.INFO)) {
+      log(Level.INFO, messageSupplier.get());
+    }
+  }
+
   public static void warn(String message, Object... params) {
     log(Level.WARNING, message, params);
   }
@@ -197,6 +290,15 @@ public final class Log {
     log(Level.WARNING, object.toString());
   }
 
+  /**
+   * Logs the message of [messageSupplier]. Supplier is not called if the level is not enabled.
+   */
+  public static void warn(Supplier<String> messageSupplier) {
+    if (mayLog(Level.WARNING)) {
+      log(Level.WARNING, messageSupplier.get());
+    }
+  }
+
   public static void error(String message, Object... params) {
     log(Level.SEVERE, message, params);
   }
@@ -211,6 +313,15 @@ public final class Log {
     log(Level.SEVERE, object.toString());
   }
 
+  /**
+   * Logs the message of [messageSupplier]. Supplier is not called if the level is not enabled.
+   */
+  public static void error(Supplier<String> messageSupplier) {
+    if (mayLog(Level.SEVERE)) {
+      log(Level.SEVERE, messageSupplier.get());
+    }
+  }
+
   public static void setError() {
     setLevel(Level.SEVERE);
   }
@@ -240,7 +351,7 @@ public final class Log {
 
     final FileHandler handler = new FileHandler(path.toFile().getAbsolutePath(), true);
     handler.setFormatter(formatter);
-    handler.setLevel(currentLevel);
+    handler.setLevel(Level.ALL);
     logger.addHandler(handler);
     fileHandlers.put(path.toFile(), handler);
   }
@@ -264,22 +375,17 @@ public final class Log {
     return fileHandlers.keySet().stream().map(File::toPath).collect(Collectors.toList());
   }
 
-  public static synchronized void log(Level level, String message, Object... params) {
+  public static void log(Level level, String message, Object... params) {
+    if (!mayLog(level)) {
+      return;
+    }
     final int stackPositionOfCaller = 2;
     StackTraceElement caller = new Throwable().getStackTrace()[stackPositionOfCaller];
     String className = caller.getClassName();
 
-    boolean logIt = false;
-
-    Level temp = currentLevel;
-    if (classLevelMap.containsKey(className)) {
-      Log.setLevel(classLevelMap.get(className).level);
-    }
-
-    if (logger.isLoggable(level)) {
-      logIt = true;
-    }
-
+    LogLevel classLevel = classLevelMap.get(className);
+    boolean logIt = classLevel != null ?
+        classLevel.level.intValue() <= level.intValue() : checkLevel(level);
     if (!logIt) {
       return;
     }
@@ -296,15 +402,38 @@ public final class Log {
         thrown = (Throwable) last;
       }
     }
+
+    LoggingBridge b = bridge;
+    if (b != null) {
+      b.log(LogLevel.of(level), className, caller.getMethodName(), formatMessage(message, params),
+          thrown);
+      return;
+    }
+
+    AsyncLogWriter writer = asyncWriter;
     LogRecord record = new LogRecord(level, message);
     record.setLoggerName(logger.getName());
     record.setSourceClassName(className);
     record.setSourceMethodName(caller.getMethodName());
     record.setThrown(thrown);
-    record.setParameters(params);
-    logger.log(record);
-    Log.setLevel(temp);
+    record.setParameters(writer == null ? params : AsyncLogWriter.snapshot(params));
+    if (writer != null) {
+      writer.submit(record);
+    } else {
+      logger.log(record);
+    }
+  }
 
+  static String formatMessage(String message, Object[] parameters) {
+    if (parameters == null || parameters.length == 0) {
+      return message;
+    }
+    try {
+      return String.format(Locale.ENGLISH, message, parameters);
+    } catch (IllegalFormatException e) {
+      return "Log Format Error: " + message + " With Parameters: "
+          + Joiner.on(",").useForNull("null").join(parameters);
+    }
   }
 
   private static String shortenName(String name, int length) {
@@ -334,6 +463,20 @@ public final class Log {
     LogLevel(Level level) {
       this.level = level;
     }
+
+    static LogLevel of(Level level) {
+      int value = level.intValue();
+      if (value >= Level.SEVERE.intValue()) {
+        return ERROR;
+      } else if (value >= Level.WARNING.intValue()) {
+        return WARNING;
+      } else if (value >= Level.INFO.intValue()) {
+        return INFO;
+      } else if (value >= Level.FINE.intValue()) {
+        return DEBUG;
+      }
+      return TRACE;
+    }
   }
 
   private static class ExceptionLoggerHandler implements Thread.UncaughtExceptionHandler {
@@ -351,7 +494,7 @@ public final class Log {
     public String format(LogRecord record) {
       synchronized (this) {
         StringBuilder sb = new StringBuilder(levelShortStringMap.get(record.getLevel()));
-        sb.append("|").append(format.format(new Date())).append("|");
+        sb.append("|").append(format.format(new Date(record.getMillis()))).append("|");
         Object parameters[] = record.getParameters();
 
         boolean multiLine = false;
@@ -371,20 +514,7 @@ public final class Log {
         }
 
         if (!multiLine) {
-          if (parameters == null || parameters.length == 0) {
-            sb.append(padIfNecessary(record.getMessage(), 100));
-          } else {
-            try {
-              sb.append(
-                  padIfNecessary(String.format(Locale.ENGLISH, record.getMessage(), parameters),
-                      100));
-            } catch (IllegalFormatException e) {
-              sb.append("Log Format Error: ")
-                  .append(record.getMessage())
-                  .append(" With Parameters: ")
-                  .append(Joiner.on(",").join(parameters));
-            }
-          }
+          sb.append(padIfNecessary(Log.formatMessage(record.getMessage(), parameters), 100));
           sb.append("| ")
               .append(Strings.subStringAfterLast(record.getSourceClassName(), "."))
               .append("#");
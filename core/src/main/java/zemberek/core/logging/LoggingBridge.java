@@ -0,0 +1,23 @@
+package zemberek.core.logging;
+
+import zemberek.core.logging.Log.LogLevel;
+
+/**
+ * Sends messages of {@link Log} to another logging system, like SLF4J. When a bridge is set with
+ * {@link Log#setBridge(LoggingBridge)}, level checks are delegated to it and Log does not write
+ * messages itself.
+ */
+public interface LoggingBridge {
+
+  /**
+   * @return true if messages with [level] should be logged. This is called before caller
+   * information is collected and the message is formatted, so it should be cheap.
+   */
+  boolean isEnabled(LogLevel level);
+
+  /**
+   * Logs a formatted [message]. [thrown] may be null.
+   */
+  void log(LogLevel level, String sourceClassName, String sourceMethodName, String message,
+      Throwable thrown);
+}
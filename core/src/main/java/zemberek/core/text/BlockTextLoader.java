@@ -17,6 +17,9 @@ import zemberek.core.logging.Log;
 
 public class BlockTextLoader implements Iterable<TextChunk> {
 
+  // by default load 10,000 lines.
+  public static final int DEFAULT_BLOCK_SIZE = 10_000;
+
   List<Path> corpusPaths;
   int blockSize;
 
@@ -40,14 +43,14 @@ public class BlockTextLoader implements Iterable<TextChunk> {
   }
 
   public static BlockTextLoader fromPaths(List<Path> corpora) {
-    return new BlockTextLoader(corpora, _SingleLoader.DEFAULT_BLOCK_SIZE);
+    return new BlockTextLoader(corpora, DEFAULT_BLOCK_SIZE);
   }
 
   public static BlockTextLoader fromDirectory(Path directoryPath) throws IOException {
     List<Path> paths = Files.walk(directoryPath, 1)
         .filter(s -> s.toFile().isFile())
         .collect(Collectors.toList());
-    return new BlockTextLoader(paths, _SingleLoader.DEFAULT_BLOCK_SIZE);
+    return new BlockTextLoader(paths, DEFAULT_BLOCK_SIZE);
   }
 
   public static BlockTextLoader fromPaths(List<Path> corpora, int blockSize) {
@@ -86,6 +89,35 @@ public class BlockTextLoader implements Iterable<TextChunk> {
     return new _SingleLoader(path, blockSize).iterator();
   }
 
+  /**
+   * Splits corpus files to about [splitCount] byte ranges of similar sizes. Each split can be read
+   * independently, so workers can read disjoint parts of the corpus in parallel without reading
+   * the text before their split. A file is split to several ranges if it is larger than
+   * total size / [splitCount], small files are a single split. Only UTF-8 files are supported.
+   */
+  public List<TextSplit> splits(int splitCount) throws IOException {
+    if (splitCount < 1) {
+      throw new IllegalArgumentException("Split count must be positive but it is " + splitCount);
+    }
+    long total = 0;
+    for (Path path : corpusPaths) {
+      total += Files.size(path);
+    }
+    long targetSize = Math.max(1, total / splitCount);
+    List<TextSplit> result = new ArrayList<>();
+    for (int i = 0; i < corpusPaths.size(); i++) {
+      Path path = corpusPaths.get(i);
+      int count = (int) Math.max(1, (Files.size(path) + targetSize - 1) / targetSize);
+      result.addAll(TextSplit.split(path, i, count, blockSize));
+    }
+    return result;
+  }
+
+  /**
+   * @deprecated skipping characters decodes all the text before [charIndex]. Use {@link
+   * #splits(int)} or {@link TextSplit#split(Path, int, int, int)} for reading parts of a file.
+   */
+  @Deprecated
   public static Iterator<TextChunk> iteratorFromCharIndex(
       Path path,
       int blockSize,
@@ -150,9 +182,6 @@ public class BlockTextLoader implements Iterable<TextChunk> {
 
   private static class _SingleLoader implements Iterable<TextChunk> {
 
-    // by default load 10,000 lines.
-    static final int DEFAULT_BLOCK_SIZE = 10_000;
-
     final Path path;
     final int blockSize;
     final Charset charset;
@@ -61,6 +61,11 @@ public class TextIO {
     }
   }
 
+  /**
+   * @deprecated this decodes the whole file. For finding split points of a file, use {@link
+   * TextSplit#split(Path, int, int, int)}, which splits at byte offsets without decoding.
+   */
+  @Deprecated
   public static long charCount(Path path, Charset charset) throws IOException {
     BufferedReader reader = Files.newBufferedReader(path, charset);
     char[] buf = new char[4096];
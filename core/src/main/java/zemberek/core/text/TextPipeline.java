@@ -0,0 +1,303 @@
+package zemberek.core.text;
+
+import com.google.common.collect.Iterables;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import zemberek.core.concurrency.ConcurrencyUtil;
+import zemberek.core.logging.Log;
+
+/**
+ * Processes TextChunks of a corpus in parallel. Chunks are read from the source by the calling
+ * thread, processed by a stage function in worker threads and results are given to a sink.
+ * <pre>
+ *   TextPipeline.from(BlockTextLoader.fromPath(corpus, 10_000))
+ *       .threadCount(8)
+ *       .ordered(true)
+ *       .run(chunk -> process(chunk), lines -> lines.forEach(writer::println));
+ * </pre>
+ * In ordered mode sink receives results in the order of chunks and it is called by one thread at a
+ * time, so it does not need to be thread safe. In unordered mode worker threads call the sink as
+ * soon as their chunks are processed, possibly at the same time, so sink must be thread safe.
+ * Sink is never called while holding a lock of the pipeline. Amount of chunks that are read but
+ * not yet given to the sink is limited, so memory usage does not depend on the corpus size. If
+ * stage returns null, sink is not called for that chunk. If there is no result to collect, use
+ * {@link #run(Consumer)}.
+ * <p>
+ * If stage or sink throws an exception, no more chunks are read and the first exception is
+ * re-thrown from {@link #run(Function, Consumer)} after running stages are finished.
+ */
+public class TextPipeline {
+
+  private static final long DEFAULT_PROGRESS_INTERVAL_MILLIS = 10_000;
+
+  private final Iterable<TextChunk> source;
+  private int threadCount = ConcurrencyUtil.getHalfCpuCount();
+  private int maxInFlight = -1;
+  private boolean ordered = true;
+  private long progressIntervalMillis = DEFAULT_PROGRESS_INTERVAL_MILLIS;
+  private String name = "Pipeline";
+
+  private TextPipeline(Iterable<TextChunk> source) {
+    this.source = source;
+  }
+
+  public static TextPipeline from(Iterable<TextChunk> source) {
+    return new TextPipeline(source);
+  }
+
+  /**
+   * Creates a pipeline that reads the splits one after another.
+   */
+  public static TextPipeline fromSplits(List<TextSplit> splits) {
+    return new TextPipeline(Iterables.concat(splits));
+  }
+
+  public TextPipeline threadCount(int threadCount) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException(
+          "Thread count cannot be less than 1. But it is " + threadCount);
+    }
+    this.threadCount = threadCount;
+    return this;
+  }
+
+  /**
+   * Maximum amount of chunks that are read but not yet given to the sink. Default is two times
+   * the thread count.
+   */
+  public TextPipeline maxInFlight(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(
+          "Max in flight cannot be less than 1. But it is " + maxInFlight);
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  /**
+   * If true (default), sink receives results in the chunk order.
+   */
+  public TextPipeline ordered(boolean ordered) {
+    this.ordered = ordered;
+    return this;
+  }
+
+  /**
+   * Progress is logged with this interval. If not positive, progress is not logged.
+   */
+  public TextPipeline progressInterval(long millis) {
+    this.progressIntervalMillis = millis;
+    return this;
+  }
+
+  /**
+   * Name used in progress logs.
+   */
+  public TextPipeline name(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public static class Stats {
+
+    public final long chunkCount;
+    public final long lineCount;
+    public final long elapsedMillis;
+
+    Stats(long chunkCount, long lineCount, long elapsedMillis) {
+      this.chunkCount = chunkCount;
+      this.lineCount = lineCount;
+      this.elapsedMillis = elapsedMillis;
+    }
+
+    public double linesPerSecond() {
+      return elapsedMillis == 0 ? 0 : lineCount * 1000d / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ENGLISH,
+          "%d lines in %d chunks are processed in %.1f seconds. %.1f lines/s",
+          lineCount, chunkCount, elapsedMillis / 1000d, linesPerSecond());
+    }
+  }
+
+  /**
+   * Processes all chunks of the source with [stage] and gives results to [sink].
+   *
+   * @return statistics of the run.
+   * @throws RuntimeException if stage or sink throws an exception. Unchecked exceptions are
+   * re-thrown as they are, others are wrapped.
+   */
+  public <R> Stats run(Function<TextChunk, R> stage, Consumer<R> sink)
+      throws InterruptedException {
+    int inFlight = maxInFlight > 0 ? maxInFlight : threadCount * 2;
+    Run<R> run = new Run<>(sink, inFlight);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      Iterator<TextChunk> it = source.iterator();
+      long sequence = 0;
+      while (run.failure.get() == null && it.hasNext()) {
+        TextChunk chunk = it.next();
+        run.permits.acquire();
+        long s = sequence++;
+        executor.execute(() -> {
+          R result = null;
+          boolean ok = false;
+          try {
+            result = stage.apply(chunk);
+            ok = true;
+          } catch (Throwable t) {
+            run.failure.compareAndSet(null, t);
+          }
+          run.complete(s, result, chunk.size(), ok);
+        });
+      }
+    } catch (RuntimeException e) {
+      // exception from the source.
+      run.failure.compareAndSet(null, e);
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+    Throwable t = run.failure.get();
+    if (t != null) {
+      if (t instanceof RuntimeException) {
+        throw (RuntimeException) t;
+      }
+      if (t instanceof Error) {
+        throw (Error) t;
+      }
+      throw new RuntimeException(t);
+    }
+    Stats stats = run.stats();
+    if (progressIntervalMillis > 0) {
+      Log.info("%s: %s", name, stats);
+    }
+    return stats;
+  }
+
+  /**
+   * Processes all chunks of the source with [stage] in worker threads. There is no sink, so
+   * [stage] must be thread safe and keep its own results.
+   *
+   * @return statistics of the run.
+   * @throws RuntimeException if stage throws an exception. Unchecked exceptions are re-thrown as
+   * they are, others are wrapped.
+   */
+  public Stats run(Consumer<TextChunk> stage) throws InterruptedException {
+    return run(chunk -> {
+      stage.accept(chunk);
+      return null;
+    }, r -> {
+    });
+  }
+
+  private class Run<R> {
+
+    final Consumer<R> sink;
+    final Semaphore permits;
+    final AtomicReference<Throwable> failure = new AtomicReference<>();
+    final long start = System.currentTimeMillis();
+    final AtomicLong chunkCount = new AtomicLong();
+    final AtomicLong lineCount = new AtomicLong();
+    final AtomicLong lastLog = new AtomicLong(start);
+
+    // Following are guarded by this. They are only used in ordered mode.
+    final Map<Long, Completed<R>> pending = new HashMap<>();
+    long nextSequence = 0;
+    // a thread is giving results to the sink.
+    boolean draining = false;
+
+    Run(Consumer<R> sink, int inFlight) {
+      this.sink = sink;
+      this.permits = new Semaphore(inFlight);
+    }
+
+    void complete(long sequence, R result, int lineCount, boolean ok) {
+      Completed<R> completed = new Completed<>(result, lineCount, ok);
+      if (!ordered) {
+        emit(completed);
+        return;
+      }
+      synchronized (this) {
+        pending.put(sequence, completed);
+        // the draining thread will also emit this result.
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      // results that are ready are collected under the lock and given to the sink outside of it.
+      List<Completed<R>> ready = new ArrayList<>();
+      while (true) {
+        synchronized (this) {
+          Completed<R> next;
+          while ((next = pending.remove(nextSequence)) != null) {
+            ready.add(next);
+            nextSequence++;
+          }
+          if (ready.isEmpty()) {
+            draining = false;
+            return;
+          }
+        }
+        for (Completed<R> r : ready) {
+          emit(r);
+        }
+        ready.clear();
+      }
+    }
+
+    private void emit(Completed<R> completed) {
+      try {
+        // after a failure results are dropped.
+        if (completed.ok && completed.result != null && failure.get() == null) {
+          sink.accept(completed.result);
+        }
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+      } finally {
+        permits.release();
+      }
+      chunkCount.incrementAndGet();
+      lineCount.addAndGet(completed.lineCount);
+      if (progressIntervalMillis > 0) {
+        long now = System.currentTimeMillis();
+        long last = lastLog.get();
+        if (now - last >= progressIntervalMillis && lastLog.compareAndSet(last, now)) {
+          Log.info("%s: %s", name, stats());
+        }
+      }
+    }
+
+    Stats stats() {
+      return new Stats(chunkCount.get(), lineCount.get(), System.currentTimeMillis() - start);
+    }
+  }
+
+  private static class Completed<R> {
+
+    final R result;
+    final int lineCount;
+    final boolean ok;
+
+    Completed(R result, int lineCount, boolean ok) {
+      this.result = result;
+      this.lineCount = lineCount;
+      this.ok = ok;
+    }
+  }
+}
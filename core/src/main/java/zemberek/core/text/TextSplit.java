@@ -0,0 +1,227 @@
+package zemberek.core.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A byte range of a UTF-8 text file. Range starts at the beginning of a line and ends after a line
+ * terminator or at the end of the file, so splits of a file can be read independently and
+ * together they contain every line exactly once. Because the new line byte cannot be a part of a
+ * multi byte UTF-8 sequence, split points are found without decoding the text before them.
+ * <p>
+ * Lines are terminated with \n or \r\n. Splits are created with {@link #split(Path, int)},
+ * {@link #split(Path, int, int, int)} or {@link BlockTextLoader#splits(int)}.
+ */
+public class TextSplit implements Iterable<TextChunk> {
+
+  private static final int READ_BUFFER_SIZE = 1 << 20;
+
+  public final Path path;
+  // index of the file in the loader.
+  public final int sourceIndex;
+  // index of this split in the file.
+  public final int splitIndex;
+  // byte offset of the first line.
+  public final long start;
+  // byte offset after the last line.
+  public final long end;
+  final int blockSize;
+
+  TextSplit(Path path, int sourceIndex, int splitIndex, long start, long end, int blockSize) {
+    this.path = path;
+    this.sourceIndex = sourceIndex;
+    this.splitIndex = splitIndex;
+    this.start = start;
+    this.end = end;
+    this.blockSize = blockSize;
+  }
+
+  public long byteCount() {
+    return end - start;
+  }
+
+  /**
+   * Splits the file to at most [splitCount] ranges of similar sizes. Empty ranges are not returned,
+   * so a small file may have less splits.
+   *
+   * @param sourceIndex index of the file, it is written to the TextChunks.
+   * @param blockSize maximum line count of the TextChunks.
+   */
+  public static List<TextSplit> split(Path path, int sourceIndex, int splitCount, int blockSize)
+      throws IOException {
+    if (splitCount < 1) {
+      throw new IllegalArgumentException("Split count must be positive but it is " + splitCount);
+    }
+    List<TextSplit> result = new ArrayList<>(splitCount);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long start = 0;
+      for (int i = 1; i <= splitCount && start < size; i++) {
+        long end = i == splitCount ?
+            size : lineStartAfter(channel, Math.max(start, size / splitCount * i), size);
+        if (end > start) {
+          result.add(new TextSplit(path, sourceIndex, result.size(), start, end, blockSize));
+        }
+        start = end;
+      }
+    }
+    return result;
+  }
+
+  public static List<TextSplit> split(Path path, int splitCount) throws IOException {
+    return split(path, 0, splitCount, BlockTextLoader.DEFAULT_BLOCK_SIZE);
+  }
+
+  // Returns the offset of the first line that starts at or after [position].
+  private static long lineStartAfter(FileChannel channel, long position, long size)
+      throws IOException {
+    if (position == 0) {
+      return 0;
+    }
+    // line starts at [position] if the previous byte is a new line.
+    long p = position - 1;
+    ByteBuffer buffer = ByteBuffer.allocate(8192);
+    while (p < size) {
+      buffer.clear();
+      int read = channel.read(buffer, p);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return p + i + 1;
+        }
+      }
+      p += read;
+    }
+    return size;
+  }
+
+  /**
+   * Returns an iterator that reads [blockSize] lines of this split in each iteration. Index of the
+   * TextChunks are their order in the split. Ids of the chunks are file name and split index, like
+   * `corpus.txt:2`, so chunks of different splits of a file are not equal.
+   */
+  @Override
+  public Iterator<TextChunk> iterator() {
+    return new ChunkIterator();
+  }
+
+  @Override
+  public String toString() {
+    return path.toFile().getName() + "[" + splitIndex + ":" + start + "-" + end + "]";
+  }
+
+  private class ChunkIterator implements Iterator<TextChunk> {
+
+    final String id = path.toFile().getName() + ":" + splitIndex;
+    byte[] buffer = new byte[(int) Math.min(READ_BUFFER_SIZE, Math.max(byteCount(), 16))];
+    // valid bytes are in [bufferStart, bufferEnd)
+    int bufferStart;
+    int bufferEnd;
+    long position = start;
+    int blockIndex = 0;
+    List<String> next;
+
+    @Override
+    public boolean hasNext() {
+      if (next == null) {
+        try {
+          next = readBlock();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+      return !next.isEmpty();
+    }
+
+    @Override
+    public TextChunk next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      TextChunk chunk = new TextChunk(id, sourceIndex, blockIndex, next);
+      blockIndex++;
+      next = null;
+      return chunk;
+    }
+
+    private List<String> readBlock() throws IOException {
+      List<String> lines = new ArrayList<>(Math.min(blockSize, 1024));
+      if (position >= end && bufferStart == bufferEnd) {
+        return lines;
+      }
+      // channel is opened per block, so iterators that are not consumed do not hold file handles.
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        while (lines.size() < blockSize) {
+          int lineEnd = indexOfNewLine();
+          if (lineEnd < 0) {
+            if (position >= end) {
+              // last line without a terminator.
+              if (bufferEnd > bufferStart) {
+                lines.add(decode(bufferStart, bufferEnd));
+                bufferStart = bufferEnd;
+              }
+              break;
+            }
+            fill(channel);
+            continue;
+          }
+          lines.add(decode(bufferStart, lineEnd));
+          bufferStart = lineEnd + 1;
+        }
+      }
+      return lines;
+    }
+
+    private int indexOfNewLine() {
+      for (int i = bufferStart; i < bufferEnd; i++) {
+        if (buffer[i] == '\n') {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private String decode(int from, int to) {
+      if (to > from && buffer[to - 1] == '\r') {
+        to--;
+      }
+      return new String(buffer, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    // moves remaining bytes to the beginning of the buffer and reads more.
+    private void fill(FileChannel channel) throws IOException {
+      int remaining = bufferEnd - bufferStart;
+      if (remaining == buffer.length) {
+        // line is longer than the buffer.
+        byte[] larger = new byte[buffer.length * 2];
+        System.arraycopy(buffer, bufferStart, larger, 0, remaining);
+        buffer = larger;
+      } else if (bufferStart > 0) {
+        System.arraycopy(buffer, bufferStart, buffer, 0, remaining);
+      }
+      bufferStart = 0;
+      bufferEnd = remaining;
+      int toRead = (int) Math.min(buffer.length - bufferEnd, end - position);
+      ByteBuffer bb = ByteBuffer.wrap(buffer, bufferEnd, toRead);
+      while (bb.hasRemaining()) {
+        int read = channel.read(bb, position);
+        if (read < 0) {
+          throw new IOException("Unexpected end of file " + path + " at " + position);
+        }
+        position += read;
+      }
+      bufferEnd += toRead;
+    }
+  }
+}
@@ -0,0 +1,159 @@
+package zemberek.core.collections;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentHistogramTest {
+
+  private static List<String> randomKeys(int count, int keyRange, int seed) {
+    Random random = new Random(seed);
+    List<String> keys = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      keys.add("k" + random.nextInt(keyRange));
+    }
+    return keys;
+  }
+
+  private static void runParallel(int threadCount, List<Runnable> tasks) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    List<Future<?>> futures = new ArrayList<>();
+    for (Runnable task : tasks) {
+      futures.add(executor.submit(task));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void multiThreadedAddTest() throws Exception {
+    ConcurrentHistogram<String> histogram = new ConcurrentHistogram<>(8);
+    Histogram<String> expected = new Histogram<>();
+    List<Runnable> tasks = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      List<String> keys = randomKeys(20_000, 1000, i);
+      expected.add(keys);
+      if (i % 2 == 0) {
+        tasks.add(() -> keys.forEach(histogram::add));
+      } else {
+        tasks.add(() -> {
+          Histogram<String> local = new Histogram<>();
+          local.add(keys);
+          histogram.add(local);
+        });
+      }
+    }
+    runParallel(4, tasks);
+
+    Assert.assertEquals(expected.size(), histogram.size());
+    Assert.assertEquals(expected.totalCount(), histogram.totalCount());
+    for (String key : expected) {
+      Assert.assertEquals(expected.getCount(key), histogram.getCount(key));
+    }
+    Assert.assertEquals(0, histogram.getCount("foo"));
+    Assert.assertFalse(histogram.contains("foo"));
+
+    Histogram<String> copy = histogram.toHistogram();
+    Assert.assertEquals(expected.size(), copy.size());
+    for (String key : expected) {
+      Assert.assertEquals(expected.getCount(key), copy.getCount(key));
+    }
+  }
+
+  @Test
+  public void drainTest() {
+    ConcurrentHistogram<String> histogram = new ConcurrentHistogram<>(3);
+    histogram.add("a", 3);
+    histogram.add("b");
+    histogram.add("a");
+    List<IntValueMap.Entry<String>> entries = histogram.drain();
+    Assert.assertEquals(2, entries.size());
+    for (IntValueMap.Entry<String> entry : entries) {
+      Assert.assertEquals(entry.key.equals("a") ? 4 : 1, entry.count);
+    }
+    Assert.assertEquals(0, histogram.size());
+    histogram.add("b");
+    Assert.assertEquals(1, histogram.getCount("b"));
+  }
+
+  @Test
+  public void spillingTest() throws Exception {
+    Path tempRoot = Files.createTempDirectory("spilling");
+    Histogram<String> expected = new Histogram<>();
+    try (SpillingHistogram histogram = new SpillingHistogram(tempRoot, 100)) {
+      List<Runnable> tasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        List<String> keys = randomKeys(5000, 2000, i);
+        expected.add(keys);
+        tasks.add(() -> {
+          for (int j = 0; j < keys.size(); j += 250) {
+            Histogram<String> local = new Histogram<>();
+            local.add(keys.subList(j, j + 250));
+            try {
+              histogram.add(local);
+            } catch (IOException e) {
+              throw new RuntimeException(e);
+            }
+          }
+        });
+      }
+      runParallel(4, tasks);
+      Assert.assertTrue(histogram.spillCount() > 1);
+      Assert.assertEquals(expected.totalCount(), histogram.totalCount());
+
+      Histogram<String> all = histogram.toHistogram(1, -1);
+      Assert.assertEquals(expected.size(), all.size());
+      for (String key : expected) {
+        Assert.assertEquals(expected.getCount(key), all.getCount(key));
+      }
+
+      List<String> top = new ArrayList<>();
+      List<Integer> counts = new ArrayList<>();
+      histogram.forEachSortedByCount(25, e -> {
+        top.add(e.key);
+        counts.add(e.count);
+        return true;
+      });
+      expected.removeSmaller(25);
+      Assert.assertEquals(expected.size(), top.size());
+      for (int i = 1; i < counts.size(); i++) {
+        Assert.assertTrue(counts.get(i - 1) >= counts.get(i));
+      }
+      Assert.assertEquals(10, histogram.toHistogram(1, 10).size());
+    }
+    Files.delete(tempRoot);
+  }
+
+  @Test
+  public void spillingLongKeyTest() throws Exception {
+    Path tempRoot = Files.createTempDirectory("spilling");
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 40_000; i++) {
+      sb.append('ş');
+    }
+    // 80000 bytes in UTF-8.
+    String longKey = sb.toString();
+    try (SpillingHistogram histogram = new SpillingHistogram(tempRoot, 2)) {
+      for (int i = 0; i < 3; i++) {
+        Histogram<String> local = new Histogram<>();
+        local.add(longKey, "a" + i, "b" + i);
+        histogram.add(local);
+      }
+      Assert.assertTrue(histogram.spillCount() > 1);
+      Histogram<String> all = histogram.toHistogram(1, -1);
+      Assert.assertEquals(7, all.size());
+      Assert.assertEquals(3, all.getCount(longKey));
+    }
+    Files.delete(tempRoot);
+  }
+}
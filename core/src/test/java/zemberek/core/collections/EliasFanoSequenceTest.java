@@ -0,0 +1,89 @@
+package zemberek.core.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EliasFanoSequenceTest {
+
+  private static long[] randomSequence(Random random, int size, int maxGap) {
+    long[] values = new long[size];
+    long value = 0;
+    for (int i = 0; i < size; i++) {
+      value += random.nextInt(maxGap);
+      values[i] = value;
+    }
+    return values;
+  }
+
+  private static void check(EliasFanoSequence sequence, long[] values) {
+    Assert.assertEquals(values.length, sequence.size());
+    for (int i = 0; i < values.length; i++) {
+      Assert.assertEquals(values[i], sequence.get(i));
+    }
+  }
+
+  @Test
+  public void getTest() {
+    Random random = new Random(1);
+    int[] gaps = {1, 2, 10, 1000, 1 << 30};
+    for (int gap : gaps) {
+      for (int size : new int[]{0, 1, 2, 100, 10_000}) {
+        long[] values = randomSequence(random, size, gap);
+        check(EliasFanoSequence.of(values), values);
+      }
+    }
+    long[] large = {0, 5, Long.MAX_VALUE / 2, Long.MAX_VALUE};
+    check(EliasFanoSequence.of(large), large);
+  }
+
+  @Test
+  public void indexOfFirstGreaterOrEqualTest() {
+    long[] values = randomSequence(new Random(1), 5000, 20);
+    EliasFanoSequence sequence = EliasFanoSequence.of(values);
+    int index = 0;
+    for (long v = 0; v <= values[values.length - 1] + 1; v++) {
+      while (index < values.length && values[index] < v) {
+        index++;
+      }
+      Assert.assertEquals(index, sequence.indexOfFirstGreaterOrEqual(v));
+    }
+  }
+
+  @Test
+  public void compressionTest() {
+    long[] values = randomSequence(new Random(1), 100_000, 100);
+    EliasFanoSequence sequence = EliasFanoSequence.of(values);
+    // about 2 + log(50) bits per value plus rank/select overhead.
+    Assert.assertTrue(sequence.sizeInBytes() * 8 < values.length * 10L);
+  }
+
+  @Test
+  public void serializationTest() throws IOException {
+    long[] values = randomSequence(new Random(1), 10_000, 300);
+    EliasFanoSequence sequence = EliasFanoSequence.of(values);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    sequence.serialize(new DataOutputStream(bos));
+    byte[] bytes = bos.toByteArray();
+
+    check(EliasFanoSequence.deserialize(
+        new DataInputStream(new ByteArrayInputStream(bytes))), values);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+    direct.put(new byte[3]).put(bytes);
+    direct.position(3);
+    check(EliasFanoSequence.deserialize(direct), values);
+    Assert.assertEquals(bytes.length + 3, direct.position());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decreasingValuesTest() {
+    EliasFanoSequence.of(new long[]{1, 3, 2});
+  }
+}
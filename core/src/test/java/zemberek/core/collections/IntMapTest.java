@@ -56,6 +56,23 @@ public class IntMapTest {
     }
   }
 
+  @Test
+  public void copyIsIndependent() {
+    IntMap<String> im = new IntMap<>(8);
+    im.put(1, "1");
+    im.put(2, "2");
+    IntMap<String> copy = im.copy();
+    Assert.assertEquals(im.capacity(), copy.capacity());
+    checkSize(copy, 2);
+    Assert.assertEquals("2", copy.get(2));
+    copy.put(3, "3");
+    copy.put(1, "one");
+    Assert.assertNull(im.get(3));
+    Assert.assertEquals("1", im.get(1));
+    checkSize(im, 2);
+    checkSize(copy, 3);
+  }
+
   @Test
   public void putAddsAndUpdatesElementsCorrectly() {
     int span = 100;
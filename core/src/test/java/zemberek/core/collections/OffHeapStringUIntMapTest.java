@@ -0,0 +1,121 @@
+package zemberek.core.collections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OffHeapStringUIntMapTest {
+
+  @Test
+  public void putGetTest() {
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap(1);
+    map.put("elma", 3);
+    map.put("çilek", 5);
+    map.put("", 7);
+    map.put("elma", 4);
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals(4, map.get("elma"));
+    Assert.assertEquals(5, map.get(new StringBuilder("çilek")));
+    Assert.assertEquals(7, map.get(""));
+    Assert.assertEquals(-1, map.get("armut"));
+    Assert.assertFalse(map.containsKey("armut"));
+    Assert.assertEquals(5, map.putIfAbsent("çilek", 9));
+    Assert.assertEquals(9, map.putIfAbsent("armut", 9));
+    Assert.assertEquals(Arrays.asList("elma", "çilek", "", "armut"), map.getKeyList());
+  }
+
+  @Test
+  public void byteSliceTest() {
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap();
+    String[] words = {"ağaç", "😀", "şemsiye", "abc"};
+    for (int i = 0; i < words.length; i++) {
+      map.put(words[i], i);
+    }
+    for (int i = 0; i < words.length; i++) {
+      byte[] bytes = ("xx" + words[i] + "yy").getBytes(StandardCharsets.UTF_8);
+      Assert.assertEquals(i, map.get(bytes, 2, bytes.length - 4));
+    }
+    byte[] bytes = "abcd".getBytes(StandardCharsets.UTF_8);
+    Assert.assertEquals(-1, map.get(bytes, 0, 4));
+    Assert.assertEquals(1, map.incrementByAmount(bytes, 0, 4, 1));
+    Assert.assertEquals(1, map.get("abcd"));
+  }
+
+  @Test
+  public void stressTest() {
+    Random random = new Random(1);
+    // small pages so that many pages are used.
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap(1, 256);
+    Map<String, Integer> expected = new LinkedHashMap<>();
+    for (int i = 0; i < 200_000; i++) {
+      String key = "k" + random.nextInt(50_000);
+      int amount = random.nextInt(3) + 1;
+      expected.merge(key, amount, Integer::sum);
+      Assert.assertEquals((int) expected.get(key), map.incrementByAmount(key, amount));
+    }
+    Assert.assertEquals(expected.size(), map.size());
+    long sum = 0;
+    for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+      Assert.assertEquals((int) entry.getValue(), map.get(entry.getKey()));
+      sum += entry.getValue();
+    }
+    Assert.assertEquals(sum, map.sumOfValues());
+
+    List<String> keys = new ArrayList<>();
+    Map<String, Integer> iterated = new HashMap<>();
+    map.forEach((k, v) -> {
+      keys.add(k);
+      iterated.put(k, v);
+    });
+    Assert.assertEquals(new ArrayList<>(expected.keySet()), keys);
+    Assert.assertEquals(expected, iterated);
+  }
+
+  @Test
+  public void pageGrowthTest() {
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap();
+    map.put("elma", 1);
+    // a small map does not allocate a full page.
+    Assert.assertEquals(OffHeapStringUIntMap.INITIAL_PAGE_CAPACITY, map.arenaCapacity());
+
+    // pages grow up to 64KB, then new pages are added.
+    map = new OffHeapStringUIntMap(1, 1 << 16);
+    for (int i = 0; i < 50_000; i++) {
+      map.put("key" + i, i);
+      if (i % 1000 == 0) {
+        Assert.assertTrue(map.arenaCapacity() <= 2 * map.arenaSize() + (1 << 16));
+      }
+    }
+    for (int i = 0; i < 50_000; i++) {
+      Assert.assertEquals(i, map.get("key" + i));
+    }
+    Assert.assertEquals("key49999", map.getKeyList().get(49_999));
+  }
+
+  @Test
+  public void histogramTest() {
+    Histogram<String> histogram = new Histogram<>();
+    histogram.add("a", 3);
+    histogram.add("b", 1);
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap();
+    map.add(histogram);
+    map.add(histogram);
+    Assert.assertEquals(6, map.get("a"));
+    Histogram<String> result = map.toHistogram(3);
+    Assert.assertEquals(1, result.size());
+    Assert.assertEquals(6, result.getCount("a"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeValueTest() {
+    OffHeapStringUIntMap map = new OffHeapStringUIntMap();
+    map.incrementByAmount("a", -1);
+  }
+}
@@ -0,0 +1,113 @@
+package zemberek.core.collections;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RankSelectBitVectorTest {
+
+  private static void check(RankSelectBitVector vector, boolean[] bits) {
+    Assert.assertEquals(bits.length, vector.size());
+    long ones = 0;
+    for (int i = 0; i < bits.length; i++) {
+      Assert.assertEquals(bits[i], vector.get(i));
+      Assert.assertEquals(ones, vector.rank1(i));
+      Assert.assertEquals(i - ones, vector.rank0(i));
+      if (bits[i]) {
+        Assert.assertEquals(i, vector.select1(ones));
+        ones++;
+      } else {
+        Assert.assertEquals(i, vector.select0(i - ones));
+      }
+    }
+    Assert.assertEquals(ones, vector.numberOfOnes());
+    Assert.assertEquals(ones, vector.rank1(bits.length));
+  }
+
+  private static boolean[] randomBits(Random random, int size, double density) {
+    boolean[] bits = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      bits[i] = random.nextDouble() < density;
+    }
+    return bits;
+  }
+
+  private static RankSelectBitVector create(boolean[] bits) {
+    LongBitVector vector = new LongBitVector(bits.length);
+    for (boolean bit : bits) {
+      vector.add(bit);
+    }
+    return new RankSelectBitVector(vector);
+  }
+
+  @Test
+  public void rankSelectTest() {
+    Random random = new Random(1);
+    int[] sizes = {0, 1, 63, 64, 65, 511, 512, 513, 5000, 100_000};
+    double[] densities = {0, 0.01, 0.5, 0.99, 1};
+    for (int size : sizes) {
+      for (double density : densities) {
+        boolean[] bits = randomBits(random, size, density);
+        check(create(bits), bits);
+      }
+    }
+  }
+
+  @Test
+  public void sparseRangesTest() throws IOException {
+    // few ones with long gaps, sampled ranges of ones span many blocks and use explicit positions.
+    boolean[] bits = new boolean[3_000_000];
+    Random random = new Random(1);
+    for (int i = 0; i < bits.length; i += 500 + random.nextInt(1000)) {
+      bits[i] = true;
+    }
+    check(create(bits), bits);
+    for (int i = 0; i < bits.length; i++) {
+      bits[i] = !bits[i];
+    }
+    RankSelectBitVector vector = create(bits);
+    check(vector, bits);
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    vector.serialize(new DataOutputStream(bos));
+    check(RankSelectBitVector.deserialize(ByteBuffer.wrap(bos.toByteArray())), bits);
+  }
+
+  @Test
+  public void selectInWordTest() {
+    Random random = new Random(1);
+    for (int i = 0; i < 1000; i++) {
+      long x = random.nextLong();
+      int r = 0;
+      for (int j = 0; j < 64; j++) {
+        if ((x & (1L << j)) != 0) {
+          Assert.assertEquals(j, RankSelectBitVector.selectInWord(x, r++));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void serializationTest() throws IOException {
+    boolean[] bits = randomBits(new Random(1), 20_000, 0.3);
+    RankSelectBitVector vector = create(bits);
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    vector.serialize(new DataOutputStream(bos));
+    byte[] bytes = bos.toByteArray();
+
+    check(RankSelectBitVector.deserialize(
+        new DataInputStream(new ByteArrayInputStream(bytes))), bits);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 5);
+    direct.put(new byte[5]).put(bytes);
+    direct.position(5);
+    check(RankSelectBitVector.deserialize(direct), bits);
+    Assert.assertEquals(bytes.length + 5, direct.position());
+  }
+}
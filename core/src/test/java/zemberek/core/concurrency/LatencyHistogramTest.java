@@ -0,0 +1,41 @@
+package zemberek.core.concurrency;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void bucketTest() {
+    for (long v = 0; v < 100_000; v++) {
+      int index = LatencyHistogram.bucketIndex(v);
+      Assert.assertTrue(LatencyHistogram.highestValue(index) >= v);
+      if (index > 0) {
+        Assert.assertTrue(LatencyHistogram.highestValue(index - 1) < v);
+      }
+    }
+  }
+
+  @Test
+  public void percentileTest() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Assert.assertEquals(0, histogram.percentile(50));
+    Random random = new Random(1);
+    long[] values = new long[10_000];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(1_000_000);
+      histogram.record(values[i]);
+    }
+    Arrays.sort(values);
+    Assert.assertEquals(values.length, histogram.count());
+    Assert.assertEquals(values[values.length - 1], histogram.max());
+    for (double p : new double[]{50, 90, 99}) {
+      long expected = values[(int) Math.ceil(p / 100 * values.length) - 1];
+      long actual = histogram.percentile(p);
+      Assert.assertTrue(actual >= expected);
+      Assert.assertTrue(actual <= expected * 1.04);
+    }
+  }
+}
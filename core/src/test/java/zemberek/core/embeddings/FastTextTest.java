@@ -0,0 +1,229 @@
+package zemberek.core.embeddings;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.core.ScoredItem;
+import zemberek.core.collections.IntVector;
+import zemberek.core.io.TestUtil;
+
+public class FastTextTest {
+
+  static FastText trainSmallClassifier() throws Exception {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      lines.add("__label__spor maç gol takım oyuncu " + i % 5);
+      lines.add("__label__ekonomi borsa dolar faiz enflasyon " + i % 5);
+      lines.add("__label__hava yağmur kar güneş rüzgar " + i % 5);
+    }
+    Path input = TestUtil.tempFileWithData(lines);
+    Args args = Args.forSupervised();
+    args.dim = 10;
+    args.bucket = 1000;
+    args.thread = 1;
+    args.epoch = 10;
+    args.minCount = 1;
+    return new FastTextTrainer(args).train(input);
+  }
+
+  @Test
+  public void concurrentPredictionTest() throws Exception {
+    FastText fastText = trainSmallClassifier();
+    String[] inputs = {"maç gol", "borsa faiz dolar", "yağmur güneş", "takım dolar kar"};
+    List<List<ScoredItem<String>>> expected = new ArrayList<>();
+    for (String input : inputs) {
+      expected.add(fastText.predict(input, 3));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Boolean>> futures = new ArrayList<>();
+    for (int t = 0; t < 8; t++) {
+      futures.add(executor.submit(() -> {
+        for (int i = 0; i < 2000; i++) {
+          int index = i % inputs.length;
+          List<ScoredItem<String>> actual = fastText.predict(inputs[index], 3);
+          if (!sameResults(expected.get(index), actual)) {
+            return false;
+          }
+        }
+        return true;
+      }));
+    }
+    for (Future<Boolean> future : futures) {
+      Assert.assertTrue(future.get());
+    }
+    executor.shutdown();
+  }
+
+  @Test
+  public void inferenceContextsAreReusedTest() {
+    Args args = Args.forSupervised();
+    args.dim = 4;
+    Model model = new Model(new Matrix(5, 4), new Matrix(3, 4), args, 1);
+    Model.InferenceContext first = model.acquireInferenceContext();
+    Model.InferenceContext second = model.acquireInferenceContext();
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(4, first.hidden.size());
+    Assert.assertEquals(3, first.output.size());
+    model.releaseInferenceContext(first);
+    Assert.assertSame(first, model.acquireInferenceContext());
+  }
+
+  @Test
+  public void batchPredictionTest() throws Exception {
+    FastText fastText = trainSmallClassifier();
+    List<String> inputs = new ArrayList<>();
+    String[] words = {"maç", "gol", "borsa", "faiz", "dolar", "yağmur", "kar", "xyz", "takım"};
+    for (int i = 0; i < 100; i++) {
+      inputs.add(words[i % words.length] + " " + words[(i * 7) % words.length]);
+    }
+    inputs.add("bilinmeyen kelimeler");
+    for (int k = 1; k <= 4; k++) {
+      List<List<ScoredItem<String>>> results = fastText.predict(inputs, k);
+      Assert.assertEquals(inputs.size(), results.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        Assert.assertTrue(sameResults(fastText.predict(inputs.get(i), k), results.get(i)));
+      }
+    }
+    List<List<ScoredItem<String>>> results = fastText.predict(inputs, 3, 0.4f);
+    for (int i = 0; i < inputs.size(); i++) {
+      Assert.assertTrue(results.get(i).size() < 3);
+      Assert.assertTrue(sameResults(fastText.predict(inputs.get(i), 3, 0.4f), results.get(i)));
+    }
+  }
+
+  @Test
+  public void mappedLoadTest() throws Exception {
+    FastText fastText = trainSmallClassifier();
+    Path modelPath = Files.createTempFile("fasttext", ".model");
+    modelPath.toFile().deleteOnExit();
+    fastText.saveModel(modelPath);
+
+    Args qargs = Args.forSupervised();
+    FastText quantized = fastText.quantize(modelPath, qargs);
+    Path quantizedPath = Files.createTempFile("fasttext", ".qmodel");
+    quantizedPath.toFile().deleteOnExit();
+    quantized.saveModel(quantizedPath);
+
+    String[] inputs = {"maç gol", "borsa faiz dolar", "yağmur güneş", "takım dolar kar"};
+    for (Path path : new Path[]{modelPath, quantizedPath}) {
+      FastText loaded = FastText.load(path);
+      FastText mapped = FastText.loadMapped(path);
+      for (String input : inputs) {
+        Assert.assertTrue(sameResults(loaded.predict(input, 3), mapped.predict(input, 3)));
+        Assert.assertArrayEquals(
+            loaded.sentenceVector(input), mapped.sentenceVector(input), 0);
+      }
+      // batch prediction reads the rows of the mapped output matrix.
+      List<List<ScoredItem<String>>> batch = mapped.predict(Arrays.asList(inputs), 3);
+      for (int i = 0; i < inputs.length; i++) {
+        Assert.assertTrue(sameResults(loaded.predict(inputs[i], 3), batch.get(i)));
+      }
+    }
+    // mapped model can be saved again.
+    Path copy = Files.createTempFile("fasttext", ".model");
+    copy.toFile().deleteOnExit();
+    FastText.loadMapped(modelPath).saveModel(copy);
+    Assert.assertArrayEquals(Files.readAllBytes(modelPath), Files.readAllBytes(copy));
+  }
+
+  @Test
+  public void tokenizedCorpusTest() throws Exception {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      lines.add("__label__" + (i % 3) + " kelime" + (i % 7) + " ve kelime" + (i % 11));
+    }
+    lines.add("");
+    Path input = TestUtil.tempFileWithData(lines);
+    Args args = Args.forSupervised();
+    args.minCount = 1;
+    Dictionary dictionary = Dictionary.readFromFile(input, args);
+    Path idFile = Files.createTempFile("fasttext", ".ids");
+    idFile.toFile().deleteOnExit();
+    TokenizedCorpus corpus = TokenizedCorpus.create(input, dictionary, args, idFile, 3);
+    Assert.assertEquals(3, corpus.shardCount());
+
+    // reading twice from the first shard produces the corpus two times.
+    TokenizedCorpus.LineReader reader = corpus.reader(0);
+    TokenizedCorpus.Line line = new TokenizedCorpus.Line();
+    for (int k = 0; k < 2; k++) {
+      for (String s : lines) {
+        IntVector words = new IntVector();
+        IntVector labels = new IntVector();
+        int tokenCount = dictionary.getLine(s, words, labels);
+        reader.next(line);
+        Assert.assertEquals(tokenCount, line.tokenCount);
+        Assert.assertArrayEquals(words.copyOf(), Arrays.copyOf(line.words, line.wordCount));
+        Assert.assertArrayEquals(labels.copyOf(), Arrays.copyOf(line.labels, line.labelCount));
+      }
+    }
+  }
+
+  @Test
+  public void emptyTokenizedCorpusTest() throws Exception {
+    Args args = Args.forSupervised();
+    args.minCount = 1;
+    Dictionary dictionary = Dictionary.readFromFile(
+        TestUtil.tempFileWithData("__label__a kelime"), args);
+    Path tempDir = Files.createTempDirectory("fasttext");
+    tempDir.toFile().deleteOnExit();
+    for (String data : new String[]{"", "\n  \n\t\n"}) {
+      Path input = TestUtil.tempFileWithData(data);
+      Path idFile = Files.createTempFile(tempDir, "fasttext", ".ids");
+      idFile.toFile().deleteOnExit();
+      try {
+        TokenizedCorpus.create(input, dictionary, args, idFile, 2);
+        Assert.fail("Empty corpus should be rejected.");
+      } catch (IllegalArgumentException e) {
+        Assert.assertTrue(e.getMessage().contains("does not contain any tokens"));
+      }
+    }
+  }
+
+  @Test
+  public void multiThreadTrainingTest() throws Exception {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      lines.add("__label__spor maç gol takım oyuncu " + i % 5);
+      lines.add("__label__ekonomi borsa dolar faiz enflasyon " + i % 5);
+    }
+    Path input = TestUtil.tempFileWithData(lines);
+    Args args = Args.forSupervised();
+    args.dim = 10;
+    args.bucket = 1000;
+    args.thread = 4;
+    args.epoch = 5;
+    args.minCount = 1;
+    FastText fastText = new FastTextTrainer(args).train(input);
+    Assert.assertEquals("__label__spor", fastText.predict("maç gol", 1).get(0).item);
+    Assert.assertEquals("__label__ekonomi", fastText.predict("borsa faiz", 1).get(0).item);
+
+    args = Args.forWordVectors(Args.model_name.skipGram);
+    args.dim = 10;
+    args.bucket = 1000;
+    args.thread = 2;
+    args.epoch = 1;
+    args.minCount = 1;
+    fastText = new FastTextTrainer(args).train(input);
+    Assert.assertEquals(10, fastText.getWordVector("maç").size());
+  }
+
+  private static boolean sameResults(List<ScoredItem<String>> a, List<ScoredItem<String>> b) {
+    if (a.size() != b.size()) {
+      return false;
+    }
+    for (int i = 0; i < a.size(); i++) {
+      if (!a.get(i).item.equals(b.get(i).item) || a.get(i).score != b.get(i).score) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
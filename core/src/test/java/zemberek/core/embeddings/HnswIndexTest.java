@@ -0,0 +1,155 @@
+package zemberek.core.embeddings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.core.ScoredItem;
+
+public class HnswIndexTest {
+
+  @Test
+  public void recallTest() {
+    Random random = new Random(1);
+    int count = 3000;
+    int dimension = 20;
+    List<String> words = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      words.add("w" + i);
+      vectors.add(randomVector(random, dimension));
+    }
+    HnswIndex index = HnswIndex.builder().m(12).efConstruction(100).build(words, vectors);
+    Assert.assertEquals(count, index.size());
+
+    int k = 10;
+    int found = 0;
+    int queryCount = 100;
+    for (int i = 0; i < queryCount; i++) {
+      float[] query = randomVector(random, dimension);
+      Set<String> expected = bruteForce(words, vectors, query, k);
+      List<ScoredItem<String>> result = index.nearestK(query, k, 100);
+      Assert.assertEquals(k, result.size());
+      for (int j = 1; j < result.size(); j++) {
+        Assert.assertTrue(result.get(j - 1).score >= result.get(j).score);
+      }
+      for (ScoredItem<String> item : result) {
+        if (expected.contains(item.item)) {
+          found++;
+        }
+      }
+    }
+    Assert.assertTrue(found >= queryCount * k * 0.9);
+
+    List<ScoredItem<String>> byWord = index.nearestK("w5", k);
+    Assert.assertEquals(k, byWord.size());
+    for (ScoredItem<String> item : byWord) {
+      Assert.assertNotEquals("w5", item.item);
+    }
+    Assert.assertTrue(index.nearestK("foo", k).isEmpty());
+  }
+
+  @Test
+  public void saveLoadTest() throws IOException {
+    Random random = new Random(2);
+    List<String> words = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      words.add("w" + i);
+      vectors.add(randomVector(random, 8));
+    }
+    HnswIndex index = HnswIndex.builder().m(8).build(words, vectors);
+    Path tmp = Files.createTempFile("hnsw", ".bin");
+    tmp.toFile().deleteOnExit();
+    index.save(tmp);
+    HnswIndex loaded = HnswIndex.load(tmp);
+    for (int i = 0; i < 20; i++) {
+      String word = "w" + i;
+      List<ScoredItem<String>> a = index.nearestK(word, 5);
+      List<ScoredItem<String>> b = loaded.nearestK(word, 5);
+      Assert.assertEquals(a.size(), b.size());
+      for (int j = 0; j < a.size(); j++) {
+        Assert.assertEquals(a.get(j).item, b.get(j).item);
+        Assert.assertEquals(a.get(j).score, b.get(j).score, 0);
+      }
+    }
+  }
+
+  @Test
+  public void flatArrayBuildTest() {
+    Random random = new Random(3);
+    int dimension = 6;
+    String[] words = new String[300];
+    float[] data = new float[words.length * dimension];
+    List<String> wordList = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    for (int i = 0; i < words.length; i++) {
+      words[i] = "w" + i;
+      // every 10th vector is zero, so it is ignored.
+      float[] v = i % 10 == 0 ? new float[dimension] : randomVector(random, dimension);
+      System.arraycopy(v, 0, data, i * dimension, dimension);
+      wordList.add(words[i]);
+      vectors.add(v);
+    }
+    HnswIndex flat = HnswIndex.builder().m(8).build(words, data, dimension);
+    HnswIndex fromList = HnswIndex.builder().m(8).build(wordList, vectors);
+    Assert.assertEquals(270, flat.size());
+    Assert.assertFalse(flat.containsWord("w10"));
+    for (int i = 1; i < 30; i++) {
+      String word = "w" + i;
+      if (!flat.containsWord(word)) {
+        continue;
+      }
+      List<ScoredItem<String>> a = flat.nearestK(word, 5);
+      List<ScoredItem<String>> b = fromList.nearestK(word, 5);
+      Assert.assertEquals(a.size(), b.size());
+      for (int j = 0; j < a.size(); j++) {
+        Assert.assertEquals(a.get(j).item, b.get(j).item);
+      }
+    }
+  }
+
+  @Test
+  public void fastTextIndexTest() throws Exception {
+    FastText fastText = FastTextTest.trainSmallClassifier();
+    HnswIndex index = HnswIndex.builder().build(fastText);
+    Assert.assertTrue(index.containsWord("maç"));
+    Assert.assertFalse(index.containsWord(Dictionary.EOS));
+    Assert.assertEquals(3, index.nearestK("maç", 3).size());
+  }
+
+  private static float[] randomVector(Random random, int dimension) {
+    float[] v = new float[dimension];
+    for (int i = 0; i < dimension; i++) {
+      v[i] = (float) random.nextGaussian();
+    }
+    return v;
+  }
+
+  private static Set<String> bruteForce(
+      List<String> words, List<float[]> vectors, float[] query, int k) {
+    List<ScoredItem<String>> all = new ArrayList<>();
+    for (int i = 0; i < words.size(); i++) {
+      float[] v = vectors.get(i);
+      float dot = 0, n1 = 0, n2 = 0;
+      for (int j = 0; j < v.length; j++) {
+        dot += v[j] * query[j];
+        n1 += v[j] * v[j];
+        n2 += query[j] * query[j];
+      }
+      all.add(new ScoredItem<>(words.get(i), (float) (dot / Math.sqrt(n1 * n2))));
+    }
+    all.sort(ScoredItem.STRING_COMP_DESCENDING);
+    Set<String> result = new HashSet<>();
+    for (int i = 0; i < k; i++) {
+      result.add(all.get(i).item);
+    }
+    return result;
+  }
+}
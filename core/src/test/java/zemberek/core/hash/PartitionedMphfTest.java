@@ -0,0 +1,82 @@
+package zemberek.core.hash;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.core.io.TestUtil;
+
+public class PartitionedMphfTest {
+
+  private static void checkValues(Mphf mphf, StringHashKeyProvider provider) {
+    int keyAmount = provider.keyAmount();
+    Assert.assertEquals(keyAmount, mphf.size());
+    boolean[] seen = new boolean[keyAmount];
+    for (int i = 0; i < keyAmount; i++) {
+      int[] key = provider.getKey(i);
+      int value = mphf.get(key);
+      Assert.assertTrue(value >= 0 && value < keyAmount);
+      Assert.assertFalse("Duplicate value " + value, seen[value]);
+      seen[value] = true;
+      Assert.assertEquals(value, mphf.get(provider.strings.get(i)));
+      Assert.assertEquals(value,
+          mphf.get(key, 0, key.length, MultiLevelMphf.hash(key, 0, key.length, -1)));
+    }
+  }
+
+  private static byte[] serialize(Mphf mphf) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    mphf.serialize(bos);
+    return bos.toByteArray();
+  }
+
+  @Test
+  public void partitionedTest() throws IOException {
+    List<String> keys = new ArrayList<>(TestUtil.uniqueStrings(50_000, 6));
+    StringHashKeyProvider provider = new StringHashKeyProvider(keys);
+    Mphf mphf = PartitionedMphf.generate(provider, 4, 5000);
+    Assert.assertTrue(mphf instanceof PartitionedMphf);
+    Assert.assertEquals(10, ((PartitionedMphf) mphf).getPartitionCount());
+    checkValues(mphf, provider);
+
+    // result does not depend on thread count.
+    Mphf single = PartitionedMphf.generate(provider, 1, 5000);
+    Assert.assertArrayEquals(serialize(mphf), serialize(single));
+
+    byte[] bytes = serialize(mphf);
+    Mphf fromStream = Mphf.deserialize(new DataInputStream(new ByteArrayInputStream(bytes)));
+    Assert.assertTrue(fromStream instanceof PartitionedMphf);
+    checkValues(fromStream, provider);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+    direct.put(new byte[3]).put(bytes);
+    direct.position(3);
+    Mphf fromBuffer = Mphf.deserialize(direct);
+    Assert.assertEquals(bytes.length + 3, direct.position());
+    checkValues(fromBuffer, provider);
+    Assert.assertArrayEquals(bytes, serialize(fromBuffer));
+  }
+
+  @Test
+  public void smallKeySetTest() throws IOException {
+    List<String> keys = new ArrayList<>(TestUtil.uniqueStrings(1000, 4));
+    StringHashKeyProvider provider = new StringHashKeyProvider(keys);
+    Mphf mphf = PartitionedMphf.generate(provider, 2);
+    Assert.assertTrue(mphf instanceof MultiLevelMphf);
+    checkValues(mphf, provider);
+
+    byte[] bytes = serialize(mphf);
+    Mphf fromStream = Mphf.deserialize(new DataInputStream(new ByteArrayInputStream(bytes)));
+    Assert.assertTrue(fromStream instanceof MultiLevelMphf);
+    checkValues(fromStream, provider);
+
+    MultiLevelMphf fromBuffer = MultiLevelMphf.deserialize(ByteBuffer.wrap(bytes));
+    checkValues(fromBuffer, provider);
+    Assert.assertArrayEquals(bytes, serialize(fromBuffer));
+  }
+}
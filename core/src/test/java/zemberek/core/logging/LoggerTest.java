@@ -1,7 +1,15 @@
 package zemberek.core.logging;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
+import zemberek.core.logging.Log.LogLevel;
 
 public class LoggerTest {
 
@@ -14,5 +22,87 @@ public class LoggerTest {
     Assert.assertTrue(Log.isDebug());
     Assert.assertTrue(Log.isTrace());
     Assert.assertTrue(Log.isInfo());
+    Log.setInfo();
+  }
+
+  @Test
+  public void supplierTest() {
+    Log.setInfo();
+    AtomicInteger calls = new AtomicInteger();
+    Log.debug(() -> "debug " + calls.incrementAndGet());
+    Assert.assertEquals(0, calls.get());
+    Log.info(() -> "info " + calls.incrementAndGet());
+    Assert.assertEquals(1, calls.get());
+  }
+
+  static class CollectingBridge implements LoggingBridge {
+
+    LogLevel minLevel;
+    List<String> messages = new ArrayList<>();
+
+    CollectingBridge(LogLevel minLevel) {
+      this.minLevel = minLevel;
+    }
+
+    @Override
+    public boolean isEnabled(LogLevel level) {
+      return level.ordinal() >= minLevel.ordinal();
+    }
+
+    @Override
+    public void log(LogLevel level, String sourceClassName, String sourceMethodName,
+        String message, Throwable thrown) {
+      messages.add(level + "|" + sourceClassName + "#" + sourceMethodName + "|" + message
+          + (thrown == null ? "" : "|" + thrown.getMessage()));
+    }
+  }
+
+  @Test
+  public void bridgeTest() {
+    CollectingBridge bridge = new CollectingBridge(LogLevel.DEBUG);
+    Log.setBridge(bridge);
+    try {
+      Assert.assertTrue(Log.isDebug());
+      Assert.assertFalse(Log.isTrace());
+      Log.trace("trace %d", 1);
+      Log.debug("debug %d", 2);
+      Log.warn("warn %s", "a", new IllegalStateException("e"));
+      Log.error(() -> "error");
+    } finally {
+      Log.removeBridge();
+    }
+    String prefix = LoggerTest.class.getName() + "#bridgeTest|";
+    Assert.assertEquals(3, bridge.messages.size());
+    Assert.assertEquals("DEBUG|" + prefix + "debug 2", bridge.messages.get(0));
+    Assert.assertEquals("WARNING|" + prefix + "warn a|e", bridge.messages.get(1));
+    Assert.assertEquals("ERROR|" + prefix + "error", bridge.messages.get(2));
+    Assert.assertFalse(Log.isDebug());
+  }
+
+  @Test
+  public void asyncTest() throws IOException {
+    Path file = Files.createTempFile("zemberek-log", ".txt");
+    Log.addFileHandler(file);
+    StringBuilder mutable = new StringBuilder("before");
+    try {
+      Log.enableAsync(1000);
+      Assert.assertTrue(Log.isAsync());
+      for (int i = 0; i < 10; i++) {
+        Log.info("async message %d %s", i, mutable);
+      }
+      mutable.append("-after");
+      Log.disableAsync();
+      Assert.assertFalse(Log.isAsync());
+      Log.flushFileHandlers();
+      String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      for (int i = 0; i < 10; i++) {
+        Assert.assertTrue(content.contains("async message " + i + " before "));
+      }
+      Assert.assertFalse(content.contains("-after"));
+    } finally {
+      Log.disableAsync();
+      Log.removeFileHandler(file);
+      Files.deleteIfExists(file);
+    }
   }
 }
@@ -1,10 +1,14 @@
 package zemberek.core.text;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.junit.Assert;
 import org.junit.Test;
 import zemberek.core.io.TestUtil;
@@ -58,4 +62,77 @@ public class BlockTextLoaderTest {
     Files.delete(path);
 
   }
+
+  @Test
+  public void splitTest() throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      lines.add(i % 7 == 0 ? "" : "çalışma-" + i + (i % 3 == 0 ? " ğüşıöç" : ""));
+    }
+    Path path = TestUtil.tempFileWithData(lines);
+    for (int splitCount : new int[]{1, 2, 3, 7, 100, 100_000}) {
+      List<TextSplit> splits = TextSplit.split(path, 0, splitCount, 333);
+      Assert.assertTrue(splits.size() <= splitCount);
+      List<String> read = new ArrayList<>();
+      Set<String> chunkKeys = new HashSet<>();
+      long start = 0;
+      for (TextSplit split : splits) {
+        Assert.assertEquals(start, split.start);
+        start = split.end;
+        for (TextChunk chunk : split) {
+          Assert.assertTrue(chunk.size() <= 333);
+          // chunks of different splits have different identities.
+          Assert.assertTrue(chunkKeys.add(chunk.toString()));
+          read.addAll(chunk.getData());
+        }
+      }
+      Assert.assertEquals(Files.size(path), start);
+      Assert.assertEquals(lines, read);
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void splitLineTerminatorTest() throws IOException {
+    Path path = Files.createTempFile("split", ".txt");
+    Files.write(path, "a\r\nbb\n\nccc".getBytes(StandardCharsets.UTF_8));
+    for (int splitCount = 1; splitCount < 12; splitCount++) {
+      List<String> read = new ArrayList<>();
+      for (TextSplit split : TextSplit.split(path, splitCount)) {
+        split.forEach(chunk -> read.addAll(chunk.getData()));
+      }
+      Assert.assertEquals(Arrays.asList("a", "bb", "", "ccc"), read);
+    }
+    Files.delete(path);
+  }
+
+  @Test
+  public void loaderSplitsTest() throws IOException {
+    List<String> lines1 = new ArrayList<>();
+    List<String> lines2 = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      lines1.add("line " + i);
+    }
+    for (int i = 0; i < 10; i++) {
+      lines2.add("small " + i);
+    }
+    Path p1 = TestUtil.tempFileWithData(lines1);
+    Path p2 = TestUtil.tempFileWithData(lines2);
+    BlockTextLoader loader = BlockTextLoader.fromPaths(new ArrayList<>(Arrays.asList(p1, p2)), 100);
+    List<TextSplit> splits = loader.splits(4);
+    List<String> expected = new ArrayList<>();
+    for (Path p : loader.getCorpusPaths()) {
+      expected.addAll(p.equals(p1) ? lines1 : lines2);
+    }
+    List<String> read = new ArrayList<>();
+    for (TextSplit split : splits) {
+      Assert.assertEquals(loader.getCorpusPaths().get(split.sourceIndex), split.path);
+      for (TextChunk chunk : split) {
+        read.addAll(chunk.getData());
+      }
+    }
+    Assert.assertEquals(expected, read);
+    Files.delete(p1);
+    Files.delete(p2);
+  }
 }
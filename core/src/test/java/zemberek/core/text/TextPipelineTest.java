@@ -0,0 +1,145 @@
+package zemberek.core.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TextPipelineTest {
+
+  private static List<TextChunk> chunks(int chunkCount, int chunkSize) {
+    List<TextChunk> chunks = new ArrayList<>();
+    int k = 0;
+    for (int i = 0; i < chunkCount; i++) {
+      List<String> lines = new ArrayList<>();
+      for (int j = 0; j < chunkSize; j++) {
+        lines.add(String.valueOf(k++));
+      }
+      chunks.add(new TextChunk("test", 0, i, lines));
+    }
+    return chunks;
+  }
+
+  private static List<String> slowCopy(TextChunk chunk) {
+    try {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new ArrayList<>(chunk.getData());
+  }
+
+  @Test
+  public void orderedTest() throws InterruptedException {
+    List<TextChunk> chunks = chunks(200, 10);
+    List<String> expected = new ArrayList<>();
+    chunks.forEach(c -> expected.addAll(c.getData()));
+
+    List<String> result = new ArrayList<>();
+    TextPipeline.Stats stats = TextPipeline.from(chunks)
+        .threadCount(4)
+        .progressInterval(0)
+        .run(TextPipelineTest::slowCopy, result::addAll);
+    Assert.assertEquals(expected, result);
+    Assert.assertEquals(200, stats.chunkCount);
+    Assert.assertEquals(2000, stats.lineCount);
+  }
+
+  @Test
+  public void unorderedTest() throws InterruptedException {
+    List<TextChunk> chunks = chunks(200, 10);
+    List<String> expected = new ArrayList<>();
+    chunks.forEach(c -> expected.addAll(c.getData()));
+
+    // sink is called concurrently in unordered mode.
+    List<String> result = Collections.synchronizedList(new ArrayList<>());
+    TextPipeline.from(chunks)
+        .threadCount(4)
+        .ordered(false)
+        .progressInterval(0)
+        .run(TextPipelineTest::slowCopy, result::addAll);
+    Collections.sort(expected);
+    Collections.sort(result);
+    Assert.assertEquals(expected, result);
+  }
+
+  @Test
+  public void consumerStageTest() throws InterruptedException {
+    AtomicInteger lines = new AtomicInteger();
+    TextPipeline.Stats stats = TextPipeline.from(chunks(50, 10))
+        .threadCount(4)
+        .progressInterval(0)
+        .run(chunk -> lines.addAndGet(chunk.size()));
+    Assert.assertEquals(500, lines.get());
+    Assert.assertEquals(50, stats.chunkCount);
+  }
+
+  @Test
+  public void unorderedSinkIsNotSerializedTest() throws InterruptedException {
+    // both sink calls can only finish if they run at the same time.
+    CountDownLatch bothInSink = new CountDownLatch(2);
+    AtomicInteger concurrent = new AtomicInteger();
+    TextPipeline.from(chunks(2, 1))
+        .threadCount(2)
+        .ordered(false)
+        .progressInterval(0)
+        .run(c -> c, c -> {
+          bothInSink.countDown();
+          try {
+            if (bothInSink.await(10, TimeUnit.SECONDS)) {
+              concurrent.incrementAndGet();
+            }
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    Assert.assertEquals(2, concurrent.get());
+  }
+
+  @Test
+  public void inFlightLimitTest() throws InterruptedException {
+    List<TextChunk> chunks = chunks(100, 1);
+    AtomicInteger read = new AtomicInteger();
+    AtomicInteger maxDifference = new AtomicInteger();
+    int[] written = new int[1];
+    Iterable<TextChunk> source = () -> chunks.stream().peek(c -> read.incrementAndGet())
+        .iterator();
+    TextPipeline.from(source)
+        .threadCount(4)
+        .maxInFlight(5)
+        .progressInterval(0)
+        .run(TextPipelineTest::slowCopy, r -> {
+          written[0]++;
+          maxDifference.accumulateAndGet(read.get() - written[0], Math::max);
+        });
+    Assert.assertEquals(100, written[0]);
+    // a chunk is read before a permit is acquired, so there can be one more.
+    Assert.assertTrue(maxDifference.get() <= 5);
+  }
+
+  @Test
+  public void exceptionTest() throws InterruptedException {
+    List<TextChunk> chunks = chunks(100, 1);
+    AtomicInteger sinkCount = new AtomicInteger();
+    try {
+      TextPipeline.from(chunks)
+          .threadCount(4)
+          .progressInterval(0)
+          .run(c -> {
+            if (c.index == 10) {
+              throw new IllegalStateException("fail");
+            }
+            return c.getData();
+          }, r -> sinkCount.incrementAndGet());
+      Assert.fail();
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("fail", e.getMessage());
+    }
+    Assert.assertTrue(sinkCount.get() <= 10);
+  }
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.PriorityQueue;
 import zemberek.core.collections.IntFloatMap;
 import zemberek.core.collections.UIntMap;
+import zemberek.core.embeddings.HnswIndex;
 import zemberek.core.io.IOUtil;
 import zemberek.core.logging.Log;
 import zemberek.core.math.FloatArrays;
@@ -172,6 +173,20 @@ public class WordVectorLookup {
 
   }
 
+  /**
+   * Builds an approximate nearest neighbor index of the vectors. Unlike {@link
+   * DistanceMatcher#nearestK(String, int)} it does not compare the query with all vectors.
+   */
+  public HnswIndex buildIndex(HnswIndex.Builder builder) {
+    List<String> words = new ArrayList<>(vectors.size());
+    List<float[]> data = new ArrayList<>(vectors.size());
+    for (Vector vector : vectors.getValuesSortedByKey()) {
+      words.add(vocabulary.getWord(vector.wordIndex));
+      data.add(vector.data);
+    }
+    return builder.build(words, data);
+  }
+
   public Vector getVector(String word) {
     return vectors.get(vocabulary.indexOf(word));
   }
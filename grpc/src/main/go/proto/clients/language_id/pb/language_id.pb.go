@@ -210,6 +210,134 @@ func (x *IdResult) GetScore() float64 {
 	return 0
 }
 
+// Options apply to all inputs. See LanguageIdRequest.
+type LanguageIdBatchRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Inputs         []string `protobuf:"bytes,1,rep,name=inputs,proto3" json:"inputs,omitempty"`
+	MaxSampleCount int32    `protobuf:"varint,2,opt,name=maxSampleCount,proto3" json:"maxSampleCount,omitempty"`
+	TrGroup        bool     `protobuf:"varint,3,opt,name=trGroup,proto3" json:"trGroup,omitempty"`
+	IncludeScores  bool     `protobuf:"varint,4,opt,name=includeScores,proto3" json:"includeScores,omitempty"`
+	// if [true], fast identification is used. See DetectFast.
+	Fast bool `protobuf:"varint,5,opt,name=fast,proto3" json:"fast,omitempty"`
+}
+
+func (x *LanguageIdBatchRequest) Reset() {
+	*x = LanguageIdBatchRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_language_id_proto_msgTypes[3]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *LanguageIdBatchRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*LanguageIdBatchRequest) ProtoMessage() {}
+
+func (x *LanguageIdBatchRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_language_id_proto_msgTypes[3]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use LanguageIdBatchRequest.ProtoReflect.Descriptor instead.
+func (*LanguageIdBatchRequest) Descriptor() ([]byte, []int) {
+	return file_language_id_proto_rawDescGZIP(), []int{3}
+}
+
+func (x *LanguageIdBatchRequest) GetInputs() []string {
+	if x != nil {
+		return x.Inputs
+	}
+	return nil
+}
+
+func (x *LanguageIdBatchRequest) GetMaxSampleCount() int32 {
+	if x != nil {
+		return x.MaxSampleCount
+	}
+	return 0
+}
+
+func (x *LanguageIdBatchRequest) GetTrGroup() bool {
+	if x != nil {
+		return x.TrGroup
+	}
+	return false
+}
+
+func (x *LanguageIdBatchRequest) GetIncludeScores() bool {
+	if x != nil {
+		return x.IncludeScores
+	}
+	return false
+}
+
+func (x *LanguageIdBatchRequest) GetFast() bool {
+	if x != nil {
+		return x.Fast
+	}
+	return false
+}
+
+type LanguageIdBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Results []*LanguageIdResponse `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *LanguageIdBatchResponse) Reset() {
+	*x = LanguageIdBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_language_id_proto_msgTypes[4]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *LanguageIdBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*LanguageIdBatchResponse) ProtoMessage() {}
+
+func (x *LanguageIdBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_language_id_proto_msgTypes[4]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use LanguageIdBatchResponse.ProtoReflect.Descriptor instead.
+func (*LanguageIdBatchResponse) Descriptor() ([]byte, []int) {
+	return file_language_id_proto_rawDescGZIP(), []int{4}
+}
+
+func (x *LanguageIdBatchResponse) GetResults() []*LanguageIdResponse {
+	if x != nil {
+		return x.Results
+	}
+	return nil
+}
+
 var File_language_id_proto protoreflect.FileDescriptor
 
 var file_language_id_proto_rawDesc = []byte{
@@ -233,21 +361,50 @@ var file_language_id_proto_rawDesc = []byte{
 	0x75, 0x6c, 0x74, 0x52, 0x08, 0x69, 0x64, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x22, 0x30, 0x0a,
 	0x08, 0x49, 0x64, 0x52, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x12, 0x0e, 0x0a, 0x02, 0x69, 0x64, 0x18,
 	0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x02, 0x69, 0x64, 0x12, 0x14, 0x0a, 0x05, 0x73, 0x63, 0x6f,
-	0x72, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x01, 0x52, 0x05, 0x73, 0x63, 0x6f, 0x72, 0x65, 0x32,
-	0xbd, 0x01, 0x0a, 0x11, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x53, 0x65,
-	0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x51, 0x0a, 0x06, 0x44, 0x65, 0x74, 0x65, 0x63, 0x74, 0x12,
+	0x72, 0x65, 0x18, 0x02, 0x20, 0x01, 0x28, 0x01, 0x52, 0x05, 0x73, 0x63, 0x6f, 0x72, 0x65, 0x22,
+	0xac, 0x01, 0x0a, 0x16, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x42, 0x61,
+	0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x69, 0x6e,
+	0x70, 0x75, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x09, 0x52, 0x06, 0x69, 0x6e, 0x70, 0x75,
+	0x74, 0x73, 0x12, 0x26, 0x0a, 0x0e, 0x6d, 0x61, 0x78, 0x53, 0x61, 0x6d, 0x70, 0x6c, 0x65, 0x43,
+	0x6f, 0x75, 0x6e, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x05, 0x52, 0x0e, 0x6d, 0x61, 0x78, 0x53,
+	0x61, 0x6d, 0x70, 0x6c, 0x65, 0x43, 0x6f, 0x75, 0x6e, 0x74, 0x12, 0x18, 0x0a, 0x07, 0x74, 0x72,
+	0x47, 0x72, 0x6f, 0x75, 0x70, 0x18, 0x03, 0x20, 0x01, 0x28, 0x08, 0x52, 0x07, 0x74, 0x72, 0x47,
+	0x72, 0x6f, 0x75, 0x70, 0x12, 0x24, 0x0a, 0x0d, 0x69, 0x6e, 0x63, 0x6c, 0x75, 0x64, 0x65, 0x53,
+	0x63, 0x6f, 0x72, 0x65, 0x73, 0x18, 0x04, 0x20, 0x01, 0x28, 0x08, 0x52, 0x0d, 0x69, 0x6e, 0x63,
+	0x6c, 0x75, 0x64, 0x65, 0x53, 0x63, 0x6f, 0x72, 0x65, 0x73, 0x12, 0x12, 0x0a, 0x04, 0x66, 0x61,
+	0x73, 0x74, 0x18, 0x05, 0x20, 0x01, 0x28, 0x08, 0x52, 0x04, 0x66, 0x61, 0x73, 0x74, 0x22, 0x58,
+	0x0a, 0x17, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x42, 0x61, 0x74, 0x63,
+	0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x3d, 0x0a, 0x07, 0x72, 0x65, 0x73,
+	0x75, 0x6c, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x23, 0x2e, 0x7a, 0x65, 0x6d,
+	0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e,
+	0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x52,
+	0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x32, 0xfc, 0x02, 0x0a, 0x11, 0x4c, 0x61, 0x6e,
+	0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x51,
+	0x0a, 0x06, 0x44, 0x65, 0x74, 0x65, 0x63, 0x74, 0x12, 0x22, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75,
+	0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x23, 0x2e, 0x7a,
+	0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c,
+	0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
+	0x65, 0x12, 0x55, 0x0a, 0x0a, 0x44, 0x65, 0x74, 0x65, 0x63, 0x74, 0x46, 0x61, 0x73, 0x74, 0x12,
 	0x22, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69,
 	0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x71, 0x75,
 	0x65, 0x73, 0x74, 0x1a, 0x23, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c,
 	0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64,
-	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x55, 0x0a, 0x0a, 0x44, 0x65, 0x74, 0x65,
-	0x63, 0x74, 0x46, 0x61, 0x73, 0x74, 0x12, 0x22, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65,
-	0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67,
-	0x65, 0x49, 0x64, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x23, 0x2e, 0x7a, 0x65, 0x6d,
+	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x60, 0x0a, 0x0b, 0x44, 0x65, 0x74, 0x65,
+	0x63, 0x74, 0x42, 0x61, 0x74, 0x63, 0x68, 0x12, 0x27, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
+	0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61,
+	0x67, 0x65, 0x49, 0x64, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+	0x1a, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67,
+	0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x42, 0x61, 0x74,
+	0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x5b, 0x0a, 0x0c, 0x44, 0x65,
+	0x74, 0x65, 0x63, 0x74, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d, 0x12, 0x22, 0x2e, 0x7a, 0x65, 0x6d,
 	0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64, 0x2e, 0x4c, 0x61, 0x6e,
-	0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42,
-	0x12, 0x0a, 0x0e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74,
-	0x6f, 0x50, 0x01, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
+	0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x23,
+	0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6c, 0x61, 0x6e, 0x67, 0x69, 0x64,
+	0x2e, 0x4c, 0x61, 0x6e, 0x67, 0x75, 0x61, 0x67, 0x65, 0x49, 0x64, 0x52, 0x65, 0x73, 0x70, 0x6f,
+	0x6e, 0x73, 0x65, 0x28, 0x01, 0x30, 0x01, 0x42, 0x12, 0x0a, 0x0e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x50, 0x01, 0x62, 0x06, 0x70, 0x72, 0x6f,
+	0x74, 0x6f, 0x33,
 }
 
 var (
@@ -262,23 +419,30 @@ func file_language_id_proto_rawDescGZIP() []byte {
 	return file_language_id_proto_rawDescData
 }
 
-var file_language_id_proto_msgTypes = make([]protoimpl.MessageInfo, 3)
+var file_language_id_proto_msgTypes = make([]protoimpl.MessageInfo, 5)
 var file_language_id_proto_goTypes = []interface{}{
-	(*LanguageIdRequest)(nil),  // 0: zemberek.langid.LanguageIdRequest
-	(*LanguageIdResponse)(nil), // 1: zemberek.langid.LanguageIdResponse
-	(*IdResult)(nil),           // 2: zemberek.langid.IdResult
+	(*LanguageIdRequest)(nil),       // 0: zemberek.langid.LanguageIdRequest
+	(*LanguageIdResponse)(nil),      // 1: zemberek.langid.LanguageIdResponse
+	(*IdResult)(nil),                // 2: zemberek.langid.IdResult
+	(*LanguageIdBatchRequest)(nil),  // 3: zemberek.langid.LanguageIdBatchRequest
+	(*LanguageIdBatchResponse)(nil), // 4: zemberek.langid.LanguageIdBatchResponse
 }
 var file_language_id_proto_depIdxs = []int32{
 	2, // 0: zemberek.langid.LanguageIdResponse.idResult:type_name -> zemberek.langid.IdResult
-	0, // 1: zemberek.langid.LanguageIdService.Detect:input_type -> zemberek.langid.LanguageIdRequest
-	0, // 2: zemberek.langid.LanguageIdService.DetectFast:input_type -> zemberek.langid.LanguageIdRequest
-	1, // 3: zemberek.langid.LanguageIdService.Detect:output_type -> zemberek.langid.LanguageIdResponse
-	1, // 4: zemberek.langid.LanguageIdService.DetectFast:output_type -> zemberek.langid.LanguageIdResponse
-	3, // [3:5] is the sub-list for method output_type
-	1, // [1:3] is the sub-list for method input_type
-	1, // [1:1] is the sub-list for extension type_name
-	1, // [1:1] is the sub-list for extension extendee
-	0, // [0:1] is the sub-list for field type_name
+	1, // 1: zemberek.langid.LanguageIdBatchResponse.results:type_name -> zemberek.langid.LanguageIdResponse
+	0, // 2: zemberek.langid.LanguageIdService.Detect:input_type -> zemberek.langid.LanguageIdRequest
+	0, // 3: zemberek.langid.LanguageIdService.DetectFast:input_type -> zemberek.langid.LanguageIdRequest
+	3, // 4: zemberek.langid.LanguageIdService.DetectBatch:input_type -> zemberek.langid.LanguageIdBatchRequest
+	0, // 5: zemberek.langid.LanguageIdService.DetectStream:input_type -> zemberek.langid.LanguageIdRequest
+	1, // 6: zemberek.langid.LanguageIdService.Detect:output_type -> zemberek.langid.LanguageIdResponse
+	1, // 7: zemberek.langid.LanguageIdService.DetectFast:output_type -> zemberek.langid.LanguageIdResponse
+	4, // 8: zemberek.langid.LanguageIdService.DetectBatch:output_type -> zemberek.langid.LanguageIdBatchResponse
+	1, // 9: zemberek.langid.LanguageIdService.DetectStream:output_type -> zemberek.langid.LanguageIdResponse
+	6, // [6:10] is the sub-list for method output_type
+	2, // [2:6] is the sub-list for method input_type
+	2, // [2:2] is the sub-list for extension type_name
+	2, // [2:2] is the sub-list for extension extendee
+	0, // [0:2] is the sub-list for field type_name
 }
 
 func init() { file_language_id_proto_init() }
@@ -323,6 +487,30 @@ func file_language_id_proto_init() {
 				return nil
 			}
 		}
+		file_language_id_proto_msgTypes[3].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*LanguageIdBatchRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_language_id_proto_msgTypes[4].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*LanguageIdBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
 	}
 	type x struct{}
 	out := protoimpl.TypeBuilder{
@@ -330,7 +518,7 @@ func file_language_id_proto_init() {
 			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
 			RawDescriptor: file_language_id_proto_rawDesc,
 			NumEnums:      0,
-			NumMessages:   3,
+			NumMessages:   5,
 			NumExtensions: 0,
 			NumServices:   1,
 		},
@@ -358,6 +546,9 @@ const _ = grpc.SupportPackageIsVersion6
 type LanguageIdServiceClient interface {
 	Detect(ctx context.Context, in *LanguageIdRequest, opts ...grpc.CallOption) (*LanguageIdResponse, error)
 	DetectFast(ctx context.Context, in *LanguageIdRequest, opts ...grpc.CallOption) (*LanguageIdResponse, error)
+	DetectBatch(ctx context.Context, in *LanguageIdBatchRequest, opts ...grpc.CallOption) (*LanguageIdBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	DetectStream(ctx context.Context, opts ...grpc.CallOption) (LanguageIdService_DetectStreamClient, error)
 }
 
 type languageIdServiceClient struct {
@@ -386,10 +577,53 @@ func (c *languageIdServiceClient) DetectFast(ctx context.Context, in *LanguageId
 	return out, nil
 }
 
+func (c *languageIdServiceClient) DetectBatch(ctx context.Context, in *LanguageIdBatchRequest, opts ...grpc.CallOption) (*LanguageIdBatchResponse, error) {
+	out := new(LanguageIdBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.langid.LanguageIdService/DetectBatch", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *languageIdServiceClient) DetectStream(ctx context.Context, opts ...grpc.CallOption) (LanguageIdService_DetectStreamClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_LanguageIdService_serviceDesc.Streams[0], "/zemberek.langid.LanguageIdService/DetectStream", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &languageIdServiceDetectStreamClient{stream}
+	return x, nil
+}
+
+type LanguageIdService_DetectStreamClient interface {
+	Send(*LanguageIdRequest) error
+	Recv() (*LanguageIdResponse, error)
+	grpc.ClientStream
+}
+
+type languageIdServiceDetectStreamClient struct {
+	grpc.ClientStream
+}
+
+func (x *languageIdServiceDetectStreamClient) Send(m *LanguageIdRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *languageIdServiceDetectStreamClient) Recv() (*LanguageIdResponse, error) {
+	m := new(LanguageIdResponse)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 // LanguageIdServiceServer is the server API for LanguageIdService service.
 type LanguageIdServiceServer interface {
 	Detect(context.Context, *LanguageIdRequest) (*LanguageIdResponse, error)
 	DetectFast(context.Context, *LanguageIdRequest) (*LanguageIdResponse, error)
+	DetectBatch(context.Context, *LanguageIdBatchRequest) (*LanguageIdBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	DetectStream(LanguageIdService_DetectStreamServer) error
 }
 
 // UnimplementedLanguageIdServiceServer can be embedded to have forward compatible implementations.
@@ -402,6 +636,12 @@ func (*UnimplementedLanguageIdServiceServer) Detect(context.Context, *LanguageId
 func (*UnimplementedLanguageIdServiceServer) DetectFast(context.Context, *LanguageIdRequest) (*LanguageIdResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method DetectFast not implemented")
 }
+func (*UnimplementedLanguageIdServiceServer) DetectBatch(context.Context, *LanguageIdBatchRequest) (*LanguageIdBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method DetectBatch not implemented")
+}
+func (*UnimplementedLanguageIdServiceServer) DetectStream(LanguageIdService_DetectStreamServer) error {
+	return status.Errorf(codes.Unimplemented, "method DetectStream not implemented")
+}
 
 func RegisterLanguageIdServiceServer(s *grpc.Server, srv LanguageIdServiceServer) {
 	s.RegisterService(&_LanguageIdService_serviceDesc, srv)
@@ -443,6 +683,50 @@ func _LanguageIdService_DetectFast_Handler(srv interface{}, ctx context.Context,
 	return interceptor(ctx, in, info, handler)
 }
 
+func _LanguageIdService_DetectBatch_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(LanguageIdBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(LanguageIdServiceServer).DetectBatch(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.langid.LanguageIdService/DetectBatch",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(LanguageIdServiceServer).DetectBatch(ctx, req.(*LanguageIdBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _LanguageIdService_DetectStream_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(LanguageIdServiceServer).DetectStream(&languageIdServiceDetectStreamServer{stream})
+}
+
+type LanguageIdService_DetectStreamServer interface {
+	Send(*LanguageIdResponse) error
+	Recv() (*LanguageIdRequest, error)
+	grpc.ServerStream
+}
+
+type languageIdServiceDetectStreamServer struct {
+	grpc.ServerStream
+}
+
+func (x *languageIdServiceDetectStreamServer) Send(m *LanguageIdResponse) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *languageIdServiceDetectStreamServer) Recv() (*LanguageIdRequest, error) {
+	m := new(LanguageIdRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 var _LanguageIdService_serviceDesc = grpc.ServiceDesc{
 	ServiceName: "zemberek.langid.LanguageIdService",
 	HandlerType: (*LanguageIdServiceServer)(nil),
@@ -455,7 +739,18 @@ var _LanguageIdService_serviceDesc = grpc.ServiceDesc{
 			MethodName: "DetectFast",
 			Handler:    _LanguageIdService_DetectFast_Handler,
 		},
+		{
+			MethodName: "DetectBatch",
+			Handler:    _LanguageIdService_DetectBatch_Handler,
+		},
+	},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "DetectStream",
+			Handler:       _LanguageIdService_DetectStream_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
 	},
-	Streams:  []grpc.StreamDesc{},
 	Metadata: "language_id.proto",
-}
\ No newline at end of file
+}
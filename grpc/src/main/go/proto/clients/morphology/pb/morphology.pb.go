@@ -9,6 +9,7 @@ package pb
 import (
 	context "context"
 	proto "github.com/golang/protobuf/proto"
+	field_mask "google.golang.org/genproto/protobuf/field_mask"
 	grpc "google.golang.org/grpc"
 	codes "google.golang.org/grpc/codes"
 	status "google.golang.org/grpc/status"
@@ -36,6 +37,9 @@ type WordAnalysisRequest struct {
 	unknownFields protoimpl.UnknownFields
 
 	Input string `protobuf:"bytes,1,opt,name=input,proto3" json:"input,omitempty"`
+	// if not empty, only these fields of SingleAnalysisProto are included. Like
+	// paths: ["pos", "lemmas"]
+	AnalysisMask *field_mask.FieldMask `protobuf:"bytes,2,opt,name=analysisMask,proto3" json:"analysisMask,omitempty"`
 }
 
 func (x *WordAnalysisRequest) Reset() {
@@ -77,6 +81,13 @@ func (x *WordAnalysisRequest) GetInput() string {
 	return ""
 }
 
+func (x *WordAnalysisRequest) GetAnalysisMask() *field_mask.FieldMask {
+	if x != nil {
+		return x.AnalysisMask
+	}
+	return nil
+}
+
 // A dictionary item. Lemma and pos values are provided.
 // TODO: POS values should be enums.
 type DictionaryItemProto struct {
@@ -87,6 +98,8 @@ type DictionaryItemProto struct {
 	Lemma        string `protobuf:"bytes,1,opt,name=lemma,proto3" json:"lemma,omitempty"`
 	PrimaryPos   string `protobuf:"bytes,2,opt,name=primaryPos,proto3" json:"primaryPos,omitempty"`
 	SecondaryPos string `protobuf:"bytes,3,opt,name=secondaryPos,proto3" json:"secondaryPos,omitempty"`
+	// only set in lexicon table responses.
+	Id string `protobuf:"bytes,4,opt,name=id,proto3" json:"id,omitempty"`
 }
 
 func (x *DictionaryItemProto) Reset() {
@@ -142,6 +155,13 @@ func (x *DictionaryItemProto) GetSecondaryPos() string {
 	return ""
 }
 
+func (x *DictionaryItemProto) GetId() string {
+	if x != nil {
+		return x.Id
+	}
+	return ""
+}
+
 // represents a single morphological analysis result.
 type SingleAnalysisProto struct {
 	state         protoimpl.MessageState
@@ -370,6 +390,8 @@ type SentenceAnalysisRequest struct {
 	// if [true], all analyses of all tokens will be included in the response
 	// else, only the best analysis will be used.
 	ContainAllAnalyses bool `protobuf:"varint,2,opt,name=containAllAnalyses,proto3" json:"containAllAnalyses,omitempty"`
+	// if not empty, only these fields of SingleAnalysisProto are included.
+	AnalysisMask *field_mask.FieldMask `protobuf:"bytes,3,opt,name=analysisMask,proto3" json:"analysisMask,omitempty"`
 }
 
 func (x *SentenceAnalysisRequest) Reset() {
@@ -418,6 +440,13 @@ func (x *SentenceAnalysisRequest) GetContainAllAnalyses() bool {
 	return false
 }
 
+func (x *SentenceAnalysisRequest) GetAnalysisMask() *field_mask.FieldMask {
+	if x != nil {
+		return x.AnalysisMask
+	}
+	return nil
+}
+
 type SentenceAnalysisProto struct {
 	state         protoimpl.MessageState
 	sizeCache     protoimpl.SizeCache
@@ -540,327 +569,1563 @@ func (x *SentenceWordAnalysisProto) GetAll() *WordAnalysisProto {
 	return nil
 }
 
-var File_morphology_proto protoreflect.FileDescriptor
+// Morphological analysis request for multiple words.
+type WordAnalysisBatchRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
 
-var file_morphology_proto_rawDesc = []byte{
-	0x0a, 0x10, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x70, 0x72, 0x6f,
-	0x74, 0x6f, 0x12, 0x13, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72,
-	0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x22, 0x2b, 0x0a, 0x13, 0x57, 0x6f, 0x72, 0x64, 0x41,
-	0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x14,
-	0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x69,
-	0x6e, 0x70, 0x75, 0x74, 0x22, 0x6f, 0x0a, 0x13, 0x44, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61,
-	0x72, 0x79, 0x49, 0x74, 0x65, 0x6d, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x6c,
-	0x65, 0x6d, 0x6d, 0x61, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x6c, 0x65, 0x6d, 0x6d,
-	0x61, 0x12, 0x1e, 0x0a, 0x0a, 0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79, 0x50, 0x6f, 0x73, 0x18,
-	0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0a, 0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79, 0x50, 0x6f,
-	0x73, 0x12, 0x22, 0x0a, 0x0c, 0x73, 0x65, 0x63, 0x6f, 0x6e, 0x64, 0x61, 0x72, 0x79, 0x50, 0x6f,
-	0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c, 0x73, 0x65, 0x63, 0x6f, 0x6e, 0x64, 0x61,
-	0x72, 0x79, 0x50, 0x6f, 0x73, 0x22, 0xa9, 0x02, 0x0a, 0x13, 0x53, 0x69, 0x6e, 0x67, 0x6c, 0x65,
-	0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x10, 0x0a,
-	0x03, 0x70, 0x6f, 0x73, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x03, 0x70, 0x6f, 0x73, 0x12,
-	0x50, 0x0a, 0x0e, 0x64, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65,
-	0x6d, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
-	0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x44, 0x69,
-	0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65, 0x6d, 0x50, 0x72, 0x6f, 0x74,
-	0x6f, 0x52, 0x0e, 0x64, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65,
-	0x6d, 0x12, 0x1a, 0x0a, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x18, 0x03, 0x20,
-	0x01, 0x28, 0x09, 0x52, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x12, 0x1a, 0x0a,
-	0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x18, 0x04, 0x20, 0x01, 0x28, 0x08, 0x52,
-	0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x12, 0x18, 0x0a, 0x07, 0x72, 0x75, 0x6e,
-	0x74, 0x69, 0x6d, 0x65, 0x18, 0x05, 0x20, 0x01, 0x28, 0x08, 0x52, 0x07, 0x72, 0x75, 0x6e, 0x74,
-	0x69, 0x6d, 0x65, 0x12, 0x16, 0x0a, 0x06, 0x6c, 0x65, 0x6d, 0x6d, 0x61, 0x73, 0x18, 0x06, 0x20,
-	0x03, 0x28, 0x09, 0x52, 0x06, 0x6c, 0x65, 0x6d, 0x6d, 0x61, 0x73, 0x12, 0x44, 0x0a, 0x09, 0x6d,
-	0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x73, 0x18, 0x07, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x26,
-	0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f,
-	0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x44, 0x61, 0x74,
-	0x61, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65,
-	0x73, 0x22, 0x49, 0x0a, 0x11, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x44, 0x61, 0x74,
-	0x61, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x18, 0x0a, 0x07, 0x73, 0x75, 0x72, 0x66, 0x61, 0x63,
-	0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x07, 0x73, 0x75, 0x72, 0x66, 0x61, 0x63, 0x65,
-	0x12, 0x1a, 0x0a, 0x08, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x18, 0x02, 0x20, 0x01,
-	0x28, 0x09, 0x52, 0x08, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x22, 0x6f, 0x0a, 0x11,
-	0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74,
-	0x6f, 0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09,
-	0x52, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x12, 0x44, 0x0a, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79,
-	0x73, 0x65, 0x73, 0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
-	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
-	0x53, 0x69, 0x6e, 0x67, 0x6c, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72,
-	0x6f, 0x74, 0x6f, 0x52, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x22, 0x5f, 0x0a,
-	0x17, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69,
-	0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75,
-	0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x12, 0x2e,
-	0x0a, 0x12, 0x63, 0x6f, 0x6e, 0x74, 0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c, 0x41, 0x6e, 0x61, 0x6c,
-	0x79, 0x73, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x08, 0x52, 0x12, 0x63, 0x6f, 0x6e, 0x74,
-	0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x22, 0x77,
-	0x0a, 0x15, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73,
-	0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74,
-	0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x12, 0x48, 0x0a,
-	0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x2e,
-	0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f,
-	0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x57, 0x6f, 0x72,
-	0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x07,
-	0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0xa9, 0x01, 0x0a, 0x19, 0x53, 0x65, 0x6e, 0x74,
-	0x65, 0x6e, 0x63, 0x65, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73,
-	0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x74, 0x6f, 0x6b, 0x65, 0x6e, 0x18, 0x01,
-	0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x74, 0x6f, 0x6b, 0x65, 0x6e, 0x12, 0x3c, 0x0a, 0x04, 0x62,
-	0x65, 0x73, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
-	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
-	0x53, 0x69, 0x6e, 0x67, 0x6c, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72,
-	0x6f, 0x74, 0x6f, 0x52, 0x04, 0x62, 0x65, 0x73, 0x74, 0x12, 0x38, 0x0a, 0x03, 0x61, 0x6c, 0x6c,
-	0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65,
-	0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72,
-	0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x03,
-	0x61, 0x6c, 0x6c, 0x32, 0xe1, 0x01, 0x0a, 0x11, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f,
-	0x67, 0x79, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x6b, 0x0a, 0x0f, 0x41, 0x6e, 0x61,
-	0x6c, 0x79, 0x7a, 0x65, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x12, 0x2c, 0x2e, 0x7a,
-	0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f,
-	0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79,
-	0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2a, 0x2e, 0x7a, 0x65, 0x6d,
-	0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79,
-	0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69,
-	0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x5f, 0x0a, 0x0b, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a,
-	0x65, 0x57, 0x6f, 0x72, 0x64, 0x12, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
-	0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64,
-	0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a,
-	0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68,
-	0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73,
-	0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x42, 0x1d, 0x0a, 0x19, 0x7a, 0x65, 0x6d, 0x62, 0x65,
-	0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f,
-	0x6c, 0x6f, 0x67, 0x79, 0x50, 0x01, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
+	Inputs []string `protobuf:"bytes,1,rep,name=inputs,proto3" json:"inputs,omitempty"`
+	// See WordAnalysisRequest.
+	AnalysisMask *field_mask.FieldMask `protobuf:"bytes,2,opt,name=analysisMask,proto3" json:"analysisMask,omitempty"`
 }
 
-var (
-	file_morphology_proto_rawDescOnce sync.Once
-	file_morphology_proto_rawDescData = file_morphology_proto_rawDesc
-)
-
-func file_morphology_proto_rawDescGZIP() []byte {
-	file_morphology_proto_rawDescOnce.Do(func() {
-		file_morphology_proto_rawDescData = protoimpl.X.CompressGZIP(file_morphology_proto_rawDescData)
-	})
-	return file_morphology_proto_rawDescData
+func (x *WordAnalysisBatchRequest) Reset() {
+	*x = WordAnalysisBatchRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[8]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
 }
 
-var file_morphology_proto_msgTypes = make([]protoimpl.MessageInfo, 8)
-var file_morphology_proto_goTypes = []interface{}{
-	(*WordAnalysisRequest)(nil),       // 0: zemberek.morphology.WordAnalysisRequest
-	(*DictionaryItemProto)(nil),       // 1: zemberek.morphology.DictionaryItemProto
-	(*SingleAnalysisProto)(nil),       // 2: zemberek.morphology.SingleAnalysisProto
-	(*MorphemeDataProto)(nil),         // 3: zemberek.morphology.MorphemeDataProto
-	(*WordAnalysisProto)(nil),         // 4: zemberek.morphology.WordAnalysisProto
-	(*SentenceAnalysisRequest)(nil),   // 5: zemberek.morphology.SentenceAnalysisRequest
-	(*SentenceAnalysisProto)(nil),     // 6: zemberek.morphology.SentenceAnalysisProto
-	(*SentenceWordAnalysisProto)(nil), // 7: zemberek.morphology.SentenceWordAnalysisProto
-}
-var file_morphology_proto_depIdxs = []int32{
-	1, // 0: zemberek.morphology.SingleAnalysisProto.dictionaryItem:type_name -> zemberek.morphology.DictionaryItemProto
-	3, // 1: zemberek.morphology.SingleAnalysisProto.morphemes:type_name -> zemberek.morphology.MorphemeDataProto
-	2, // 2: zemberek.morphology.WordAnalysisProto.analyses:type_name -> zemberek.morphology.SingleAnalysisProto
-	7, // 3: zemberek.morphology.SentenceAnalysisProto.results:type_name -> zemberek.morphology.SentenceWordAnalysisProto
-	2, // 4: zemberek.morphology.SentenceWordAnalysisProto.best:type_name -> zemberek.morphology.SingleAnalysisProto
-	4, // 5: zemberek.morphology.SentenceWordAnalysisProto.all:type_name -> zemberek.morphology.WordAnalysisProto
-	5, // 6: zemberek.morphology.MorphologyService.AnalyzeSentence:input_type -> zemberek.morphology.SentenceAnalysisRequest
-	0, // 7: zemberek.morphology.MorphologyService.AnalyzeWord:input_type -> zemberek.morphology.WordAnalysisRequest
-	6, // 8: zemberek.morphology.MorphologyService.AnalyzeSentence:output_type -> zemberek.morphology.SentenceAnalysisProto
-	4, // 9: zemberek.morphology.MorphologyService.AnalyzeWord:output_type -> zemberek.morphology.WordAnalysisProto
-	8, // [8:10] is the sub-list for method output_type
-	6, // [6:8] is the sub-list for method input_type
-	6, // [6:6] is the sub-list for extension type_name
-	6, // [6:6] is the sub-list for extension extendee
-	0, // [0:6] is the sub-list for field type_name
+func (x *WordAnalysisBatchRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
 }
 
-func init() { file_morphology_proto_init() }
-func file_morphology_proto_init() {
-	if File_morphology_proto != nil {
-		return
-	}
-	if !protoimpl.UnsafeEnabled {
-		file_morphology_proto_msgTypes[0].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*WordAnalysisRequest); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[1].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*DictionaryItemProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[2].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*SingleAnalysisProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[3].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*MorphemeDataProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[4].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*WordAnalysisProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[5].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*SentenceAnalysisRequest); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[6].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*SentenceAnalysisProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
-		}
-		file_morphology_proto_msgTypes[7].Exporter = func(v interface{}, i int) interface{} {
-			switch v := v.(*SentenceWordAnalysisProto); i {
-			case 0:
-				return &v.state
-			case 1:
-				return &v.sizeCache
-			case 2:
-				return &v.unknownFields
-			default:
-				return nil
-			}
+func (*WordAnalysisBatchRequest) ProtoMessage() {}
+
+func (x *WordAnalysisBatchRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[8]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
 		}
+		return ms
 	}
-	type x struct{}
-	out := protoimpl.TypeBuilder{
-		File: protoimpl.DescBuilder{
-			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
-			RawDescriptor: file_morphology_proto_rawDesc,
-			NumEnums:      0,
-			NumMessages:   8,
-			NumExtensions: 0,
-			NumServices:   1,
-		},
-		GoTypes:           file_morphology_proto_goTypes,
-		DependencyIndexes: file_morphology_proto_depIdxs,
-		MessageInfos:      file_morphology_proto_msgTypes,
-	}.Build()
-	File_morphology_proto = out.File
-	file_morphology_proto_rawDesc = nil
-	file_morphology_proto_goTypes = nil
-	file_morphology_proto_depIdxs = nil
+	return mi.MessageOf(x)
 }
 
-// Reference imports to suppress errors if they are not otherwise used.
-var _ context.Context
-var _ grpc.ClientConnInterface
-
-// This is a compile-time assertion to ensure that this generated file
-// is compatible with the grpc package it is being compiled against.
-const _ = grpc.SupportPackageIsVersion6
+// Deprecated: Use WordAnalysisBatchRequest.ProtoReflect.Descriptor instead.
+func (*WordAnalysisBatchRequest) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{8}
+}
 
-// MorphologyServiceClient is the client API for MorphologyService service.
-//
-// For semantics around ctx use and closing/ending streaming RPCs, please refer to https://godoc.org/google.golang.org/grpc#ClientConn.NewStream.
-type MorphologyServiceClient interface {
-	AnalyzeSentence(ctx context.Context, in *SentenceAnalysisRequest, opts ...grpc.CallOption) (*SentenceAnalysisProto, error)
-	AnalyzeWord(ctx context.Context, in *WordAnalysisRequest, opts ...grpc.CallOption) (*WordAnalysisProto, error)
+func (x *WordAnalysisBatchRequest) GetInputs() []string {
+	if x != nil {
+		return x.Inputs
+	}
+	return nil
 }
 
-type morphologyServiceClient struct {
-	cc grpc.ClientConnInterface
+func (x *WordAnalysisBatchRequest) GetAnalysisMask() *field_mask.FieldMask {
+	if x != nil {
+		return x.AnalysisMask
+	}
+	return nil
 }
 
-func NewMorphologyServiceClient(cc grpc.ClientConnInterface) MorphologyServiceClient {
-	return &morphologyServiceClient{cc}
+// Contains analyses of all words, in request order.
+type WordAnalysisBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Results []*WordAnalysisProto `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
 }
 
-func (c *morphologyServiceClient) AnalyzeSentence(ctx context.Context, in *SentenceAnalysisRequest, opts ...grpc.CallOption) (*SentenceAnalysisProto, error) {
-	out := new(SentenceAnalysisProto)
-	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeSentence", in, out, opts...)
-	if err != nil {
-		return nil, err
+func (x *WordAnalysisBatchResponse) Reset() {
+	*x = WordAnalysisBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[9]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
 	}
-	return out, nil
 }
 
-func (c *morphologyServiceClient) AnalyzeWord(ctx context.Context, in *WordAnalysisRequest, opts ...grpc.CallOption) (*WordAnalysisProto, error) {
-	out := new(WordAnalysisProto)
-	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeWord", in, out, opts...)
-	if err != nil {
-		return nil, err
+func (x *WordAnalysisBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*WordAnalysisBatchResponse) ProtoMessage() {}
+
+func (x *WordAnalysisBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[9]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
 	}
-	return out, nil
+	return mi.MessageOf(x)
 }
 
-// MorphologyServiceServer is the server API for MorphologyService service.
-type MorphologyServiceServer interface {
-	AnalyzeSentence(context.Context, *SentenceAnalysisRequest) (*SentenceAnalysisProto, error)
-	AnalyzeWord(context.Context, *WordAnalysisRequest) (*WordAnalysisProto, error)
+// Deprecated: Use WordAnalysisBatchResponse.ProtoReflect.Descriptor instead.
+func (*WordAnalysisBatchResponse) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{9}
 }
 
-// UnimplementedMorphologyServiceServer can be embedded to have forward compatible implementations.
-type UnimplementedMorphologyServiceServer struct {
+func (x *WordAnalysisBatchResponse) GetResults() []*WordAnalysisProto {
+	if x != nil {
+		return x.Results
+	}
+	return nil
 }
 
-func (*UnimplementedMorphologyServiceServer) AnalyzeSentence(context.Context, *SentenceAnalysisRequest) (*SentenceAnalysisProto, error) {
-	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeSentence not implemented")
+// Sentence analysis request for multiple sentences.
+type SentenceAnalysisBatchRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// sentences.
+	Inputs []string `protobuf:"bytes,1,rep,name=inputs,proto3" json:"inputs,omitempty"`
+	// applies to all sentences. See SentenceAnalysisRequest.
+	ContainAllAnalyses bool                  `protobuf:"varint,2,opt,name=containAllAnalyses,proto3" json:"containAllAnalyses,omitempty"`
+	AnalysisMask       *field_mask.FieldMask `protobuf:"bytes,3,opt,name=analysisMask,proto3" json:"analysisMask,omitempty"`
 }
-func (*UnimplementedMorphologyServiceServer) AnalyzeWord(context.Context, *WordAnalysisRequest) (*WordAnalysisProto, error) {
-	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeWord not implemented")
+
+func (x *SentenceAnalysisBatchRequest) Reset() {
+	*x = SentenceAnalysisBatchRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[10]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
 }
 
-func RegisterMorphologyServiceServer(s *grpc.Server, srv MorphologyServiceServer) {
-	s.RegisterService(&_MorphologyService_serviceDesc, srv)
+func (x *SentenceAnalysisBatchRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
 }
 
-func _MorphologyService_AnalyzeSentence_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
-	in := new(SentenceAnalysisRequest)
-	if err := dec(in); err != nil {
-		return nil, err
-	}
+func (*SentenceAnalysisBatchRequest) ProtoMessage() {}
+
+func (x *SentenceAnalysisBatchRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[10]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use SentenceAnalysisBatchRequest.ProtoReflect.Descriptor instead.
+func (*SentenceAnalysisBatchRequest) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{10}
+}
+
+func (x *SentenceAnalysisBatchRequest) GetInputs() []string {
+	if x != nil {
+		return x.Inputs
+	}
+	return nil
+}
+
+func (x *SentenceAnalysisBatchRequest) GetContainAllAnalyses() bool {
+	if x != nil {
+		return x.ContainAllAnalyses
+	}
+	return false
+}
+
+func (x *SentenceAnalysisBatchRequest) GetAnalysisMask() *field_mask.FieldMask {
+	if x != nil {
+		return x.AnalysisMask
+	}
+	return nil
+}
+
+// Contains analyses of all sentences, in request order.
+type SentenceAnalysisBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Results []*SentenceAnalysisProto `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *SentenceAnalysisBatchResponse) Reset() {
+	*x = SentenceAnalysisBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[11]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *SentenceAnalysisBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*SentenceAnalysisBatchResponse) ProtoMessage() {}
+
+func (x *SentenceAnalysisBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[11]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use SentenceAnalysisBatchResponse.ProtoReflect.Descriptor instead.
+func (*SentenceAnalysisBatchResponse) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{11}
+}
+
+func (x *SentenceAnalysisBatchResponse) GetResults() []*SentenceAnalysisProto {
+	if x != nil {
+		return x.Results
+	}
+	return nil
+}
+
+// Compact analysis representation. Dictionary items, morphemes and POS values are sent as indexes
+// to the tables that clients fetch once with GetAnalysisTables and GetLexicon calls.
+type CompactAnalysisProto struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// index of the dictionary item in the lexicon table. If item is not in the lexicon (like for
+	// unknown proper nouns or numbers) this is -1 and item is in runtimeItem.
+	Item        int32                `protobuf:"varint,1,opt,name=item,proto3" json:"item,omitempty"`
+	RuntimeItem *DictionaryItemProto `protobuf:"bytes,2,opt,name=runtimeItem,proto3" json:"runtimeItem,omitempty"`
+	// index of the POS of the whole word in the primaryPos table.
+	Pos int32 `protobuf:"varint,3,opt,name=pos,proto3" json:"pos,omitempty"`
+	// indexes of the morphemes in the morpheme table.
+	Morphemes []int32 `protobuf:"varint,4,rep,packed,name=morphemes,proto3" json:"morphemes,omitempty"`
+	// lengths of the surfaces of the morphemes. Surfaces are consecutive parts of the surface.
+	SurfaceLengths []int32 `protobuf:"varint,5,rep,packed,name=surfaceLengths,proto3" json:"surfaceLengths,omitempty"`
+	// concatenated surfaces of the morphemes. Empty if it is same as the input word.
+	Surface  string `protobuf:"bytes,6,opt,name=surface,proto3" json:"surface,omitempty"`
+	Informal bool   `protobuf:"varint,7,opt,name=informal,proto3" json:"informal,omitempty"`
+	Runtime  bool   `protobuf:"varint,8,opt,name=runtime,proto3" json:"runtime,omitempty"`
+}
+
+func (x *CompactAnalysisProto) Reset() {
+	*x = CompactAnalysisProto{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[12]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *CompactAnalysisProto) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompactAnalysisProto) ProtoMessage() {}
+
+func (x *CompactAnalysisProto) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[12]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompactAnalysisProto.ProtoReflect.Descriptor instead.
+func (*CompactAnalysisProto) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{12}
+}
+
+func (x *CompactAnalysisProto) GetItem() int32 {
+	if x != nil {
+		return x.Item
+	}
+	return 0
+}
+
+func (x *CompactAnalysisProto) GetRuntimeItem() *DictionaryItemProto {
+	if x != nil {
+		return x.RuntimeItem
+	}
+	return nil
+}
+
+func (x *CompactAnalysisProto) GetPos() int32 {
+	if x != nil {
+		return x.Pos
+	}
+	return 0
+}
+
+func (x *CompactAnalysisProto) GetMorphemes() []int32 {
+	if x != nil {
+		return x.Morphemes
+	}
+	return nil
+}
+
+func (x *CompactAnalysisProto) GetSurfaceLengths() []int32 {
+	if x != nil {
+		return x.SurfaceLengths
+	}
+	return nil
+}
+
+func (x *CompactAnalysisProto) GetSurface() string {
+	if x != nil {
+		return x.Surface
+	}
+	return ""
+}
+
+func (x *CompactAnalysisProto) GetInformal() bool {
+	if x != nil {
+		return x.Informal
+	}
+	return false
+}
+
+func (x *CompactAnalysisProto) GetRuntime() bool {
+	if x != nil {
+		return x.Runtime
+	}
+	return false
+}
+
+type CompactWordProto struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Token string `protobuf:"bytes,1,opt,name=token,proto3" json:"token,omitempty"`
+	// all analyses of the word. Only set if all analyses are requested.
+	Analyses []*CompactAnalysisProto `protobuf:"bytes,2,rep,name=analyses,proto3" json:"analyses,omitempty"`
+	// index of the best analysis in analyses if all analyses are requested.
+	BestIndex int32 `protobuf:"varint,3,opt,name=bestIndex,proto3" json:"bestIndex,omitempty"`
+	// best analysis, only set if all analyses are not requested.
+	Best *CompactAnalysisProto `protobuf:"bytes,4,opt,name=best,proto3" json:"best,omitempty"`
+}
+
+func (x *CompactWordProto) Reset() {
+	*x = CompactWordProto{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[13]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *CompactWordProto) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompactWordProto) ProtoMessage() {}
+
+func (x *CompactWordProto) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[13]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompactWordProto.ProtoReflect.Descriptor instead.
+func (*CompactWordProto) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{13}
+}
+
+func (x *CompactWordProto) GetToken() string {
+	if x != nil {
+		return x.Token
+	}
+	return ""
+}
+
+func (x *CompactWordProto) GetAnalyses() []*CompactAnalysisProto {
+	if x != nil {
+		return x.Analyses
+	}
+	return nil
+}
+
+func (x *CompactWordProto) GetBestIndex() int32 {
+	if x != nil {
+		return x.BestIndex
+	}
+	return 0
+}
+
+func (x *CompactWordProto) GetBest() *CompactAnalysisProto {
+	if x != nil {
+		return x.Best
+	}
+	return nil
+}
+
+type CompactSentenceAnalysisProto struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Words []*CompactWordProto `protobuf:"bytes,1,rep,name=words,proto3" json:"words,omitempty"`
+}
+
+func (x *CompactSentenceAnalysisProto) Reset() {
+	*x = CompactSentenceAnalysisProto{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[14]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *CompactSentenceAnalysisProto) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompactSentenceAnalysisProto) ProtoMessage() {}
+
+func (x *CompactSentenceAnalysisProto) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[14]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompactSentenceAnalysisProto.ProtoReflect.Descriptor instead.
+func (*CompactSentenceAnalysisProto) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{14}
+}
+
+func (x *CompactSentenceAnalysisProto) GetWords() []*CompactWordProto {
+	if x != nil {
+		return x.Words
+	}
+	return nil
+}
+
+type CompactSentenceAnalysisBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// results in request order.
+	Results []*CompactSentenceAnalysisProto `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+	// identifier of the lexicon table the item indexes refer to.
+	LexiconId string `protobuf:"bytes,2,opt,name=lexiconId,proto3" json:"lexiconId,omitempty"`
+}
+
+func (x *CompactSentenceAnalysisBatchResponse) Reset() {
+	*x = CompactSentenceAnalysisBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[15]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *CompactSentenceAnalysisBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*CompactSentenceAnalysisBatchResponse) ProtoMessage() {}
+
+func (x *CompactSentenceAnalysisBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[15]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use CompactSentenceAnalysisBatchResponse.ProtoReflect.Descriptor instead.
+func (*CompactSentenceAnalysisBatchResponse) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{15}
+}
+
+func (x *CompactSentenceAnalysisBatchResponse) GetResults() []*CompactSentenceAnalysisProto {
+	if x != nil {
+		return x.Results
+	}
+	return nil
+}
+
+func (x *CompactSentenceAnalysisBatchResponse) GetLexiconId() string {
+	if x != nil {
+		return x.LexiconId
+	}
+	return ""
+}
+
+type AnalysisTablesRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+}
+
+func (x *AnalysisTablesRequest) Reset() {
+	*x = AnalysisTablesRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[16]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *AnalysisTablesRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*AnalysisTablesRequest) ProtoMessage() {}
+
+func (x *AnalysisTablesRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[16]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use AnalysisTablesRequest.ProtoReflect.Descriptor instead.
+func (*AnalysisTablesRequest) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{16}
+}
+
+type AnalysisTablesResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// morpheme ids like "A3pl". Indexes are used in compact analyses.
+	Morphemes []string `protobuf:"bytes,1,rep,name=morphemes,proto3" json:"morphemes,omitempty"`
+	// primary POS short forms.
+	PrimaryPos  []string `protobuf:"bytes,2,rep,name=primaryPos,proto3" json:"primaryPos,omitempty"`
+	LexiconSize int32    `protobuf:"varint,3,opt,name=lexiconSize,proto3" json:"lexiconSize,omitempty"`
+	// changes when lexicon of the server changes.
+	LexiconId string `protobuf:"bytes,4,opt,name=lexiconId,proto3" json:"lexiconId,omitempty"`
+}
+
+func (x *AnalysisTablesResponse) Reset() {
+	*x = AnalysisTablesResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[17]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *AnalysisTablesResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*AnalysisTablesResponse) ProtoMessage() {}
+
+func (x *AnalysisTablesResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[17]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use AnalysisTablesResponse.ProtoReflect.Descriptor instead.
+func (*AnalysisTablesResponse) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{17}
+}
+
+func (x *AnalysisTablesResponse) GetMorphemes() []string {
+	if x != nil {
+		return x.Morphemes
+	}
+	return nil
+}
+
+func (x *AnalysisTablesResponse) GetPrimaryPos() []string {
+	if x != nil {
+		return x.PrimaryPos
+	}
+	return nil
+}
+
+func (x *AnalysisTablesResponse) GetLexiconSize() int32 {
+	if x != nil {
+		return x.LexiconSize
+	}
+	return 0
+}
+
+func (x *AnalysisTablesResponse) GetLexiconId() string {
+	if x != nil {
+		return x.LexiconId
+	}
+	return ""
+}
+
+type LexiconRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// index of the first item.
+	Start int32 `protobuf:"varint,1,opt,name=start,proto3" json:"start,omitempty"`
+	// amount of items to return.
+	Count int32 `protobuf:"varint,2,opt,name=count,proto3" json:"count,omitempty"`
+}
+
+func (x *LexiconRequest) Reset() {
+	*x = LexiconRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[18]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *LexiconRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*LexiconRequest) ProtoMessage() {}
+
+func (x *LexiconRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[18]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use LexiconRequest.ProtoReflect.Descriptor instead.
+func (*LexiconRequest) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{18}
+}
+
+func (x *LexiconRequest) GetStart() int32 {
+	if x != nil {
+		return x.Start
+	}
+	return 0
+}
+
+func (x *LexiconRequest) GetCount() int32 {
+	if x != nil {
+		return x.Count
+	}
+	return 0
+}
+
+type LexiconResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	// items in table order, starting from the requested index.
+	Items       []*DictionaryItemProto `protobuf:"bytes,1,rep,name=items,proto3" json:"items,omitempty"`
+	LexiconSize int32                  `protobuf:"varint,2,opt,name=lexiconSize,proto3" json:"lexiconSize,omitempty"`
+	LexiconId   string                 `protobuf:"bytes,3,opt,name=lexiconId,proto3" json:"lexiconId,omitempty"`
+}
+
+func (x *LexiconResponse) Reset() {
+	*x = LexiconResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_morphology_proto_msgTypes[19]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *LexiconResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*LexiconResponse) ProtoMessage() {}
+
+func (x *LexiconResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_morphology_proto_msgTypes[19]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use LexiconResponse.ProtoReflect.Descriptor instead.
+func (*LexiconResponse) Descriptor() ([]byte, []int) {
+	return file_morphology_proto_rawDescGZIP(), []int{19}
+}
+
+func (x *LexiconResponse) GetItems() []*DictionaryItemProto {
+	if x != nil {
+		return x.Items
+	}
+	return nil
+}
+
+func (x *LexiconResponse) GetLexiconSize() int32 {
+	if x != nil {
+		return x.LexiconSize
+	}
+	return 0
+}
+
+func (x *LexiconResponse) GetLexiconId() string {
+	if x != nil {
+		return x.LexiconId
+	}
+	return ""
+}
+
+var File_morphology_proto protoreflect.FileDescriptor
+
+var file_morphology_proto_rawDesc = []byte{
+	0x0a, 0x10, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x70, 0x72, 0x6f,
+	0x74, 0x6f, 0x12, 0x13, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72,
+	0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x1a, 0x20, 0x67, 0x6f, 0x6f, 0x67, 0x6c, 0x65, 0x2f,
+	0x70, 0x72, 0x6f, 0x74, 0x6f, 0x62, 0x75, 0x66, 0x2f, 0x66, 0x69, 0x65, 0x6c, 0x64, 0x5f, 0x6d,
+	0x61, 0x73, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x22, 0x6b, 0x0a, 0x13, 0x57, 0x6f, 0x72,
+	0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+	0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52,
+	0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x12, 0x3e, 0x0a, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73,
+	0x69, 0x73, 0x4d, 0x61, 0x73, 0x6b, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x1a, 0x2e, 0x67,
+	0x6f, 0x6f, 0x67, 0x6c, 0x65, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x62, 0x75, 0x66, 0x2e, 0x46,
+	0x69, 0x65, 0x6c, 0x64, 0x4d, 0x61, 0x73, 0x6b, 0x52, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73,
+	0x69, 0x73, 0x4d, 0x61, 0x73, 0x6b, 0x22, 0x7f, 0x0a, 0x13, 0x44, 0x69, 0x63, 0x74, 0x69, 0x6f,
+	0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65, 0x6d, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a,
+	0x05, 0x6c, 0x65, 0x6d, 0x6d, 0x61, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x6c, 0x65,
+	0x6d, 0x6d, 0x61, 0x12, 0x1e, 0x0a, 0x0a, 0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79, 0x50, 0x6f,
+	0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0a, 0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79,
+	0x50, 0x6f, 0x73, 0x12, 0x22, 0x0a, 0x0c, 0x73, 0x65, 0x63, 0x6f, 0x6e, 0x64, 0x61, 0x72, 0x79,
+	0x50, 0x6f, 0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0c, 0x73, 0x65, 0x63, 0x6f, 0x6e,
+	0x64, 0x61, 0x72, 0x79, 0x50, 0x6f, 0x73, 0x12, 0x0e, 0x0a, 0x02, 0x69, 0x64, 0x18, 0x04, 0x20,
+	0x01, 0x28, 0x09, 0x52, 0x02, 0x69, 0x64, 0x22, 0xa9, 0x02, 0x0a, 0x13, 0x53, 0x69, 0x6e, 0x67,
+	0x6c, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12,
+	0x10, 0x0a, 0x03, 0x70, 0x6f, 0x73, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x03, 0x70, 0x6f,
+	0x73, 0x12, 0x50, 0x0a, 0x0e, 0x64, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49,
+	0x74, 0x65, 0x6d, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
+	0x44, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65, 0x6d, 0x50, 0x72,
+	0x6f, 0x74, 0x6f, 0x52, 0x0e, 0x64, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49,
+	0x74, 0x65, 0x6d, 0x12, 0x1a, 0x0a, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x18,
+	0x03, 0x20, 0x01, 0x28, 0x09, 0x52, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x12,
+	0x1a, 0x0a, 0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x18, 0x04, 0x20, 0x01, 0x28,
+	0x08, 0x52, 0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x12, 0x18, 0x0a, 0x07, 0x72,
+	0x75, 0x6e, 0x74, 0x69, 0x6d, 0x65, 0x18, 0x05, 0x20, 0x01, 0x28, 0x08, 0x52, 0x07, 0x72, 0x75,
+	0x6e, 0x74, 0x69, 0x6d, 0x65, 0x12, 0x16, 0x0a, 0x06, 0x6c, 0x65, 0x6d, 0x6d, 0x61, 0x73, 0x18,
+	0x06, 0x20, 0x03, 0x28, 0x09, 0x52, 0x06, 0x6c, 0x65, 0x6d, 0x6d, 0x61, 0x73, 0x12, 0x44, 0x0a,
+	0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x73, 0x18, 0x07, 0x20, 0x03, 0x28, 0x0b,
+	0x32, 0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70,
+	0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x44,
+	0x61, 0x74, 0x61, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65,
+	0x6d, 0x65, 0x73, 0x22, 0x49, 0x0a, 0x11, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x44,
+	0x61, 0x74, 0x61, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x18, 0x0a, 0x07, 0x73, 0x75, 0x72, 0x66,
+	0x61, 0x63, 0x65, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x07, 0x73, 0x75, 0x72, 0x66, 0x61,
+	0x63, 0x65, 0x12, 0x1a, 0x0a, 0x08, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x18, 0x02,
+	0x20, 0x01, 0x28, 0x09, 0x52, 0x08, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x22, 0x6f,
+	0x0a, 0x11, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72,
+	0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01,
+	0x28, 0x09, 0x52, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x12, 0x44, 0x0a, 0x08, 0x61, 0x6e, 0x61,
+	0x6c, 0x79, 0x73, 0x65, 0x73, 0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65,
+	0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67,
+	0x79, 0x2e, 0x53, 0x69, 0x6e, 0x67, 0x6c, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73,
+	0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x22,
+	0x9f, 0x01, 0x0a, 0x17, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c,
+	0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x14, 0x0a, 0x05, 0x69,
+	0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x69, 0x6e, 0x70, 0x75,
+	0x74, 0x12, 0x2e, 0x0a, 0x12, 0x63, 0x6f, 0x6e, 0x74, 0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c, 0x41,
+	0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x08, 0x52, 0x12, 0x63,
+	0x6f, 0x6e, 0x74, 0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65,
+	0x73, 0x12, 0x3e, 0x0a, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61, 0x73,
+	0x6b, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x1a, 0x2e, 0x67, 0x6f, 0x6f, 0x67, 0x6c, 0x65,
+	0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x62, 0x75, 0x66, 0x2e, 0x46, 0x69, 0x65, 0x6c, 0x64, 0x4d,
+	0x61, 0x73, 0x6b, 0x52, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61, 0x73,
+	0x6b, 0x22, 0x77, 0x0a, 0x15, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61,
+	0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x69, 0x6e,
+	0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x69, 0x6e, 0x70, 0x75, 0x74,
+	0x12, 0x48, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x02, 0x20, 0x03, 0x28,
+	0x0b, 0x32, 0x2e, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72,
+	0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65,
+	0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74,
+	0x6f, 0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0xa9, 0x01, 0x0a, 0x19, 0x53,
+	0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79,
+	0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x14, 0x0a, 0x05, 0x74, 0x6f, 0x6b, 0x65,
+	0x6e, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05, 0x74, 0x6f, 0x6b, 0x65, 0x6e, 0x12, 0x3c,
+	0x0a, 0x04, 0x62, 0x65, 0x73, 0x74, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a,
+	0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f,
+	0x67, 0x79, 0x2e, 0x53, 0x69, 0x6e, 0x67, 0x6c, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69,
+	0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x04, 0x62, 0x65, 0x73, 0x74, 0x12, 0x38, 0x0a, 0x03,
+	0x61, 0x6c, 0x6c, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
+	0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74,
+	0x6f, 0x52, 0x03, 0x61, 0x6c, 0x6c, 0x22, 0x72, 0x0a, 0x18, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e,
+	0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65,
+	0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03,
+	0x28, 0x09, 0x52, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x12, 0x3e, 0x0a, 0x0c, 0x61, 0x6e,
+	0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61, 0x73, 0x6b, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b,
+	0x32, 0x1a, 0x2e, 0x67, 0x6f, 0x6f, 0x67, 0x6c, 0x65, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x62,
+	0x75, 0x66, 0x2e, 0x46, 0x69, 0x65, 0x6c, 0x64, 0x4d, 0x61, 0x73, 0x6b, 0x52, 0x0c, 0x61, 0x6e,
+	0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61, 0x73, 0x6b, 0x22, 0x5d, 0x0a, 0x19, 0x57, 0x6f,
+	0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52,
+	0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x40, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c,
+	0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57,
+	0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f,
+	0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0xa6, 0x01, 0x0a, 0x1c, 0x53, 0x65,
+	0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61,
+	0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x69, 0x6e,
+	0x70, 0x75, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x09, 0x52, 0x06, 0x69, 0x6e, 0x70, 0x75,
+	0x74, 0x73, 0x12, 0x2e, 0x0a, 0x12, 0x63, 0x6f, 0x6e, 0x74, 0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c,
+	0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x08, 0x52, 0x12,
+	0x63, 0x6f, 0x6e, 0x74, 0x61, 0x69, 0x6e, 0x41, 0x6c, 0x6c, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73,
+	0x65, 0x73, 0x12, 0x3e, 0x0a, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61,
+	0x73, 0x6b, 0x18, 0x03, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x1a, 0x2e, 0x67, 0x6f, 0x6f, 0x67, 0x6c,
+	0x65, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x62, 0x75, 0x66, 0x2e, 0x46, 0x69, 0x65, 0x6c, 0x64,
+	0x4d, 0x61, 0x73, 0x6b, 0x52, 0x0c, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x4d, 0x61,
+	0x73, 0x6b, 0x22, 0x65, 0x0a, 0x1d, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e,
+	0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f,
+	0x6e, 0x73, 0x65, 0x12, 0x44, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x01,
+	0x20, 0x03, 0x28, 0x0b, 0x32, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e,
+	0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65,
+	0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f,
+	0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x22, 0x9e, 0x02, 0x0a, 0x14, 0x43, 0x6f,
+	0x6d, 0x70, 0x61, 0x63, 0x74, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f,
+	0x74, 0x6f, 0x12, 0x12, 0x0a, 0x04, 0x69, 0x74, 0x65, 0x6d, 0x18, 0x01, 0x20, 0x01, 0x28, 0x05,
+	0x52, 0x04, 0x69, 0x74, 0x65, 0x6d, 0x12, 0x4a, 0x0a, 0x0b, 0x72, 0x75, 0x6e, 0x74, 0x69, 0x6d,
+	0x65, 0x49, 0x74, 0x65, 0x6d, 0x18, 0x02, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x28, 0x2e, 0x7a, 0x65,
+	0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67,
+	0x79, 0x2e, 0x44, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74, 0x65, 0x6d,
+	0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x0b, 0x72, 0x75, 0x6e, 0x74, 0x69, 0x6d, 0x65, 0x49, 0x74,
+	0x65, 0x6d, 0x12, 0x10, 0x0a, 0x03, 0x70, 0x6f, 0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52,
+	0x03, 0x70, 0x6f, 0x73, 0x12, 0x1c, 0x0a, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65,
+	0x73, 0x18, 0x04, 0x20, 0x03, 0x28, 0x05, 0x52, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d,
+	0x65, 0x73, 0x12, 0x26, 0x0a, 0x0e, 0x73, 0x75, 0x72, 0x66, 0x61, 0x63, 0x65, 0x4c, 0x65, 0x6e,
+	0x67, 0x74, 0x68, 0x73, 0x18, 0x05, 0x20, 0x03, 0x28, 0x05, 0x52, 0x0e, 0x73, 0x75, 0x72, 0x66,
+	0x61, 0x63, 0x65, 0x4c, 0x65, 0x6e, 0x67, 0x74, 0x68, 0x73, 0x12, 0x18, 0x0a, 0x07, 0x73, 0x75,
+	0x72, 0x66, 0x61, 0x63, 0x65, 0x18, 0x06, 0x20, 0x01, 0x28, 0x09, 0x52, 0x07, 0x73, 0x75, 0x72,
+	0x66, 0x61, 0x63, 0x65, 0x12, 0x1a, 0x0a, 0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c,
+	0x18, 0x07, 0x20, 0x01, 0x28, 0x08, 0x52, 0x08, 0x69, 0x6e, 0x66, 0x6f, 0x72, 0x6d, 0x61, 0x6c,
+	0x12, 0x18, 0x0a, 0x07, 0x72, 0x75, 0x6e, 0x74, 0x69, 0x6d, 0x65, 0x18, 0x08, 0x20, 0x01, 0x28,
+	0x08, 0x52, 0x07, 0x72, 0x75, 0x6e, 0x74, 0x69, 0x6d, 0x65, 0x22, 0xcc, 0x01, 0x0a, 0x10, 0x43,
+	0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x57, 0x6f, 0x72, 0x64, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12,
+	0x14, 0x0a, 0x05, 0x74, 0x6f, 0x6b, 0x65, 0x6e, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05,
+	0x74, 0x6f, 0x6b, 0x65, 0x6e, 0x12, 0x45, 0x0a, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65,
+	0x73, 0x18, 0x02, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x29, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
+	0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x43, 0x6f,
+	0x6d, 0x70, 0x61, 0x63, 0x74, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f,
+	0x74, 0x6f, 0x52, 0x08, 0x61, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x65, 0x73, 0x12, 0x1c, 0x0a, 0x09,
+	0x62, 0x65, 0x73, 0x74, 0x49, 0x6e, 0x64, 0x65, 0x78, 0x18, 0x03, 0x20, 0x01, 0x28, 0x05, 0x52,
+	0x09, 0x62, 0x65, 0x73, 0x74, 0x49, 0x6e, 0x64, 0x65, 0x78, 0x12, 0x3d, 0x0a, 0x04, 0x62, 0x65,
+	0x73, 0x74, 0x18, 0x04, 0x20, 0x01, 0x28, 0x0b, 0x32, 0x29, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x43,
+	0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72,
+	0x6f, 0x74, 0x6f, 0x52, 0x04, 0x62, 0x65, 0x73, 0x74, 0x22, 0x5b, 0x0a, 0x1c, 0x43, 0x6f, 0x6d,
+	0x70, 0x61, 0x63, 0x74, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c,
+	0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x12, 0x3b, 0x0a, 0x05, 0x77, 0x6f, 0x72,
+	0x64, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x25, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x43,
+	0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x57, 0x6f, 0x72, 0x64, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52,
+	0x05, 0x77, 0x6f, 0x72, 0x64, 0x73, 0x22, 0x91, 0x01, 0x0a, 0x24, 0x43, 0x6f, 0x6d, 0x70, 0x61,
+	0x63, 0x74, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73,
+	0x69, 0x73, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12,
+	0x4b, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b,
+	0x32, 0x31, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70,
+	0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x53, 0x65,
+	0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72,
+	0x6f, 0x74, 0x6f, 0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x12, 0x1c, 0x0a, 0x09,
+	0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52,
+	0x09, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x22, 0x17, 0x0a, 0x15, 0x41, 0x6e,
+	0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x54, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x71, 0x75,
+	0x65, 0x73, 0x74, 0x22, 0x96, 0x01, 0x0a, 0x16, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73,
+	0x54, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x1c,
+	0x0a, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28,
+	0x09, 0x52, 0x09, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x65, 0x6d, 0x65, 0x73, 0x12, 0x1e, 0x0a, 0x0a,
+	0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79, 0x50, 0x6f, 0x73, 0x18, 0x02, 0x20, 0x03, 0x28, 0x09,
+	0x52, 0x0a, 0x70, 0x72, 0x69, 0x6d, 0x61, 0x72, 0x79, 0x50, 0x6f, 0x73, 0x12, 0x20, 0x0a, 0x0b,
+	0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x53, 0x69, 0x7a, 0x65, 0x18, 0x03, 0x20, 0x01, 0x28,
+	0x05, 0x52, 0x0b, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x53, 0x69, 0x7a, 0x65, 0x12, 0x1c,
+	0x0a, 0x09, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x18, 0x04, 0x20, 0x01, 0x28,
+	0x09, 0x52, 0x09, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x22, 0x3c, 0x0a, 0x0e,
+	0x4c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x12, 0x14,
+	0x0a, 0x05, 0x73, 0x74, 0x61, 0x72, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x05, 0x52, 0x05, 0x73,
+	0x74, 0x61, 0x72, 0x74, 0x12, 0x14, 0x0a, 0x05, 0x63, 0x6f, 0x75, 0x6e, 0x74, 0x18, 0x02, 0x20,
+	0x01, 0x28, 0x05, 0x52, 0x05, 0x63, 0x6f, 0x75, 0x6e, 0x74, 0x22, 0x91, 0x01, 0x0a, 0x0f, 0x4c,
+	0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x3e,
+	0x0a, 0x05, 0x69, 0x74, 0x65, 0x6d, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x28, 0x2e,
+	0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c,
+	0x6f, 0x67, 0x79, 0x2e, 0x44, 0x69, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x61, 0x72, 0x79, 0x49, 0x74,
+	0x65, 0x6d, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x52, 0x05, 0x69, 0x74, 0x65, 0x6d, 0x73, 0x12, 0x20,
+	0x0a, 0x0b, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x53, 0x69, 0x7a, 0x65, 0x18, 0x02, 0x20,
+	0x01, 0x28, 0x05, 0x52, 0x0b, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x53, 0x69, 0x7a, 0x65,
+	0x12, 0x1c, 0x0a, 0x09, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x18, 0x03, 0x20,
+	0x01, 0x28, 0x09, 0x52, 0x09, 0x6c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x49, 0x64, 0x32, 0xfe,
+	0x07, 0x0a, 0x11, 0x4d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x53, 0x65, 0x72,
+	0x76, 0x69, 0x63, 0x65, 0x12, 0x6b, 0x0a, 0x0f, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x53,
+	0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x12, 0x2c, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
+	0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65,
+	0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65,
+	0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
+	0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74,
+	0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74,
+	0x6f, 0x12, 0x5f, 0x0a, 0x0b, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x57, 0x6f, 0x72, 0x64,
+	0x12, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70,
+	0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79,
+	0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x26, 0x2e, 0x7a, 0x65, 0x6d,
+	0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79,
+	0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f,
+	0x74, 0x6f, 0x12, 0x79, 0x0a, 0x10, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x53, 0x65, 0x6e,
+	0x74, 0x65, 0x6e, 0x63, 0x65, 0x73, 0x12, 0x31, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65,
+	0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e,
+	0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61, 0x74,
+	0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x32, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
+	0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73,
+	0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6d, 0x0a,
+	0x0c, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x57, 0x6f, 0x72, 0x64, 0x73, 0x12, 0x2d, 0x2e,
+	0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c,
+	0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73,
+	0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2e, 0x2e, 0x7a,
+	0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f,
+	0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42,
+	0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x75, 0x0a, 0x15,
+	0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x53,
+	0x74, 0x72, 0x65, 0x61, 0x6d, 0x12, 0x2c, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
+	0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74,
+	0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75,
+	0x65, 0x73, 0x74, 0x1a, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d,
+	0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e,
+	0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x28,
+	0x01, 0x30, 0x01, 0x12, 0x69, 0x0a, 0x11, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x57, 0x6f,
+	0x72, 0x64, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d, 0x12, 0x28, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57,
+	0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65,
+	0x73, 0x74, 0x1a, 0x26, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f,
+	0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x57, 0x6f, 0x72, 0x64, 0x41, 0x6e, 0x61,
+	0x6c, 0x79, 0x73, 0x69, 0x73, 0x50, 0x72, 0x6f, 0x74, 0x6f, 0x28, 0x01, 0x30, 0x01, 0x12, 0x87,
+	0x01, 0x0a, 0x17, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x7a, 0x65, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e,
+	0x63, 0x65, 0x73, 0x43, 0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x12, 0x31, 0x2e, 0x7a, 0x65, 0x6d,
+	0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79,
+	0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69,
+	0x73, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x39, 0x2e,
+	0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c,
+	0x6f, 0x67, 0x79, 0x2e, 0x43, 0x6f, 0x6d, 0x70, 0x61, 0x63, 0x74, 0x53, 0x65, 0x6e, 0x74, 0x65,
+	0x6e, 0x63, 0x65, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x42, 0x61, 0x74, 0x63, 0x68,
+	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6c, 0x0a, 0x11, 0x47, 0x65, 0x74, 0x41,
+	0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x54, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x12, 0x2a, 0x2e,
+	0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c,
+	0x6f, 0x67, 0x79, 0x2e, 0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x54, 0x61, 0x62, 0x6c,
+	0x65, 0x73, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2b, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
+	0x41, 0x6e, 0x61, 0x6c, 0x79, 0x73, 0x69, 0x73, 0x54, 0x61, 0x62, 0x6c, 0x65, 0x73, 0x52, 0x65,
+	0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x57, 0x0a, 0x0a, 0x47, 0x65, 0x74, 0x4c, 0x65, 0x78,
+	0x69, 0x63, 0x6f, 0x6e, 0x12, 0x23, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e,
+	0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e, 0x4c, 0x65, 0x78, 0x69, 0x63,
+	0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x24, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x2e,
+	0x4c, 0x65, 0x78, 0x69, 0x63, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42,
+	0x1d, 0x0a, 0x19, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74,
+	0x6f, 0x2e, 0x6d, 0x6f, 0x72, 0x70, 0x68, 0x6f, 0x6c, 0x6f, 0x67, 0x79, 0x50, 0x01, 0x62, 0x06,
+	0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
+}
+
+var (
+	file_morphology_proto_rawDescOnce sync.Once
+	file_morphology_proto_rawDescData = file_morphology_proto_rawDesc
+)
+
+func file_morphology_proto_rawDescGZIP() []byte {
+	file_morphology_proto_rawDescOnce.Do(func() {
+		file_morphology_proto_rawDescData = protoimpl.X.CompressGZIP(file_morphology_proto_rawDescData)
+	})
+	return file_morphology_proto_rawDescData
+}
+
+var file_morphology_proto_msgTypes = make([]protoimpl.MessageInfo, 20)
+var file_morphology_proto_goTypes = []interface{}{
+	(*WordAnalysisRequest)(nil),                  // 0: zemberek.morphology.WordAnalysisRequest
+	(*DictionaryItemProto)(nil),                  // 1: zemberek.morphology.DictionaryItemProto
+	(*SingleAnalysisProto)(nil),                  // 2: zemberek.morphology.SingleAnalysisProto
+	(*MorphemeDataProto)(nil),                    // 3: zemberek.morphology.MorphemeDataProto
+	(*WordAnalysisProto)(nil),                    // 4: zemberek.morphology.WordAnalysisProto
+	(*SentenceAnalysisRequest)(nil),              // 5: zemberek.morphology.SentenceAnalysisRequest
+	(*SentenceAnalysisProto)(nil),                // 6: zemberek.morphology.SentenceAnalysisProto
+	(*SentenceWordAnalysisProto)(nil),            // 7: zemberek.morphology.SentenceWordAnalysisProto
+	(*WordAnalysisBatchRequest)(nil),             // 8: zemberek.morphology.WordAnalysisBatchRequest
+	(*WordAnalysisBatchResponse)(nil),            // 9: zemberek.morphology.WordAnalysisBatchResponse
+	(*SentenceAnalysisBatchRequest)(nil),         // 10: zemberek.morphology.SentenceAnalysisBatchRequest
+	(*SentenceAnalysisBatchResponse)(nil),        // 11: zemberek.morphology.SentenceAnalysisBatchResponse
+	(*CompactAnalysisProto)(nil),                 // 12: zemberek.morphology.CompactAnalysisProto
+	(*CompactWordProto)(nil),                     // 13: zemberek.morphology.CompactWordProto
+	(*CompactSentenceAnalysisProto)(nil),         // 14: zemberek.morphology.CompactSentenceAnalysisProto
+	(*CompactSentenceAnalysisBatchResponse)(nil), // 15: zemberek.morphology.CompactSentenceAnalysisBatchResponse
+	(*AnalysisTablesRequest)(nil),                // 16: zemberek.morphology.AnalysisTablesRequest
+	(*AnalysisTablesResponse)(nil),               // 17: zemberek.morphology.AnalysisTablesResponse
+	(*LexiconRequest)(nil),                       // 18: zemberek.morphology.LexiconRequest
+	(*LexiconResponse)(nil),                      // 19: zemberek.morphology.LexiconResponse
+	(*field_mask.FieldMask)(nil),                 // 20: google.protobuf.FieldMask
+}
+var file_morphology_proto_depIdxs = []int32{
+	20, // 0: zemberek.morphology.WordAnalysisRequest.analysisMask:type_name -> google.protobuf.FieldMask
+	1,  // 1: zemberek.morphology.SingleAnalysisProto.dictionaryItem:type_name -> zemberek.morphology.DictionaryItemProto
+	3,  // 2: zemberek.morphology.SingleAnalysisProto.morphemes:type_name -> zemberek.morphology.MorphemeDataProto
+	2,  // 3: zemberek.morphology.WordAnalysisProto.analyses:type_name -> zemberek.morphology.SingleAnalysisProto
+	20, // 4: zemberek.morphology.SentenceAnalysisRequest.analysisMask:type_name -> google.protobuf.FieldMask
+	7,  // 5: zemberek.morphology.SentenceAnalysisProto.results:type_name -> zemberek.morphology.SentenceWordAnalysisProto
+	2,  // 6: zemberek.morphology.SentenceWordAnalysisProto.best:type_name -> zemberek.morphology.SingleAnalysisProto
+	4,  // 7: zemberek.morphology.SentenceWordAnalysisProto.all:type_name -> zemberek.morphology.WordAnalysisProto
+	20, // 8: zemberek.morphology.WordAnalysisBatchRequest.analysisMask:type_name -> google.protobuf.FieldMask
+	4,  // 9: zemberek.morphology.WordAnalysisBatchResponse.results:type_name -> zemberek.morphology.WordAnalysisProto
+	20, // 10: zemberek.morphology.SentenceAnalysisBatchRequest.analysisMask:type_name -> google.protobuf.FieldMask
+	6,  // 11: zemberek.morphology.SentenceAnalysisBatchResponse.results:type_name -> zemberek.morphology.SentenceAnalysisProto
+	1,  // 12: zemberek.morphology.CompactAnalysisProto.runtimeItem:type_name -> zemberek.morphology.DictionaryItemProto
+	12, // 13: zemberek.morphology.CompactWordProto.analyses:type_name -> zemberek.morphology.CompactAnalysisProto
+	12, // 14: zemberek.morphology.CompactWordProto.best:type_name -> zemberek.morphology.CompactAnalysisProto
+	13, // 15: zemberek.morphology.CompactSentenceAnalysisProto.words:type_name -> zemberek.morphology.CompactWordProto
+	14, // 16: zemberek.morphology.CompactSentenceAnalysisBatchResponse.results:type_name -> zemberek.morphology.CompactSentenceAnalysisProto
+	1,  // 17: zemberek.morphology.LexiconResponse.items:type_name -> zemberek.morphology.DictionaryItemProto
+	5,  // 18: zemberek.morphology.MorphologyService.AnalyzeSentence:input_type -> zemberek.morphology.SentenceAnalysisRequest
+	0,  // 19: zemberek.morphology.MorphologyService.AnalyzeWord:input_type -> zemberek.morphology.WordAnalysisRequest
+	10, // 20: zemberek.morphology.MorphologyService.AnalyzeSentences:input_type -> zemberek.morphology.SentenceAnalysisBatchRequest
+	8,  // 21: zemberek.morphology.MorphologyService.AnalyzeWords:input_type -> zemberek.morphology.WordAnalysisBatchRequest
+	5,  // 22: zemberek.morphology.MorphologyService.AnalyzeSentenceStream:input_type -> zemberek.morphology.SentenceAnalysisRequest
+	0,  // 23: zemberek.morphology.MorphologyService.AnalyzeWordStream:input_type -> zemberek.morphology.WordAnalysisRequest
+	10, // 24: zemberek.morphology.MorphologyService.AnalyzeSentencesCompact:input_type -> zemberek.morphology.SentenceAnalysisBatchRequest
+	16, // 25: zemberek.morphology.MorphologyService.GetAnalysisTables:input_type -> zemberek.morphology.AnalysisTablesRequest
+	18, // 26: zemberek.morphology.MorphologyService.GetLexicon:input_type -> zemberek.morphology.LexiconRequest
+	6,  // 27: zemberek.morphology.MorphologyService.AnalyzeSentence:output_type -> zemberek.morphology.SentenceAnalysisProto
+	4,  // 28: zemberek.morphology.MorphologyService.AnalyzeWord:output_type -> zemberek.morphology.WordAnalysisProto
+	11, // 29: zemberek.morphology.MorphologyService.AnalyzeSentences:output_type -> zemberek.morphology.SentenceAnalysisBatchResponse
+	9,  // 30: zemberek.morphology.MorphologyService.AnalyzeWords:output_type -> zemberek.morphology.WordAnalysisBatchResponse
+	6,  // 31: zemberek.morphology.MorphologyService.AnalyzeSentenceStream:output_type -> zemberek.morphology.SentenceAnalysisProto
+	4,  // 32: zemberek.morphology.MorphologyService.AnalyzeWordStream:output_type -> zemberek.morphology.WordAnalysisProto
+	15, // 33: zemberek.morphology.MorphologyService.AnalyzeSentencesCompact:output_type -> zemberek.morphology.CompactSentenceAnalysisBatchResponse
+	17, // 34: zemberek.morphology.MorphologyService.GetAnalysisTables:output_type -> zemberek.morphology.AnalysisTablesResponse
+	19, // 35: zemberek.morphology.MorphologyService.GetLexicon:output_type -> zemberek.morphology.LexiconResponse
+	27, // [27:36] is the sub-list for method output_type
+	18, // [18:27] is the sub-list for method input_type
+	18, // [18:18] is the sub-list for extension type_name
+	18, // [18:18] is the sub-list for extension extendee
+	0,  // [0:18] is the sub-list for field type_name
+}
+
+func init() { file_morphology_proto_init() }
+func file_morphology_proto_init() {
+	if File_morphology_proto != nil {
+		return
+	}
+	if !protoimpl.UnsafeEnabled {
+		file_morphology_proto_msgTypes[0].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*WordAnalysisRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[1].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*DictionaryItemProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[2].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SingleAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[3].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*MorphemeDataProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[4].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*WordAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[5].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SentenceAnalysisRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[6].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SentenceAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[7].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SentenceWordAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[8].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*WordAnalysisBatchRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[9].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*WordAnalysisBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[10].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SentenceAnalysisBatchRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[11].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*SentenceAnalysisBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[12].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*CompactAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[13].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*CompactWordProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[14].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*CompactSentenceAnalysisProto); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[15].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*CompactSentenceAnalysisBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[16].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*AnalysisTablesRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[17].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*AnalysisTablesResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[18].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*LexiconRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_morphology_proto_msgTypes[19].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*LexiconResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+	}
+	type x struct{}
+	out := protoimpl.TypeBuilder{
+		File: protoimpl.DescBuilder{
+			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
+			RawDescriptor: file_morphology_proto_rawDesc,
+			NumEnums:      0,
+			NumMessages:   20,
+			NumExtensions: 0,
+			NumServices:   1,
+		},
+		GoTypes:           file_morphology_proto_goTypes,
+		DependencyIndexes: file_morphology_proto_depIdxs,
+		MessageInfos:      file_morphology_proto_msgTypes,
+	}.Build()
+	File_morphology_proto = out.File
+	file_morphology_proto_rawDesc = nil
+	file_morphology_proto_goTypes = nil
+	file_morphology_proto_depIdxs = nil
+}
+
+// Reference imports to suppress errors if they are not otherwise used.
+var _ context.Context
+var _ grpc.ClientConnInterface
+
+// This is a compile-time assertion to ensure that this generated file
+// is compatible with the grpc package it is being compiled against.
+const _ = grpc.SupportPackageIsVersion6
+
+// MorphologyServiceClient is the client API for MorphologyService service.
+//
+// For semantics around ctx use and closing/ending streaming RPCs, please refer to https://godoc.org/google.golang.org/grpc#ClientConn.NewStream.
+type MorphologyServiceClient interface {
+	AnalyzeSentence(ctx context.Context, in *SentenceAnalysisRequest, opts ...grpc.CallOption) (*SentenceAnalysisProto, error)
+	AnalyzeWord(ctx context.Context, in *WordAnalysisRequest, opts ...grpc.CallOption) (*WordAnalysisProto, error)
+	// Sentences of a batch are analyzed in parallel.
+	AnalyzeSentences(ctx context.Context, in *SentenceAnalysisBatchRequest, opts ...grpc.CallOption) (*SentenceAnalysisBatchResponse, error)
+	AnalyzeWords(ctx context.Context, in *WordAnalysisBatchRequest, opts ...grpc.CallOption) (*WordAnalysisBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	AnalyzeSentenceStream(ctx context.Context, opts ...grpc.CallOption) (MorphologyService_AnalyzeSentenceStreamClient, error)
+	AnalyzeWordStream(ctx context.Context, opts ...grpc.CallOption) (MorphologyService_AnalyzeWordStreamClient, error)
+	// Compact results. Tables are fetched once by the client. analysisMask of the request is not
+	// used, compact analyses always contain all fields.
+	AnalyzeSentencesCompact(ctx context.Context, in *SentenceAnalysisBatchRequest, opts ...grpc.CallOption) (*CompactSentenceAnalysisBatchResponse, error)
+	GetAnalysisTables(ctx context.Context, in *AnalysisTablesRequest, opts ...grpc.CallOption) (*AnalysisTablesResponse, error)
+	GetLexicon(ctx context.Context, in *LexiconRequest, opts ...grpc.CallOption) (*LexiconResponse, error)
+}
+
+type morphologyServiceClient struct {
+	cc grpc.ClientConnInterface
+}
+
+func NewMorphologyServiceClient(cc grpc.ClientConnInterface) MorphologyServiceClient {
+	return &morphologyServiceClient{cc}
+}
+
+func (c *morphologyServiceClient) AnalyzeSentence(ctx context.Context, in *SentenceAnalysisRequest, opts ...grpc.CallOption) (*SentenceAnalysisProto, error) {
+	out := new(SentenceAnalysisProto)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeSentence", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeWord(ctx context.Context, in *WordAnalysisRequest, opts ...grpc.CallOption) (*WordAnalysisProto, error) {
+	out := new(WordAnalysisProto)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeWord", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeSentences(ctx context.Context, in *SentenceAnalysisBatchRequest, opts ...grpc.CallOption) (*SentenceAnalysisBatchResponse, error) {
+	out := new(SentenceAnalysisBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeSentences", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeWords(ctx context.Context, in *WordAnalysisBatchRequest, opts ...grpc.CallOption) (*WordAnalysisBatchResponse, error) {
+	out := new(WordAnalysisBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeWords", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeSentenceStream(ctx context.Context, opts ...grpc.CallOption) (MorphologyService_AnalyzeSentenceStreamClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_MorphologyService_serviceDesc.Streams[0], "/zemberek.morphology.MorphologyService/AnalyzeSentenceStream", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &morphologyServiceAnalyzeSentenceStreamClient{stream}
+	return x, nil
+}
+
+type MorphologyService_AnalyzeSentenceStreamClient interface {
+	Send(*SentenceAnalysisRequest) error
+	Recv() (*SentenceAnalysisProto, error)
+	grpc.ClientStream
+}
+
+type morphologyServiceAnalyzeSentenceStreamClient struct {
+	grpc.ClientStream
+}
+
+func (x *morphologyServiceAnalyzeSentenceStreamClient) Send(m *SentenceAnalysisRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *morphologyServiceAnalyzeSentenceStreamClient) Recv() (*SentenceAnalysisProto, error) {
+	m := new(SentenceAnalysisProto)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeWordStream(ctx context.Context, opts ...grpc.CallOption) (MorphologyService_AnalyzeWordStreamClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_MorphologyService_serviceDesc.Streams[1], "/zemberek.morphology.MorphologyService/AnalyzeWordStream", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &morphologyServiceAnalyzeWordStreamClient{stream}
+	return x, nil
+}
+
+type MorphologyService_AnalyzeWordStreamClient interface {
+	Send(*WordAnalysisRequest) error
+	Recv() (*WordAnalysisProto, error)
+	grpc.ClientStream
+}
+
+type morphologyServiceAnalyzeWordStreamClient struct {
+	grpc.ClientStream
+}
+
+func (x *morphologyServiceAnalyzeWordStreamClient) Send(m *WordAnalysisRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *morphologyServiceAnalyzeWordStreamClient) Recv() (*WordAnalysisProto, error) {
+	m := new(WordAnalysisProto)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
+func (c *morphologyServiceClient) AnalyzeSentencesCompact(ctx context.Context, in *SentenceAnalysisBatchRequest, opts ...grpc.CallOption) (*CompactSentenceAnalysisBatchResponse, error) {
+	out := new(CompactSentenceAnalysisBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/AnalyzeSentencesCompact", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) GetAnalysisTables(ctx context.Context, in *AnalysisTablesRequest, opts ...grpc.CallOption) (*AnalysisTablesResponse, error) {
+	out := new(AnalysisTablesResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/GetAnalysisTables", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *morphologyServiceClient) GetLexicon(ctx context.Context, in *LexiconRequest, opts ...grpc.CallOption) (*LexiconResponse, error) {
+	out := new(LexiconResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.morphology.MorphologyService/GetLexicon", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+// MorphologyServiceServer is the server API for MorphologyService service.
+type MorphologyServiceServer interface {
+	AnalyzeSentence(context.Context, *SentenceAnalysisRequest) (*SentenceAnalysisProto, error)
+	AnalyzeWord(context.Context, *WordAnalysisRequest) (*WordAnalysisProto, error)
+	// Sentences of a batch are analyzed in parallel.
+	AnalyzeSentences(context.Context, *SentenceAnalysisBatchRequest) (*SentenceAnalysisBatchResponse, error)
+	AnalyzeWords(context.Context, *WordAnalysisBatchRequest) (*WordAnalysisBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	AnalyzeSentenceStream(MorphologyService_AnalyzeSentenceStreamServer) error
+	AnalyzeWordStream(MorphologyService_AnalyzeWordStreamServer) error
+	// Compact results. Tables are fetched once by the client. analysisMask of the request is not
+	// used, compact analyses always contain all fields.
+	AnalyzeSentencesCompact(context.Context, *SentenceAnalysisBatchRequest) (*CompactSentenceAnalysisBatchResponse, error)
+	GetAnalysisTables(context.Context, *AnalysisTablesRequest) (*AnalysisTablesResponse, error)
+	GetLexicon(context.Context, *LexiconRequest) (*LexiconResponse, error)
+}
+
+// UnimplementedMorphologyServiceServer can be embedded to have forward compatible implementations.
+type UnimplementedMorphologyServiceServer struct {
+}
+
+func (*UnimplementedMorphologyServiceServer) AnalyzeSentence(context.Context, *SentenceAnalysisRequest) (*SentenceAnalysisProto, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeSentence not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeWord(context.Context, *WordAnalysisRequest) (*WordAnalysisProto, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeWord not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeSentences(context.Context, *SentenceAnalysisBatchRequest) (*SentenceAnalysisBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeSentences not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeWords(context.Context, *WordAnalysisBatchRequest) (*WordAnalysisBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeWords not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeSentenceStream(MorphologyService_AnalyzeSentenceStreamServer) error {
+	return status.Errorf(codes.Unimplemented, "method AnalyzeSentenceStream not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeWordStream(MorphologyService_AnalyzeWordStreamServer) error {
+	return status.Errorf(codes.Unimplemented, "method AnalyzeWordStream not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) AnalyzeSentencesCompact(context.Context, *SentenceAnalysisBatchRequest) (*CompactSentenceAnalysisBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method AnalyzeSentencesCompact not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) GetAnalysisTables(context.Context, *AnalysisTablesRequest) (*AnalysisTablesResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method GetAnalysisTables not implemented")
+}
+func (*UnimplementedMorphologyServiceServer) GetLexicon(context.Context, *LexiconRequest) (*LexiconResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method GetLexicon not implemented")
+}
+
+func RegisterMorphologyServiceServer(s *grpc.Server, srv MorphologyServiceServer) {
+	s.RegisterService(&_MorphologyService_serviceDesc, srv)
+}
+
+func _MorphologyService_AnalyzeSentence_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(SentenceAnalysisRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
 	if interceptor == nil {
 		return srv.(MorphologyServiceServer).AnalyzeSentence(ctx, in)
 	}
@@ -892,6 +2157,148 @@ func _MorphologyService_AnalyzeWord_Handler(srv interface{}, ctx context.Context
 	return interceptor(ctx, in, info, handler)
 }
 
+func _MorphologyService_AnalyzeSentences_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(SentenceAnalysisBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(MorphologyServiceServer).AnalyzeSentences(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.morphology.MorphologyService/AnalyzeSentences",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(MorphologyServiceServer).AnalyzeSentences(ctx, req.(*SentenceAnalysisBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _MorphologyService_AnalyzeWords_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(WordAnalysisBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(MorphologyServiceServer).AnalyzeWords(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.morphology.MorphologyService/AnalyzeWords",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(MorphologyServiceServer).AnalyzeWords(ctx, req.(*WordAnalysisBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _MorphologyService_AnalyzeSentenceStream_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(MorphologyServiceServer).AnalyzeSentenceStream(&morphologyServiceAnalyzeSentenceStreamServer{stream})
+}
+
+type MorphologyService_AnalyzeSentenceStreamServer interface {
+	Send(*SentenceAnalysisProto) error
+	Recv() (*SentenceAnalysisRequest, error)
+	grpc.ServerStream
+}
+
+type morphologyServiceAnalyzeSentenceStreamServer struct {
+	grpc.ServerStream
+}
+
+func (x *morphologyServiceAnalyzeSentenceStreamServer) Send(m *SentenceAnalysisProto) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *morphologyServiceAnalyzeSentenceStreamServer) Recv() (*SentenceAnalysisRequest, error) {
+	m := new(SentenceAnalysisRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
+func _MorphologyService_AnalyzeWordStream_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(MorphologyServiceServer).AnalyzeWordStream(&morphologyServiceAnalyzeWordStreamServer{stream})
+}
+
+type MorphologyService_AnalyzeWordStreamServer interface {
+	Send(*WordAnalysisProto) error
+	Recv() (*WordAnalysisRequest, error)
+	grpc.ServerStream
+}
+
+type morphologyServiceAnalyzeWordStreamServer struct {
+	grpc.ServerStream
+}
+
+func (x *morphologyServiceAnalyzeWordStreamServer) Send(m *WordAnalysisProto) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *morphologyServiceAnalyzeWordStreamServer) Recv() (*WordAnalysisRequest, error) {
+	m := new(WordAnalysisRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
+func _MorphologyService_AnalyzeSentencesCompact_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(SentenceAnalysisBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(MorphologyServiceServer).AnalyzeSentencesCompact(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.morphology.MorphologyService/AnalyzeSentencesCompact",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(MorphologyServiceServer).AnalyzeSentencesCompact(ctx, req.(*SentenceAnalysisBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _MorphologyService_GetAnalysisTables_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(AnalysisTablesRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(MorphologyServiceServer).GetAnalysisTables(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.morphology.MorphologyService/GetAnalysisTables",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(MorphologyServiceServer).GetAnalysisTables(ctx, req.(*AnalysisTablesRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _MorphologyService_GetLexicon_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(LexiconRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(MorphologyServiceServer).GetLexicon(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.morphology.MorphologyService/GetLexicon",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(MorphologyServiceServer).GetLexicon(ctx, req.(*LexiconRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
 var _MorphologyService_serviceDesc = grpc.ServiceDesc{
 	ServiceName: "zemberek.morphology.MorphologyService",
 	HandlerType: (*MorphologyServiceServer)(nil),
@@ -904,7 +2311,40 @@ var _MorphologyService_serviceDesc = grpc.ServiceDesc{
 			MethodName: "AnalyzeWord",
 			Handler:    _MorphologyService_AnalyzeWord_Handler,
 		},
+		{
+			MethodName: "AnalyzeSentences",
+			Handler:    _MorphologyService_AnalyzeSentences_Handler,
+		},
+		{
+			MethodName: "AnalyzeWords",
+			Handler:    _MorphologyService_AnalyzeWords_Handler,
+		},
+		{
+			MethodName: "AnalyzeSentencesCompact",
+			Handler:    _MorphologyService_AnalyzeSentencesCompact_Handler,
+		},
+		{
+			MethodName: "GetAnalysisTables",
+			Handler:    _MorphologyService_GetAnalysisTables_Handler,
+		},
+		{
+			MethodName: "GetLexicon",
+			Handler:    _MorphologyService_GetLexicon_Handler,
+		},
+	},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "AnalyzeSentenceStream",
+			Handler:       _MorphologyService_AnalyzeSentenceStream_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
+		{
+			StreamName:    "AnalyzeWordStream",
+			Handler:       _MorphologyService_AnalyzeWordStream_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
 	},
-	Streams:  []grpc.StreamDesc{},
 	Metadata: "morphology.proto",
 }
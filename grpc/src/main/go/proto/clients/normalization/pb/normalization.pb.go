@@ -131,6 +131,100 @@ func (x *NormalizationResponse) GetError() string {
 	return ""
 }
 
+type NormalizationBatchRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Inputs []string `protobuf:"bytes,1,rep,name=inputs,proto3" json:"inputs,omitempty"`
+}
+
+func (x *NormalizationBatchRequest) Reset() {
+	*x = NormalizationBatchRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_normalization_proto_msgTypes[2]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *NormalizationBatchRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*NormalizationBatchRequest) ProtoMessage() {}
+
+func (x *NormalizationBatchRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_normalization_proto_msgTypes[2]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use NormalizationBatchRequest.ProtoReflect.Descriptor instead.
+func (*NormalizationBatchRequest) Descriptor() ([]byte, []int) {
+	return file_normalization_proto_rawDescGZIP(), []int{2}
+}
+
+func (x *NormalizationBatchRequest) GetInputs() []string {
+	if x != nil {
+		return x.Inputs
+	}
+	return nil
+}
+
+type NormalizationBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Results []*NormalizationResponse `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *NormalizationBatchResponse) Reset() {
+	*x = NormalizationBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_normalization_proto_msgTypes[3]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *NormalizationBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*NormalizationBatchResponse) ProtoMessage() {}
+
+func (x *NormalizationBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_normalization_proto_msgTypes[3]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use NormalizationBatchResponse.ProtoReflect.Descriptor instead.
+func (*NormalizationBatchResponse) Descriptor() ([]byte, []int) {
+	return file_normalization_proto_rawDescGZIP(), []int{3}
+}
+
+func (x *NormalizationBatchResponse) GetResults() []*NormalizationResponse {
+	if x != nil {
+		return x.Results
+	}
+	return nil
+}
+
 var File_normalization_proto protoreflect.FileDescriptor
 
 var file_normalization_proto_rawDesc = []byte{
@@ -145,17 +239,41 @@ var file_normalization_proto_rawDesc = []byte{
 	0x65, 0x64, 0x5f, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x18, 0x01, 0x20, 0x01, 0x28, 0x09, 0x52, 0x0f,
 	0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x65, 0x64, 0x49, 0x6e, 0x70, 0x75, 0x74, 0x12,
 	0x14, 0x0a, 0x05, 0x65, 0x72, 0x72, 0x6f, 0x72, 0x18, 0x02, 0x20, 0x01, 0x28, 0x09, 0x52, 0x05,
-	0x65, 0x72, 0x72, 0x6f, 0x72, 0x32, 0x80, 0x01, 0x0a, 0x14, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c,
-	0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x68,
-	0x0a, 0x09, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x65, 0x12, 0x2c, 0x2e, 0x7a, 0x65,
-	0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61,
-	0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69,
-	0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2d, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x72, 0x6f, 0x72, 0x22, 0x33, 0x0a, 0x19, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69,
+	0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65,
+	0x73, 0x74, 0x12, 0x16, 0x0a, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03,
+	0x28, 0x09, 0x52, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x22, 0x65, 0x0a, 0x1a, 0x4e, 0x6f,
+	0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74, 0x63, 0x68,
+	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x47, 0x0a, 0x07, 0x72, 0x65, 0x73, 0x75,
+	0x6c, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x2d, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69,
+	0x6f, 0x6e, 0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e,
+	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x52, 0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74,
+	0x73, 0x32, 0xed, 0x02, 0x0a, 0x14, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74,
+	0x69, 0x6f, 0x6e, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x68, 0x0a, 0x09, 0x4e, 0x6f,
+	0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x65, 0x12, 0x2c, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
+	0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e,
+	0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65,
+	0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2d, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
+	0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x4e,
+	0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70,
+	0x6f, 0x6e, 0x73, 0x65, 0x12, 0x77, 0x0a, 0x0e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a,
+	0x65, 0x42, 0x61, 0x74, 0x63, 0x68, 0x12, 0x31, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65,
+	0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x2e,
+	0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74,
+	0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x32, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
 	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69,
 	0x6f, 0x6e, 0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e,
-	0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42, 0x12, 0x0a, 0x0e, 0x7a, 0x65, 0x6d, 0x62,
-	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x50, 0x01, 0x62, 0x06, 0x70, 0x72,
-	0x6f, 0x74, 0x6f, 0x33,
+	0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x72, 0x0a,
+	0x0f, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a, 0x65, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d,
+	0x12, 0x2c, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d,
+	0x61, 0x6c, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c,
+	0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2d,
+	0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x6e, 0x6f, 0x72, 0x6d, 0x61, 0x6c,
+	0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x2e, 0x4e, 0x6f, 0x72, 0x6d, 0x61, 0x6c, 0x69, 0x7a,
+	0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x28, 0x01, 0x30,
+	0x01, 0x42, 0x12, 0x0a, 0x0e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72,
+	0x6f, 0x74, 0x6f, 0x50, 0x01, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
 }
 
 var (
@@ -170,19 +288,26 @@ func file_normalization_proto_rawDescGZIP() []byte {
 	return file_normalization_proto_rawDescData
 }
 
-var file_normalization_proto_msgTypes = make([]protoimpl.MessageInfo, 2)
+var file_normalization_proto_msgTypes = make([]protoimpl.MessageInfo, 4)
 var file_normalization_proto_goTypes = []interface{}{
-	(*NormalizationRequest)(nil),  // 0: zemberek.normalization.NormalizationRequest
-	(*NormalizationResponse)(nil), // 1: zemberek.normalization.NormalizationResponse
+	(*NormalizationRequest)(nil),       // 0: zemberek.normalization.NormalizationRequest
+	(*NormalizationResponse)(nil),      // 1: zemberek.normalization.NormalizationResponse
+	(*NormalizationBatchRequest)(nil),  // 2: zemberek.normalization.NormalizationBatchRequest
+	(*NormalizationBatchResponse)(nil), // 3: zemberek.normalization.NormalizationBatchResponse
 }
 var file_normalization_proto_depIdxs = []int32{
-	0, // 0: zemberek.normalization.NormalizationService.Normalize:input_type -> zemberek.normalization.NormalizationRequest
-	1, // 1: zemberek.normalization.NormalizationService.Normalize:output_type -> zemberek.normalization.NormalizationResponse
-	1, // [1:2] is the sub-list for method output_type
-	0, // [0:1] is the sub-list for method input_type
-	0, // [0:0] is the sub-list for extension type_name
-	0, // [0:0] is the sub-list for extension extendee
-	0, // [0:0] is the sub-list for field type_name
+	1, // 0: zemberek.normalization.NormalizationBatchResponse.results:type_name -> zemberek.normalization.NormalizationResponse
+	0, // 1: zemberek.normalization.NormalizationService.Normalize:input_type -> zemberek.normalization.NormalizationRequest
+	2, // 2: zemberek.normalization.NormalizationService.NormalizeBatch:input_type -> zemberek.normalization.NormalizationBatchRequest
+	0, // 3: zemberek.normalization.NormalizationService.NormalizeStream:input_type -> zemberek.normalization.NormalizationRequest
+	1, // 4: zemberek.normalization.NormalizationService.Normalize:output_type -> zemberek.normalization.NormalizationResponse
+	3, // 5: zemberek.normalization.NormalizationService.NormalizeBatch:output_type -> zemberek.normalization.NormalizationBatchResponse
+	1, // 6: zemberek.normalization.NormalizationService.NormalizeStream:output_type -> zemberek.normalization.NormalizationResponse
+	4, // [4:7] is the sub-list for method output_type
+	1, // [1:4] is the sub-list for method input_type
+	1, // [1:1] is the sub-list for extension type_name
+	1, // [1:1] is the sub-list for extension extendee
+	0, // [0:1] is the sub-list for field type_name
 }
 
 func init() { file_normalization_proto_init() }
@@ -215,6 +340,30 @@ func file_normalization_proto_init() {
 				return nil
 			}
 		}
+		file_normalization_proto_msgTypes[2].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*NormalizationBatchRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_normalization_proto_msgTypes[3].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*NormalizationBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
 	}
 	type x struct{}
 	out := protoimpl.TypeBuilder{
@@ -222,7 +371,7 @@ func file_normalization_proto_init() {
 			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
 			RawDescriptor: file_normalization_proto_rawDesc,
 			NumEnums:      0,
-			NumMessages:   2,
+			NumMessages:   4,
 			NumExtensions: 0,
 			NumServices:   1,
 		},
@@ -249,6 +398,9 @@ const _ = grpc.SupportPackageIsVersion6
 // For semantics around ctx use and closing/ending streaming RPCs, please refer to https://godoc.org/google.golang.org/grpc#ClientConn.NewStream.
 type NormalizationServiceClient interface {
 	Normalize(ctx context.Context, in *NormalizationRequest, opts ...grpc.CallOption) (*NormalizationResponse, error)
+	NormalizeBatch(ctx context.Context, in *NormalizationBatchRequest, opts ...grpc.CallOption) (*NormalizationBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	NormalizeStream(ctx context.Context, opts ...grpc.CallOption) (NormalizationService_NormalizeStreamClient, error)
 }
 
 type normalizationServiceClient struct {
@@ -268,9 +420,52 @@ func (c *normalizationServiceClient) Normalize(ctx context.Context, in *Normaliz
 	return out, nil
 }
 
+func (c *normalizationServiceClient) NormalizeBatch(ctx context.Context, in *NormalizationBatchRequest, opts ...grpc.CallOption) (*NormalizationBatchResponse, error) {
+	out := new(NormalizationBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.normalization.NormalizationService/NormalizeBatch", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *normalizationServiceClient) NormalizeStream(ctx context.Context, opts ...grpc.CallOption) (NormalizationService_NormalizeStreamClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_NormalizationService_serviceDesc.Streams[0], "/zemberek.normalization.NormalizationService/NormalizeStream", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &normalizationServiceNormalizeStreamClient{stream}
+	return x, nil
+}
+
+type NormalizationService_NormalizeStreamClient interface {
+	Send(*NormalizationRequest) error
+	Recv() (*NormalizationResponse, error)
+	grpc.ClientStream
+}
+
+type normalizationServiceNormalizeStreamClient struct {
+	grpc.ClientStream
+}
+
+func (x *normalizationServiceNormalizeStreamClient) Send(m *NormalizationRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *normalizationServiceNormalizeStreamClient) Recv() (*NormalizationResponse, error) {
+	m := new(NormalizationResponse)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 // NormalizationServiceServer is the server API for NormalizationService service.
 type NormalizationServiceServer interface {
 	Normalize(context.Context, *NormalizationRequest) (*NormalizationResponse, error)
+	NormalizeBatch(context.Context, *NormalizationBatchRequest) (*NormalizationBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	NormalizeStream(NormalizationService_NormalizeStreamServer) error
 }
 
 // UnimplementedNormalizationServiceServer can be embedded to have forward compatible implementations.
@@ -280,6 +475,12 @@ type UnimplementedNormalizationServiceServer struct {
 func (*UnimplementedNormalizationServiceServer) Normalize(context.Context, *NormalizationRequest) (*NormalizationResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method Normalize not implemented")
 }
+func (*UnimplementedNormalizationServiceServer) NormalizeBatch(context.Context, *NormalizationBatchRequest) (*NormalizationBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method NormalizeBatch not implemented")
+}
+func (*UnimplementedNormalizationServiceServer) NormalizeStream(NormalizationService_NormalizeStreamServer) error {
+	return status.Errorf(codes.Unimplemented, "method NormalizeStream not implemented")
+}
 
 func RegisterNormalizationServiceServer(s *grpc.Server, srv NormalizationServiceServer) {
 	s.RegisterService(&_NormalizationService_serviceDesc, srv)
@@ -303,6 +504,50 @@ func _NormalizationService_Normalize_Handler(srv interface{}, ctx context.Contex
 	return interceptor(ctx, in, info, handler)
 }
 
+func _NormalizationService_NormalizeBatch_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(NormalizationBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(NormalizationServiceServer).NormalizeBatch(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.normalization.NormalizationService/NormalizeBatch",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(NormalizationServiceServer).NormalizeBatch(ctx, req.(*NormalizationBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _NormalizationService_NormalizeStream_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(NormalizationServiceServer).NormalizeStream(&normalizationServiceNormalizeStreamServer{stream})
+}
+
+type NormalizationService_NormalizeStreamServer interface {
+	Send(*NormalizationResponse) error
+	Recv() (*NormalizationRequest, error)
+	grpc.ServerStream
+}
+
+type normalizationServiceNormalizeStreamServer struct {
+	grpc.ServerStream
+}
+
+func (x *normalizationServiceNormalizeStreamServer) Send(m *NormalizationResponse) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *normalizationServiceNormalizeStreamServer) Recv() (*NormalizationRequest, error) {
+	m := new(NormalizationRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 var _NormalizationService_serviceDesc = grpc.ServiceDesc{
 	ServiceName: "zemberek.normalization.NormalizationService",
 	HandlerType: (*NormalizationServiceServer)(nil),
@@ -311,7 +556,18 @@ var _NormalizationService_serviceDesc = grpc.ServiceDesc{
 			MethodName: "Normalize",
 			Handler:    _NormalizationService_Normalize_Handler,
 		},
+		{
+			MethodName: "NormalizeBatch",
+			Handler:    _NormalizationService_NormalizeBatch_Handler,
+		},
+	},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "NormalizeStream",
+			Handler:       _NormalizationService_NormalizeStream_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
 	},
-	Streams:  []grpc.StreamDesc{},
 	Metadata: "normalization.proto",
 }
@@ -313,6 +313,117 @@ func (x *SentenceExtractionResponse) GetSentences() []string {
 	return nil
 }
 
+// Options apply to all inputs. See TokenizationRequest.
+type TokenizationBatchRequest struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Inputs                 []string `protobuf:"bytes,1,rep,name=inputs,proto3" json:"inputs,omitempty"`
+	IncludeTokenBoundaries bool     `protobuf:"varint,2,opt,name=includeTokenBoundaries,proto3" json:"includeTokenBoundaries,omitempty"`
+	IgnoreDoubleQuotes     bool     `protobuf:"varint,3,opt,name=ignoreDoubleQuotes,proto3" json:"ignoreDoubleQuotes,omitempty"`
+}
+
+func (x *TokenizationBatchRequest) Reset() {
+	*x = TokenizationBatchRequest{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_preprocess_proto_msgTypes[5]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *TokenizationBatchRequest) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*TokenizationBatchRequest) ProtoMessage() {}
+
+func (x *TokenizationBatchRequest) ProtoReflect() protoreflect.Message {
+	mi := &file_preprocess_proto_msgTypes[5]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use TokenizationBatchRequest.ProtoReflect.Descriptor instead.
+func (*TokenizationBatchRequest) Descriptor() ([]byte, []int) {
+	return file_preprocess_proto_rawDescGZIP(), []int{5}
+}
+
+func (x *TokenizationBatchRequest) GetInputs() []string {
+	if x != nil {
+		return x.Inputs
+	}
+	return nil
+}
+
+func (x *TokenizationBatchRequest) GetIncludeTokenBoundaries() bool {
+	if x != nil {
+		return x.IncludeTokenBoundaries
+	}
+	return false
+}
+
+func (x *TokenizationBatchRequest) GetIgnoreDoubleQuotes() bool {
+	if x != nil {
+		return x.IgnoreDoubleQuotes
+	}
+	return false
+}
+
+type TokenizationBatchResponse struct {
+	state         protoimpl.MessageState
+	sizeCache     protoimpl.SizeCache
+	unknownFields protoimpl.UnknownFields
+
+	Results []*TokenizationResponse `protobuf:"bytes,1,rep,name=results,proto3" json:"results,omitempty"`
+}
+
+func (x *TokenizationBatchResponse) Reset() {
+	*x = TokenizationBatchResponse{}
+	if protoimpl.UnsafeEnabled {
+		mi := &file_preprocess_proto_msgTypes[6]
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		ms.StoreMessageInfo(mi)
+	}
+}
+
+func (x *TokenizationBatchResponse) String() string {
+	return protoimpl.X.MessageStringOf(x)
+}
+
+func (*TokenizationBatchResponse) ProtoMessage() {}
+
+func (x *TokenizationBatchResponse) ProtoReflect() protoreflect.Message {
+	mi := &file_preprocess_proto_msgTypes[6]
+	if protoimpl.UnsafeEnabled && x != nil {
+		ms := protoimpl.X.MessageStateOf(protoimpl.Pointer(x))
+		if ms.LoadMessageInfo() == nil {
+			ms.StoreMessageInfo(mi)
+		}
+		return ms
+	}
+	return mi.MessageOf(x)
+}
+
+// Deprecated: Use TokenizationBatchResponse.ProtoReflect.Descriptor instead.
+func (*TokenizationBatchResponse) Descriptor() ([]byte, []int) {
+	return file_preprocess_proto_rawDescGZIP(), []int{6}
+}
+
+func (x *TokenizationBatchResponse) GetResults() []*TokenizationResponse {
+	if x != nil {
+		return x.Results
+	}
+	return nil
+}
+
 var File_preprocess_proto protoreflect.FileDescriptor
 
 var file_preprocess_proto_rawDesc = []byte{
@@ -350,24 +461,54 @@ var file_preprocess_proto_rawDesc = []byte{
 	0x6e, 0x63, 0x65, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73,
 	0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x1c, 0x0a, 0x09, 0x73, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63,
 	0x65, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x09, 0x52, 0x09, 0x73, 0x65, 0x6e, 0x74, 0x65, 0x6e,
-	0x63, 0x65, 0x73, 0x32, 0xf4, 0x01, 0x0a, 0x14, 0x50, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65,
-	0x73, 0x73, 0x69, 0x6e, 0x67, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x63, 0x0a, 0x08,
-	0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x65, 0x12, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
+	0x63, 0x65, 0x73, 0x22, 0x9a, 0x01, 0x0a, 0x18, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61,
+	0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74,
+	0x12, 0x16, 0x0a, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x09,
+	0x52, 0x06, 0x69, 0x6e, 0x70, 0x75, 0x74, 0x73, 0x12, 0x36, 0x0a, 0x16, 0x69, 0x6e, 0x63, 0x6c,
+	0x75, 0x64, 0x65, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x42, 0x6f, 0x75, 0x6e, 0x64, 0x61, 0x72, 0x69,
+	0x65, 0x73, 0x18, 0x02, 0x20, 0x01, 0x28, 0x08, 0x52, 0x16, 0x69, 0x6e, 0x63, 0x6c, 0x75, 0x64,
+	0x65, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x42, 0x6f, 0x75, 0x6e, 0x64, 0x61, 0x72, 0x69, 0x65, 0x73,
+	0x12, 0x2e, 0x0a, 0x12, 0x69, 0x67, 0x6e, 0x6f, 0x72, 0x65, 0x44, 0x6f, 0x75, 0x62, 0x6c, 0x65,
+	0x51, 0x75, 0x6f, 0x74, 0x65, 0x73, 0x18, 0x03, 0x20, 0x01, 0x28, 0x08, 0x52, 0x12, 0x69, 0x67,
+	0x6e, 0x6f, 0x72, 0x65, 0x44, 0x6f, 0x75, 0x62, 0x6c, 0x65, 0x51, 0x75, 0x6f, 0x74, 0x65, 0x73,
+	0x22, 0x62, 0x0a, 0x19, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e,
+	0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x45, 0x0a,
+	0x07, 0x72, 0x65, 0x73, 0x75, 0x6c, 0x74, 0x73, 0x18, 0x01, 0x20, 0x03, 0x28, 0x0b, 0x32, 0x2b,
+	0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f,
+	0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74,
+	0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x52, 0x07, 0x72, 0x65, 0x73,
+	0x75, 0x6c, 0x74, 0x73, 0x32, 0xd7, 0x03, 0x0a, 0x14, 0x50, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63,
+	0x65, 0x73, 0x73, 0x69, 0x6e, 0x67, 0x53, 0x65, 0x72, 0x76, 0x69, 0x63, 0x65, 0x12, 0x63, 0x0a,
+	0x08, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x65, 0x12, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f,
+	0x72, 0x2e, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65,
+	0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x2b, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
+	0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x54, 0x6f,
+	0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e,
+	0x73, 0x65, 0x12, 0x72, 0x0a, 0x0d, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x65, 0x42, 0x61,
+	0x74, 0x63, 0x68, 0x12, 0x2f, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70,
+	0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x54, 0x6f, 0x6b, 0x65,
+	0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65, 0x71,
+	0x75, 0x65, 0x73, 0x74, 0x1a, 0x30, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e,
+	0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x54, 0x6f, 0x6b,
+	0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x42, 0x61, 0x74, 0x63, 0x68, 0x52, 0x65,
+	0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x12, 0x6d, 0x0a, 0x0e, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69,
+	0x7a, 0x65, 0x53, 0x74, 0x72, 0x65, 0x61, 0x6d, 0x12, 0x2a, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65,
 	0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72,
 	0x2e, 0x54, 0x6f, 0x6b, 0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71,
 	0x75, 0x65, 0x73, 0x74, 0x1a, 0x2b, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e,
 	0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x54, 0x6f, 0x6b,
 	0x65, 0x6e, 0x69, 0x7a, 0x61, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73,
-	0x65, 0x12, 0x77, 0x0a, 0x10, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63, 0x74, 0x53, 0x65, 0x6e, 0x74,
-	0x65, 0x6e, 0x63, 0x65, 0x73, 0x12, 0x30, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b,
-	0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e, 0x53, 0x65,
-	0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63, 0x74, 0x69, 0x6f, 0x6e,
-	0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x31, 0x2e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72,
-	0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f, 0x72, 0x2e,
-	0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63, 0x74, 0x69,
-	0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42, 0x12, 0x0a, 0x0e, 0x7a, 0x65,
-	0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x50, 0x01, 0x62, 0x06,
-	0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
+	0x65, 0x28, 0x01, 0x30, 0x01, 0x12, 0x77, 0x0a, 0x10, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63, 0x74,
+	0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x73, 0x12, 0x30, 0x2e, 0x7a, 0x65, 0x6d, 0x62,
+	0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73, 0x73, 0x6f,
+	0x72, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x45, 0x78, 0x74, 0x72, 0x61, 0x63,
+	0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x71, 0x75, 0x65, 0x73, 0x74, 0x1a, 0x31, 0x2e, 0x7a, 0x65,
+	0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x65, 0x70, 0x72, 0x6f, 0x63, 0x65, 0x73,
+	0x73, 0x6f, 0x72, 0x2e, 0x53, 0x65, 0x6e, 0x74, 0x65, 0x6e, 0x63, 0x65, 0x45, 0x78, 0x74, 0x72,
+	0x61, 0x63, 0x74, 0x69, 0x6f, 0x6e, 0x52, 0x65, 0x73, 0x70, 0x6f, 0x6e, 0x73, 0x65, 0x42, 0x12,
+	0x0a, 0x0e, 0x7a, 0x65, 0x6d, 0x62, 0x65, 0x72, 0x65, 0x6b, 0x2e, 0x70, 0x72, 0x6f, 0x74, 0x6f,
+	0x50, 0x01, 0x62, 0x06, 0x70, 0x72, 0x6f, 0x74, 0x6f, 0x33,
 }
 
 var (
@@ -382,25 +523,32 @@ func file_preprocess_proto_rawDescGZIP() []byte {
 	return file_preprocess_proto_rawDescData
 }
 
-var file_preprocess_proto_msgTypes = make([]protoimpl.MessageInfo, 5)
+var file_preprocess_proto_msgTypes = make([]protoimpl.MessageInfo, 7)
 var file_preprocess_proto_goTypes = []interface{}{
 	(*TokenizationRequest)(nil),        // 0: zemberek.preprocessor.TokenizationRequest
 	(*TokenProto)(nil),                 // 1: zemberek.preprocessor.TokenProto
 	(*TokenizationResponse)(nil),       // 2: zemberek.preprocessor.TokenizationResponse
 	(*SentenceExtractionRequest)(nil),  // 3: zemberek.preprocessor.SentenceExtractionRequest
 	(*SentenceExtractionResponse)(nil), // 4: zemberek.preprocessor.SentenceExtractionResponse
+	(*TokenizationBatchRequest)(nil),   // 5: zemberek.preprocessor.TokenizationBatchRequest
+	(*TokenizationBatchResponse)(nil),  // 6: zemberek.preprocessor.TokenizationBatchResponse
 }
 var file_preprocess_proto_depIdxs = []int32{
 	1, // 0: zemberek.preprocessor.TokenizationResponse.tokens:type_name -> zemberek.preprocessor.TokenProto
-	0, // 1: zemberek.preprocessor.PreprocessingService.Tokenize:input_type -> zemberek.preprocessor.TokenizationRequest
-	3, // 2: zemberek.preprocessor.PreprocessingService.ExtractSentences:input_type -> zemberek.preprocessor.SentenceExtractionRequest
-	2, // 3: zemberek.preprocessor.PreprocessingService.Tokenize:output_type -> zemberek.preprocessor.TokenizationResponse
-	4, // 4: zemberek.preprocessor.PreprocessingService.ExtractSentences:output_type -> zemberek.preprocessor.SentenceExtractionResponse
-	3, // [3:5] is the sub-list for method output_type
-	1, // [1:3] is the sub-list for method input_type
-	1, // [1:1] is the sub-list for extension type_name
-	1, // [1:1] is the sub-list for extension extendee
-	0, // [0:1] is the sub-list for field type_name
+	2, // 1: zemberek.preprocessor.TokenizationBatchResponse.results:type_name -> zemberek.preprocessor.TokenizationResponse
+	0, // 2: zemberek.preprocessor.PreprocessingService.Tokenize:input_type -> zemberek.preprocessor.TokenizationRequest
+	5, // 3: zemberek.preprocessor.PreprocessingService.TokenizeBatch:input_type -> zemberek.preprocessor.TokenizationBatchRequest
+	0, // 4: zemberek.preprocessor.PreprocessingService.TokenizeStream:input_type -> zemberek.preprocessor.TokenizationRequest
+	3, // 5: zemberek.preprocessor.PreprocessingService.ExtractSentences:input_type -> zemberek.preprocessor.SentenceExtractionRequest
+	2, // 6: zemberek.preprocessor.PreprocessingService.Tokenize:output_type -> zemberek.preprocessor.TokenizationResponse
+	6, // 7: zemberek.preprocessor.PreprocessingService.TokenizeBatch:output_type -> zemberek.preprocessor.TokenizationBatchResponse
+	2, // 8: zemberek.preprocessor.PreprocessingService.TokenizeStream:output_type -> zemberek.preprocessor.TokenizationResponse
+	4, // 9: zemberek.preprocessor.PreprocessingService.ExtractSentences:output_type -> zemberek.preprocessor.SentenceExtractionResponse
+	6, // [6:10] is the sub-list for method output_type
+	2, // [2:6] is the sub-list for method input_type
+	2, // [2:2] is the sub-list for extension type_name
+	2, // [2:2] is the sub-list for extension extendee
+	0, // [0:2] is the sub-list for field type_name
 }
 
 func init() { file_preprocess_proto_init() }
@@ -469,6 +617,30 @@ func file_preprocess_proto_init() {
 				return nil
 			}
 		}
+		file_preprocess_proto_msgTypes[5].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*TokenizationBatchRequest); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
+		file_preprocess_proto_msgTypes[6].Exporter = func(v interface{}, i int) interface{} {
+			switch v := v.(*TokenizationBatchResponse); i {
+			case 0:
+				return &v.state
+			case 1:
+				return &v.sizeCache
+			case 2:
+				return &v.unknownFields
+			default:
+				return nil
+			}
+		}
 	}
 	type x struct{}
 	out := protoimpl.TypeBuilder{
@@ -476,7 +648,7 @@ func file_preprocess_proto_init() {
 			GoPackagePath: reflect.TypeOf(x{}).PkgPath(),
 			RawDescriptor: file_preprocess_proto_rawDesc,
 			NumEnums:      0,
-			NumMessages:   5,
+			NumMessages:   7,
 			NumExtensions: 0,
 			NumServices:   1,
 		},
@@ -503,6 +675,9 @@ const _ = grpc.SupportPackageIsVersion6
 // For semantics around ctx use and closing/ending streaming RPCs, please refer to https://godoc.org/google.golang.org/grpc#ClientConn.NewStream.
 type PreprocessingServiceClient interface {
 	Tokenize(ctx context.Context, in *TokenizationRequest, opts ...grpc.CallOption) (*TokenizationResponse, error)
+	TokenizeBatch(ctx context.Context, in *TokenizationBatchRequest, opts ...grpc.CallOption) (*TokenizationBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	TokenizeStream(ctx context.Context, opts ...grpc.CallOption) (PreprocessingService_TokenizeStreamClient, error)
 	ExtractSentences(ctx context.Context, in *SentenceExtractionRequest, opts ...grpc.CallOption) (*SentenceExtractionResponse, error)
 }
 
@@ -523,6 +698,46 @@ func (c *preprocessingServiceClient) Tokenize(ctx context.Context, in *Tokenizat
 	return out, nil
 }
 
+func (c *preprocessingServiceClient) TokenizeBatch(ctx context.Context, in *TokenizationBatchRequest, opts ...grpc.CallOption) (*TokenizationBatchResponse, error) {
+	out := new(TokenizationBatchResponse)
+	err := c.cc.Invoke(ctx, "/zemberek.preprocessor.PreprocessingService/TokenizeBatch", in, out, opts...)
+	if err != nil {
+		return nil, err
+	}
+	return out, nil
+}
+
+func (c *preprocessingServiceClient) TokenizeStream(ctx context.Context, opts ...grpc.CallOption) (PreprocessingService_TokenizeStreamClient, error) {
+	stream, err := c.cc.NewStream(ctx, &_PreprocessingService_serviceDesc.Streams[0], "/zemberek.preprocessor.PreprocessingService/TokenizeStream", opts...)
+	if err != nil {
+		return nil, err
+	}
+	x := &preprocessingServiceTokenizeStreamClient{stream}
+	return x, nil
+}
+
+type PreprocessingService_TokenizeStreamClient interface {
+	Send(*TokenizationRequest) error
+	Recv() (*TokenizationResponse, error)
+	grpc.ClientStream
+}
+
+type preprocessingServiceTokenizeStreamClient struct {
+	grpc.ClientStream
+}
+
+func (x *preprocessingServiceTokenizeStreamClient) Send(m *TokenizationRequest) error {
+	return x.ClientStream.SendMsg(m)
+}
+
+func (x *preprocessingServiceTokenizeStreamClient) Recv() (*TokenizationResponse, error) {
+	m := new(TokenizationResponse)
+	if err := x.ClientStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func (c *preprocessingServiceClient) ExtractSentences(ctx context.Context, in *SentenceExtractionRequest, opts ...grpc.CallOption) (*SentenceExtractionResponse, error) {
 	out := new(SentenceExtractionResponse)
 	err := c.cc.Invoke(ctx, "/zemberek.preprocessor.PreprocessingService/ExtractSentences", in, out, opts...)
@@ -535,6 +750,9 @@ func (c *preprocessingServiceClient) ExtractSentences(ctx context.Context, in *S
 // PreprocessingServiceServer is the server API for PreprocessingService service.
 type PreprocessingServiceServer interface {
 	Tokenize(context.Context, *TokenizationRequest) (*TokenizationResponse, error)
+	TokenizeBatch(context.Context, *TokenizationBatchRequest) (*TokenizationBatchResponse, error)
+	// Client streams requests, server streams results back in request order.
+	TokenizeStream(PreprocessingService_TokenizeStreamServer) error
 	ExtractSentences(context.Context, *SentenceExtractionRequest) (*SentenceExtractionResponse, error)
 }
 
@@ -545,6 +763,12 @@ type UnimplementedPreprocessingServiceServer struct {
 func (*UnimplementedPreprocessingServiceServer) Tokenize(context.Context, *TokenizationRequest) (*TokenizationResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method Tokenize not implemented")
 }
+func (*UnimplementedPreprocessingServiceServer) TokenizeBatch(context.Context, *TokenizationBatchRequest) (*TokenizationBatchResponse, error) {
+	return nil, status.Errorf(codes.Unimplemented, "method TokenizeBatch not implemented")
+}
+func (*UnimplementedPreprocessingServiceServer) TokenizeStream(PreprocessingService_TokenizeStreamServer) error {
+	return status.Errorf(codes.Unimplemented, "method TokenizeStream not implemented")
+}
 func (*UnimplementedPreprocessingServiceServer) ExtractSentences(context.Context, *SentenceExtractionRequest) (*SentenceExtractionResponse, error) {
 	return nil, status.Errorf(codes.Unimplemented, "method ExtractSentences not implemented")
 }
@@ -571,6 +795,50 @@ func _PreprocessingService_Tokenize_Handler(srv interface{}, ctx context.Context
 	return interceptor(ctx, in, info, handler)
 }
 
+func _PreprocessingService_TokenizeBatch_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
+	in := new(TokenizationBatchRequest)
+	if err := dec(in); err != nil {
+		return nil, err
+	}
+	if interceptor == nil {
+		return srv.(PreprocessingServiceServer).TokenizeBatch(ctx, in)
+	}
+	info := &grpc.UnaryServerInfo{
+		Server:     srv,
+		FullMethod: "/zemberek.preprocessor.PreprocessingService/TokenizeBatch",
+	}
+	handler := func(ctx context.Context, req interface{}) (interface{}, error) {
+		return srv.(PreprocessingServiceServer).TokenizeBatch(ctx, req.(*TokenizationBatchRequest))
+	}
+	return interceptor(ctx, in, info, handler)
+}
+
+func _PreprocessingService_TokenizeStream_Handler(srv interface{}, stream grpc.ServerStream) error {
+	return srv.(PreprocessingServiceServer).TokenizeStream(&preprocessingServiceTokenizeStreamServer{stream})
+}
+
+type PreprocessingService_TokenizeStreamServer interface {
+	Send(*TokenizationResponse) error
+	Recv() (*TokenizationRequest, error)
+	grpc.ServerStream
+}
+
+type preprocessingServiceTokenizeStreamServer struct {
+	grpc.ServerStream
+}
+
+func (x *preprocessingServiceTokenizeStreamServer) Send(m *TokenizationResponse) error {
+	return x.ServerStream.SendMsg(m)
+}
+
+func (x *preprocessingServiceTokenizeStreamServer) Recv() (*TokenizationRequest, error) {
+	m := new(TokenizationRequest)
+	if err := x.ServerStream.RecvMsg(m); err != nil {
+		return nil, err
+	}
+	return m, nil
+}
+
 func _PreprocessingService_ExtractSentences_Handler(srv interface{}, ctx context.Context, dec func(interface{}) error, interceptor grpc.UnaryServerInterceptor) (interface{}, error) {
 	in := new(SentenceExtractionRequest)
 	if err := dec(in); err != nil {
@@ -597,11 +865,22 @@ var _PreprocessingService_serviceDesc = grpc.ServiceDesc{
 			MethodName: "Tokenize",
 			Handler:    _PreprocessingService_Tokenize_Handler,
 		},
+		{
+			MethodName: "TokenizeBatch",
+			Handler:    _PreprocessingService_TokenizeBatch_Handler,
+		},
 		{
 			MethodName: "ExtractSentences",
 			Handler:    _PreprocessingService_ExtractSentences_Handler,
 		},
 	},
-	Streams:  []grpc.StreamDesc{},
+	Streams: []grpc.StreamDesc{
+		{
+			StreamName:    "TokenizeStream",
+			Handler:       _PreprocessingService_TokenizeStream_Handler,
+			ServerStreams: true,
+			ClientStreams: true,
+		},
+	},
 	Metadata: "preprocess.proto",
 }
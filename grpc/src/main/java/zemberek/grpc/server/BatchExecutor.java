@@ -0,0 +1,157 @@
+package zemberek.grpc.server;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Processes items of batch and streaming requests in parallel. A batch is split to at most
+ * [parallelism] contiguous parts, one of them is processed in the calling thread and the rest in
+ * the executor. Results are returned in input order. If executor rejects the work, call fails
+ * with RESOURCE_EXHAUSTED status. If the gRPC call is cancelled or its deadline is exceeded,
+ * remaining items are not processed.
+ */
+public class BatchExecutor {
+
+  private final ExecutorService executor;
+  private final int parallelism;
+
+  public BatchExecutor(ExecutorService executor, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be positive. But it is " + parallelism);
+    }
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Creates a BatchExecutor with a fixed size pool of daemon threads.
+   */
+  public static BatchExecutor fixed(int threadCount) {
+    AtomicInteger counter = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount, r -> {
+      Thread thread = new Thread(r, "zemberek-batch-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    return new BatchExecutor(executor, threadCount);
+  }
+
+  /**
+   * Creates a BatchExecutor with a fixed size pool of daemon threads. At most [queueSize] tasks
+   * can wait for a thread, further tasks are rejected immediately.
+   */
+  public static BatchExecutor bounded(int threadCount, int queueSize) {
+    AtomicInteger counter = new AtomicInteger();
+    ExecutorService executor = new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueSize),
+        r -> {
+          Thread thread = new Thread(r, "zemberek-batch-" + counter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+    return new BatchExecutor(executor, threadCount);
+  }
+
+  /**
+   * Creates a BatchExecutor with a thread per available processor.
+   */
+  public static BatchExecutor withDefaults() {
+    return fixed(Runtime.getRuntime().availableProcessors());
+  }
+
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Applies [function] to all inputs in parallel and returns the results in input order. If
+   * function throws an exception for any input, it is re-thrown.
+   */
+  public <T, R> List<R> map(List<T> inputs, Function<T, R> function) {
+    Context context = Context.current();
+    int partCount = Math.min(parallelism, inputs.size());
+    if (partCount <= 1) {
+      return mapRange(context, inputs, function, 0, inputs.size());
+    }
+    int partSize = (inputs.size() + partCount - 1) / partCount;
+    List<Future<List<R>>> futures = new ArrayList<>();
+    List<R> results = new ArrayList<>(inputs.size());
+    try {
+      for (int start = partSize; start < inputs.size(); start += partSize) {
+        int s = start;
+        int e = Math.min(start + partSize, inputs.size());
+        futures.add(executor.submit(() -> mapRange(context, inputs, function, s, e)));
+      }
+      results.addAll(mapRange(context, inputs, function, 0, partSize));
+      for (Future<List<R>> future : futures) {
+        results.addAll(future.get());
+      }
+    } catch (RejectedExecutionException e) {
+      throw Status.RESOURCE_EXHAUSTED
+          .withDescription("Server is busy.")
+          .withCause(e)
+          .asRuntimeException();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch processing is interrupted.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      for (Future<List<R>> future : futures) {
+        future.cancel(true);
+      }
+    }
+    return results;
+  }
+
+  private static <T, R> List<R> mapRange(
+      Context context,
+      List<T> inputs,
+      Function<T, R> function,
+      int start,
+      int end) {
+    List<R> results = new ArrayList<>(end - start);
+    for (int i = start; i < end; i++) {
+      checkNotCancelled(context);
+      results.add(function.apply(inputs.get(i)));
+    }
+    return results;
+  }
+
+  /**
+   * Throws a StatusRuntimeException if call of the [context] is cancelled or its deadline is
+   * exceeded.
+   */
+  static void checkNotCancelled(Context context) {
+    if (!context.isCancelled()) {
+      return;
+    }
+    Deadline deadline = context.getDeadline();
+    Status status = deadline != null && deadline.isExpired() ?
+        Status.DEADLINE_EXCEEDED : Status.CANCELLED;
+    throw status.withDescription("Call is no longer active.").asRuntimeException();
+  }
+}
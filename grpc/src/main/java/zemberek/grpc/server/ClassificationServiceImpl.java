@@ -0,0 +1,111 @@
+package zemberek.grpc.server;
+
+import com.google.common.collect.Lists;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import zemberek.classification.FastTextClassifier;
+import zemberek.core.ScoredItem;
+import zemberek.grpc.server.ModelRegistry.Lease;
+import zemberek.proto.classification.ClassificationBatchRequest;
+import zemberek.proto.classification.ClassificationBatchResponse;
+import zemberek.proto.classification.ClassificationRequest;
+import zemberek.proto.classification.ClassificationResponse;
+import zemberek.proto.classification.ClassificationResult;
+import zemberek.proto.classification.ClassificationServiceGrpc.ClassificationServiceImplBase;
+import zemberek.proto.classification.LabelScore;
+
+public class ClassificationServiceImpl extends ClassificationServiceImplBase {
+
+  // Batch inputs are predicted in parts of this size, each part with the batch kernel of FastText.
+  private static final int PART_SIZE = 64;
+
+  private final ModelRegistry<FastTextClassifier> registry;
+  private final BatchExecutor batchExecutor;
+  private final ServerMetrics metrics;
+
+  public ClassificationServiceImpl(ZemberekContext context) throws IOException {
+    this.batchExecutor = context.batchExecutor;
+    this.metrics = context.metrics;
+    this.registry = new ModelRegistry<>("classification",
+        (path, mapped) -> mapped ?
+            FastTextClassifier.loadMapped(path) :
+            FastTextClassifier.load(path));
+    if (context.configuration != null) {
+      for (Map.Entry<String, Path> e : context.configuration.classificationModels.entrySet()) {
+        registry.load(e.getKey(), "", e.getValue(), false);
+      }
+    }
+  }
+
+  ModelRegistry<FastTextClassifier> getRegistry() {
+    return registry;
+  }
+
+  @Override
+  public void classify(ClassificationRequest request,
+      StreamObserver<ClassificationResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      try (Lease<FastTextClassifier> lease = registry.acquire(request.getModel())) {
+        List<ScoredItem<String>> labels = metrics.time(ServerMetrics.CLASSIFICATION,
+            () -> predict(lease.model(), request.getInput(), request.getCount(),
+                request.getThreshold()));
+        return ClassificationResponse.newBuilder()
+            .setModel(lease.entry.name)
+            .setVersion(lease.entry.version)
+            .addAllLabels(toLabelScores(labels))
+            .build();
+      }
+    });
+  }
+
+  @Override
+  public void classifyBatch(ClassificationBatchRequest request,
+      StreamObserver<ClassificationBatchResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      try (Lease<FastTextClassifier> lease = registry.acquire(request.getModel())) {
+        FastTextClassifier classifier = lease.model();
+        int k = Math.max(request.getCount(), 1);
+        float threshold = request.getThreshold();
+        List<List<List<ScoredItem<String>>>> parts = batchExecutor.map(
+            Lists.partition(request.getInputsList(), PART_SIZE),
+            part -> metrics.time(ServerMetrics.CLASSIFICATION, () -> threshold > 0 ?
+                classifier.predict(part, k, threshold) :
+                classifier.predict(part, k)));
+        ClassificationBatchResponse.Builder builder = ClassificationBatchResponse.newBuilder()
+            .setModel(lease.entry.name)
+            .setVersion(lease.entry.version);
+        for (List<List<ScoredItem<String>>> part : parts) {
+          for (List<ScoredItem<String>> labels : part) {
+            builder.addResults(ClassificationResult.newBuilder()
+                .addAllLabels(toLabelScores(labels))
+                .build());
+          }
+        }
+        return builder.build();
+      }
+    });
+  }
+
+  private static List<ScoredItem<String>> predict(FastTextClassifier classifier, String input,
+      int count, float threshold) {
+    int k = Math.max(count, 1);
+    return threshold > 0 ?
+        classifier.predict(input, k, threshold) :
+        classifier.predict(input, k);
+  }
+
+  private static List<LabelScore> toLabelScores(List<ScoredItem<String>> items) {
+    List<LabelScore> result = new ArrayList<>(items.size());
+    for (ScoredItem<String> item : items) {
+      result.add(LabelScore.newBuilder()
+          .setLabel(item.item)
+          .setScore(item.score)
+          .build());
+    }
+    return result;
+  }
+}
@@ -0,0 +1,184 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import zemberek.core.turkish.PrimaryPos;
+import zemberek.core.turkish.SecondaryPos;
+import zemberek.morphology.TurkishMorphology;
+import zemberek.morphology.analysis.SentenceAnalysis;
+import zemberek.morphology.analysis.SentenceWordAnalysis;
+import zemberek.morphology.analysis.SingleAnalysis;
+import zemberek.morphology.analysis.SingleAnalysis.MorphemeData;
+import zemberek.morphology.lexicon.DictionaryItem;
+import zemberek.morphology.morphotactics.InformalTurkishMorphotactics;
+import zemberek.morphology.morphotactics.Morpheme;
+import zemberek.morphology.morphotactics.TurkishMorphotactics;
+import zemberek.proto.morphology.AnalysisTablesResponse;
+import zemberek.proto.morphology.CompactAnalysisProto;
+import zemberek.proto.morphology.CompactSentenceAnalysisProto;
+import zemberek.proto.morphology.CompactWordProto;
+import zemberek.proto.morphology.DictionaryItemProto;
+import zemberek.proto.morphology.LexiconResponse;
+
+/**
+ * Converts analyses to their compact proto form. Dictionary items, morphemes and POS values are
+ * written as indexes to tables that are built once from the morphology of the server. Clients
+ * fetch the tables once and resolve the indexes locally, this makes responses several times
+ * smaller than the full form. Lexicon table is sorted by item id, so it does not depend on the
+ * loading order of the dictionaries. Lexicon id is a hash of the item ids; clients re-fetch the
+ * lexicon if the id in a response is different than the one they have.
+ */
+class CompactAnalysisEncoder {
+
+  private final List<DictionaryItem> lexicon;
+  private final Map<DictionaryItem, Integer> lexiconIndexes;
+  private final List<Morpheme> morphemes;
+  private final Map<String, Integer> morphemeIndexes = new HashMap<>();
+  private final String lexiconId;
+
+  CompactAnalysisEncoder(TurkishMorphology morphology) {
+    List<DictionaryItem> items = new ArrayList<>(morphology.getLexicon().getAllItems());
+    items.sort((a, b) -> a.id.compareTo(b.id));
+    this.lexicon = Collections.unmodifiableList(items);
+    // analyses refer to the lexicon instances. Runtime items are not in this map.
+    this.lexiconIndexes = new IdentityHashMap<>(items.size());
+    long hash = 1125899906842597L;
+    for (int i = 0; i < items.size(); i++) {
+      DictionaryItem item = items.get(i);
+      lexiconIndexes.put(item, i);
+      hash = 31 * hash + item.id.hashCode();
+    }
+    this.lexiconId = Long.toHexString(hash) + "-" + items.size();
+    // informal morphemes are registered when InformalTurkishMorphotactics class is initialized,
+    // and unknown word analyses use a morpheme that is not registered at all. Class is
+    // initialized here and the unknown morpheme is added, so the table does not depend on the
+    // morphology configuration.
+    initialize(InformalTurkishMorphotactics.class);
+    List<Morpheme> allMorphemes = new ArrayList<>(TurkishMorphotactics.getAllMorphemes());
+    allMorphemes.add(Morpheme.UNKNOWN);
+    allMorphemes.sort((a, b) -> a.id.compareTo(b.id));
+    this.morphemes = allMorphemes;
+    for (int i = 0; i < morphemes.size(); i++) {
+      morphemeIndexes.put(morphemes.get(i).id, i);
+    }
+  }
+
+  private static void initialize(Class<?> clazz) {
+    try {
+      Class.forName(clazz.getName(), true, clazz.getClassLoader());
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  String lexiconId() {
+    return lexiconId;
+  }
+
+  AnalysisTablesResponse tables() {
+    AnalysisTablesResponse.Builder builder = AnalysisTablesResponse.newBuilder()
+        .setLexiconSize(lexicon.size())
+        .setLexiconId(lexiconId);
+    for (Morpheme morpheme : morphemes) {
+      builder.addMorphemes(morpheme.id);
+    }
+    for (PrimaryPos pos : PrimaryPos.values()) {
+      builder.addPrimaryPos(pos.shortForm);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns [count] lexicon items starting from [start]. Less items are returned if the end of
+   * the lexicon is reached.
+   */
+  LexiconResponse lexicon(int start, int count) {
+    if (start < 0 || count < 0) {
+      throw Status.INVALID_ARGUMENT
+          .withDescription("start and count cannot be negative.")
+          .asRuntimeException();
+    }
+    LexiconResponse.Builder builder = LexiconResponse.newBuilder()
+        .setLexiconSize(lexicon.size())
+        .setLexiconId(lexiconId);
+    int end = (int) Math.min(lexicon.size(), (long) start + count);
+    for (int i = start; i < end; i++) {
+      DictionaryItem item = lexicon.get(i);
+      builder.addItems(toDictionaryItemProto(item).toBuilder().setId(item.id));
+    }
+    return builder.build();
+  }
+
+  CompactSentenceAnalysisProto encode(SentenceAnalysis sa, boolean allAnalyses) {
+    CompactSentenceAnalysisProto.Builder builder = CompactSentenceAnalysisProto.newBuilder();
+    for (SentenceWordAnalysis swa : sa.getWordAnalyses()) {
+      builder.addWords(encode(swa, allAnalyses));
+    }
+    return builder.build();
+  }
+
+  private CompactWordProto encode(SentenceWordAnalysis swa, boolean allAnalyses) {
+    String token = swa.wordAnalysis.getInput();
+    CompactWordProto.Builder builder = CompactWordProto.newBuilder().setToken(token);
+    if (!allAnalyses) {
+      return builder.setBest(encode(swa.bestAnalysis, token)).build();
+    }
+    // best analysis is one of the analyses, only its index is sent.
+    int bestIndex = -1;
+    int i = 0;
+    for (SingleAnalysis analysis : swa.wordAnalysis) {
+      if (analysis == swa.bestAnalysis) {
+        bestIndex = i;
+      }
+      builder.addAnalyses(encode(analysis, token));
+      i++;
+    }
+    if (bestIndex < 0) {
+      // best analysis is an unknown analysis that is not in the word analysis.
+      builder.addAnalyses(encode(swa.bestAnalysis, token));
+      bestIndex = i;
+    }
+    return builder.setBestIndex(bestIndex).build();
+  }
+
+  CompactAnalysisProto encode(SingleAnalysis analysis, String token) {
+    CompactAnalysisProto.Builder builder = CompactAnalysisProto.newBuilder()
+        .setPos(analysis.getPos().ordinal())
+        .setInformal(analysis.containsInformalMorpheme())
+        .setRuntime(analysis.isRuntime());
+    DictionaryItem item = analysis.getDictionaryItem();
+    Integer itemIndex = lexiconIndexes.get(item);
+    if (itemIndex == null) {
+      builder.setItem(-1).setRuntimeItem(toDictionaryItemProto(item));
+    } else {
+      builder.setItem(itemIndex);
+    }
+    StringBuilder surface = new StringBuilder(token.length());
+    for (MorphemeData m : analysis.getMorphemeDataList()) {
+      Integer morphemeIndex = morphemeIndexes.get(m.morpheme.id);
+      builder.addMorphemes(morphemeIndex == null ? -1 : morphemeIndex);
+      builder.addSurfaceLengths(m.surface.length());
+      surface.append(m.surface);
+    }
+    if (!token.contentEquals(surface)) {
+      builder.setSurface(surface.toString());
+    }
+    return builder.build();
+  }
+
+  static DictionaryItemProto toDictionaryItemProto(DictionaryItem dictionaryItem) {
+    DictionaryItemProto.Builder builder = DictionaryItemProto.newBuilder()
+        .setLemma(dictionaryItem.lemma)
+        .setPrimaryPos(dictionaryItem.primaryPos.shortForm);
+    if (dictionaryItem.secondaryPos != null &&
+        dictionaryItem.secondaryPos != SecondaryPos.None) {
+      builder.setSecondaryPos(dictionaryItem.secondaryPos.shortForm);
+    }
+    return builder.build();
+  }
+}
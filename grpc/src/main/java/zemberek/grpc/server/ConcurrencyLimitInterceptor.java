@@ -0,0 +1,75 @@
+package zemberek.grpc.server;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the amount of calls a service processes at the same time. When limit is reached, new
+ * calls are rejected immediately with RESOURCE_EXHAUSTED status instead of being queued, so that
+ * latency of the accepted calls does not grow under traffic spikes. Clients may retry rejected
+ * calls later. An instance should be used for a single service.
+ */
+class ConcurrencyLimitInterceptor implements ServerInterceptor {
+
+  private final int limit;
+  private final AtomicInteger active = new AtomicInteger();
+
+  ConcurrencyLimitInterceptor(int limit) {
+    this.limit = limit;
+  }
+
+  int activeCallCount() {
+    return active.get();
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call,
+      Metadata headers,
+      ServerCallHandler<ReqT, RespT> next) {
+    if (active.incrementAndGet() > limit) {
+      active.decrementAndGet();
+      call.close(Status.RESOURCE_EXHAUSTED
+          .withDescription("Too many concurrent calls for " +
+              call.getMethodDescriptor().getServiceName()), new Metadata());
+      return new ServerCall.Listener<ReqT>() {
+      };
+    }
+    AtomicBoolean released = new AtomicBoolean(false);
+    Runnable release = () -> {
+      if (released.compareAndSet(false, true)) {
+        active.decrementAndGet();
+      }
+    };
+    try {
+      return new SimpleForwardingServerCallListener<ReqT>(next.startCall(call, headers)) {
+        @Override
+        public void onComplete() {
+          try {
+            super.onComplete();
+          } finally {
+            release.run();
+          }
+        }
+
+        @Override
+        public void onCancel() {
+          try {
+            super.onCancel();
+          } finally {
+            release.run();
+          }
+        }
+      };
+    } catch (RuntimeException e) {
+      release.run();
+      throw e;
+    }
+  }
+}
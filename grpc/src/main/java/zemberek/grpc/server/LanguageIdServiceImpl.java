@@ -1,5 +1,6 @@
 package zemberek.grpc.server;
 
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import zemberek.langid.LanguageIdentifier;
 import zemberek.proto.*;
@@ -11,8 +12,14 @@ public class LanguageIdServiceImpl extends LanguageIdServiceImplBase {
 
   private final LanguageIdentifier languageIdentifier;
   private final LanguageIdentifier languageIdentifierTr;
+  private final BatchExecutor batchExecutor;
 
   public LanguageIdServiceImpl() throws Exception {
+    this(BatchExecutor.withDefaults());
+  }
+
+  public LanguageIdServiceImpl(BatchExecutor batchExecutor) throws Exception {
+    this.batchExecutor = batchExecutor;
     languageIdentifier = LanguageIdentifier.fromInternalModels();
     languageIdentifierTr = LanguageIdentifier.fromInternalModelGroup("tr_group");
   }
@@ -20,39 +27,61 @@ public class LanguageIdServiceImpl extends LanguageIdServiceImplBase {
   @Override
   public void detect(LanguageIdRequest request,
       StreamObserver<LanguageIdResponse> responseObserver) {
-    LanguageIdentifier identifier = request.getTrGroup() ? languageIdentifierTr : languageIdentifier;
+    respond(request, responseObserver, false);
+  }
 
-    String id = identifier.identify(request.getInput(), request.getMaxSampleCount());
+  @Override
+  public void detectFast(LanguageIdRequest request,
+      StreamObserver<LanguageIdResponse> responseObserver) {
+    respond(request, responseObserver, true);
+  }
 
-    LanguageIdResponse.Builder builder = LanguageIdResponse.newBuilder().setLangId(id);
-    if(request.getIncludeScores()){
-      List<LanguageIdentifier.IdResult> scores = identifier.getScores(request.getInput(), request.getMaxSampleCount());
-      for (LanguageIdentifier.IdResult item : scores) {
-        builder.addIdResult(IdResult.newBuilder().setId(item.id).setScore(item.score).build());
-      }
-    }
+  private void respond(LanguageIdRequest request,
+      StreamObserver<LanguageIdResponse> responseObserver, boolean fast) {
+    ServiceCalls.respond(responseObserver, () -> {
+      // call may be cancelled or its deadline may be exceeded while waiting in the executor.
+      BatchExecutor.checkNotCancelled(Context.current());
+      return detect(request.getInput(), request.getMaxSampleCount(), request.getTrGroup(),
+          request.getIncludeScores(), fast);
+    });
+  }
 
-    responseObserver.onNext(builder.build());
-    responseObserver.onCompleted();
+  @Override
+  public void detectBatch(LanguageIdBatchRequest request,
+      StreamObserver<LanguageIdBatchResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> LanguageIdBatchResponse.newBuilder()
+        .addAllResults(batchExecutor.map(request.getInputsList(),
+            s -> detect(s, request.getMaxSampleCount(), request.getTrGroup(),
+                request.getIncludeScores(), request.getFast())))
+        .build());
   }
 
   @Override
-  public void detectFast(LanguageIdRequest request,
+  public StreamObserver<LanguageIdRequest> detectStream(
       StreamObserver<LanguageIdResponse> responseObserver) {
-    LanguageIdentifier identifier = request.getTrGroup() ? languageIdentifierTr : languageIdentifier;
+    return new OrderedStreamObserver<>(responseObserver, batchExecutor,
+        r -> detect(r.getInput(), r.getMaxSampleCount(), r.getTrGroup(), r.getIncludeScores(),
+            false));
+  }
 
-    String id = identifier.identifyFast(request.getInput(), request.getMaxSampleCount());
+  private LanguageIdResponse detect(String input, int maxSampleCount, boolean trGroup,
+      boolean includeScores, boolean fast) {
+    LanguageIdentifier identifier = trGroup ? languageIdentifierTr : languageIdentifier;
+
+    String id = fast ?
+        identifier.identifyFast(input, maxSampleCount) :
+        identifier.identify(input, maxSampleCount);
 
     LanguageIdResponse.Builder builder = LanguageIdResponse.newBuilder().setLangId(id);
-    if(request.getIncludeScores()){
-      List<LanguageIdentifier.IdResult> scores = identifier.getScoresFast(request.getInput(), request.getMaxSampleCount());
+    if (includeScores) {
+      List<LanguageIdentifier.IdResult> scores = fast ?
+          identifier.getScoresFast(input, maxSampleCount) :
+          identifier.getScores(input, maxSampleCount);
       for (LanguageIdentifier.IdResult item : scores) {
         builder.addIdResult(IdResult.newBuilder().setId(item.id).setScore(item.score).build());
       }
     }
-
-    responseObserver.onNext(builder.build());
-    responseObserver.onCompleted();
+    return builder.build();
   }
 
 }
@@ -0,0 +1,73 @@
+package zemberek.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.ForwardingServerCall.SimpleForwardingServerCall;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import java.util.concurrent.atomic.AtomicBoolean;
+import zemberek.grpc.server.ServerMetrics.MethodMetrics;
+
+/**
+ * Records request count, error count, request and response payload sizes and latency of every
+ * call per method. Payload sizes are serialized sizes of the messages, which protobuf caches, so
+ * they are cheap to obtain. Calls cancelled by the client are counted as errors.
+ */
+class MetricsInterceptor implements ServerInterceptor {
+
+  private final ServerMetrics metrics;
+
+  MetricsInterceptor(ServerMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+      ServerCall<ReqT, RespT> call,
+      Metadata headers,
+      ServerCallHandler<ReqT, RespT> next) {
+    MethodMetrics m = metrics.forMethod(call.getMethodDescriptor().getFullMethodName());
+    m.requestCount.increment();
+    long start = System.nanoTime();
+    AtomicBoolean completed = new AtomicBoolean(false);
+
+    ServerCall<ReqT, RespT> monitoredCall = new SimpleForwardingServerCall<ReqT, RespT>(call) {
+      @Override
+      public void sendMessage(RespT message) {
+        m.responseBytes.add(serializedSize(message));
+        super.sendMessage(message);
+      }
+
+      @Override
+      public void close(Status status, Metadata trailers) {
+        if (completed.compareAndSet(false, true)) {
+          m.complete(status, System.nanoTime() - start);
+        }
+        super.close(status, trailers);
+      }
+    };
+
+    return new SimpleForwardingServerCallListener<ReqT>(next.startCall(monitoredCall, headers)) {
+      @Override
+      public void onMessage(ReqT message) {
+        m.requestBytes.add(serializedSize(message));
+        super.onMessage(message);
+      }
+
+      @Override
+      public void onCancel() {
+        if (completed.compareAndSet(false, true)) {
+          m.complete(Status.CANCELLED, System.nanoTime() - start);
+        }
+        super.onCancel();
+      }
+    };
+  }
+
+  private static int serializedSize(Object message) {
+    return message instanceof MessageLite ? ((MessageLite) message).getSerializedSize() : 0;
+  }
+}
@@ -0,0 +1,79 @@
+package zemberek.grpc.server;
+
+import io.grpc.stub.StreamObserver;
+import java.util.Locale;
+import java.util.Map;
+import zemberek.grpc.server.ServerMetrics.LatencySnapshot;
+import zemberek.grpc.server.ServerMetrics.MethodSnapshot;
+import zemberek.morphology.metrics.PipelineMetrics;
+import zemberek.morphology.metrics.PipelineMetrics.StageSnapshot;
+import zemberek.morphology.metrics.PipelineStage;
+import zemberek.proto.ComponentMetricsProto;
+import zemberek.proto.LatencyProto;
+import zemberek.proto.MethodMetricsProto;
+import zemberek.proto.MetricsRequest;
+import zemberek.proto.MetricsResponse;
+import zemberek.proto.MetricsServiceGrpc.MetricsServiceImplBase;
+
+public class MetricsServiceImpl extends MetricsServiceImplBase {
+
+  private final ServerMetrics metrics;
+  private final PipelineMetrics pipelineMetrics;
+
+  public MetricsServiceImpl(ZemberekContext context) {
+    this.metrics = context.metrics;
+    this.pipelineMetrics = context.pipelineMetrics;
+  }
+
+  @Override
+  public void getMetrics(MetricsRequest request,
+      StreamObserver<MetricsResponse> responseObserver) {
+    MetricsResponse.Builder builder = MetricsResponse.newBuilder();
+    for (MethodSnapshot m : metrics.methodSnapshots()) {
+      builder.addMethods(MethodMetricsProto.newBuilder()
+          .setMethod(m.method)
+          .setRequestCount(m.requestCount)
+          .setErrorCount(m.errorCount)
+          .setRequestBytes(m.requestBytes)
+          .setResponseBytes(m.responseBytes)
+          .setLatency(toLatencyProto(m.latency))
+          .build());
+    }
+    for (Map.Entry<String, LatencySnapshot> e : metrics.componentSnapshots().entrySet()) {
+      builder.addComponents(ComponentMetricsProto.newBuilder()
+          .setComponent(e.getKey())
+          .setLatency(toLatencyProto(e.getValue()))
+          .build());
+    }
+    // morphology pipeline stages are reported as components like morphology.cache_lookup
+    PipelineMetrics.Snapshot pipeline = pipelineMetrics.snapshot();
+    for (Map.Entry<PipelineStage, StageSnapshot> e : pipeline.stages.entrySet()) {
+      StageSnapshot s = e.getValue();
+      builder.addComponents(ComponentMetricsProto.newBuilder()
+          .setComponent("morphology." + e.getKey().name().toLowerCase(Locale.ENGLISH))
+          .setLatency(toLatencyProto(s.count, s.mean, s.p50, s.p90, s.p99, s.p999, s.max))
+          .build());
+    }
+    builder.setText(metrics.format() + "Morphology pipeline:\n" + pipeline);
+    responseObserver.onNext(builder.build());
+    responseObserver.onCompleted();
+  }
+
+  private static LatencyProto toLatencyProto(LatencySnapshot s) {
+    return toLatencyProto(s.count, s.mean, s.p50, s.p90, s.p99, s.p999, s.max);
+  }
+
+  // Server and morphology pipeline snapshots are different classes with the same values.
+  private static LatencyProto toLatencyProto(long count, double mean, double p50, double p90,
+      double p99, double p999, double max) {
+    return LatencyProto.newBuilder()
+        .setCount(count)
+        .setMean(mean)
+        .setP50(p50)
+        .setP90(p90)
+        .setP99(p99)
+        .setP999(p999)
+        .setMax(max)
+        .build();
+  }
+}
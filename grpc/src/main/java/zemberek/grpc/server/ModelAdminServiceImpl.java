@@ -0,0 +1,147 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import zemberek.core.logging.Log;
+import zemberek.grpc.server.ModelRegistry.Entry;
+import zemberek.proto.models.ListModelsRequest;
+import zemberek.proto.models.LoadModelRequest;
+import zemberek.proto.models.ModelAdminServiceGrpc.ModelAdminServiceImplBase;
+import zemberek.proto.models.ModelInfo;
+import zemberek.proto.models.ModelListResponse;
+import zemberek.proto.models.ModelType;
+import zemberek.proto.models.UnloadModelRequest;
+
+/**
+ * Manages the models of classification and NER services at runtime. Server only adds this service
+ * if a model directory is configured. Models are only loaded from that directory, paths in
+ * requests are relative to it.
+ */
+public class ModelAdminServiceImpl extends ModelAdminServiceImplBase {
+
+  private final Path modelDirectory;
+  private final ModelRegistry<?> classificationRegistry;
+  private final ModelRegistry<?> nerRegistry;
+
+  public ModelAdminServiceImpl(
+      Path modelDirectory,
+      ClassificationServiceImpl classificationService,
+      NerServiceImpl nerService) throws IOException {
+    this.modelDirectory = modelDirectory.toRealPath();
+    this.classificationRegistry = classificationService.getRegistry();
+    this.nerRegistry = nerService.getRegistry();
+  }
+
+  @Override
+  public void loadModel(LoadModelRequest request, StreamObserver<ModelInfo> responseObserver) {
+    ModelRegistry<?> registry = registry(request.getType(), responseObserver);
+    if (registry == null) {
+      return;
+    }
+    Path path;
+    try {
+      path = resolve(request.getPath());
+    } catch (IOException | RuntimeException e) {
+      responseObserver.onError(Status.INVALID_ARGUMENT
+          .withDescription("Model path " + request.getPath() + " does not exist.")
+          .asRuntimeException());
+      return;
+    }
+    // symbolic links are resolved too, so they can not point outside of the directory.
+    if (!path.startsWith(modelDirectory)) {
+      responseObserver.onError(Status.PERMISSION_DENIED
+          .withDescription("Model path " + request.getPath() + " is not in model directory.")
+          .asRuntimeException());
+      return;
+    }
+    Entry<?> entry;
+    try {
+      entry = registry.load(request.getName(), request.getVersion(), path, request.getMapped());
+    } catch (IllegalArgumentException e) {
+      // empty model name, or an option the model type does not support.
+      responseObserver.onError(Status.INVALID_ARGUMENT
+          .withDescription(e.getMessage())
+          .asRuntimeException());
+      return;
+    } catch (IOException | RuntimeException e) {
+      Log.warn("Cannot load model %s from %s : %s", request.getName(), path, e.getMessage());
+      responseObserver.onError(Status.INTERNAL
+          .withDescription("Cannot load model. " + e.getMessage())
+          .withCause(e)
+          .asRuntimeException());
+      return;
+    }
+    responseObserver.onNext(toModelInfo(entry));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void unloadModel(UnloadModelRequest request,
+      StreamObserver<ModelInfo> responseObserver) {
+    ModelRegistry<?> registry = registry(request.getType(), responseObserver);
+    if (registry == null) {
+      return;
+    }
+    Entry<?> entry = registry.unload(request.getName());
+    if (entry == null) {
+      responseObserver.onError(Status.NOT_FOUND
+          .withDescription("There is no model with name " + request.getName())
+          .asRuntimeException());
+      return;
+    }
+    responseObserver.onNext(toModelInfo(entry));
+    responseObserver.onCompleted();
+  }
+
+  @Override
+  public void listModels(ListModelsRequest request,
+      StreamObserver<ModelListResponse> responseObserver) {
+    ModelRegistry<?> registry = registry(request.getType(), responseObserver);
+    if (registry == null) {
+      return;
+    }
+    ModelListResponse.Builder builder = ModelListResponse.newBuilder();
+    for (Entry<?> entry : registry.entries()) {
+      builder.addModels(toModelInfo(entry));
+    }
+    responseObserver.onNext(builder.build());
+    responseObserver.onCompleted();
+  }
+
+  // Resolves a request path against the model directory. Result is the real path of the file,
+  // without symbolic links and relative parts.
+  private Path resolve(String requestPath) throws IOException {
+    Path path = modelDirectory.resolve(requestPath);
+    if (!Files.exists(path)) {
+      throw new IOException("Model path " + path + " does not exist.");
+    }
+    return path.toRealPath();
+  }
+
+  private ModelRegistry<?> registry(ModelType type, StreamObserver<?> responseObserver) {
+    switch (type) {
+      case CLASSIFICATION:
+        return classificationRegistry;
+      case NER:
+        return nerRegistry;
+      default:
+        responseObserver.onError(Status.INVALID_ARGUMENT
+            .withDescription("Unknown model type " + type)
+            .asRuntimeException());
+        return null;
+    }
+  }
+
+  private static ModelInfo toModelInfo(Entry<?> entry) {
+    return ModelInfo.newBuilder()
+        .setName(entry.name)
+        .setVersion(entry.version)
+        .setPath(entry.path.toString())
+        .setLoadTimeMillis(entry.loadTimeMillis)
+        .setActiveCalls(entry.activeCalls.get())
+        .build();
+  }
+}
@@ -0,0 +1,197 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import zemberek.core.logging.Log;
+
+/**
+ * Holds the models of a service keyed by name. A model can be replaced while the server is
+ * running: new model is loaded first, then the name is pointed to the new model atomically. Calls
+ * that already acquired the old model continue to use it, and the old model is released when the
+ * last of them is finished. Calls that start after the swap use the new model.
+ * <p>
+ * Releasing a model closes it if it is {@link AutoCloseable} and drops the reference of the
+ * registry to it, so it can be garbage collected. Memory mapped models are unmapped when they are
+ * collected.
+ * <pre>
+ *   try (ModelRegistry.Lease&lt;FastTextClassifier&gt; lease = registry.acquire(name)) {
+ *     lease.model().predict(input, 1);
+ *   }
+ * </pre>
+ */
+class ModelRegistry<T> {
+
+  static final String DEFAULT_MODEL_NAME = "default";
+
+  @FunctionalInterface
+  interface ModelLoader<T> {
+
+    T load(Path path, boolean mapped) throws IOException;
+  }
+
+  private final String type;
+  private final ModelLoader<T> loader;
+  private final Map<String, Entry<T>> models = new ConcurrentHashMap<>();
+  private final AtomicLong versionCounter = new AtomicLong();
+
+  /**
+   * @param type model type, used in log and error messages.
+   * @param loader loads the models from paths.
+   */
+  ModelRegistry(String type, ModelLoader<T> loader) {
+    this.type = type;
+    this.loader = loader;
+  }
+
+  static class Entry<T> {
+
+    final String name;
+    final String version;
+    final Path path;
+    // null after the model is released.
+    private volatile T model;
+    final long loadTimeMillis;
+    final AtomicInteger activeCalls = new AtomicInteger();
+    volatile boolean retired = false;
+    final AtomicBoolean released = new AtomicBoolean(false);
+
+    Entry(String name, String version, Path path, T model) {
+      this.name = name;
+      this.version = version;
+      this.path = path;
+      this.model = model;
+      this.loadTimeMillis = System.currentTimeMillis();
+    }
+
+    private void releaseIfDrained() {
+      if (retired && activeCalls.get() == 0 && released.compareAndSet(false, true)) {
+        T m = model;
+        model = null;
+        if (m instanceof AutoCloseable) {
+          try {
+            ((AutoCloseable) m).close();
+          } catch (Exception e) {
+            Log.warn("Cannot close model %s version %s : %s", name, version, e.getMessage());
+          }
+        }
+        Log.info("Model %s version %s is released.", name, version);
+      }
+    }
+
+    boolean isReleased() {
+      return released.get();
+    }
+  }
+
+  /**
+   * A model in use. Closing the lease tells the registry that the call no longer uses the model.
+   */
+  static class Lease<T> implements AutoCloseable {
+
+    final Entry<T> entry;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private Lease(Entry<T> entry) {
+      this.entry = entry;
+    }
+
+    T model() {
+      return entry.model;
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        entry.activeCalls.decrementAndGet();
+        entry.releaseIfDrained();
+      }
+    }
+  }
+
+  /**
+   * Acquires the model with [name]. If name is empty, {@link #DEFAULT_MODEL_NAME} is used. Returned
+   * lease must be closed after use.
+   *
+   * @throws io.grpc.StatusRuntimeException with FAILED_PRECONDITION status if no model is loaded
+   * and with NOT_FOUND status if there is no such model.
+   */
+  Lease<T> acquire(String name) {
+    String key = name.isEmpty() ? DEFAULT_MODEL_NAME : name;
+    while (true) {
+      Entry<T> entry = models.get(key);
+      if (entry == null) {
+        if (models.isEmpty()) {
+          throw Status.FAILED_PRECONDITION
+              .withDescription("No " + type + " model is loaded. Models can be given when "
+                  + "server starts or loaded with LoadModel call.")
+              .asRuntimeException();
+        }
+        throw Status.NOT_FOUND
+            .withDescription("There is no " + type + " model with name " + key)
+            .asRuntimeException();
+      }
+      entry.activeCalls.incrementAndGet();
+      if (!entry.retired) {
+        return new Lease<>(entry);
+      }
+      // model is replaced in the meantime, try again with the new one.
+      entry.activeCalls.decrementAndGet();
+      entry.releaseIfDrained();
+    }
+  }
+
+  /**
+   * Loads a model and registers it with [name]. If a model with same name exists, it is replaced
+   * and released after its active calls are finished.
+   *
+   * @param version if empty, an increasing number is used.
+   */
+  Entry<T> load(String name, String version, Path path, boolean mapped) throws IOException {
+    if (name.isEmpty()) {
+      throw new IllegalArgumentException("Model name is empty.");
+    }
+    String v = version.isEmpty() ? String.valueOf(versionCounter.incrementAndGet()) : version;
+    Log.info("Loading %s model %s version %s from %s", type, name, v, path);
+    Entry<T> entry = new Entry<>(name, v, path, loader.load(path, mapped));
+    Entry<T> old = models.put(name, entry);
+    if (old != null) {
+      retire(old);
+    }
+    return entry;
+  }
+
+  /**
+   * Removes the model with [name]. Model is released after its active calls are finished.
+   *
+   * @return removed model, or null if there is no such model.
+   */
+  Entry<T> unload(String name) {
+    Entry<T> old = models.remove(name);
+    if (old != null) {
+      retire(old);
+    }
+    return old;
+  }
+
+  private void retire(Entry<T> entry) {
+    entry.retired = true;
+    entry.releaseIfDrained();
+  }
+
+  /**
+   * Returns registered models sorted by name.
+   */
+  List<Entry<T>> entries() {
+    List<Entry<T>> result = new ArrayList<>(models.values());
+    result.sort((a, b) -> a.name.compareTo(b.name));
+    return result;
+  }
+}
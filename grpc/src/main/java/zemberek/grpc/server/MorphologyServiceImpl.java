@@ -1,11 +1,15 @@
 package zemberek.grpc.server;
 
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import zemberek.core.logging.Log;
-import zemberek.core.turkish.SecondaryPos;
 import zemberek.morphology.TurkishMorphology;
 import zemberek.morphology.analysis.SentenceAnalysis;
 import zemberek.morphology.analysis.SentenceWordAnalysis;
@@ -13,13 +17,22 @@ import zemberek.morphology.analysis.SingleAnalysis;
 import zemberek.morphology.analysis.SingleAnalysis.MorphemeData;
 import zemberek.morphology.analysis.WordAnalysis;
 import zemberek.morphology.lexicon.DictionaryItem;
+import zemberek.proto.morphology.AnalysisTablesRequest;
+import zemberek.proto.morphology.AnalysisTablesResponse;
+import zemberek.proto.morphology.CompactSentenceAnalysisBatchResponse;
 import zemberek.proto.morphology.DictionaryItemProto;
+import zemberek.proto.morphology.LexiconRequest;
+import zemberek.proto.morphology.LexiconResponse;
 import zemberek.proto.morphology.MorphemeDataProto;
 import zemberek.proto.morphology.MorphologyServiceGrpc.MorphologyServiceImplBase;
+import zemberek.proto.morphology.SentenceAnalysisBatchRequest;
+import zemberek.proto.morphology.SentenceAnalysisBatchResponse;
 import zemberek.proto.morphology.SentenceAnalysisRequest;
 import zemberek.proto.morphology.SentenceAnalysisProto;
 import zemberek.proto.morphology.SentenceWordAnalysisProto;
 import zemberek.proto.morphology.SingleAnalysisProto;
+import zemberek.proto.morphology.WordAnalysisBatchRequest;
+import zemberek.proto.morphology.WordAnalysisBatchResponse;
 import zemberek.proto.morphology.WordAnalysisRequest;
 import zemberek.proto.morphology.WordAnalysisProto;
 
@@ -27,82 +40,214 @@ import zemberek.proto.morphology.WordAnalysisProto;
 public class MorphologyServiceImpl extends MorphologyServiceImplBase {
 
   private final TurkishMorphology morphology;
+  private final BatchExecutor batchExecutor;
+  private final ServerMetrics metrics;
+  private final CompactAnalysisEncoder compactEncoder;
 
   public MorphologyServiceImpl(ZemberekContext context) {
     morphology = context.morphology;
+    batchExecutor = context.batchExecutor;
+    metrics = context.metrics;
+    compactEncoder = new CompactAnalysisEncoder(morphology);
   }
 
   @Override
   public void analyzeSentence(SentenceAnalysisRequest request,
       StreamObserver<SentenceAnalysisProto> responseObserver) {
-    String sentence = request.getInput();
-    SentenceAnalysis a = morphology.analyzeAndDisambiguate(sentence);
-    Log.info("Sentence = %s", sentence);
-    responseObserver.onNext(toSentenceAnalysis(a, request.getContainAllAnalyses()));
-    responseObserver.onCompleted();
+    ServiceCalls.respond(responseObserver, () -> {
+      // call may be cancelled or its deadline may be exceeded while waiting in the executor.
+      BatchExecutor.checkNotCancelled(Context.current());
+      String sentence = request.getInput();
+      SentenceAnalysis a = analyzeAndDisambiguate(sentence);
+      Log.debug("Sentence = %s", sentence);
+      return toSentenceAnalysis(a, request.getContainAllAnalyses(),
+          AnalysisMask.of(request.getAnalysisMask()));
+    });
   }
 
   @Override
   public void analyzeWord(
       WordAnalysisRequest request,
       StreamObserver<WordAnalysisProto> responseObserver) {
-    String input = request.getInput();
-    WordAnalysis a = morphology.analyze(input);
-    responseObserver.onNext(toWordAnalysisProto(a));
-    responseObserver.onCompleted();
+    ServiceCalls.respond(responseObserver, () -> {
+      AnalysisMask mask = AnalysisMask.of(request.getAnalysisMask());
+      return toWordAnalysisProto(analyze(request.getInput()), mask);
+    });
   }
 
-  SentenceAnalysisProto toSentenceAnalysis(SentenceAnalysis sa, boolean allAnalyses) {
+  @Override
+  public void analyzeSentences(SentenceAnalysisBatchRequest request,
+      StreamObserver<SentenceAnalysisBatchResponse> responseObserver) {
+    boolean allAnalyses = request.getContainAllAnalyses();
+    ServiceCalls.respond(responseObserver, () -> {
+      AnalysisMask mask = AnalysisMask.of(request.getAnalysisMask());
+      return SentenceAnalysisBatchResponse.newBuilder()
+          .addAllResults(batchExecutor.map(request.getInputsList(),
+              s -> toSentenceAnalysis(analyzeAndDisambiguate(s), allAnalyses, mask)))
+          .build();
+    });
+  }
+
+  @Override
+  public void analyzeWords(WordAnalysisBatchRequest request,
+      StreamObserver<WordAnalysisBatchResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      AnalysisMask mask = AnalysisMask.of(request.getAnalysisMask());
+      return WordAnalysisBatchResponse.newBuilder()
+          .addAllResults(batchExecutor.map(request.getInputsList(),
+              s -> toWordAnalysisProto(analyze(s), mask)))
+          .build();
+    });
+  }
+
+  @Override
+  public StreamObserver<SentenceAnalysisRequest> analyzeSentenceStream(
+      StreamObserver<SentenceAnalysisProto> responseObserver) {
+    return new OrderedStreamObserver<>(responseObserver, batchExecutor,
+        r -> toSentenceAnalysis(analyzeAndDisambiguate(r.getInput()),
+            r.getContainAllAnalyses(), AnalysisMask.of(r.getAnalysisMask())));
+  }
+
+  @Override
+  public StreamObserver<WordAnalysisRequest> analyzeWordStream(
+      StreamObserver<WordAnalysisProto> responseObserver) {
+    return new OrderedStreamObserver<>(responseObserver, batchExecutor,
+        r -> toWordAnalysisProto(analyze(r.getInput()), AnalysisMask.of(r.getAnalysisMask())));
+  }
+
+  // Analysis mask of the request is ignored, compact analyses are already small and contain all
+  // fields.
+  @Override
+  public void analyzeSentencesCompact(SentenceAnalysisBatchRequest request,
+      StreamObserver<CompactSentenceAnalysisBatchResponse> responseObserver) {
+    boolean allAnalyses = request.getContainAllAnalyses();
+    ServiceCalls.respond(responseObserver, () -> CompactSentenceAnalysisBatchResponse.newBuilder()
+        .addAllResults(batchExecutor.map(request.getInputsList(),
+            s -> compactEncoder.encode(analyzeAndDisambiguate(s), allAnalyses)))
+        .setLexiconId(compactEncoder.lexiconId())
+        .build());
+  }
+
+  @Override
+  public void getAnalysisTables(AnalysisTablesRequest request,
+      StreamObserver<AnalysisTablesResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, compactEncoder::tables);
+  }
+
+  @Override
+  public void getLexicon(LexiconRequest request,
+      StreamObserver<LexiconResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver,
+        () -> compactEncoder.lexicon(request.getStart(), request.getCount()));
+  }
+
+  private SentenceAnalysis analyzeAndDisambiguate(String sentence) {
+    List<WordAnalysis> analyses = metrics.time(ServerMetrics.ANALYSIS,
+        () -> morphology.analyzeSentence(sentence));
+    return metrics.time(ServerMetrics.DISAMBIGUATION,
+        () -> morphology.disambiguate(sentence, analyses));
+  }
+
+  private WordAnalysis analyze(String word) {
+    return metrics.time(ServerMetrics.ANALYSIS, () -> morphology.analyze(word));
+  }
+
+  /**
+   * Fields of SingleAnalysisProto to fill. Paths of the field mask are the field names of
+   * SingleAnalysisProto. Empty mask means all fields.
+   */
+  static class AnalysisMask {
+
+    static final AnalysisMask ALL = new AnalysisMask(null);
+
+    // field numbers, null means all fields.
+    private final BitSet fields;
+
+    private AnalysisMask(BitSet fields) {
+      this.fields = fields;
+    }
+
+    static AnalysisMask of(FieldMask mask) {
+      if (mask.getPathsCount() == 0) {
+        return ALL;
+      }
+      BitSet fields = new BitSet();
+      for (String path : mask.getPathsList()) {
+        FieldDescriptor field = SingleAnalysisProto.getDescriptor().findFieldByName(path);
+        if (field == null) {
+          throw Status.INVALID_ARGUMENT
+              .withDescription("Unknown analysis field in mask: " + path)
+              .asRuntimeException();
+        }
+        fields.set(field.getNumber());
+      }
+      return new AnalysisMask(fields);
+    }
+
+    boolean contains(int fieldNumber) {
+      return fields == null || fields.get(fieldNumber);
+    }
+  }
+
+  SentenceAnalysisProto toSentenceAnalysis(SentenceAnalysis sa, boolean allAnalyses,
+      AnalysisMask mask) {
     return SentenceAnalysisProto.newBuilder()
         .setInput(sa.getSentence())
         .addAllResults(sa.getWordAnalyses()
             .stream()
-            .map(s -> toSentenceWordAnalysisProto(s, allAnalyses))
+            .map(s -> toSentenceWordAnalysisProto(s, allAnalyses, mask))
             .collect(Collectors.toList()))
         .build();
   }
 
   SentenceWordAnalysisProto toSentenceWordAnalysisProto(SentenceWordAnalysis swa,
-      boolean allAnalyses) {
+      boolean allAnalyses, AnalysisMask mask) {
     SentenceWordAnalysisProto.Builder builder = SentenceWordAnalysisProto.newBuilder()
         .setToken(swa.wordAnalysis.getInput())
-        .setBest(toSingleAnalysisProto(swa.bestAnalysis));
+        .setBest(toSingleAnalysisProto(swa.bestAnalysis, mask));
     if (allAnalyses) {
-      builder.setAll(toWordAnalysisProto(swa.wordAnalysis));
+      builder.setAll(toWordAnalysisProto(swa.wordAnalysis, mask));
     }
     return builder.build();
   }
 
-  WordAnalysisProto toWordAnalysisProto(WordAnalysis analysis) {
+  WordAnalysisProto toWordAnalysisProto(WordAnalysis analysis, AnalysisMask mask) {
     return WordAnalysisProto.newBuilder()
         .addAllAnalyses(analysis
             .stream()
-            .map(this::toSingleAnalysisProto)
+            .map(s -> toSingleAnalysisProto(s, mask))
             .collect(Collectors.toList()))
         .build();
   }
 
-  SingleAnalysisProto toSingleAnalysisProto(SingleAnalysis s) {
-    return SingleAnalysisProto.newBuilder()
-        .setAnalysis(s.formatLong())
-        .setPos(s.getPos().shortForm)
-        .setInformal(s.containsInformalMorpheme())
-        .setDictionaryItem(toDictionaryItemProto(s.getDictionaryItem()))
-        .setRuntime(s.isRuntime())
-        .addAllLemmas(s.getLemmas())
-        .addAllMorphemes(toMorphemeDataProtoList(s))
-        .build();
+  SingleAnalysisProto toSingleAnalysisProto(SingleAnalysis s, AnalysisMask mask) {
+    SingleAnalysisProto.Builder builder = SingleAnalysisProto.newBuilder();
+    if (mask.contains(SingleAnalysisProto.ANALYSIS_FIELD_NUMBER)) {
+      builder.setAnalysis(s.formatLong());
+    }
+    if (mask.contains(SingleAnalysisProto.POS_FIELD_NUMBER)) {
+      builder.setPos(s.getPos().shortForm);
+    }
+    if (mask.contains(SingleAnalysisProto.INFORMAL_FIELD_NUMBER)) {
+      builder.setInformal(s.containsInformalMorpheme());
+    }
+    if (mask.contains(SingleAnalysisProto.DICTIONARYITEM_FIELD_NUMBER)) {
+      builder.setDictionaryItem(toDictionaryItemProto(s.getDictionaryItem()));
+    }
+    if (mask.contains(SingleAnalysisProto.RUNTIME_FIELD_NUMBER)) {
+      builder.setRuntime(s.isRuntime());
+    }
+    if (mask.contains(SingleAnalysisProto.LEMMAS_FIELD_NUMBER)) {
+      builder.addAllLemmas(s.getLemmas());
+    }
+    if (mask.contains(SingleAnalysisProto.MORPHEMES_FIELD_NUMBER)) {
+      builder.addAllMorphemes(toMorphemeDataProtoList(s));
+    }
+    return builder.build();
   }
 
   DictionaryItemProto toDictionaryItemProto(DictionaryItem dictionaryItem) {
-    DictionaryItemProto.Builder builder = DictionaryItemProto.newBuilder()
-        .setLemma(dictionaryItem.lemma)
-        .setPrimaryPos(dictionaryItem.primaryPos.shortForm);
-    if (dictionaryItem.secondaryPos != null &&
-        dictionaryItem.secondaryPos != SecondaryPos.None) {
-      builder.setSecondaryPos(dictionaryItem.secondaryPos.shortForm);
-    }
-    return builder.build();
+    return CompactAnalysisEncoder.toDictionaryItemProto(dictionaryItem);
   }
 
   List<MorphemeDataProto> toMorphemeDataProtoList(SingleAnalysis analysis) {
@@ -0,0 +1,97 @@
+package zemberek.grpc.server;
+
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import zemberek.grpc.server.ModelRegistry.Lease;
+import zemberek.ner.NamedEntity;
+import zemberek.ner.NerSentence;
+import zemberek.ner.NerToken;
+import zemberek.ner.PerceptronNer;
+import zemberek.proto.ner.NamedEntityProto;
+import zemberek.proto.ner.NerBatchRequest;
+import zemberek.proto.ner.NerBatchResponse;
+import zemberek.proto.ner.NerRequest;
+import zemberek.proto.ner.NerResponse;
+import zemberek.proto.ner.NerResult;
+import zemberek.proto.ner.NerServiceGrpc.NerServiceImplBase;
+
+/**
+ * Named entity recognition service. All models share the morphology instance of the server.
+ */
+public class NerServiceImpl extends NerServiceImplBase {
+
+  private final ModelRegistry<PerceptronNer> registry;
+  private final BatchExecutor batchExecutor;
+  private final ServerMetrics metrics;
+
+  public NerServiceImpl(ZemberekContext context) throws IOException {
+    this.batchExecutor = context.batchExecutor;
+    this.metrics = context.metrics;
+    this.registry = new ModelRegistry<>("ner",
+        (path, mapped) -> {
+          if (mapped) {
+            throw new IllegalArgumentException("NER models can not be memory mapped.");
+          }
+          return PerceptronNer.loadModel(path, context.morphology);
+        });
+    if (context.configuration != null) {
+      for (Map.Entry<String, Path> e : context.configuration.nerModels.entrySet()) {
+        registry.load(e.getKey(), "", e.getValue(), false);
+      }
+    }
+  }
+
+  ModelRegistry<PerceptronNer> getRegistry() {
+    return registry;
+  }
+
+  @Override
+  public void findNamedEntities(NerRequest request,
+      StreamObserver<NerResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      try (Lease<PerceptronNer> lease = registry.acquire(request.getModel())) {
+        return NerResponse.newBuilder()
+            .setModel(lease.entry.name)
+            .setVersion(lease.entry.version)
+            .addAllEntities(findEntities(lease.model(), request.getInput()))
+            .build();
+      }
+    });
+  }
+
+  @Override
+  public void findNamedEntitiesBatch(NerBatchRequest request,
+      StreamObserver<NerBatchResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      try (Lease<PerceptronNer> lease = registry.acquire(request.getModel())) {
+        PerceptronNer ner = lease.model();
+        List<NerResult> results = batchExecutor.map(request.getInputsList(),
+            s -> NerResult.newBuilder().addAllEntities(findEntities(ner, s)).build());
+        return NerBatchResponse.newBuilder()
+            .setModel(lease.entry.name)
+            .setVersion(lease.entry.version)
+            .addAllResults(results)
+            .build();
+      }
+    });
+  }
+
+  private List<NamedEntityProto> findEntities(PerceptronNer ner, String sentence) {
+    NerSentence result = metrics.time(ServerMetrics.NER, () -> ner.findNamedEntities(sentence));
+    List<NamedEntityProto> entities = new ArrayList<>();
+    for (NamedEntity entity : result.getNamedEntities()) {
+      List<NerToken> tokens = entity.getTokens();
+      entities.add(NamedEntityProto.newBuilder()
+          .setType(tokens.get(0).getType())
+          .setContent(entity.content())
+          .setTokenStart(tokens.get(0).getIndex())
+          .setTokenEnd(tokens.get(tokens.size() - 1).getIndex() + 1)
+          .build());
+    }
+    return entities;
+  }
+}
@@ -1,9 +1,12 @@
 package zemberek.grpc.server;
 
+import io.grpc.Context;
 import io.grpc.stub.StreamObserver;
 import java.io.IOException;
 import zemberek.core.logging.Log;
 import zemberek.normalization.TurkishSentenceNormalizer;
+import zemberek.proto.NormalizationBatchRequest;
+import zemberek.proto.NormalizationBatchResponse;
 import zemberek.proto.NormalizationRequest;
 import zemberek.proto.NormalizationResponse;
 import zemberek.proto.NormalizationServiceGrpc.NormalizationServiceImplBase;
@@ -13,9 +16,13 @@ public class NormalizationServiceImpl extends NormalizationServiceImplBase {
   private ZemberekContext context;
 
   private TurkishSentenceNormalizer sentenceNormalizer;
+  private final BatchExecutor batchExecutor;
+  private final ServerMetrics metrics;
 
   public NormalizationServiceImpl(ZemberekContext context) throws IOException {
     this.context = context;
+    this.batchExecutor = context.batchExecutor;
+    this.metrics = context.metrics;
     if (context.configuration != null && context.configuration.normalizationPathsAvailable()) {
       sentenceNormalizer = new TurkishSentenceNormalizer(
           context.morphology,
@@ -29,20 +36,39 @@ public class NormalizationServiceImpl extends NormalizationServiceImplBase {
   @Override
   public void normalize(NormalizationRequest request,
       StreamObserver<NormalizationResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> {
+      // call may be cancelled or its deadline may be exceeded while waiting in the executor.
+      BatchExecutor.checkNotCancelled(Context.current());
+      return normalize(request.getInput());
+    });
+  }
+
+  @Override
+  public void normalizeBatch(NormalizationBatchRequest request,
+      StreamObserver<NormalizationBatchResponse> responseObserver) {
+    ServiceCalls.respond(responseObserver, () -> NormalizationBatchResponse.newBuilder()
+        .addAllResults(batchExecutor.map(request.getInputsList(), this::normalize))
+        .build());
+  }
+
+  @Override
+  public StreamObserver<NormalizationRequest> normalizeStream(
+      StreamObserver<NormalizationResponse> responseObserver) {
+    return new OrderedStreamObserver<>(responseObserver, batchExecutor,
+        r -> normalize(r.getInput()));
+  }
 
-    String normalized;
+  private NormalizationResponse normalize(String input) {
     if (sentenceNormalizer != null) {
-      String s = request.getInput();
-      normalized = sentenceNormalizer.normalize(s);
-      responseObserver.onNext(NormalizationResponse.newBuilder()
-          .setNormalizedInput(normalized)
-          .build());
+      return NormalizationResponse.newBuilder()
+          .setNormalizedInput(metrics.time(ServerMetrics.NORMALIZATION,
+              () -> sentenceNormalizer.normalize(input)))
+          .build();
     } else {
-      responseObserver.onNext(NormalizationResponse.newBuilder()
+      return NormalizationResponse.newBuilder()
           .setNormalizedInput("")
           .setError("Normalization system is not initialized.")
-          .build());
+          .build();
     }
-    responseObserver.onCompleted();
   }
 }
@@ -0,0 +1,217 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Request observer for bidirectional streaming calls. Each received item is processed in the
+ * executor of a {@link BatchExecutor}, so items are processed in parallel, but results are sent
+ * back in the order of the requests.
+ * <p>
+ * Inbound flow control is manual. At most [maxInFlight] items are requested from the client
+ * before a result is sent. A new item is requested only after a result is written, and results
+ * are only written when the transport is ready. So a slow client also slows down reading of its
+ * requests instead of filling server memory.
+ */
+class OrderedStreamObserver<I, O> implements StreamObserver<I> {
+
+  static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+  private final ServerCallStreamObserver<O> responseObserver;
+  private final BatchExecutor executor;
+  private final Function<I, O> function;
+
+  private final Object lock = new Object();
+  // processed results waiting to be sent, keyed by their sequence numbers.
+  private final Map<Long, O> results = new HashMap<>();
+  private long received = 0;
+  private long sent = 0;
+  private boolean inputCompleted = false;
+  // no more items are processed. Set on failure, cancellation or when all results are processed.
+  private boolean done = false;
+  // a terminal signal is sent or the call is cancelled, response observer is not used anymore.
+  private boolean closed = false;
+  // failure status waiting to be sent.
+  private Status failure;
+  // a thread is sending results. Response observer is only used by this thread.
+  private boolean draining = false;
+  // set when drain is requested while another thread is draining.
+  private boolean drainAgain = false;
+
+  OrderedStreamObserver(
+      StreamObserver<O> responseObserver,
+      BatchExecutor executor,
+      Function<I, O> function) {
+    this(responseObserver, executor, DEFAULT_MAX_IN_FLIGHT, function);
+  }
+
+  OrderedStreamObserver(
+      StreamObserver<O> responseObserver,
+      BatchExecutor executor,
+      int maxInFlight,
+      Function<I, O> function) {
+    this.responseObserver = (ServerCallStreamObserver<O>) responseObserver;
+    this.executor = executor;
+    this.function = function;
+    this.responseObserver.disableAutoInboundFlowControl();
+    this.responseObserver.setOnReadyHandler(this::drain);
+    this.responseObserver.setOnCancelHandler(() -> {
+      synchronized (lock) {
+        done = true;
+        closed = true;
+        results.clear();
+      }
+    });
+    this.responseObserver.request(maxInFlight);
+  }
+
+  @Override
+  public void onNext(I input) {
+    long sequence;
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      sequence = received++;
+    }
+    try {
+      executor.getExecutor().execute(() -> process(sequence, input));
+    } catch (RejectedExecutionException e) {
+      fail(Status.RESOURCE_EXHAUSTED.withDescription("Server is busy.").withCause(e));
+    }
+  }
+
+  private void process(long sequence, I input) {
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+    }
+    O result;
+    try {
+      result = function.apply(input);
+    } catch (Throwable e) {
+      // any failure must end the call, otherwise client waits for the missing result forever.
+      fail(statusOf(e));
+      return;
+    }
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      results.put(sequence, result);
+    }
+    drain();
+  }
+
+  /**
+   * Sends results in order as long as the next one is available and the transport is ready, then
+   * completes or fails the call if necessary. Results are collected under the lock but sent
+   * outside of it. Only one thread sends at a time, which keeps the order and the response
+   * observer is never called concurrently. If another thread is draining, it is asked to check
+   * again instead.
+   */
+  private void drain() {
+    synchronized (lock) {
+      if (draining) {
+        drainAgain = true;
+        return;
+      }
+      draining = true;
+    }
+    List<O> ready = new ArrayList<>();
+    while (true) {
+      boolean transportReady = responseObserver.isReady();
+      Status error = null;
+      boolean complete = false;
+      ready.clear();
+      synchronized (lock) {
+        if (closed) {
+          draining = false;
+          return;
+        }
+        if (failure != null) {
+          error = failure;
+          closed = true;
+        } else {
+          while (transportReady && results.containsKey(sent)) {
+            ready.add(results.remove(sent));
+            sent++;
+          }
+          if (ready.isEmpty()) {
+            if (inputCompleted && sent == received) {
+              done = true;
+              closed = true;
+              complete = true;
+            } else if (!drainAgain) {
+              draining = false;
+              return;
+            }
+          }
+          drainAgain = false;
+        }
+      }
+      if (error != null) {
+        responseObserver.onError(error.asRuntimeException());
+        return;
+      }
+      if (complete) {
+        responseObserver.onCompleted();
+        return;
+      }
+      for (O o : ready) {
+        responseObserver.onNext(o);
+        responseObserver.request(1);
+      }
+    }
+  }
+
+  // Failures with a status, like an invalid argument, keep it. Others are internal errors.
+  private static Status statusOf(Throwable e) {
+    if (e instanceof StatusRuntimeException) {
+      return ((StatusRuntimeException) e).getStatus();
+    }
+    if (e instanceof StatusException) {
+      return ((StatusException) e).getStatus();
+    }
+    return Status.INTERNAL.withDescription(e.getMessage()).withCause(e);
+  }
+
+  private void fail(Status status) {
+    synchronized (lock) {
+      if (done) {
+        return;
+      }
+      done = true;
+      failure = status;
+      results.clear();
+    }
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    synchronized (lock) {
+      done = true;
+      closed = true;
+      results.clear();
+    }
+  }
+
+  @Override
+  public void onCompleted() {
+    synchronized (lock) {
+      inputCompleted = true;
+    }
+    drain();
+  }
+}
@@ -7,6 +7,8 @@ import zemberek.proto.PreprocessingServiceGrpc.PreprocessingServiceImplBase;
 import zemberek.proto.SentenceExtractionRequest;
 import zemberek.proto.SentenceExtractionResponse;
 import zemberek.proto.TokenProto;
+import zemberek.proto.TokenizationBatchRequest;
+import zemberek.proto.TokenizationBatchResponse;
 import zemberek.proto.TokenizationRequest;
 import zemberek.proto.TokenizationResponse;
 import zemberek.tokenization.TurkishSentenceExtractor;
@@ -21,7 +23,16 @@ public class PreprocessingServiceImpl extends PreprocessingServiceImplBase {
   // this extractor does not split sentences in double qouotes.
   private final TurkishSentenceExtractor doubleQuoteIgnoreExtractor;
 
+  private final BatchExecutor batchExecutor;
+  private final ServerMetrics metrics;
+
   public PreprocessingServiceImpl() {
+    this(BatchExecutor.withDefaults(), new ServerMetrics());
+  }
+
+  public PreprocessingServiceImpl(BatchExecutor batchExecutor, ServerMetrics metrics) {
+    this.batchExecutor = batchExecutor;
+    this.metrics = metrics;
     tokenizer = TurkishTokenizer.DEFAULT;
     defaultExtractor = TurkishSentenceExtractor.DEFAULT;
     doubleQuoteIgnoreExtractor = TurkishSentenceExtractor
@@ -32,21 +43,40 @@ public class PreprocessingServiceImpl extends PreprocessingServiceImplBase {
 
   public void tokenize(TokenizationRequest request,
       StreamObserver<TokenizationResponse> responseObserver) {
+    responseObserver.onNext(tokenize(request.getInput(), request.getIncludeTokenBoundaries()));
+    responseObserver.onCompleted();
+  }
+
+  public void tokenizeBatch(TokenizationBatchRequest request,
+      StreamObserver<TokenizationBatchResponse> responseObserver) {
+    boolean includeBoundaries = request.getIncludeTokenBoundaries();
+    ServiceCalls.respond(responseObserver, () -> TokenizationBatchResponse.newBuilder()
+        .addAllResults(batchExecutor.map(request.getInputsList(),
+            s -> tokenize(s, includeBoundaries)))
+        .build());
+  }
+
+  public StreamObserver<TokenizationRequest> tokenizeStream(
+      StreamObserver<TokenizationResponse> responseObserver) {
+    return new OrderedStreamObserver<>(responseObserver, batchExecutor,
+        r -> tokenize(r.getInput(), r.getIncludeTokenBoundaries()));
+  }
+
+  private TokenizationResponse tokenize(String input, boolean includeBoundaries) {
     List<TokenProto> tokens =
-        tokenizer.tokenize(request.getInput())
+        metrics.time(ServerMetrics.TOKENIZATION, () -> tokenizer.tokenize(input))
             .stream()
-            .map(token -> build(request, token))
+            .map(token -> build(token, includeBoundaries))
             .collect(Collectors.toList());
-    responseObserver.onNext(TokenizationResponse.newBuilder()
+    return TokenizationResponse.newBuilder()
         .addAllTokens(tokens)
-        .build());
-    responseObserver.onCompleted();
+        .build();
   }
 
-  private static TokenProto build(TokenizationRequest request, Token token) {
+  private static TokenProto build(Token token, boolean includeBoundaries) {
     TokenProto.Builder builder = TokenProto.newBuilder().setToken(token.getText())
         .setType(token.getType().name());
-    if (request.getIncludeTokenBoundaries()) {
+    if (includeBoundaries) {
       builder.setStart(token.getStart())
           .setEnd(token.getEnd());
     }
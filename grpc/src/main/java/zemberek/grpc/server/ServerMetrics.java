@@ -0,0 +1,166 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import zemberek.core.concurrency.LatencyHistogram;
+
+/**
+ * Collects call metrics of gRPC methods and timings of internal components like tokenization,
+ * analysis, disambiguation and normalization. Call metrics are recorded by {@link
+ * MetricsInterceptor}, component timings by the service implementations. All methods are thread
+ * safe.
+ */
+public class ServerMetrics {
+
+  public static final String TOKENIZATION = "tokenization";
+  public static final String ANALYSIS = "analysis";
+  public static final String DISAMBIGUATION = "disambiguation";
+  public static final String NORMALIZATION = "normalization";
+  public static final String CLASSIFICATION = "classification";
+  public static final String NER = "ner";
+
+  private final Map<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> components = new ConcurrentHashMap<>();
+
+  MethodMetrics forMethod(String fullMethodName) {
+    return methods.computeIfAbsent(fullMethodName, k -> new MethodMetrics());
+  }
+
+  /**
+   * Runs [supplier] and records its duration for the [component].
+   */
+  public <T> T time(String component, Supplier<T> supplier) {
+    long start = System.nanoTime();
+    try {
+      return supplier.get();
+    } finally {
+      record(component, System.nanoTime() - start);
+    }
+  }
+
+  public void record(String component, long nanos) {
+    components.computeIfAbsent(component, k -> new LatencyHistogram()).record(nanos);
+  }
+
+  /**
+   * Call metrics of a method.
+   */
+  static class MethodMetrics {
+
+    final LongAdder requestCount = new LongAdder();
+    final LongAdder errorCount = new LongAdder();
+    final LongAdder requestBytes = new LongAdder();
+    final LongAdder responseBytes = new LongAdder();
+    final LatencyHistogram latency = new LatencyHistogram();
+
+    void complete(Status status, long nanos) {
+      if (!status.isOk()) {
+        errorCount.increment();
+      }
+      latency.record(nanos);
+    }
+  }
+
+  /**
+   * Immutable view of a histogram. Durations are in milliseconds.
+   */
+  public static class LatencySnapshot {
+
+    public final long count;
+    public final double mean;
+    public final double p50;
+    public final double p90;
+    public final double p99;
+    public final double p999;
+    public final double max;
+
+    LatencySnapshot(LatencyHistogram h) {
+      this.count = h.count();
+      this.mean = h.mean() / 1e6;
+      this.p50 = h.percentile(50) / 1e6;
+      this.p90 = h.percentile(90) / 1e6;
+      this.p99 = h.percentile(99) / 1e6;
+      this.p999 = h.percentile(99.9) / 1e6;
+      this.max = h.max() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ENGLISH,
+          "count=%d mean=%.3f p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f",
+          count, mean, p50, p90, p99, p999, max);
+    }
+  }
+
+  public static class MethodSnapshot {
+
+    public final String method;
+    public final long requestCount;
+    public final long errorCount;
+    public final long requestBytes;
+    public final long responseBytes;
+    public final LatencySnapshot latency;
+
+    MethodSnapshot(String method, MethodMetrics m) {
+      this.method = method;
+      this.requestCount = m.requestCount.sum();
+      this.errorCount = m.errorCount.sum();
+      this.requestBytes = m.requestBytes.sum();
+      this.responseBytes = m.responseBytes.sum();
+      this.latency = new LatencySnapshot(m.latency);
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ENGLISH,
+          "%s requests=%d errors=%d requestBytes=%d responseBytes=%d latency(ms): %s",
+          method, requestCount, errorCount, requestBytes, responseBytes, latency);
+    }
+  }
+
+  /**
+   * Returns metrics of the methods that are called at least once, sorted by method name.
+   */
+  public List<MethodSnapshot> methodSnapshots() {
+    List<MethodSnapshot> result = new ArrayList<>();
+    for (Map.Entry<String, MethodMetrics> e : new TreeMap<>(methods).entrySet()) {
+      result.add(new MethodSnapshot(e.getKey(), e.getValue()));
+    }
+    return result;
+  }
+
+  /**
+   * Returns timings of the components, keyed and sorted by component name.
+   */
+  public Map<String, LatencySnapshot> componentSnapshots() {
+    Map<String, LatencySnapshot> result = new TreeMap<>();
+    for (Map.Entry<String, LatencyHistogram> e : components.entrySet()) {
+      result.put(e.getKey(), new LatencySnapshot(e.getValue()));
+    }
+    return result;
+  }
+
+  /**
+   * Returns all metrics as human readable text.
+   */
+  public String format() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("Methods:\n");
+    for (MethodSnapshot m : methodSnapshots()) {
+      sb.append("  ").append(m).append('\n');
+    }
+    sb.append("Components:\n");
+    for (Map.Entry<String, LatencySnapshot> e : componentSnapshots().entrySet()) {
+      sb.append("  ").append(e.getKey()).append(" latency(ms): ").append(e.getValue())
+          .append('\n');
+    }
+    return sb.toString();
+  }
+}
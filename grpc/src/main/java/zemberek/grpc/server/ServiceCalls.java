@@ -0,0 +1,31 @@
+package zemberek.grpc.server;
+
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for service implementations.
+ */
+final class ServiceCalls {
+
+  private ServiceCalls() {
+  }
+
+  /**
+   * Sends the result of [supplier] as the single response of a call. If supplier fails with a
+   * status, like when call is cancelled, deadline is exceeded or server is busy, that status is
+   * sent instead.
+   */
+  static <T> void respond(StreamObserver<T> responseObserver, Supplier<T> supplier) {
+    T result;
+    try {
+      result = supplier.get();
+    } catch (StatusRuntimeException e) {
+      responseObserver.onError(e);
+      return;
+    }
+    responseObserver.onNext(result);
+    responseObserver.onCompleted();
+  }
+}
@@ -0,0 +1,70 @@
+package zemberek.grpc.server;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLoggerFactory;
+import zemberek.core.logging.Log;
+import zemberek.core.logging.Log.LogLevel;
+import zemberek.core.logging.LoggingBridge;
+
+/**
+ * Sends Zemberek log messages to SLF4J, so that output is controlled by the logging backend of the
+ * service. Messages are logged with loggers named after their source classes. Enabled levels are
+ * checked first with the "zemberek" logger, so configuring it controls all Zemberek messages.
+ */
+public class Slf4jLoggingBridge implements LoggingBridge {
+
+  private final Logger rootLogger = LoggerFactory.getLogger("zemberek");
+
+  /**
+   * Sets a Slf4jLoggingBridge to {@link Log} if there is a SLF4J binding in class path.
+   *
+   * @return false if there is no binding. In that case Log is not changed.
+   */
+  public static boolean install() {
+    if (LoggerFactory.getILoggerFactory() instanceof NOPLoggerFactory) {
+      Log.warn("There is no SLF4J binding in class path. Log messages are not sent to SLF4J.");
+      return false;
+    }
+    Log.setBridge(new Slf4jLoggingBridge());
+    return true;
+  }
+
+  @Override
+  public boolean isEnabled(LogLevel level) {
+    switch (level) {
+      case TRACE:
+        return rootLogger.isTraceEnabled();
+      case DEBUG:
+        return rootLogger.isDebugEnabled();
+      case INFO:
+        return rootLogger.isInfoEnabled();
+      case WARNING:
+        return rootLogger.isWarnEnabled();
+      default:
+        return rootLogger.isErrorEnabled();
+    }
+  }
+
+  @Override
+  public void log(LogLevel level, String sourceClassName, String sourceMethodName,
+      String message, Throwable thrown) {
+    Logger logger = LoggerFactory.getLogger(sourceClassName);
+    switch (level) {
+      case TRACE:
+        logger.trace(message, thrown);
+        break;
+      case DEBUG:
+        logger.debug(message, thrown);
+        break;
+      case INFO:
+        logger.info(message, thrown);
+        break;
+      case WARNING:
+        logger.warn(message, thrown);
+        break;
+      default:
+        logger.error(message, thrown);
+    }
+  }
+}
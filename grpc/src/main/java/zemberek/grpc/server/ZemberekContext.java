@@ -1,6 +1,8 @@
 package zemberek.grpc.server;
 
 import zemberek.morphology.TurkishMorphology;
+import zemberek.morphology.lexicon.RootLexicon;
+import zemberek.morphology.metrics.PipelineMetrics;
 import zemberek.tokenization.TurkishTokenizer;
 
 /**
@@ -10,17 +12,30 @@ public class ZemberekContext {
 
   final TurkishMorphology morphology;
   final TurkishTokenizer tokenizer;
+  final BatchExecutor batchExecutor;
+  final ServerMetrics metrics = new ServerMetrics();
+  final PipelineMetrics pipelineMetrics = new PipelineMetrics();
   ZemberekGrpcConfiguration configuration;
 
   public ZemberekContext() {
     tokenizer = TurkishTokenizer.ALL;
-    morphology = TurkishMorphology.createWithDefaults();
+    morphology = createMorphology();
+    batchExecutor = BatchExecutor.withDefaults();
   }
 
   public ZemberekContext(ZemberekGrpcConfiguration configuration) {
     tokenizer = TurkishTokenizer.ALL;
-    morphology = TurkishMorphology.createWithDefaults();
+    morphology = createMorphology();
+    batchExecutor = configuration == null ?
+        BatchExecutor.withDefaults() :
+        BatchExecutor.bounded(configuration.threadCount, configuration.batchQueueSize);
     this.configuration = configuration;
   }
 
+  private TurkishMorphology createMorphology() {
+    return TurkishMorphology.builder(RootLexicon.getDefault())
+        .setPipelineListener(pipelineMetrics)
+        .build();
+  }
+
 }
@@ -3,6 +3,8 @@ package zemberek.grpc.server;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import zemberek.core.io.IOUtil;
 import zemberek.core.io.KeyValueReader;
@@ -10,14 +12,127 @@ import zemberek.core.io.KeyValueReader;
 //TODO: This class will change in next release.
 public class ZemberekGrpcConfiguration {
 
+  /**
+   * Type of the executor that runs gRPC calls.
+   */
+  public enum ExecutorType {
+    // Default executor of gRPC, a shared cached thread pool.
+    DEFAULT,
+    // Fixed size thread pool.
+    FIXED,
+    // Work stealing fork-join pool.
+    FORK_JOIN,
+    // A virtual thread per call. Requires Java 21 or later, otherwise a fixed pool is used.
+    VIRTUAL
+  }
+
   Path normalizationLmPath;
   Path normalizationDataRoot;
 
+  ExecutorType executorType = ExecutorType.DEFAULT;
+  // Thread count of fixed and fork-join call executors and of batch item processing.
+  int threadCount = Runtime.getRuntime().availableProcessors();
+  // Maximum amount of calls a service processes at the same time. Extra calls are rejected.
+  int maxInFlight = 256;
+  // Maximum amount of batch and stream items waiting for a batch thread. Calls that exceed it
+  // are rejected. Call executor is not bounded, calls are limited by [maxInFlight] instead.
+  int batchQueueSize = 4096;
+
+  // Models that are loaded when server starts, keyed by model names.
+  final Map<String, Path> classificationModels = new LinkedHashMap<>();
+  final Map<String, Path> nerModels = new LinkedHashMap<>();
+  // If set, model administration service is served and it loads models only from this directory.
+  Path modelDirectory;
+
   ZemberekGrpcConfiguration(Path normalizationLmPath, Path normalizationDataRoot) {
     this.normalizationLmPath = normalizationLmPath;
     this.normalizationDataRoot = normalizationDataRoot;
   }
 
+  /**
+   * Creates a configuration without external data and with default server settings.
+   */
+  public static ZemberekGrpcConfiguration defaultConfiguration() {
+    return new ZemberekGrpcConfiguration(null, null);
+  }
+
+  public ZemberekGrpcConfiguration executor(ExecutorType executorType, int threadCount) {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("Thread count must be positive. But it is " + threadCount);
+    }
+    this.executorType = executorType;
+    this.threadCount = threadCount;
+    return this;
+  }
+
+  public ZemberekGrpcConfiguration maxInFlight(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(
+          "Max in-flight count must be positive. But it is " + maxInFlight);
+    }
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public ZemberekGrpcConfiguration batchQueueSize(int batchQueueSize) {
+    if (batchQueueSize < 1) {
+      throw new IllegalArgumentException(
+          "Batch queue size must be positive. But it is " + batchQueueSize);
+    }
+    this.batchQueueSize = batchQueueSize;
+    return this;
+  }
+
+  /**
+   * Adds a FastText classification model to be loaded when server starts.
+   */
+  public ZemberekGrpcConfiguration classificationModel(String name, Path path) {
+    IOUtil.checkFileArgument(path, "Classification model path");
+    classificationModels.put(name, path);
+    return this;
+  }
+
+  /**
+   * Adds a named entity recognition model to be loaded when server starts. Path is the directory
+   * that contains the model files.
+   */
+  public ZemberekGrpcConfiguration nerModel(String name, Path path) {
+    IOUtil.checkDirectoryArgument(path, "Ner model path");
+    nerModels.put(name, path);
+    return this;
+  }
+
+  /**
+   * Enables the model administration service. Models can be loaded and unloaded at runtime, but
+   * only from [modelDirectory]. The service is not authenticated, so it should only be enabled if
+   * server port is not exposed to untrusted clients.
+   */
+  public ZemberekGrpcConfiguration modelDirectory(Path modelDirectory) {
+    IOUtil.checkDirectoryArgument(modelDirectory, "Model directory");
+    this.modelDirectory = modelDirectory;
+    return this;
+  }
+
+  public ExecutorType getExecutorType() {
+    return executorType;
+  }
+
+  public int getThreadCount() {
+    return threadCount;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public int getBatchQueueSize() {
+    return batchQueueSize;
+  }
+
+  public Path getModelDirectory() {
+    return modelDirectory;
+  }
+
   public Path getNormalizationLmPath() {
     return normalizationLmPath;
   }
@@ -45,7 +160,41 @@ public class ZemberekGrpcConfiguration {
     IOUtil.checkFileArgument(lmPath, "Language model path");
     Path normalizationPath = Paths.get(normalizationRootVal);
     IOUtil.checkFileArgument(normalizationPath, "Normalization root path");
-    return new ZemberekGrpcConfiguration(lmPath, normalizationPath);
+    ZemberekGrpcConfiguration configuration =
+        new ZemberekGrpcConfiguration(lmPath, normalizationPath);
+    configuration.loadServerSettings(keyValues);
+    return configuration;
+  }
+
+  // Reads optional server.* and model keys.
+  private void loadServerSettings(Map<String, String> keyValues) {
+    String executorVal = keyValues.get("server.executor");
+    String threadsVal = keyValues.get("server.threads");
+    ExecutorType type = executorVal == null ?
+        executorType : ExecutorType.valueOf(executorVal.trim().toUpperCase(Locale.ENGLISH));
+    int threads = threadsVal == null ? threadCount : Integer.parseInt(threadsVal.trim());
+    executor(type, threads);
+    String maxInFlightVal = keyValues.get("server.maxInFlight");
+    if (maxInFlightVal != null) {
+      maxInFlight(Integer.parseInt(maxInFlightVal.trim()));
+    }
+    String batchQueueSizeVal = keyValues.get("server.batchQueueSize");
+    if (batchQueueSizeVal != null) {
+      batchQueueSize(Integer.parseInt(batchQueueSizeVal.trim()));
+    }
+    String modelDirectoryVal = keyValues.get("server.modelDirectory");
+    if (modelDirectoryVal != null) {
+      modelDirectory(Paths.get(modelDirectoryVal.trim()));
+    }
+    // model keys are like classification.model.<name>=<path>
+    for (Map.Entry<String, String> e : keyValues.entrySet()) {
+      if (e.getKey().startsWith("classification.model.")) {
+        classificationModel(e.getKey().substring("classification.model.".length()),
+            Paths.get(e.getValue().trim()));
+      } else if (e.getKey().startsWith("ner.model.")) {
+        nerModel(e.getKey().substring("ner.model.".length()), Paths.get(e.getValue().trim()));
+      }
+    }
   }
 
   public static ZemberekGrpcConfiguration fromDataRoot(Path root) {
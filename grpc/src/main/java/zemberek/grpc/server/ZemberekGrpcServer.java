@@ -1,7 +1,15 @@
 package zemberek.grpc.server;
 
+import io.grpc.BindableService;
 import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
 import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import zemberek.core.logging.Log;
 
 public class ZemberekGrpcServer {
@@ -9,11 +17,16 @@ public class ZemberekGrpcServer {
   public static final int DEFAULT_PORT = 6789;
 
   private final int port;
+  private final ZemberekGrpcConfiguration configuration;
   private ZemberekContext context;
+  private Server server;
+  private ExecutorService callExecutor;
 
   public ZemberekGrpcServer(int port, ZemberekGrpcConfiguration configuration) {
     this.port = port;
-    context = new ZemberekContext(configuration);
+    this.configuration = configuration == null ?
+        ZemberekGrpcConfiguration.defaultConfiguration() : configuration;
+    context = new ZemberekContext(this.configuration);
   }
 
   public int getPort() {
@@ -24,20 +37,126 @@ public class ZemberekGrpcServer {
     return context;
   }
 
+  public ServerMetrics getMetrics() {
+    return context.metrics;
+  }
+
+  /**
+   * Starts the server and returns. Use {@link #blockUntilShutdown()} for waiting until server
+   * terminates.
+   */
   public void start() throws Exception {
-    Server server = NettyServerBuilder.forPort(port)
-        .addService(new LanguageIdServiceImpl())
-        .addService(new PreprocessingServiceImpl())
-        .addService(new NormalizationServiceImpl(context))
-        .addService(new MorphologyServiceImpl(context))
-        .build()
-        .start();
-    Log.info("Zemberek grpc server started at port: " + port);
-    server.awaitTermination();
+    callExecutor = createCallExecutor(configuration);
+    NettyServerBuilder builder = NettyServerBuilder.forPort(port);
+    if (callExecutor != null) {
+      builder.executor(callExecutor);
+    }
+    ClassificationServiceImpl classificationService = new ClassificationServiceImpl(context);
+    NerServiceImpl nerService = new NerServiceImpl(context);
+    builder
+        .addService(limited(new LanguageIdServiceImpl(context.batchExecutor)))
+        .addService(limited(new PreprocessingServiceImpl(context.batchExecutor, context.metrics)))
+        .addService(limited(new NormalizationServiceImpl(context)))
+        .addService(limited(new MorphologyServiceImpl(context)))
+        .addService(limited(classificationService))
+        .addService(limited(nerService))
+        .addService(new MetricsServiceImpl(context));
+    // model administration is not authenticated, it is only served if enabled.
+    if (configuration.modelDirectory != null) {
+      builder.addService(new ModelAdminServiceImpl(
+          configuration.modelDirectory, classificationService, nerService));
+    }
+    server = builder.build().start();
+    Log.info("Zemberek grpc server started at port: %d, executor: %s, threads: %d, "
+            + "max in-flight calls per service: %d, batch queue size: %d, model directory: %s",
+        port,
+        configuration.executorType,
+        configuration.threadCount,
+        configuration.maxInFlight,
+        configuration.batchQueueSize,
+        configuration.modelDirectory == null ? "-" : configuration.modelDirectory);
+  }
+
+  /**
+   * Stops accepting new calls, waits for running calls to finish and shuts down the call
+   * executor.
+   */
+  public void stop() throws InterruptedException {
+    if (server != null) {
+      server.shutdown();
+      blockUntilShutdown();
+    }
+  }
+
+  /**
+   * Waits until server terminates, then shuts down the call executor.
+   */
+  public void blockUntilShutdown() throws InterruptedException {
+    if (server == null) {
+      return;
+    }
+    try {
+      server.awaitTermination();
+    } finally {
+      if (callExecutor != null) {
+        callExecutor.shutdown();
+      }
+    }
+  }
+
+  // Metrics interceptor is the outermost one, so rejected calls are also recorded.
+  private ServerServiceDefinition limited(BindableService service) {
+    return ServerInterceptors.intercept(
+        service,
+        new ConcurrencyLimitInterceptor(configuration.maxInFlight),
+        new MetricsInterceptor(context.metrics));
+  }
+
+  /**
+   * Creates the executor that runs the gRPC calls, or returns null for the default executor of
+   * gRPC. Virtual threads are created with reflection, as this module is compiled for Java 8. If
+   * they are not available, a fixed size pool is used, configuration is not changed.
+   * <p>
+   * Executor must not reject tasks. gRPC runs every event of a call, including later messages of
+   * a stream, in this executor, and a rejected event breaks the call without a proper status.
+   * Calls are limited by {@link ConcurrencyLimitInterceptor} instead, which rejects a call with
+   * RESOURCE_EXHAUSTED before it starts.
+   */
+  static ExecutorService createCallExecutor(ZemberekGrpcConfiguration configuration) {
+    switch (configuration.executorType) {
+      case DEFAULT:
+        return null;
+      case FORK_JOIN:
+        return new ForkJoinPool(
+            configuration.threadCount,
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory,
+            null,
+            true);
+      case VIRTUAL:
+        try {
+          Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+          return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+          Log.warn("Virtual threads are not available in this JVM. Fixed thread pool with %d "
+              + "threads is used instead.", configuration.threadCount);
+          return fixedPool(configuration);
+        }
+      default:
+        return fixedPool(configuration);
+    }
+  }
+
+  private static ExecutorService fixedPool(ZemberekGrpcConfiguration configuration) {
+    AtomicInteger counter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        configuration.threadCount,
+        r -> new Thread(r, "zemberek-grpc-" + counter.incrementAndGet()));
   }
 
   public static void main(String[] args) throws Exception {
-    new ZemberekGrpcServer(DEFAULT_PORT, null).start();
+    ZemberekGrpcServer server = new ZemberekGrpcServer(DEFAULT_PORT, null);
+    server.start();
+    server.blockUntilShutdown();
   }
 
 }
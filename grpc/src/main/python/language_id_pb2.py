@@ -20,7 +20,7 @@ DESCRIPTOR = _descriptor.FileDescriptor(
   package='zemberek.langid',
   syntax='proto3',
   serialized_options=_b('\n\016zemberek.protoP\001'),
-  serialized_pb=_b('\n\x11language_id.proto\x12\x0fzemberek.langid\":\n\x11LanguageIdRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x16\n\x0emaxSampleCount\x18\x02 \x01(\x05\"$\n\x12LanguageIdResponse\x12\x0e\n\x06langId\x18\x01 \x01(\t2\xbd\x01\n\x11LanguageIdService\x12Q\n\x06\x44\x65tect\x12\".zemberek.langid.LanguageIdRequest\x1a#.zemberek.langid.LanguageIdResponse\x12U\n\nDetectFast\x12\".zemberek.langid.LanguageIdRequest\x1a#.zemberek.langid.LanguageIdResponseB\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
+  serialized_pb=_b('\n\x11language_id.proto\x12\x0fzemberek.langid\"b\n\x11LanguageIdRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x16\n\x0emaxSampleCount\x18\x02 \x01(\x05\x12\x0f\n\x07trGroup\x18\x03 \x01(\x08\x12\x15\n\rincludeScores\x18\x04 \x01(\x08\"Q\n\x12LanguageIdResponse\x12\x0e\n\x06langId\x18\x01 \x01(\t\x12+\n\x08idResult\x18\x02 \x03(\x0b\x32\x19.zemberek.langid.IdResult\"%\n\x08IdResult\x12\n\n\x02id\x18\x01 \x01(\t\x12\r\n\x05score\x18\x02 \x01(\x01\"v\n\x16LanguageIdBatchRequest\x12\x0e\n\x06inputs\x18\x01 \x03(\t\x12\x16\n\x0emaxSampleCount\x18\x02 \x01(\x05\x12\x0f\n\x07trGroup\x18\x03 \x01(\x08\x12\x15\n\rincludeScores\x18\x04 \x01(\x08\x12\x0c\n\x04\x66\x61st\x18\x05 \x01(\x08\"O\n\x17LanguageIdBatchResponse\x12\x34\n\x07results\x18\x01 \x03(\x0b\x32#.zemberek.langid.LanguageIdResponse2\xfc\x02\n\x11LanguageIdService\x12Q\n\x06\x44\x65tect\x12\".zemberek.langid.LanguageIdRequest\x1a#.zemberek.langid.LanguageIdResponse\x12U\n\nDetectFast\x12\".zemberek.langid.LanguageIdRequest\x1a#.zemberek.langid.LanguageIdResponse\x12`\n\x0b\x44\x65tectBatch\x12\'.zemberek.langid.LanguageIdBatchRequest\x1a(.zemberek.langid.LanguageIdBatchResponse\x12[\n\x0c\x44\x65tectStream\x12\".zemberek.langid.LanguageIdRequest\x1a#.zemberek.langid.LanguageIdResponse(\x01\x30\x01\x42\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
 )
 
 
@@ -47,6 +47,20 @@ _LANGUAGEIDREQUEST = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='trGroup', full_name='zemberek.langid.LanguageIdRequest.trGroup', index=2,
+      number=3, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='includeScores', full_name='zemberek.langid.LanguageIdRequest.includeScores', index=3,
+      number=4, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
   ],
   extensions=[
   ],
@@ -60,7 +74,7 @@ _LANGUAGEIDREQUEST = _descriptor.Descriptor(
   oneofs=[
   ],
   serialized_start=38,
-  serialized_end=96,
+  serialized_end=136,
 )
 
 
@@ -78,6 +92,141 @@ _LANGUAGEIDRESPONSE = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='idResult', full_name='zemberek.langid.LanguageIdResponse.idResult', index=1,
+      number=2, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=138,
+  serialized_end=219,
+)
+
+
+_IDRESULT = _descriptor.Descriptor(
+  name='IdResult',
+  full_name='zemberek.langid.IdResult',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='id', full_name='zemberek.langid.IdResult.id', index=0,
+      number=1, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='score', full_name='zemberek.langid.IdResult.score', index=1,
+      number=2, type=1, cpp_type=5, label=1,
+      has_default_value=False, default_value=float(0),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=221,
+  serialized_end=258,
+)
+
+
+_LANGUAGEIDBATCHREQUEST = _descriptor.Descriptor(
+  name='LanguageIdBatchRequest',
+  full_name='zemberek.langid.LanguageIdBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='inputs', full_name='zemberek.langid.LanguageIdBatchRequest.inputs', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='maxSampleCount', full_name='zemberek.langid.LanguageIdBatchRequest.maxSampleCount', index=1,
+      number=2, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='trGroup', full_name='zemberek.langid.LanguageIdBatchRequest.trGroup', index=2,
+      number=3, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='includeScores', full_name='zemberek.langid.LanguageIdBatchRequest.includeScores', index=3,
+      number=4, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='fast', full_name='zemberek.langid.LanguageIdBatchRequest.fast', index=4,
+      number=5, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=260,
+  serialized_end=378,
+)
+
+
+_LANGUAGEIDBATCHRESPONSE = _descriptor.Descriptor(
+  name='LanguageIdBatchResponse',
+  full_name='zemberek.langid.LanguageIdBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.langid.LanguageIdBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
   ],
   extensions=[
   ],
@@ -90,12 +239,17 @@ _LANGUAGEIDRESPONSE = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=98,
-  serialized_end=134,
+  serialized_start=380,
+  serialized_end=459,
 )
 
+_LANGUAGEIDRESPONSE.fields_by_name['idResult'].message_type = _IDRESULT
+_LANGUAGEIDBATCHRESPONSE.fields_by_name['results'].message_type = _LANGUAGEIDRESPONSE
 DESCRIPTOR.message_types_by_name['LanguageIdRequest'] = _LANGUAGEIDREQUEST
 DESCRIPTOR.message_types_by_name['LanguageIdResponse'] = _LANGUAGEIDRESPONSE
+DESCRIPTOR.message_types_by_name['IdResult'] = _IDRESULT
+DESCRIPTOR.message_types_by_name['LanguageIdBatchRequest'] = _LANGUAGEIDBATCHREQUEST
+DESCRIPTOR.message_types_by_name['LanguageIdBatchResponse'] = _LANGUAGEIDBATCHRESPONSE
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
 
 LanguageIdRequest = _reflection.GeneratedProtocolMessageType('LanguageIdRequest', (_message.Message,), dict(
@@ -112,6 +266,27 @@ LanguageIdResponse = _reflection.GeneratedProtocolMessageType('LanguageIdRespons
   ))
 _sym_db.RegisterMessage(LanguageIdResponse)
 
+IdResult = _reflection.GeneratedProtocolMessageType('IdResult', (_message.Message,), dict(
+  DESCRIPTOR = _IDRESULT,
+  __module__ = 'language_id_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.langid.IdResult)
+  ))
+_sym_db.RegisterMessage(IdResult)
+
+LanguageIdBatchRequest = _reflection.GeneratedProtocolMessageType('LanguageIdBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _LANGUAGEIDBATCHREQUEST,
+  __module__ = 'language_id_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.langid.LanguageIdBatchRequest)
+  ))
+_sym_db.RegisterMessage(LanguageIdBatchRequest)
+
+LanguageIdBatchResponse = _reflection.GeneratedProtocolMessageType('LanguageIdBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _LANGUAGEIDBATCHRESPONSE,
+  __module__ = 'language_id_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.langid.LanguageIdBatchResponse)
+  ))
+_sym_db.RegisterMessage(LanguageIdBatchResponse)
+
 
 DESCRIPTOR._options = None
 
@@ -121,8 +296,8 @@ _LANGUAGEIDSERVICE = _descriptor.ServiceDescriptor(
   file=DESCRIPTOR,
   index=0,
   serialized_options=None,
-  serialized_start=137,
-  serialized_end=326,
+  serialized_start=462,
+  serialized_end=842,
   methods=[
   _descriptor.MethodDescriptor(
     name='Detect',
@@ -142,6 +317,24 @@ _LANGUAGEIDSERVICE = _descriptor.ServiceDescriptor(
     output_type=_LANGUAGEIDRESPONSE,
     serialized_options=None,
   ),
+  _descriptor.MethodDescriptor(
+    name='DetectBatch',
+    full_name='zemberek.langid.LanguageIdService.DetectBatch',
+    index=2,
+    containing_service=None,
+    input_type=_LANGUAGEIDBATCHREQUEST,
+    output_type=_LANGUAGEIDBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='DetectStream',
+    full_name='zemberek.langid.LanguageIdService.DetectStream',
+    index=3,
+    containing_service=None,
+    input_type=_LANGUAGEIDREQUEST,
+    output_type=_LANGUAGEIDRESPONSE,
+    serialized_options=None,
+  ),
 ])
 _sym_db.RegisterServiceDescriptor(_LANGUAGEIDSERVICE)
 
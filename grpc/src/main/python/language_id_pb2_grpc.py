@@ -24,6 +24,16 @@ class LanguageIdServiceStub(object):
         request_serializer=language__id__pb2.LanguageIdRequest.SerializeToString,
         response_deserializer=language__id__pb2.LanguageIdResponse.FromString,
         )
+    self.DetectBatch = channel.unary_unary(
+        '/zemberek.langid.LanguageIdService/DetectBatch',
+        request_serializer=language__id__pb2.LanguageIdBatchRequest.SerializeToString,
+        response_deserializer=language__id__pb2.LanguageIdBatchResponse.FromString,
+        )
+    self.DetectStream = channel.stream_stream(
+        '/zemberek.langid.LanguageIdService/DetectStream',
+        request_serializer=language__id__pb2.LanguageIdRequest.SerializeToString,
+        response_deserializer=language__id__pb2.LanguageIdResponse.FromString,
+        )
 
 
 class LanguageIdServiceServicer(object):
@@ -44,6 +54,20 @@ class LanguageIdServiceServicer(object):
     context.set_details('Method not implemented!')
     raise NotImplementedError('Method not implemented!')
 
+  def DetectBatch(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def DetectStream(self, request_iterator, context):
+    """Client streams requests, server streams results back in request order.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
 
 def add_LanguageIdServiceServicer_to_server(servicer, server):
   rpc_method_handlers = {
@@ -57,6 +81,16 @@ def add_LanguageIdServiceServicer_to_server(servicer, server):
           request_deserializer=language__id__pb2.LanguageIdRequest.FromString,
           response_serializer=language__id__pb2.LanguageIdResponse.SerializeToString,
       ),
+      'DetectBatch': grpc.unary_unary_rpc_method_handler(
+          servicer.DetectBatch,
+          request_deserializer=language__id__pb2.LanguageIdBatchRequest.FromString,
+          response_serializer=language__id__pb2.LanguageIdBatchResponse.SerializeToString,
+      ),
+      'DetectStream': grpc.stream_stream_rpc_method_handler(
+          servicer.DetectStream,
+          request_deserializer=language__id__pb2.LanguageIdRequest.FromString,
+          response_serializer=language__id__pb2.LanguageIdResponse.SerializeToString,
+      ),
   }
   generic_handler = grpc.method_handlers_generic_handler(
       'zemberek.langid.LanguageIdService', rpc_method_handlers)
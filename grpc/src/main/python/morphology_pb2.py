@@ -13,6 +13,7 @@ from google.protobuf import symbol_database as _symbol_database
 _sym_db = _symbol_database.Default()
 
 
+from google.protobuf import field_mask_pb2 as google_dot_protobuf_dot_field__mask__pb2
 
 
 DESCRIPTOR = _descriptor.FileDescriptor(
@@ -20,8 +21,9 @@ DESCRIPTOR = _descriptor.FileDescriptor(
   package='zemberek.morphology',
   syntax='proto3',
   serialized_options=_b('\n\031zemberek.proto.morphologyP\001'),
-  serialized_pb=_b('\n\x10morphology.proto\x12\x13zemberek.morphology\"$\n\x13WordAnalysisRequest\x12\r\n\x05input\x18\x01 \x01(\t\"N\n\x13\x44ictionaryItemProto\x12\r\n\x05lemma\x18\x01 \x01(\t\x12\x12\n\nprimaryPos\x18\x02 \x01(\t\x12\x14\n\x0csecondaryPos\x18\x03 \x01(\t\"\xe4\x01\n\x13SingleAnalysisProto\x12\x0b\n\x03pos\x18\x01 \x01(\t\x12@\n\x0e\x64ictionaryItem\x18\x02 \x01(\x0b\x32(.zemberek.morphology.DictionaryItemProto\x12\x10\n\x08\x61nalysis\x18\x03 \x01(\t\x12\x10\n\x08informal\x18\x04 \x01(\x08\x12\x0f\n\x07runtime\x18\x05 \x01(\x08\x12\x0e\n\x06lemmas\x18\x06 \x03(\t\x12\x39\n\tmorphemes\x18\x07 \x03(\x0b\x32&.zemberek.morphology.MorphemeDataProto\"6\n\x11MorphemeDataProto\x12\x0f\n\x07surface\x18\x01 \x01(\t\x12\x10\n\x08morpheme\x18\x02 \x01(\t\"^\n\x11WordAnalysisProto\x12\r\n\x05input\x18\x01 \x01(\t\x12:\n\x08\x61nalyses\x18\x02 \x03(\x0b\x32(.zemberek.morphology.SingleAnalysisProto\"D\n\x17SentenceAnalysisRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x1a\n\x12\x63ontainAllAnalyses\x18\x02 \x01(\x08\"g\n\x15SentenceAnalysisProto\x12\r\n\x05input\x18\x01 \x01(\t\x12?\n\x07results\x18\x02 \x03(\x0b\x32..zemberek.morphology.SentenceWordAnalysisProto\"\x97\x01\n\x19SentenceWordAnalysisProto\x12\r\n\x05token\x18\x01 \x01(\t\x12\x36\n\x04\x62\x65st\x18\x02 \x01(\x0b\x32(.zemberek.morphology.SingleAnalysisProto\x12\x33\n\x03\x61ll\x18\x03 \x01(\x0b\x32&.zemberek.morphology.WordAnalysisProto2\xe1\x01\n\x11MorphologyService\x12k\n\x0f\x41nalyzeSentence\x12,.zemberek.morphology.SentenceAnalysisRequest\x1a*.zemberek.morphology.SentenceAnalysisProto\x12_\n\x0b\x41nalyzeWord\x12(.zemberek.morphology.WordAnalysisRequest\x1a&.zemberek.morphology.WordAnalysisProtoB\x1d\n\x19zemberek.proto.morphologyP\x01\x62\x06proto3')
-)
+  serialized_pb=_b('\n\x10morphology.proto\x12\x13zemberek.morphology\x1a google/protobuf/field_mask.proto\"V\n\x13WordAnalysisRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x30\n\x0c\x61nalysisMask\x18\x02 \x01(\x0b\x32\x1a.google.protobuf.FieldMask\"Z\n\x13\x44ictionaryItemProto\x12\r\n\x05lemma\x18\x01 \x01(\t\x12\x12\n\nprimaryPos\x18\x02 \x01(\t\x12\x14\n\x0csecondaryPos\x18\x03 \x01(\t\x12\n\n\x02id\x18\x04 \x01(\t\"\xe4\x01\n\x13SingleAnalysisProto\x12\x0b\n\x03pos\x18\x01 \x01(\t\x12@\n\x0e\x64ictionaryItem\x18\x02 \x01(\x0b\x32(.zemberek.morphology.DictionaryItemProto\x12\x10\n\x08\x61nalysis\x18\x03 \x01(\t\x12\x10\n\x08informal\x18\x04 \x01(\x08\x12\x0f\n\x07runtime\x18\x05 \x01(\x08\x12\x0e\n\x06lemmas\x18\x06 \x03(\t\x12\x39\n\tmorphemes\x18\x07 \x03(\x0b\x32&.zemberek.morphology.MorphemeDataProto\"6\n\x11MorphemeDataProto\x12\x0f\n\x07surface\x18\x01 \x01(\t\x12\x10\n\x08morpheme\x18\x02 \x01(\t\"^\n\x11WordAnalysisProto\x12\r\n\x05input\x18\x01 \x01(\t\x12:\n\x08\x61nalyses\x18\x02 \x03(\x0b\x32(.zemberek.morphology.SingleAnalysisProto\"v\n\x17SentenceAnalysisRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x1a\n\x12\x63ontainAllAnalyses\x18\x02 \x01(\x08\x12\x30\n\x0c\x61nalysisMask\x18\x03 \x01(\x0b\x32\x1a.google.protobuf.FieldMask\"g\n\x15SentenceAnalysisProto\x12\r\n\x05input\x18\x01 \x01(\t\x12?\n\x07results\x18\x02 \x03(\x0b\x32..zemberek.morphology.SentenceWordAnalysisProto\"\x97\x01\n\x19SentenceWordAnalysisProto\x12\r\n\x05token\x18\x01 \x01(\t\x12\x36\n\x04\x62\x65st\x18\x02 \x01(\x0b\x32(.zemberek.morphology.SingleAnalysisProto\x12\x33\n\x03\x61ll\x18\x03 \x01(\x0b\x32&.zemberek.morphology.WordAnalysisProto\"\\\n\x18WordAnalysisBatchRequest\x12\x0e\n\x06inputs\x18\x01 \x03(\t\x12\x30\n\x0c\x61nalysisMask\x18\x02 \x01(\x0b\x32\x1a.google.protobuf.FieldMask\"T\n\x19WordAnalysisBatchResponse\x12\x37\n\x07results\x18\x01 \x03(\x0b\x32&.zemberek.morphology.WordAnalysisProto\"|\n\x1cSentenceAnalysisBatchRequest\x12\x0e\n\x06inputs\x18\x01 \x03(\t\x12\x1a\n\x12\x63ontainAllAnalyses\x18\x02 \x01(\x08\x12\x30\n\x0c\x61nalysisMask\x18\x03 \x01(\x0b\x32\x1a.google.protobuf.FieldMask\"\\\n\x1dSentenceAnalysisBatchResponse\x12;\n\x07results\x18\x01 \x03(\x0b\x32*.zemberek.morphology.SentenceAnalysisProto\"\xcf\x01\n\x14\x43ompactAnalysisProto\x12\x0c\n\x04item\x18\x01 \x01(\x05\x12=\n\x0bruntimeItem\x18\x02 \x01(\x0b\x32(.zemberek.morphology.DictionaryItemProto\x12\x0b\n\x03pos\x18\x03 \x01(\x05\x12\x11\n\tmorphemes\x18\x04 \x03(\x05\x12\x16\n\x0esurfaceLengths\x18\x05 \x03(\x05\x12\x0f\n\x07surface\x18\x06 \x01(\t\x12\x10\n\x08informal\x18\x07 \x01(\x08\x12\x0f\n\x07runtime\x18\x08 \x01(\x08\"\xaa\x01\n\x10\x43ompactWordProto\x12\r\n\x05token\x18\x01 \x01(\t\x12;\n\x08\x61nalyses\x18\x02 \x03(\x0b\x32).zemberek.morphology.CompactAnalysisProto\x12\x11\n\tbestIndex\x18\x03 \x01(\x05\x12\x37\n\x04\x62\x65st\x18\x04 \x01(\x0b\x32).zemberek.morphology.CompactAnalysisProto\"T\n\x1c\x43ompactSentenceAnalysisProto\x12\x34\n\x05words\x18\x01 \x03(\x0b\x32%.zemberek.morphology.CompactWordProto\"}\n$CompactSentenceAnalysisBatchResponse\x12\x42\n\x07results\x18\x01 \x03(\x0b\x32\x31.zemberek.morphology.CompactSentenceAnalysisProto\x12\x11\n\tlexiconId\x18\x02 \x01(\t\"\x17\n\x15\x41nalysisTablesRequest\"g\n\x16\x41nalysisTablesResponse\x12\x11\n\tmorphemes\x18\x01 \x03(\t\x12\x12\n\nprimaryPos\x18\x02 \x03(\t\x12\x13\n\x0blexiconSize\x18\x03 \x01(\x05\x12\x11\n\tlexiconId\x18\x04 \x01(\t\".\n\x0eLexiconRequest\x12\r\n\x05start\x18\x01 \x01(\x05\x12\r\n\x05\x63ount\x18\x02 \x01(\x05\"r\n\x0fLexiconResponse\x12\x37\n\x05items\x18\x01 \x03(\x0b\x32(.zemberek.morphology.DictionaryItemProto\x12\x13\n\x0blexiconSize\x18\x02 \x01(\x05\x12\x11\n\tlexiconId\x18\x03 \x01(\t2\xfe\x07\n\x11MorphologyService\x12k\n\x0f\x41nalyzeSentence\x12,.zemberek.morphology.SentenceAnalysisRequest\x1a*.zemberek.morphology.SentenceAnalysisProto\x12_\n\x0b\x41nalyzeWord\x12(.zemberek.morphology.WordAnalysisRequest\x1a&.zemberek.morphology.WordAnalysisProto\x12y\n\x10\x41nalyzeSentences\x12\x31.zemberek.morphology.SentenceAnalysisBatchRequest\x1a\x32.zemberek.morphology.SentenceAnalysisBatchResponse\x12m\n\x0c\x41nalyzeWords\x12-.zemberek.morphology.WordAnalysisBatchRequest\x1a..zemberek.morphology.WordAnalysisBatchResponse\x12u\n\x15\x41nalyzeSentenceStream\x12,.zemberek.morphology.SentenceAnalysisRequest\x1a*.zemberek.morphology.SentenceAnalysisProto(\x01\x30\x01\x12i\n\x11\x41nalyzeWordStream\x12(.zemberek.morphology.WordAnalysisRequest\x1a&.zemberek.morphology.WordAnalysisProto(\x01\x30\x01\x12\x87\x01\n\x17\x41nalyzeSentencesCompact\x12\x31.zemberek.morphology.SentenceAnalysisBatchRequest\x1a\x39.zemberek.morphology.CompactSentenceAnalysisBatchResponse\x12l\n\x11GetAnalysisTables\x12*.zemberek.morphology.AnalysisTablesRequest\x1a+.zemberek.morphology.AnalysisTablesResponse\x12W\n\nGetLexicon\x12#.zemberek.morphology.LexiconRequest\x1a$.zemberek.morphology.LexiconResponseB\x1d\n\x19zemberek.proto.morphologyP\x01\x62\x06proto3')
+  ,
+  dependencies=[google_dot_protobuf_dot_field__mask__pb2.DESCRIPTOR,])
 
 
 
@@ -40,6 +42,13 @@ _WORDANALYSISREQUEST = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='analysisMask', full_name='zemberek.morphology.WordAnalysisRequest.analysisMask', index=1,
+      number=2, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
   ],
   extensions=[
   ],
@@ -52,8 +61,8 @@ _WORDANALYSISREQUEST = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=41,
-  serialized_end=77,
+  serialized_start=75,
+  serialized_end=161,
 )
 
 
@@ -85,6 +94,13 @@ _DICTIONARYITEMPROTO = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='id', full_name='zemberek.morphology.DictionaryItemProto.id', index=3,
+      number=4, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
   ],
   extensions=[
   ],
@@ -97,8 +113,8 @@ _DICTIONARYITEMPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=79,
-  serialized_end=157,
+  serialized_start=163,
+  serialized_end=253,
 )
 
 
@@ -170,8 +186,8 @@ _SINGLEANALYSISPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=160,
-  serialized_end=388,
+  serialized_start=256,
+  serialized_end=484,
 )
 
 
@@ -208,8 +224,8 @@ _MORPHEMEDATAPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=390,
-  serialized_end=444,
+  serialized_start=486,
+  serialized_end=540,
 )
 
 
@@ -246,8 +262,8 @@ _WORDANALYSISPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=446,
-  serialized_end=540,
+  serialized_start=542,
+  serialized_end=636,
 )
 
 
@@ -272,6 +288,13 @@ _SENTENCEANALYSISREQUEST = _descriptor.Descriptor(
       message_type=None, enum_type=None, containing_type=None,
       is_extension=False, extension_scope=None,
       serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='analysisMask', full_name='zemberek.morphology.SentenceAnalysisRequest.analysisMask', index=2,
+      number=3, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
   ],
   extensions=[
   ],
@@ -284,8 +307,8 @@ _SENTENCEANALYSISREQUEST = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=542,
-  serialized_end=610,
+  serialized_start=638,
+  serialized_end=756,
 )
 
 
@@ -322,8 +345,8 @@ _SENTENCEANALYSISPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=612,
-  serialized_end=715,
+  serialized_start=758,
+  serialized_end=861,
 )
 
 
@@ -367,16 +390,533 @@ _SENTENCEWORDANALYSISPROTO = _descriptor.Descriptor(
   extension_ranges=[],
   oneofs=[
   ],
-  serialized_start=718,
-  serialized_end=869,
+  serialized_start=864,
+  serialized_end=1015,
+)
+
+
+_WORDANALYSISBATCHREQUEST = _descriptor.Descriptor(
+  name='WordAnalysisBatchRequest',
+  full_name='zemberek.morphology.WordAnalysisBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='inputs', full_name='zemberek.morphology.WordAnalysisBatchRequest.inputs', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='analysisMask', full_name='zemberek.morphology.WordAnalysisBatchRequest.analysisMask', index=1,
+      number=2, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1017,
+  serialized_end=1109,
+)
+
+
+_WORDANALYSISBATCHRESPONSE = _descriptor.Descriptor(
+  name='WordAnalysisBatchResponse',
+  full_name='zemberek.morphology.WordAnalysisBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.morphology.WordAnalysisBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1111,
+  serialized_end=1195,
+)
+
+
+_SENTENCEANALYSISBATCHREQUEST = _descriptor.Descriptor(
+  name='SentenceAnalysisBatchRequest',
+  full_name='zemberek.morphology.SentenceAnalysisBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='inputs', full_name='zemberek.morphology.SentenceAnalysisBatchRequest.inputs', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='containAllAnalyses', full_name='zemberek.morphology.SentenceAnalysisBatchRequest.containAllAnalyses', index=1,
+      number=2, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='analysisMask', full_name='zemberek.morphology.SentenceAnalysisBatchRequest.analysisMask', index=2,
+      number=3, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1197,
+  serialized_end=1321,
+)
+
+
+_SENTENCEANALYSISBATCHRESPONSE = _descriptor.Descriptor(
+  name='SentenceAnalysisBatchResponse',
+  full_name='zemberek.morphology.SentenceAnalysisBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.morphology.SentenceAnalysisBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1323,
+  serialized_end=1415,
+)
+
+
+_COMPACTANALYSISPROTO = _descriptor.Descriptor(
+  name='CompactAnalysisProto',
+  full_name='zemberek.morphology.CompactAnalysisProto',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='item', full_name='zemberek.morphology.CompactAnalysisProto.item', index=0,
+      number=1, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='runtimeItem', full_name='zemberek.morphology.CompactAnalysisProto.runtimeItem', index=1,
+      number=2, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='pos', full_name='zemberek.morphology.CompactAnalysisProto.pos', index=2,
+      number=3, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='morphemes', full_name='zemberek.morphology.CompactAnalysisProto.morphemes', index=3,
+      number=4, type=5, cpp_type=1, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='surfaceLengths', full_name='zemberek.morphology.CompactAnalysisProto.surfaceLengths', index=4,
+      number=5, type=5, cpp_type=1, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='surface', full_name='zemberek.morphology.CompactAnalysisProto.surface', index=5,
+      number=6, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='informal', full_name='zemberek.morphology.CompactAnalysisProto.informal', index=6,
+      number=7, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='runtime', full_name='zemberek.morphology.CompactAnalysisProto.runtime', index=7,
+      number=8, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1418,
+  serialized_end=1625,
+)
+
+
+_COMPACTWORDPROTO = _descriptor.Descriptor(
+  name='CompactWordProto',
+  full_name='zemberek.morphology.CompactWordProto',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='token', full_name='zemberek.morphology.CompactWordProto.token', index=0,
+      number=1, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='analyses', full_name='zemberek.morphology.CompactWordProto.analyses', index=1,
+      number=2, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='bestIndex', full_name='zemberek.morphology.CompactWordProto.bestIndex', index=2,
+      number=3, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='best', full_name='zemberek.morphology.CompactWordProto.best', index=3,
+      number=4, type=11, cpp_type=10, label=1,
+      has_default_value=False, default_value=None,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1628,
+  serialized_end=1798,
+)
+
+
+_COMPACTSENTENCEANALYSISPROTO = _descriptor.Descriptor(
+  name='CompactSentenceAnalysisProto',
+  full_name='zemberek.morphology.CompactSentenceAnalysisProto',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='words', full_name='zemberek.morphology.CompactSentenceAnalysisProto.words', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1800,
+  serialized_end=1884,
+)
+
+
+_COMPACTSENTENCEANALYSISBATCHRESPONSE = _descriptor.Descriptor(
+  name='CompactSentenceAnalysisBatchResponse',
+  full_name='zemberek.morphology.CompactSentenceAnalysisBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.morphology.CompactSentenceAnalysisBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='lexiconId', full_name='zemberek.morphology.CompactSentenceAnalysisBatchResponse.lexiconId', index=1,
+      number=2, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=1886,
+  serialized_end=2011,
 )
 
+
+_ANALYSISTABLESREQUEST = _descriptor.Descriptor(
+  name='AnalysisTablesRequest',
+  full_name='zemberek.morphology.AnalysisTablesRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=2013,
+  serialized_end=2036,
+)
+
+
+_ANALYSISTABLESRESPONSE = _descriptor.Descriptor(
+  name='AnalysisTablesResponse',
+  full_name='zemberek.morphology.AnalysisTablesResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='morphemes', full_name='zemberek.morphology.AnalysisTablesResponse.morphemes', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='primaryPos', full_name='zemberek.morphology.AnalysisTablesResponse.primaryPos', index=1,
+      number=2, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='lexiconSize', full_name='zemberek.morphology.AnalysisTablesResponse.lexiconSize', index=2,
+      number=3, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='lexiconId', full_name='zemberek.morphology.AnalysisTablesResponse.lexiconId', index=3,
+      number=4, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=2038,
+  serialized_end=2141,
+)
+
+
+_LEXICONREQUEST = _descriptor.Descriptor(
+  name='LexiconRequest',
+  full_name='zemberek.morphology.LexiconRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='start', full_name='zemberek.morphology.LexiconRequest.start', index=0,
+      number=1, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='count', full_name='zemberek.morphology.LexiconRequest.count', index=1,
+      number=2, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=2143,
+  serialized_end=2189,
+)
+
+
+_LEXICONRESPONSE = _descriptor.Descriptor(
+  name='LexiconResponse',
+  full_name='zemberek.morphology.LexiconResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='items', full_name='zemberek.morphology.LexiconResponse.items', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='lexiconSize', full_name='zemberek.morphology.LexiconResponse.lexiconSize', index=1,
+      number=2, type=5, cpp_type=1, label=1,
+      has_default_value=False, default_value=0,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='lexiconId', full_name='zemberek.morphology.LexiconResponse.lexiconId', index=2,
+      number=3, type=9, cpp_type=9, label=1,
+      has_default_value=False, default_value=_b("").decode('utf-8'),
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=2191,
+  serialized_end=2305,
+)
+
+_WORDANALYSISREQUEST.fields_by_name['analysisMask'].message_type = google_dot_protobuf_dot_field__mask__pb2._FIELDMASK
 _SINGLEANALYSISPROTO.fields_by_name['dictionaryItem'].message_type = _DICTIONARYITEMPROTO
 _SINGLEANALYSISPROTO.fields_by_name['morphemes'].message_type = _MORPHEMEDATAPROTO
 _WORDANALYSISPROTO.fields_by_name['analyses'].message_type = _SINGLEANALYSISPROTO
+_SENTENCEANALYSISREQUEST.fields_by_name['analysisMask'].message_type = google_dot_protobuf_dot_field__mask__pb2._FIELDMASK
 _SENTENCEANALYSISPROTO.fields_by_name['results'].message_type = _SENTENCEWORDANALYSISPROTO
 _SENTENCEWORDANALYSISPROTO.fields_by_name['best'].message_type = _SINGLEANALYSISPROTO
 _SENTENCEWORDANALYSISPROTO.fields_by_name['all'].message_type = _WORDANALYSISPROTO
+_WORDANALYSISBATCHREQUEST.fields_by_name['analysisMask'].message_type = google_dot_protobuf_dot_field__mask__pb2._FIELDMASK
+_WORDANALYSISBATCHRESPONSE.fields_by_name['results'].message_type = _WORDANALYSISPROTO
+_SENTENCEANALYSISBATCHREQUEST.fields_by_name['analysisMask'].message_type = google_dot_protobuf_dot_field__mask__pb2._FIELDMASK
+_SENTENCEANALYSISBATCHRESPONSE.fields_by_name['results'].message_type = _SENTENCEANALYSISPROTO
+_COMPACTANALYSISPROTO.fields_by_name['runtimeItem'].message_type = _DICTIONARYITEMPROTO
+_COMPACTWORDPROTO.fields_by_name['analyses'].message_type = _COMPACTANALYSISPROTO
+_COMPACTWORDPROTO.fields_by_name['best'].message_type = _COMPACTANALYSISPROTO
+_COMPACTSENTENCEANALYSISPROTO.fields_by_name['words'].message_type = _COMPACTWORDPROTO
+_COMPACTSENTENCEANALYSISBATCHRESPONSE.fields_by_name['results'].message_type = _COMPACTSENTENCEANALYSISPROTO
+_LEXICONRESPONSE.fields_by_name['items'].message_type = _DICTIONARYITEMPROTO
 DESCRIPTOR.message_types_by_name['WordAnalysisRequest'] = _WORDANALYSISREQUEST
 DESCRIPTOR.message_types_by_name['DictionaryItemProto'] = _DICTIONARYITEMPROTO
 DESCRIPTOR.message_types_by_name['SingleAnalysisProto'] = _SINGLEANALYSISPROTO
@@ -385,6 +925,18 @@ DESCRIPTOR.message_types_by_name['WordAnalysisProto'] = _WORDANALYSISPROTO
 DESCRIPTOR.message_types_by_name['SentenceAnalysisRequest'] = _SENTENCEANALYSISREQUEST
 DESCRIPTOR.message_types_by_name['SentenceAnalysisProto'] = _SENTENCEANALYSISPROTO
 DESCRIPTOR.message_types_by_name['SentenceWordAnalysisProto'] = _SENTENCEWORDANALYSISPROTO
+DESCRIPTOR.message_types_by_name['WordAnalysisBatchRequest'] = _WORDANALYSISBATCHREQUEST
+DESCRIPTOR.message_types_by_name['WordAnalysisBatchResponse'] = _WORDANALYSISBATCHRESPONSE
+DESCRIPTOR.message_types_by_name['SentenceAnalysisBatchRequest'] = _SENTENCEANALYSISBATCHREQUEST
+DESCRIPTOR.message_types_by_name['SentenceAnalysisBatchResponse'] = _SENTENCEANALYSISBATCHRESPONSE
+DESCRIPTOR.message_types_by_name['CompactAnalysisProto'] = _COMPACTANALYSISPROTO
+DESCRIPTOR.message_types_by_name['CompactWordProto'] = _COMPACTWORDPROTO
+DESCRIPTOR.message_types_by_name['CompactSentenceAnalysisProto'] = _COMPACTSENTENCEANALYSISPROTO
+DESCRIPTOR.message_types_by_name['CompactSentenceAnalysisBatchResponse'] = _COMPACTSENTENCEANALYSISBATCHRESPONSE
+DESCRIPTOR.message_types_by_name['AnalysisTablesRequest'] = _ANALYSISTABLESREQUEST
+DESCRIPTOR.message_types_by_name['AnalysisTablesResponse'] = _ANALYSISTABLESRESPONSE
+DESCRIPTOR.message_types_by_name['LexiconRequest'] = _LEXICONREQUEST
+DESCRIPTOR.message_types_by_name['LexiconResponse'] = _LEXICONRESPONSE
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
 
 WordAnalysisRequest = _reflection.GeneratedProtocolMessageType('WordAnalysisRequest', (_message.Message,), dict(
@@ -443,6 +995,90 @@ SentenceWordAnalysisProto = _reflection.GeneratedProtocolMessageType('SentenceWo
   ))
 _sym_db.RegisterMessage(SentenceWordAnalysisProto)
 
+WordAnalysisBatchRequest = _reflection.GeneratedProtocolMessageType('WordAnalysisBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _WORDANALYSISBATCHREQUEST,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.WordAnalysisBatchRequest)
+  ))
+_sym_db.RegisterMessage(WordAnalysisBatchRequest)
+
+WordAnalysisBatchResponse = _reflection.GeneratedProtocolMessageType('WordAnalysisBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _WORDANALYSISBATCHRESPONSE,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.WordAnalysisBatchResponse)
+  ))
+_sym_db.RegisterMessage(WordAnalysisBatchResponse)
+
+SentenceAnalysisBatchRequest = _reflection.GeneratedProtocolMessageType('SentenceAnalysisBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _SENTENCEANALYSISBATCHREQUEST,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.SentenceAnalysisBatchRequest)
+  ))
+_sym_db.RegisterMessage(SentenceAnalysisBatchRequest)
+
+SentenceAnalysisBatchResponse = _reflection.GeneratedProtocolMessageType('SentenceAnalysisBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _SENTENCEANALYSISBATCHRESPONSE,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.SentenceAnalysisBatchResponse)
+  ))
+_sym_db.RegisterMessage(SentenceAnalysisBatchResponse)
+
+CompactAnalysisProto = _reflection.GeneratedProtocolMessageType('CompactAnalysisProto', (_message.Message,), dict(
+  DESCRIPTOR = _COMPACTANALYSISPROTO,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.CompactAnalysisProto)
+  ))
+_sym_db.RegisterMessage(CompactAnalysisProto)
+
+CompactWordProto = _reflection.GeneratedProtocolMessageType('CompactWordProto', (_message.Message,), dict(
+  DESCRIPTOR = _COMPACTWORDPROTO,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.CompactWordProto)
+  ))
+_sym_db.RegisterMessage(CompactWordProto)
+
+CompactSentenceAnalysisProto = _reflection.GeneratedProtocolMessageType('CompactSentenceAnalysisProto', (_message.Message,), dict(
+  DESCRIPTOR = _COMPACTSENTENCEANALYSISPROTO,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.CompactSentenceAnalysisProto)
+  ))
+_sym_db.RegisterMessage(CompactSentenceAnalysisProto)
+
+CompactSentenceAnalysisBatchResponse = _reflection.GeneratedProtocolMessageType('CompactSentenceAnalysisBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _COMPACTSENTENCEANALYSISBATCHRESPONSE,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.CompactSentenceAnalysisBatchResponse)
+  ))
+_sym_db.RegisterMessage(CompactSentenceAnalysisBatchResponse)
+
+AnalysisTablesRequest = _reflection.GeneratedProtocolMessageType('AnalysisTablesRequest', (_message.Message,), dict(
+  DESCRIPTOR = _ANALYSISTABLESREQUEST,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.AnalysisTablesRequest)
+  ))
+_sym_db.RegisterMessage(AnalysisTablesRequest)
+
+AnalysisTablesResponse = _reflection.GeneratedProtocolMessageType('AnalysisTablesResponse', (_message.Message,), dict(
+  DESCRIPTOR = _ANALYSISTABLESRESPONSE,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.AnalysisTablesResponse)
+  ))
+_sym_db.RegisterMessage(AnalysisTablesResponse)
+
+LexiconRequest = _reflection.GeneratedProtocolMessageType('LexiconRequest', (_message.Message,), dict(
+  DESCRIPTOR = _LEXICONREQUEST,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.LexiconRequest)
+  ))
+_sym_db.RegisterMessage(LexiconRequest)
+
+LexiconResponse = _reflection.GeneratedProtocolMessageType('LexiconResponse', (_message.Message,), dict(
+  DESCRIPTOR = _LEXICONRESPONSE,
+  __module__ = 'morphology_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.morphology.LexiconResponse)
+  ))
+_sym_db.RegisterMessage(LexiconResponse)
+
 
 DESCRIPTOR._options = None
 
@@ -452,8 +1088,8 @@ _MORPHOLOGYSERVICE = _descriptor.ServiceDescriptor(
   file=DESCRIPTOR,
   index=0,
   serialized_options=None,
-  serialized_start=872,
-  serialized_end=1097,
+  serialized_start=2308,
+  serialized_end=3330,
   methods=[
   _descriptor.MethodDescriptor(
     name='AnalyzeSentence',
@@ -473,6 +1109,69 @@ _MORPHOLOGYSERVICE = _descriptor.ServiceDescriptor(
     output_type=_WORDANALYSISPROTO,
     serialized_options=None,
   ),
+  _descriptor.MethodDescriptor(
+    name='AnalyzeSentences',
+    full_name='zemberek.morphology.MorphologyService.AnalyzeSentences',
+    index=2,
+    containing_service=None,
+    input_type=_SENTENCEANALYSISBATCHREQUEST,
+    output_type=_SENTENCEANALYSISBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='AnalyzeWords',
+    full_name='zemberek.morphology.MorphologyService.AnalyzeWords',
+    index=3,
+    containing_service=None,
+    input_type=_WORDANALYSISBATCHREQUEST,
+    output_type=_WORDANALYSISBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='AnalyzeSentenceStream',
+    full_name='zemberek.morphology.MorphologyService.AnalyzeSentenceStream',
+    index=4,
+    containing_service=None,
+    input_type=_SENTENCEANALYSISREQUEST,
+    output_type=_SENTENCEANALYSISPROTO,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='AnalyzeWordStream',
+    full_name='zemberek.morphology.MorphologyService.AnalyzeWordStream',
+    index=5,
+    containing_service=None,
+    input_type=_WORDANALYSISREQUEST,
+    output_type=_WORDANALYSISPROTO,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='AnalyzeSentencesCompact',
+    full_name='zemberek.morphology.MorphologyService.AnalyzeSentencesCompact',
+    index=6,
+    containing_service=None,
+    input_type=_SENTENCEANALYSISBATCHREQUEST,
+    output_type=_COMPACTSENTENCEANALYSISBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='GetAnalysisTables',
+    full_name='zemberek.morphology.MorphologyService.GetAnalysisTables',
+    index=7,
+    containing_service=None,
+    input_type=_ANALYSISTABLESREQUEST,
+    output_type=_ANALYSISTABLESRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='GetLexicon',
+    full_name='zemberek.morphology.MorphologyService.GetLexicon',
+    index=8,
+    containing_service=None,
+    input_type=_LEXICONREQUEST,
+    output_type=_LEXICONRESPONSE,
+    serialized_options=None,
+  ),
 ])
 _sym_db.RegisterServiceDescriptor(_MORPHOLOGYSERVICE)
 
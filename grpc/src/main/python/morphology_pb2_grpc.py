@@ -24,6 +24,41 @@ class MorphologyServiceStub(object):
         request_serializer=morphology__pb2.WordAnalysisRequest.SerializeToString,
         response_deserializer=morphology__pb2.WordAnalysisProto.FromString,
         )
+    self.AnalyzeSentences = channel.unary_unary(
+        '/zemberek.morphology.MorphologyService/AnalyzeSentences',
+        request_serializer=morphology__pb2.SentenceAnalysisBatchRequest.SerializeToString,
+        response_deserializer=morphology__pb2.SentenceAnalysisBatchResponse.FromString,
+        )
+    self.AnalyzeWords = channel.unary_unary(
+        '/zemberek.morphology.MorphologyService/AnalyzeWords',
+        request_serializer=morphology__pb2.WordAnalysisBatchRequest.SerializeToString,
+        response_deserializer=morphology__pb2.WordAnalysisBatchResponse.FromString,
+        )
+    self.AnalyzeSentenceStream = channel.stream_stream(
+        '/zemberek.morphology.MorphologyService/AnalyzeSentenceStream',
+        request_serializer=morphology__pb2.SentenceAnalysisRequest.SerializeToString,
+        response_deserializer=morphology__pb2.SentenceAnalysisProto.FromString,
+        )
+    self.AnalyzeWordStream = channel.stream_stream(
+        '/zemberek.morphology.MorphologyService/AnalyzeWordStream',
+        request_serializer=morphology__pb2.WordAnalysisRequest.SerializeToString,
+        response_deserializer=morphology__pb2.WordAnalysisProto.FromString,
+        )
+    self.AnalyzeSentencesCompact = channel.unary_unary(
+        '/zemberek.morphology.MorphologyService/AnalyzeSentencesCompact',
+        request_serializer=morphology__pb2.SentenceAnalysisBatchRequest.SerializeToString,
+        response_deserializer=morphology__pb2.CompactSentenceAnalysisBatchResponse.FromString,
+        )
+    self.GetAnalysisTables = channel.unary_unary(
+        '/zemberek.morphology.MorphologyService/GetAnalysisTables',
+        request_serializer=morphology__pb2.AnalysisTablesRequest.SerializeToString,
+        response_deserializer=morphology__pb2.AnalysisTablesResponse.FromString,
+        )
+    self.GetLexicon = channel.unary_unary(
+        '/zemberek.morphology.MorphologyService/GetLexicon',
+        request_serializer=morphology__pb2.LexiconRequest.SerializeToString,
+        response_deserializer=morphology__pb2.LexiconResponse.FromString,
+        )
 
 
 class MorphologyServiceServicer(object):
@@ -44,6 +79,56 @@ class MorphologyServiceServicer(object):
     context.set_details('Method not implemented!')
     raise NotImplementedError('Method not implemented!')
 
+  def AnalyzeSentences(self, request, context):
+    """Sentences of a batch are analyzed in parallel.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def AnalyzeWords(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def AnalyzeSentenceStream(self, request_iterator, context):
+    """Client streams requests, server streams results back in request order.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def AnalyzeWordStream(self, request_iterator, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def AnalyzeSentencesCompact(self, request, context):
+    """Compact results. Tables are fetched once by the client. analysisMask of the request is not
+    used, compact analyses always contain all fields.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def GetAnalysisTables(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def GetLexicon(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
 
 def add_MorphologyServiceServicer_to_server(servicer, server):
   rpc_method_handlers = {
@@ -57,6 +142,41 @@ def add_MorphologyServiceServicer_to_server(servicer, server):
           request_deserializer=morphology__pb2.WordAnalysisRequest.FromString,
           response_serializer=morphology__pb2.WordAnalysisProto.SerializeToString,
       ),
+      'AnalyzeSentences': grpc.unary_unary_rpc_method_handler(
+          servicer.AnalyzeSentences,
+          request_deserializer=morphology__pb2.SentenceAnalysisBatchRequest.FromString,
+          response_serializer=morphology__pb2.SentenceAnalysisBatchResponse.SerializeToString,
+      ),
+      'AnalyzeWords': grpc.unary_unary_rpc_method_handler(
+          servicer.AnalyzeWords,
+          request_deserializer=morphology__pb2.WordAnalysisBatchRequest.FromString,
+          response_serializer=morphology__pb2.WordAnalysisBatchResponse.SerializeToString,
+      ),
+      'AnalyzeSentenceStream': grpc.stream_stream_rpc_method_handler(
+          servicer.AnalyzeSentenceStream,
+          request_deserializer=morphology__pb2.SentenceAnalysisRequest.FromString,
+          response_serializer=morphology__pb2.SentenceAnalysisProto.SerializeToString,
+      ),
+      'AnalyzeWordStream': grpc.stream_stream_rpc_method_handler(
+          servicer.AnalyzeWordStream,
+          request_deserializer=morphology__pb2.WordAnalysisRequest.FromString,
+          response_serializer=morphology__pb2.WordAnalysisProto.SerializeToString,
+      ),
+      'AnalyzeSentencesCompact': grpc.unary_unary_rpc_method_handler(
+          servicer.AnalyzeSentencesCompact,
+          request_deserializer=morphology__pb2.SentenceAnalysisBatchRequest.FromString,
+          response_serializer=morphology__pb2.CompactSentenceAnalysisBatchResponse.SerializeToString,
+      ),
+      'GetAnalysisTables': grpc.unary_unary_rpc_method_handler(
+          servicer.GetAnalysisTables,
+          request_deserializer=morphology__pb2.AnalysisTablesRequest.FromString,
+          response_serializer=morphology__pb2.AnalysisTablesResponse.SerializeToString,
+      ),
+      'GetLexicon': grpc.unary_unary_rpc_method_handler(
+          servicer.GetLexicon,
+          request_deserializer=morphology__pb2.LexiconRequest.FromString,
+          response_serializer=morphology__pb2.LexiconResponse.SerializeToString,
+      ),
   }
   generic_handler = grpc.method_handlers_generic_handler(
       'zemberek.morphology.MorphologyService', rpc_method_handlers)
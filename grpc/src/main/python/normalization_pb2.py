@@ -20,7 +20,7 @@ DESCRIPTOR = _descriptor.FileDescriptor(
   package='zemberek.normalization',
   syntax='proto3',
   serialized_options=_b('\n\016zemberek.protoP\001'),
-  serialized_pb=_b('\n\x13normalization.proto\x12\x16zemberek.normalization\"%\n\x14NormalizationRequest\x12\r\n\x05input\x18\x01 \x01(\t\"@\n\x15NormalizationResponse\x12\x18\n\x10normalized_input\x18\x01 \x01(\t\x12\r\n\x05\x65rror\x18\x02 \x01(\t2\x80\x01\n\x14NormalizationService\x12h\n\tNormalize\x12,.zemberek.normalization.NormalizationRequest\x1a-.zemberek.normalization.NormalizationResponseB\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
+  serialized_pb=_b('\n\x13normalization.proto\x12\x16zemberek.normalization\"%\n\x14NormalizationRequest\x12\r\n\x05input\x18\x01 \x01(\t\"@\n\x15NormalizationResponse\x12\x18\n\x10normalized_input\x18\x01 \x01(\t\x12\r\n\x05\x65rror\x18\x02 \x01(\t\"+\n\x19NormalizationBatchRequest\x12\x0e\n\x06inputs\x18\x01 \x03(\t\"\\\n\x1aNormalizationBatchResponse\x12>\n\x07results\x18\x01 \x03(\x0b\x32-.zemberek.normalization.NormalizationResponse2\xed\x02\n\x14NormalizationService\x12h\n\tNormalize\x12,.zemberek.normalization.NormalizationRequest\x1a-.zemberek.normalization.NormalizationResponse\x12w\n\x0eNormalizeBatch\x12\x31.zemberek.normalization.NormalizationBatchRequest\x1a\x32.zemberek.normalization.NormalizationBatchResponse\x12r\n\x0fNormalizeStream\x12,.zemberek.normalization.NormalizationRequest\x1a-.zemberek.normalization.NormalizationResponse(\x01\x30\x01\x42\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
 )
 
 
@@ -94,8 +94,73 @@ _NORMALIZATIONRESPONSE = _descriptor.Descriptor(
   serialized_end=150,
 )
 
+
+_NORMALIZATIONBATCHREQUEST = _descriptor.Descriptor(
+  name='NormalizationBatchRequest',
+  full_name='zemberek.normalization.NormalizationBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='inputs', full_name='zemberek.normalization.NormalizationBatchRequest.inputs', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=152,
+  serialized_end=195,
+)
+
+
+_NORMALIZATIONBATCHRESPONSE = _descriptor.Descriptor(
+  name='NormalizationBatchResponse',
+  full_name='zemberek.normalization.NormalizationBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.normalization.NormalizationBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=197,
+  serialized_end=289,
+)
+
+_NORMALIZATIONBATCHRESPONSE.fields_by_name['results'].message_type = _NORMALIZATIONRESPONSE
 DESCRIPTOR.message_types_by_name['NormalizationRequest'] = _NORMALIZATIONREQUEST
 DESCRIPTOR.message_types_by_name['NormalizationResponse'] = _NORMALIZATIONRESPONSE
+DESCRIPTOR.message_types_by_name['NormalizationBatchRequest'] = _NORMALIZATIONBATCHREQUEST
+DESCRIPTOR.message_types_by_name['NormalizationBatchResponse'] = _NORMALIZATIONBATCHRESPONSE
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
 
 NormalizationRequest = _reflection.GeneratedProtocolMessageType('NormalizationRequest', (_message.Message,), dict(
@@ -112,6 +177,20 @@ NormalizationResponse = _reflection.GeneratedProtocolMessageType('NormalizationR
   ))
 _sym_db.RegisterMessage(NormalizationResponse)
 
+NormalizationBatchRequest = _reflection.GeneratedProtocolMessageType('NormalizationBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _NORMALIZATIONBATCHREQUEST,
+  __module__ = 'normalization_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.normalization.NormalizationBatchRequest)
+  ))
+_sym_db.RegisterMessage(NormalizationBatchRequest)
+
+NormalizationBatchResponse = _reflection.GeneratedProtocolMessageType('NormalizationBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _NORMALIZATIONBATCHRESPONSE,
+  __module__ = 'normalization_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.normalization.NormalizationBatchResponse)
+  ))
+_sym_db.RegisterMessage(NormalizationBatchResponse)
+
 
 DESCRIPTOR._options = None
 
@@ -121,8 +200,8 @@ _NORMALIZATIONSERVICE = _descriptor.ServiceDescriptor(
   file=DESCRIPTOR,
   index=0,
   serialized_options=None,
-  serialized_start=153,
-  serialized_end=281,
+  serialized_start=292,
+  serialized_end=657,
   methods=[
   _descriptor.MethodDescriptor(
     name='Normalize',
@@ -133,6 +212,24 @@ _NORMALIZATIONSERVICE = _descriptor.ServiceDescriptor(
     output_type=_NORMALIZATIONRESPONSE,
     serialized_options=None,
   ),
+  _descriptor.MethodDescriptor(
+    name='NormalizeBatch',
+    full_name='zemberek.normalization.NormalizationService.NormalizeBatch',
+    index=1,
+    containing_service=None,
+    input_type=_NORMALIZATIONBATCHREQUEST,
+    output_type=_NORMALIZATIONBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='NormalizeStream',
+    full_name='zemberek.normalization.NormalizationService.NormalizeStream',
+    index=2,
+    containing_service=None,
+    input_type=_NORMALIZATIONREQUEST,
+    output_type=_NORMALIZATIONRESPONSE,
+    serialized_options=None,
+  ),
 ])
 _sym_db.RegisterServiceDescriptor(_NORMALIZATIONSERVICE)
 
@@ -19,6 +19,16 @@ class NormalizationServiceStub(object):
         request_serializer=normalization__pb2.NormalizationRequest.SerializeToString,
         response_deserializer=normalization__pb2.NormalizationResponse.FromString,
         )
+    self.NormalizeBatch = channel.unary_unary(
+        '/zemberek.normalization.NormalizationService/NormalizeBatch',
+        request_serializer=normalization__pb2.NormalizationBatchRequest.SerializeToString,
+        response_deserializer=normalization__pb2.NormalizationBatchResponse.FromString,
+        )
+    self.NormalizeStream = channel.stream_stream(
+        '/zemberek.normalization.NormalizationService/NormalizeStream',
+        request_serializer=normalization__pb2.NormalizationRequest.SerializeToString,
+        response_deserializer=normalization__pb2.NormalizationResponse.FromString,
+        )
 
 
 class NormalizationServiceServicer(object):
@@ -32,6 +42,20 @@ class NormalizationServiceServicer(object):
     context.set_details('Method not implemented!')
     raise NotImplementedError('Method not implemented!')
 
+  def NormalizeBatch(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def NormalizeStream(self, request_iterator, context):
+    """Client streams requests, server streams results back in request order.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
 
 def add_NormalizationServiceServicer_to_server(servicer, server):
   rpc_method_handlers = {
@@ -40,6 +64,16 @@ def add_NormalizationServiceServicer_to_server(servicer, server):
           request_deserializer=normalization__pb2.NormalizationRequest.FromString,
           response_serializer=normalization__pb2.NormalizationResponse.SerializeToString,
       ),
+      'NormalizeBatch': grpc.unary_unary_rpc_method_handler(
+          servicer.NormalizeBatch,
+          request_deserializer=normalization__pb2.NormalizationBatchRequest.FromString,
+          response_serializer=normalization__pb2.NormalizationBatchResponse.SerializeToString,
+      ),
+      'NormalizeStream': grpc.stream_stream_rpc_method_handler(
+          servicer.NormalizeStream,
+          request_deserializer=normalization__pb2.NormalizationRequest.FromString,
+          response_serializer=normalization__pb2.NormalizationResponse.SerializeToString,
+      ),
   }
   generic_handler = grpc.method_handlers_generic_handler(
       'zemberek.normalization.NormalizationService', rpc_method_handlers)
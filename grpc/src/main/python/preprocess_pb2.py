@@ -20,7 +20,7 @@ DESCRIPTOR = _descriptor.FileDescriptor(
   package='zemberek.preprocessor',
   syntax='proto3',
   serialized_options=_b('\n\016zemberek.protoP\001'),
-  serialized_pb=_b('\n\x10preprocess.proto\x12\x15zemberek.preprocessor\"`\n\x13TokenizationRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x1e\n\x16includeTokenBoundaries\x18\x02 \x01(\x08\x12\x1a\n\x12ignoreDoubleQuotes\x18\x03 \x01(\x08\"E\n\nTokenProto\x12\r\n\x05token\x18\x01 \x01(\t\x12\x0c\n\x04type\x18\x02 \x01(\t\x12\r\n\x05start\x18\x03 \x01(\x05\x12\x0b\n\x03\x65nd\x18\x04 \x01(\x05\"I\n\x14TokenizationResponse\x12\x31\n\x06tokens\x18\x01 \x03(\x0b\x32!.zemberek.preprocessor.TokenProto\"O\n\x19SentenceExtractionRequest\x12\x10\n\x08\x64ocument\x18\x01 \x01(\t\x12 \n\x18\x64oNotSplitInDoubleQuotes\x18\x02 \x01(\x08\"/\n\x1aSentenceExtractionResponse\x12\x11\n\tsentences\x18\x01 \x03(\t2\xf4\x01\n\x14PreprocessingService\x12\x63\n\x08Tokenize\x12*.zemberek.preprocessor.TokenizationRequest\x1a+.zemberek.preprocessor.TokenizationResponse\x12w\n\x10\x45xtractSentences\x12\x30.zemberek.preprocessor.SentenceExtractionRequest\x1a\x31.zemberek.preprocessor.SentenceExtractionResponseB\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
+  serialized_pb=_b('\n\x10preprocess.proto\x12\x15zemberek.preprocessor\"`\n\x13TokenizationRequest\x12\r\n\x05input\x18\x01 \x01(\t\x12\x1e\n\x16includeTokenBoundaries\x18\x02 \x01(\x08\x12\x1a\n\x12ignoreDoubleQuotes\x18\x03 \x01(\x08\"E\n\nTokenProto\x12\r\n\x05token\x18\x01 \x01(\t\x12\x0c\n\x04type\x18\x02 \x01(\t\x12\r\n\x05start\x18\x03 \x01(\x05\x12\x0b\n\x03\x65nd\x18\x04 \x01(\x05\"I\n\x14TokenizationResponse\x12\x31\n\x06tokens\x18\x01 \x03(\x0b\x32!.zemberek.preprocessor.TokenProto\"O\n\x19SentenceExtractionRequest\x12\x10\n\x08\x64ocument\x18\x01 \x01(\t\x12 \n\x18\x64oNotSplitInDoubleQuotes\x18\x02 \x01(\x08\"/\n\x1aSentenceExtractionResponse\x12\x11\n\tsentences\x18\x01 \x03(\t\"f\n\x18TokenizationBatchRequest\x12\x0e\n\x06inputs\x18\x01 \x03(\t\x12\x1e\n\x16includeTokenBoundaries\x18\x02 \x01(\x08\x12\x1a\n\x12ignoreDoubleQuotes\x18\x03 \x01(\x08\"Y\n\x19TokenizationBatchResponse\x12<\n\x07results\x18\x01 \x03(\x0b\x32+.zemberek.preprocessor.TokenizationResponse2\xd7\x03\n\x14PreprocessingService\x12\x63\n\x08Tokenize\x12*.zemberek.preprocessor.TokenizationRequest\x1a+.zemberek.preprocessor.TokenizationResponse\x12r\n\rTokenizeBatch\x12/.zemberek.preprocessor.TokenizationBatchRequest\x1a\x30.zemberek.preprocessor.TokenizationBatchResponse\x12m\n\x0eTokenizeStream\x12*.zemberek.preprocessor.TokenizationRequest\x1a+.zemberek.preprocessor.TokenizationResponse(\x01\x30\x01\x12w\n\x10\x45xtractSentences\x12\x30.zemberek.preprocessor.SentenceExtractionRequest\x1a\x31.zemberek.preprocessor.SentenceExtractionResponseB\x12\n\x0ezemberek.protoP\x01\x62\x06proto3')
 )
 
 
@@ -222,12 +222,91 @@ _SENTENCEEXTRACTIONRESPONSE = _descriptor.Descriptor(
   serialized_end=415,
 )
 
+
+_TOKENIZATIONBATCHREQUEST = _descriptor.Descriptor(
+  name='TokenizationBatchRequest',
+  full_name='zemberek.preprocessor.TokenizationBatchRequest',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='inputs', full_name='zemberek.preprocessor.TokenizationBatchRequest.inputs', index=0,
+      number=1, type=9, cpp_type=9, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='includeTokenBoundaries', full_name='zemberek.preprocessor.TokenizationBatchRequest.includeTokenBoundaries', index=1,
+      number=2, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+    _descriptor.FieldDescriptor(
+      name='ignoreDoubleQuotes', full_name='zemberek.preprocessor.TokenizationBatchRequest.ignoreDoubleQuotes', index=2,
+      number=3, type=8, cpp_type=7, label=1,
+      has_default_value=False, default_value=False,
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=417,
+  serialized_end=519,
+)
+
+
+_TOKENIZATIONBATCHRESPONSE = _descriptor.Descriptor(
+  name='TokenizationBatchResponse',
+  full_name='zemberek.preprocessor.TokenizationBatchResponse',
+  filename=None,
+  file=DESCRIPTOR,
+  containing_type=None,
+  fields=[
+    _descriptor.FieldDescriptor(
+      name='results', full_name='zemberek.preprocessor.TokenizationBatchResponse.results', index=0,
+      number=1, type=11, cpp_type=10, label=3,
+      has_default_value=False, default_value=[],
+      message_type=None, enum_type=None, containing_type=None,
+      is_extension=False, extension_scope=None,
+      serialized_options=None, file=DESCRIPTOR),
+  ],
+  extensions=[
+  ],
+  nested_types=[],
+  enum_types=[
+  ],
+  serialized_options=None,
+  is_extendable=False,
+  syntax='proto3',
+  extension_ranges=[],
+  oneofs=[
+  ],
+  serialized_start=521,
+  serialized_end=610,
+)
+
 _TOKENIZATIONRESPONSE.fields_by_name['tokens'].message_type = _TOKENPROTO
+_TOKENIZATIONBATCHRESPONSE.fields_by_name['results'].message_type = _TOKENIZATIONRESPONSE
 DESCRIPTOR.message_types_by_name['TokenizationRequest'] = _TOKENIZATIONREQUEST
 DESCRIPTOR.message_types_by_name['TokenProto'] = _TOKENPROTO
 DESCRIPTOR.message_types_by_name['TokenizationResponse'] = _TOKENIZATIONRESPONSE
 DESCRIPTOR.message_types_by_name['SentenceExtractionRequest'] = _SENTENCEEXTRACTIONREQUEST
 DESCRIPTOR.message_types_by_name['SentenceExtractionResponse'] = _SENTENCEEXTRACTIONRESPONSE
+DESCRIPTOR.message_types_by_name['TokenizationBatchRequest'] = _TOKENIZATIONBATCHREQUEST
+DESCRIPTOR.message_types_by_name['TokenizationBatchResponse'] = _TOKENIZATIONBATCHRESPONSE
 _sym_db.RegisterFileDescriptor(DESCRIPTOR)
 
 TokenizationRequest = _reflection.GeneratedProtocolMessageType('TokenizationRequest', (_message.Message,), dict(
@@ -265,6 +344,20 @@ SentenceExtractionResponse = _reflection.GeneratedProtocolMessageType('SentenceE
   ))
 _sym_db.RegisterMessage(SentenceExtractionResponse)
 
+TokenizationBatchRequest = _reflection.GeneratedProtocolMessageType('TokenizationBatchRequest', (_message.Message,), dict(
+  DESCRIPTOR = _TOKENIZATIONBATCHREQUEST,
+  __module__ = 'preprocess_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.preprocessor.TokenizationBatchRequest)
+  ))
+_sym_db.RegisterMessage(TokenizationBatchRequest)
+
+TokenizationBatchResponse = _reflection.GeneratedProtocolMessageType('TokenizationBatchResponse', (_message.Message,), dict(
+  DESCRIPTOR = _TOKENIZATIONBATCHRESPONSE,
+  __module__ = 'preprocess_pb2'
+  # @@protoc_insertion_point(class_scope:zemberek.preprocessor.TokenizationBatchResponse)
+  ))
+_sym_db.RegisterMessage(TokenizationBatchResponse)
+
 
 DESCRIPTOR._options = None
 
@@ -274,8 +367,8 @@ _PREPROCESSINGSERVICE = _descriptor.ServiceDescriptor(
   file=DESCRIPTOR,
   index=0,
   serialized_options=None,
-  serialized_start=418,
-  serialized_end=662,
+  serialized_start=613,
+  serialized_end=1084,
   methods=[
   _descriptor.MethodDescriptor(
     name='Tokenize',
@@ -286,10 +379,28 @@ _PREPROCESSINGSERVICE = _descriptor.ServiceDescriptor(
     output_type=_TOKENIZATIONRESPONSE,
     serialized_options=None,
   ),
+  _descriptor.MethodDescriptor(
+    name='TokenizeBatch',
+    full_name='zemberek.preprocessor.PreprocessingService.TokenizeBatch',
+    index=1,
+    containing_service=None,
+    input_type=_TOKENIZATIONBATCHREQUEST,
+    output_type=_TOKENIZATIONBATCHRESPONSE,
+    serialized_options=None,
+  ),
+  _descriptor.MethodDescriptor(
+    name='TokenizeStream',
+    full_name='zemberek.preprocessor.PreprocessingService.TokenizeStream',
+    index=2,
+    containing_service=None,
+    input_type=_TOKENIZATIONREQUEST,
+    output_type=_TOKENIZATIONRESPONSE,
+    serialized_options=None,
+  ),
   _descriptor.MethodDescriptor(
     name='ExtractSentences',
     full_name='zemberek.preprocessor.PreprocessingService.ExtractSentences',
-    index=1,
+    index=3,
     containing_service=None,
     input_type=_SENTENCEEXTRACTIONREQUEST,
     output_type=_SENTENCEEXTRACTIONRESPONSE,
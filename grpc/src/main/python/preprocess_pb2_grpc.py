@@ -19,6 +19,16 @@ class PreprocessingServiceStub(object):
         request_serializer=preprocess__pb2.TokenizationRequest.SerializeToString,
         response_deserializer=preprocess__pb2.TokenizationResponse.FromString,
         )
+    self.TokenizeBatch = channel.unary_unary(
+        '/zemberek.preprocessor.PreprocessingService/TokenizeBatch',
+        request_serializer=preprocess__pb2.TokenizationBatchRequest.SerializeToString,
+        response_deserializer=preprocess__pb2.TokenizationBatchResponse.FromString,
+        )
+    self.TokenizeStream = channel.stream_stream(
+        '/zemberek.preprocessor.PreprocessingService/TokenizeStream',
+        request_serializer=preprocess__pb2.TokenizationRequest.SerializeToString,
+        response_deserializer=preprocess__pb2.TokenizationResponse.FromString,
+        )
     self.ExtractSentences = channel.unary_unary(
         '/zemberek.preprocessor.PreprocessingService/ExtractSentences',
         request_serializer=preprocess__pb2.SentenceExtractionRequest.SerializeToString,
@@ -37,6 +47,20 @@ class PreprocessingServiceServicer(object):
     context.set_details('Method not implemented!')
     raise NotImplementedError('Method not implemented!')
 
+  def TokenizeBatch(self, request, context):
+    # missing associated documentation comment in .proto file
+    pass
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
+  def TokenizeStream(self, request_iterator, context):
+    """Client streams requests, server streams results back in request order.
+    """
+    context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+    context.set_details('Method not implemented!')
+    raise NotImplementedError('Method not implemented!')
+
   def ExtractSentences(self, request, context):
     # missing associated documentation comment in .proto file
     pass
@@ -52,6 +76,16 @@ def add_PreprocessingServiceServicer_to_server(servicer, server):
           request_deserializer=preprocess__pb2.TokenizationRequest.FromString,
           response_serializer=preprocess__pb2.TokenizationResponse.SerializeToString,
       ),
+      'TokenizeBatch': grpc.unary_unary_rpc_method_handler(
+          servicer.TokenizeBatch,
+          request_deserializer=preprocess__pb2.TokenizationBatchRequest.FromString,
+          response_serializer=preprocess__pb2.TokenizationBatchResponse.SerializeToString,
+      ),
+      'TokenizeStream': grpc.stream_stream_rpc_method_handler(
+          servicer.TokenizeStream,
+          request_deserializer=preprocess__pb2.TokenizationRequest.FromString,
+          response_serializer=preprocess__pb2.TokenizationResponse.SerializeToString,
+      ),
       'ExtractSentences': grpc.unary_unary_rpc_method_handler(
           servicer.ExtractSentences,
           request_deserializer=preprocess__pb2.SentenceExtractionRequest.FromString,
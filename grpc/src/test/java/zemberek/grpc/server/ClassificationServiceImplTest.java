@@ -0,0 +1,186 @@
+package zemberek.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import zemberek.classification.FastTextClassifierTrainer;
+import zemberek.core.io.TestUtil;
+import zemberek.proto.classification.ClassificationRequest;
+import zemberek.proto.classification.ClassificationResponse;
+import zemberek.proto.classification.ClassificationServiceGrpc;
+import zemberek.proto.classification.ClassificationServiceGrpc.ClassificationServiceBlockingStub;
+import zemberek.proto.models.ListModelsRequest;
+import zemberek.proto.models.LoadModelRequest;
+import zemberek.proto.models.ModelAdminServiceGrpc;
+import zemberek.proto.models.ModelAdminServiceGrpc.ModelAdminServiceBlockingStub;
+import zemberek.proto.models.ModelInfo;
+import zemberek.proto.models.ModelType;
+import zemberek.proto.models.UnloadModelRequest;
+
+public class ClassificationServiceImplTest {
+
+  private static ZemberekContext context;
+  private static Path modelDirectory;
+  private static Path modelPath;
+
+  private Server server;
+  private ManagedChannel channel;
+  private ClassificationServiceBlockingStub stub;
+  private ModelAdminServiceBlockingStub adminStub;
+
+  @BeforeClass
+  public static void trainModel() throws Exception {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      lines.add("__label__spor maç gol takım " + i % 10);
+      lines.add("__label__ekonomi borsa dolar faiz " + i % 10);
+    }
+    Path corpus = TestUtil.tempFileWithData(lines);
+    modelDirectory = Files.createTempDirectory("models");
+    modelPath = modelDirectory.resolve("classifier.model");
+    FastTextClassifierTrainer.builder()
+        .epochCount(5)
+        .dimension(10)
+        .threadCount(1)
+        .build()
+        .train(corpus)
+        .getFastText()
+        .saveModel(modelPath);
+    Files.delete(corpus);
+    context = new ZemberekContext();
+  }
+
+  @AfterClass
+  public static void cleanUp() throws Exception {
+    Files.deleteIfExists(modelPath);
+    Files.deleteIfExists(modelDirectory);
+    context.batchExecutor.getExecutor().shutdown();
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    String name = InProcessServerBuilder.generateName();
+    ClassificationServiceImpl classificationService = new ClassificationServiceImpl(context);
+    NerServiceImpl nerService = new NerServiceImpl(context);
+    server = InProcessServerBuilder.forName(name)
+        .addService(classificationService)
+        .addService(new ModelAdminServiceImpl(modelDirectory, classificationService, nerService))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    stub = ClassificationServiceGrpc.newBlockingStub(channel);
+    adminStub = ModelAdminServiceGrpc.newBlockingStub(channel);
+  }
+
+  @After
+  public void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  private ModelInfo load(String name, String version) {
+    return adminStub.loadModel(LoadModelRequest.newBuilder()
+        .setName(name)
+        .setVersion(version)
+        .setPath(modelPath.getFileName().toString())
+        .build());
+  }
+
+  private Status.Code loadError(LoadModelRequest request) {
+    try {
+      adminStub.loadModel(request);
+      Assert.fail();
+      return null;
+    } catch (StatusRuntimeException e) {
+      return e.getStatus().getCode();
+    }
+  }
+
+  private ClassificationResponse classify(String model) {
+    return stub.classify(ClassificationRequest.newBuilder()
+        .setModel(model)
+        .setInput("maç gol")
+        .build());
+  }
+
+  @Test
+  public void noModelTest() {
+    try {
+      classify("");
+      Assert.fail();
+    } catch (StatusRuntimeException e) {
+      Assert.assertEquals(Status.Code.FAILED_PRECONDITION, e.getStatus().getCode());
+    }
+  }
+
+  @Test
+  public void hotSwapTest() {
+    load("default", "v1");
+    ClassificationResponse response = classify("");
+    Assert.assertEquals("default", response.getModel());
+    Assert.assertEquals("v1", response.getVersion());
+    Assert.assertEquals("__label__spor", response.getLabels(0).getLabel());
+
+    load("default", "v2");
+    Assert.assertEquals("v2", classify("default").getVersion());
+    List<ModelInfo> models = adminStub.listModels(ListModelsRequest.getDefaultInstance())
+        .getModelsList();
+    Assert.assertEquals(1, models.size());
+    Assert.assertEquals("v2", models.get(0).getVersion());
+    Assert.assertEquals(0, models.get(0).getActiveCalls());
+
+    ModelInfo removed = adminStub.unloadModel(
+        UnloadModelRequest.newBuilder().setName("default").build());
+    Assert.assertEquals("v2", removed.getVersion());
+    try {
+      classify("");
+      Assert.fail();
+    } catch (StatusRuntimeException e) {
+      Assert.assertEquals(Status.Code.FAILED_PRECONDITION, e.getStatus().getCode());
+    }
+  }
+
+  @Test
+  public void pathOutsideModelDirectoryTest() throws Exception {
+    Path outside = Files.createTempFile("outside", ".model");
+    try {
+      Files.copy(modelPath, outside, StandardCopyOption.REPLACE_EXISTING);
+      String[] paths = {outside.toString(), "../" + outside.getFileName()};
+      for (String path : paths) {
+        Assert.assertEquals(Status.Code.PERMISSION_DENIED, loadError(
+            LoadModelRequest.newBuilder().setName("default").setPath(path).build()));
+      }
+    } finally {
+      Files.delete(outside);
+    }
+    Assert.assertEquals(Status.Code.INVALID_ARGUMENT, loadError(
+        LoadModelRequest.newBuilder().setName("default").setPath("missing.model").build()));
+    Assert.assertEquals(0, adminStub.listModels(ListModelsRequest.getDefaultInstance())
+        .getModelsCount());
+  }
+
+  @Test
+  public void nerModelCanNotBeMappedTest() {
+    Assert.assertEquals(Status.Code.INVALID_ARGUMENT, loadError(LoadModelRequest.newBuilder()
+        .setName("default")
+        .setType(ModelType.NER)
+        .setPath(".")
+        .setMapped(true)
+        .build()));
+  }
+}
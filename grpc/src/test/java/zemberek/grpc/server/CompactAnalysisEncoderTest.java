@@ -0,0 +1,100 @@
+package zemberek.grpc.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.morphology.TurkishMorphology;
+import zemberek.morphology.analysis.SentenceAnalysis;
+import zemberek.morphology.analysis.SentenceWordAnalysis;
+import zemberek.morphology.analysis.SingleAnalysis;
+import zemberek.morphology.analysis.SingleAnalysis.MorphemeData;
+import zemberek.proto.morphology.AnalysisTablesResponse;
+import zemberek.proto.morphology.CompactAnalysisProto;
+import zemberek.proto.morphology.CompactSentenceAnalysisProto;
+import zemberek.proto.morphology.CompactWordProto;
+import zemberek.proto.morphology.LexiconResponse;
+
+public class CompactAnalysisEncoderTest {
+
+  private static TurkishMorphology morphology() {
+    return TurkishMorphology.builder()
+        .setLexicon("elma", "kitap", "okumak", "Ankara [P:Noun,Prop]")
+        .disableCache()
+        .build();
+  }
+
+  // Checks that compact form resolves to the same item, morphemes and surfaces with the tables.
+  private static void check(
+      SingleAnalysis analysis,
+      CompactAnalysisProto compact,
+      String token,
+      AnalysisTablesResponse tables,
+      LexiconResponse lexicon) {
+    if (compact.getItem() >= 0) {
+      Assert.assertEquals(analysis.getDictionaryItem().id,
+          lexicon.getItems(compact.getItem()).getId());
+    } else {
+      Assert.assertEquals(analysis.getDictionaryItem().lemma, compact.getRuntimeItem().getLemma());
+    }
+    Assert.assertEquals(analysis.getPos().shortForm, tables.getPrimaryPos(compact.getPos()));
+    Assert.assertEquals(analysis.isRuntime(), compact.getRuntime());
+    String surface = compact.getSurface().isEmpty() ? token : compact.getSurface();
+    List<MorphemeData> morphemes = analysis.getMorphemeDataList();
+    Assert.assertEquals(morphemes.size(), compact.getMorphemesCount());
+    int start = 0;
+    for (int i = 0; i < morphemes.size(); i++) {
+      MorphemeData m = morphemes.get(i);
+      Assert.assertEquals(m.morpheme.id, tables.getMorphemes(compact.getMorphemes(i)));
+      int end = start + compact.getSurfaceLengths(i);
+      Assert.assertEquals(m.surface, surface.substring(start, end));
+      start = end;
+    }
+  }
+
+  @Test
+  public void encodeDecodeTest() {
+    TurkishMorphology morphology = morphology();
+    CompactAnalysisEncoder encoder = new CompactAnalysisEncoder(morphology);
+    AnalysisTablesResponse tables = encoder.tables();
+    LexiconResponse lexicon = encoder.lexicon(0, Integer.MAX_VALUE);
+    Assert.assertEquals(encoder.lexiconId(), lexicon.getLexiconId());
+
+    SentenceAnalysis sentence = morphology
+        .analyzeAndDisambiguate("Ankara'dan Obama'ya elmalar ve kitabı okudum 3'te");
+
+    CompactSentenceAnalysisProto best = encoder.encode(sentence, false);
+    CompactSentenceAnalysisProto all = encoder.encode(sentence, true);
+    List<SentenceWordAnalysis> words = sentence.getWordAnalyses();
+    Assert.assertEquals(words.size(), best.getWordsCount());
+    for (int i = 0; i < words.size(); i++) {
+      SentenceWordAnalysis swa = words.get(i);
+      String token = swa.getWordAnalysis().getInput();
+      CompactWordProto b = best.getWords(i);
+      Assert.assertEquals(token, b.getToken());
+      check(swa.getBestAnalysis(), b.getBest(), token, tables, lexicon);
+
+      CompactWordProto a = all.getWords(i);
+      List<SingleAnalysis> analyses = new ArrayList<>(swa.getWordAnalysis().getAnalysisResults());
+      if (!analyses.contains(swa.getBestAnalysis())) {
+        analyses.add(swa.getBestAnalysis());
+      }
+      Assert.assertEquals(analyses.size(), a.getAnalysesCount());
+      for (int j = 0; j < analyses.size(); j++) {
+        check(analyses.get(j), a.getAnalyses(j), token, tables, lexicon);
+      }
+      Assert.assertEquals(b.getBest(), a.getAnalyses(a.getBestIndex()));
+    }
+  }
+
+  @Test
+  public void lexiconPagingTest() {
+    CompactAnalysisEncoder encoder = new CompactAnalysisEncoder(morphology());
+    LexiconResponse all = encoder.lexicon(0, Integer.MAX_VALUE);
+    Assert.assertEquals(all.getLexiconSize(), all.getItemsCount());
+    LexiconResponse page = encoder.lexicon(1, 2);
+    Assert.assertEquals(2, page.getItemsCount());
+    Assert.assertEquals(all.getItems(1), page.getItems(0));
+    Assert.assertEquals(0, encoder.lexicon(all.getLexiconSize(), 10).getItemsCount());
+  }
+}
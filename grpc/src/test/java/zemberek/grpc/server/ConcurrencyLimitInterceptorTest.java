@@ -0,0 +1,104 @@
+package zemberek.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.proto.MetricsRequest;
+import zemberek.proto.MetricsResponse;
+import zemberek.proto.MetricsServiceGrpc;
+import zemberek.proto.MetricsServiceGrpc.MetricsServiceBlockingStub;
+import zemberek.proto.MetricsServiceGrpc.MetricsServiceImplBase;
+
+public class ConcurrencyLimitInterceptorTest {
+
+  private Server server;
+  private ManagedChannel channel;
+
+  @After
+  public void tearDown() throws InterruptedException {
+    channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  // a service that waits for [release] latch while processing a call.
+  static class BlockingService extends MetricsServiceImplBase {
+
+    final CountDownLatch entered = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+
+    @Override
+    public void getMetrics(MetricsRequest request,
+        StreamObserver<MetricsResponse> responseObserver) {
+      entered.countDown();
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      responseObserver.onNext(MetricsResponse.newBuilder().setText("ok").build());
+      responseObserver.onCompleted();
+    }
+  }
+
+  @Test
+  public void rejectsCallsOverLimit() throws Exception {
+    BlockingService service = new BlockingService();
+    ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(1);
+    String name = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(name)
+        .addService(ServerInterceptors.intercept(service, interceptor))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    MetricsServiceBlockingStub blockingStub = MetricsServiceGrpc.newBlockingStub(channel);
+
+    CountDownLatch done = new CountDownLatch(1);
+    MetricsServiceGrpc.newStub(channel).getMetrics(MetricsRequest.getDefaultInstance(),
+        new StreamObserver<MetricsResponse>() {
+          @Override
+          public void onNext(MetricsResponse value) {
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            done.countDown();
+          }
+
+          @Override
+          public void onCompleted() {
+            done.countDown();
+          }
+        });
+    Assert.assertTrue(service.entered.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1, interceptor.activeCallCount());
+
+    try {
+      blockingStub.getMetrics(MetricsRequest.getDefaultInstance());
+      Assert.fail("Call over the limit should be rejected.");
+    } catch (StatusRuntimeException e) {
+      Assert.assertEquals(Status.Code.RESOURCE_EXHAUSTED, e.getStatus().getCode());
+    }
+    Assert.assertEquals(1, interceptor.activeCallCount());
+
+    service.release.countDown();
+    Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+    // call is released when server side of the call is completed.
+    long end = System.currentTimeMillis() + 5000;
+    while (interceptor.activeCallCount() > 0 && System.currentTimeMillis() < end) {
+      Thread.sleep(10);
+    }
+    Assert.assertEquals(0, interceptor.activeCallCount());
+    Assert.assertEquals("ok",
+        blockingStub.getMetrics(MetricsRequest.getDefaultInstance()).getText());
+  }
+}
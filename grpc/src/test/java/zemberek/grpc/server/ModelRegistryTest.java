@@ -0,0 +1,92 @@
+package zemberek.grpc.server;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.nio.file.Paths;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.grpc.server.ModelRegistry.Entry;
+import zemberek.grpc.server.ModelRegistry.Lease;
+
+public class ModelRegistryTest {
+
+  static class TestModel implements AutoCloseable {
+
+    final String path;
+    volatile boolean closed = false;
+
+    TestModel(String path) {
+      this.path = path;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
+  private static ModelRegistry<TestModel> registry() {
+    return new ModelRegistry<>("test", (path, mapped) -> new TestModel(path.toString()));
+  }
+
+  @Test
+  public void hotSwapTest() throws Exception {
+    ModelRegistry<TestModel> registry = registry();
+    registry.load("default", "", Paths.get("a"), false);
+    Lease<TestModel> lease = registry.acquire("");
+    TestModel first = lease.model();
+    Assert.assertEquals("a", first.path);
+    Assert.assertEquals("1", lease.entry.version);
+
+    // a call that started before the swap uses the old model until it is finished.
+    Entry<TestModel> old = lease.entry;
+    registry.load("default", "v2", Paths.get("b"), false);
+    Assert.assertEquals("a", lease.model().path);
+    Assert.assertFalse(first.closed);
+    Assert.assertFalse(old.isReleased());
+
+    try (Lease<TestModel> newLease = registry.acquire("default")) {
+      Assert.assertEquals("b", newLease.model().path);
+      Assert.assertEquals("v2", newLease.entry.version);
+    }
+
+    lease.close();
+    Assert.assertTrue(first.closed);
+    Assert.assertTrue(old.isReleased());
+    // closing a lease again has no effect.
+    lease.close();
+    Assert.assertEquals(0, old.activeCalls.get());
+  }
+
+  @Test
+  public void unloadReleasesIdleModelTest() throws Exception {
+    ModelRegistry<TestModel> registry = registry();
+    registry.load("m1", "", Paths.get("a"), false);
+    TestModel model;
+    try (Lease<TestModel> lease = registry.acquire("m1")) {
+      model = lease.model();
+    }
+    Entry<TestModel> entry = registry.unload("m1");
+    Assert.assertTrue(entry.isReleased());
+    Assert.assertTrue(model.closed);
+    Assert.assertNull(registry.unload("m1"));
+  }
+
+  @Test
+  public void missingModelTest() throws Exception {
+    ModelRegistry<TestModel> registry = registry();
+    try {
+      registry.acquire("");
+      Assert.fail();
+    } catch (StatusRuntimeException e) {
+      Assert.assertEquals(Status.Code.FAILED_PRECONDITION, e.getStatus().getCode());
+    }
+    registry.load("m1", "", Paths.get("a"), false);
+    try {
+      registry.acquire("m2");
+      Assert.fail();
+    } catch (StatusRuntimeException e) {
+      Assert.assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package zemberek.grpc.server;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.proto.LanguageIdRequest;
+import zemberek.proto.LanguageIdResponse;
+import zemberek.proto.LanguageIdServiceGrpc;
+import zemberek.proto.LanguageIdServiceGrpc.LanguageIdServiceImplBase;
+
+public class OrderedStreamObserverTest {
+
+  private Server server;
+  private ManagedChannel channel;
+  private BatchExecutor batchExecutor;
+
+  @After
+  public void tearDown() throws InterruptedException {
+    if (channel != null) {
+      channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+    if (server != null) {
+      server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+    batchExecutor.getExecutor().shutdownNow();
+  }
+
+  // Stream service that applies [function] to the inputs.
+  static class StreamService extends LanguageIdServiceImplBase {
+
+    final BatchExecutor executor;
+    final Function<String, String> function;
+
+    StreamService(BatchExecutor executor, Function<String, String> function) {
+      this.executor = executor;
+      this.function = function;
+    }
+
+    @Override
+    public StreamObserver<LanguageIdRequest> detectStream(
+        StreamObserver<LanguageIdResponse> responseObserver) {
+      return new OrderedStreamObserver<>(responseObserver, executor, 8,
+          r -> LanguageIdResponse.newBuilder().setLangId(function.apply(r.getInput())).build());
+    }
+  }
+
+  // Collects responses of a stream call.
+  static class Collector implements StreamObserver<LanguageIdResponse> {
+
+    final List<String> results = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch done = new CountDownLatch(1);
+    volatile Throwable error;
+
+    @Override
+    public void onNext(LanguageIdResponse value) {
+      results.add(value.getLangId());
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+      done.countDown();
+    }
+
+    @Override
+    public void onCompleted() {
+      done.countDown();
+    }
+  }
+
+  private Collector stream(Function<String, String> function, int count) throws Exception {
+    String name = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(name)
+        .addService(new StreamService(batchExecutor, function))
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(name).build();
+    Collector collector = new Collector();
+    StreamObserver<LanguageIdRequest> requests =
+        LanguageIdServiceGrpc.newStub(channel).detectStream(collector);
+    for (int i = 0; i < count; i++) {
+      requests.onNext(LanguageIdRequest.newBuilder().setInput(String.valueOf(i)).build());
+    }
+    requests.onCompleted();
+    Assert.assertTrue(collector.done.await(20, TimeUnit.SECONDS));
+    return collector;
+  }
+
+  @Test
+  public void resultsAreInRequestOrder() throws Exception {
+    batchExecutor = BatchExecutor.fixed(4);
+    // earlier items take longer, so they are usually finished after later ones.
+    Collector collector = stream(s -> {
+      try {
+        Thread.sleep(3 - Integer.parseInt(s) % 4);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return s;
+    }, 200);
+    Assert.assertNull(collector.error);
+    Assert.assertEquals(200, collector.results.size());
+    for (int i = 0; i < 200; i++) {
+      Assert.assertEquals(String.valueOf(i), collector.results.get(i));
+    }
+  }
+
+  @Test
+  public void errorFailsTheCall() throws Exception {
+    batchExecutor = BatchExecutor.fixed(2);
+    Collector collector = stream(s -> {
+      if (s.equals("5")) {
+        throw new AssertionError("Failure for 5");
+      }
+      return s;
+    }, 20);
+    Assert.assertNotNull(collector.error);
+    Assert.assertEquals(Status.Code.INTERNAL, Status.fromThrowable(collector.error).getCode());
+    Assert.assertTrue(collector.results.size() <= 5);
+  }
+
+  @Test
+  public void errorStatusIsKept() throws Exception {
+    batchExecutor = BatchExecutor.fixed(2);
+    Collector collector = stream(s -> {
+      if (s.equals("3")) {
+        throw Status.INVALID_ARGUMENT.withDescription("Bad input").asRuntimeException();
+      }
+      return s;
+    }, 10);
+    Assert.assertNotNull(collector.error);
+    Status status = Status.fromThrowable(collector.error);
+    Assert.assertEquals(Status.Code.INVALID_ARGUMENT, status.getCode());
+    Assert.assertEquals("Bad input", status.getDescription());
+  }
+
+  @Test
+  public void cancelledCallStopsProcessing() throws Exception {
+    batchExecutor = BatchExecutor.fixed(1);
+    TestResponseObserver responses = new TestResponseObserver();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger processed = new AtomicInteger();
+    OrderedStreamObserver<String, String> observer = new OrderedStreamObserver<>(
+        responses, batchExecutor, 8, s -> {
+      processed.incrementAndGet();
+      started.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return s;
+    });
+    Assert.assertEquals(8, responses.requested);
+    for (int i = 0; i < 5; i++) {
+      observer.onNext(String.valueOf(i));
+    }
+    Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+    responses.onCancelHandler.run();
+    release.countDown();
+    batchExecutor.getExecutor().shutdown();
+    Assert.assertTrue(batchExecutor.getExecutor().awaitTermination(5, TimeUnit.SECONDS));
+    // first item was being processed when call is cancelled, rest are skipped.
+    Assert.assertEquals(1, processed.get());
+    Assert.assertTrue(responses.sent.isEmpty());
+    Assert.assertFalse(responses.completed);
+  }
+
+  @Test
+  public void resultsWaitForReadyTransport() throws Exception {
+    batchExecutor = BatchExecutor.fixed(1);
+    TestResponseObserver responses = new TestResponseObserver();
+    responses.ready = false;
+    OrderedStreamObserver<String, String> observer =
+        new OrderedStreamObserver<>(responses, batchExecutor, 8, s -> s);
+    for (int i = 0; i < 3; i++) {
+      observer.onNext(String.valueOf(i));
+    }
+    observer.onCompleted();
+    batchExecutor.getExecutor().shutdown();
+    Assert.assertTrue(batchExecutor.getExecutor().awaitTermination(5, TimeUnit.SECONDS));
+    Assert.assertTrue(responses.sent.isEmpty());
+
+    responses.ready = true;
+    responses.onReadyHandler.run();
+    Assert.assertEquals(3, responses.sent.size());
+    Assert.assertEquals("0", responses.sent.get(0));
+    Assert.assertEquals("2", responses.sent.get(2));
+    // a new item is requested for each sent result.
+    Assert.assertEquals(8 + 3, responses.requested);
+    Assert.assertTrue(responses.completed);
+  }
+
+  // Records the calls made by the observer. Readiness of the transport can be changed.
+  static class TestResponseObserver extends ServerCallStreamObserver<String> {
+
+    final List<String> sent = new ArrayList<>();
+    volatile boolean ready = true;
+    volatile boolean completed;
+    volatile Throwable error;
+    volatile int requested;
+    Runnable onReadyHandler;
+    Runnable onCancelHandler;
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void setOnCancelHandler(Runnable onCancelHandler) {
+      this.onCancelHandler = onCancelHandler;
+    }
+
+    @Override
+    public void setCompression(String compression) {
+    }
+
+    @Override
+    public boolean isReady() {
+      return ready;
+    }
+
+    @Override
+    public void setOnReadyHandler(Runnable onReadyHandler) {
+      this.onReadyHandler = onReadyHandler;
+    }
+
+    @Override
+    public void disableAutoInboundFlowControl() {
+    }
+
+    @Override
+    public synchronized void request(int count) {
+      requested += count;
+    }
+
+    @Override
+    public void setMessageCompression(boolean enable) {
+    }
+
+    @Override
+    public synchronized void onNext(String value) {
+      sent.add(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      error = t;
+    }
+
+    @Override
+    public void onCompleted() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package zemberek.grpc.server;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.grpc.server.ZemberekGrpcConfiguration.ExecutorType;
+
+public class ZemberekGrpcServerTest {
+
+  @Test
+  public void defaultExecutorTest() {
+    ZemberekGrpcConfiguration configuration = ZemberekGrpcConfiguration.defaultConfiguration();
+    Assert.assertEquals(ExecutorType.DEFAULT, configuration.getExecutorType());
+    Assert.assertNull(ZemberekGrpcServer.createCallExecutor(configuration));
+  }
+
+  @Test
+  public void fixedExecutorDoesNotRejectTest() throws Exception {
+    ZemberekGrpcConfiguration configuration = ZemberekGrpcConfiguration.defaultConfiguration()
+        .executor(ExecutorType.FIXED, 1)
+        .batchQueueSize(1);
+    ExecutorService executor = ZemberekGrpcServer.createCallExecutor(configuration);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger done = new AtomicInteger();
+    try {
+      // events of running calls are queued while the only thread is busy, none is rejected.
+      executor.execute(() -> {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      for (int i = 0; i < 1000; i++) {
+        executor.execute(done::incrementAndGet);
+      }
+      release.countDown();
+    } finally {
+      executor.shutdown();
+    }
+    Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    Assert.assertEquals(1000, done.get());
+  }
+}
@@ -0,0 +1,68 @@
+package zemberek.langid;
+
+import zemberek.core.hash.MultiLevelMphf;
+import zemberek.langid.model.CharNgramLanguageModel;
+
+/**
+ * Scores character n-grams against all language models. Input is converted to an integer array
+ * once, and for each gram, hash values of the gram and its prefixes are calculated only once and
+ * shared by all models. No String is created for grams.
+ * <p>
+ * Each model still does its own MPHF lookup for a gram. A single table for all languages would
+ * need the grams of the models, but compressed models only keep 16 bit fingerprints of them.
+ */
+class GramScorer {
+
+  private final CharNgramLanguageModel[] models;
+  private final int order;
+
+  GramScorer(CharNgramLanguageModel[] models, int order) {
+    this.models = models;
+    this.order = order;
+  }
+
+  int modelCount() {
+    return models.length;
+  }
+
+  CharNgramLanguageModel getModel(int index) {
+    return models[index];
+  }
+
+  static int[] toData(String input) {
+    int[] data = new int[input.length()];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = input.charAt(i);
+    }
+    return data;
+  }
+
+  /**
+   * Creates a working buffer for prefix hash values of a gram.
+   */
+  int[] newHashBuffer() {
+    return new int[order];
+  }
+
+  /**
+   * Calculates hash values of gram data[begin, begin+order) and its prefixes into [hashes]. Then
+   * any model can be queried with {@link CharNgramLanguageModel#gramProbability(int[], int, int,
+   * int[])}.
+   */
+  void hashGram(int[] data, int begin, int[] hashes) {
+    MultiLevelMphf.prefixHashes(data, begin, begin + order, hashes);
+  }
+
+  /**
+   * Adds log probabilities of grams that start at [gramStarts] to [scores] for all models. Scores
+   * are indexed by model index.
+   */
+  void accumulate(int[] data, int[] gramStarts, int[] hashes, double[] scores) {
+    for (int gramStart : gramStarts) {
+      hashGram(data, gramStart, hashes);
+      for (int i = 0; i < models.length; i++) {
+        scores[i] += models[i].gramProbability(data, gramStart, order, hashes);
+      }
+    }
+  }
+}
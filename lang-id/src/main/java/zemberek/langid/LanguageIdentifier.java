@@ -14,6 +14,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 import zemberek.core.io.SimpleTextReader;
 import zemberek.core.logging.Log;
@@ -28,6 +32,13 @@ public class LanguageIdentifier {
 
   public static final int ELIMINATION_SAMPLE_STEP = 20;
   public static final String UNKNOWN = "unk";
+  // shared by all identifiers for identify(List, int, int). Idle threads are released after a
+  // minute, threads are daemon so they do not prevent JVM exit.
+  private static final ExecutorService sharedExecutor = Executors.newCachedThreadPool(r -> {
+    Thread thread = new Thread(r, "language-identifier");
+    thread.setDaemon(true);
+    return thread;
+  });
   private static Pattern removeCharsPattern = Pattern
       .compile("[0-9\"#$%^&*()_+\\-=/|\\\\<>{}\\[\\];:,]", Pattern.DOTALL | Pattern.MULTILINE);
   private static Pattern whiteSpacePattern = Pattern
@@ -35,15 +46,20 @@ public class LanguageIdentifier {
   public final int order;
   private Map<String, CharNgramLanguageModel> models = Maps.newHashMap();
   private String[] modelIdArray;
+  private GramScorer scorer;
 
   private LanguageIdentifier(Map<String, CharNgramLanguageModel> models) {
     this.models = models;
     modelIdArray = new String[models.size()];
+    CharNgramLanguageModel[] modelArray = new CharNgramLanguageModel[models.size()];
     int i = 0;
     for (String s : models.keySet()) {
-      modelIdArray[i++] = s;
+      modelIdArray[i] = s;
+      modelArray[i] = models.get(s);
+      i++;
     }
     this.order = models.values().iterator().next().getOrder();
+    this.scorer = new GramScorer(modelArray, order);
   }
 
   /**
@@ -237,15 +253,6 @@ public class LanguageIdentifier {
     return vals;
   }
 
-  private String[] getGrams(String content, int[] gramStarts) {
-    String[] grams = new String[gramStarts.length];
-    int i = 0;
-    for (int gramStart : gramStarts) {
-      grams[i++] = content.substring(gramStart, gramStart + order);
-    }
-    return grams;
-  }
-
   /**
    * @return The language id's that this identifier can detect.
    */
@@ -271,7 +278,7 @@ public class LanguageIdentifier {
     if (clean.length() < order) {
       return UNKNOWN;
     }
-    return identifySamples(clean, getStepping(clean, clean.length() - 1));
+    return identifySamples(clean, getStepping(clean, clean.length() - 1), new ScoringBuffers());
   }
 
   /**
@@ -290,7 +297,92 @@ public class LanguageIdentifier {
     if (clean.length() < order) {
       return UNKNOWN;
     }
-    return identifySamples(clean, getStepping(clean, maxSampleCount));
+    return identifySamples(clean, getStepping(clean, maxSampleCount), new ScoringBuffers());
+  }
+
+  /**
+   * Identifies languages of all inputs in parallel, using [threadCount] threads. Inputs are split
+   * into contiguous blocks and each block is processed in a single thread reusing scoring buffers.
+   * Threads are taken from a pool shared by all identifiers, a new pool is not created for each
+   * call. For each input, the result is same as the result of {@link #identify(String, int)}
+   *
+   * @param inputs input texts
+   * @param maxSampleCount Max sampling value. See {@link #identify(String, int)}
+   * @param threadCount thread count.
+   * @return identified language ids. Result at index i belongs to inputs[i].
+   */
+  public List<String> identify(List<String> inputs, int maxSampleCount, int threadCount)
+      throws InterruptedException {
+    if (threadCount < 1) {
+      throw new IllegalArgumentException("Thread count must be positive but it is " + threadCount);
+    }
+    int blockSize = Math.max(1, (inputs.size() + threadCount - 1) / threadCount);
+    return identify(inputs, maxSampleCount, sharedExecutor, blockSize);
+  }
+
+  /**
+   * Identifies languages of all inputs using given executor. Inputs are split into contiguous
+   * blocks with [blockSize] elements, each block is submitted as a single task that reuses scoring
+   * buffers. For each input, the result is same as the result of {@link #identify(String, int)}
+   *
+   * @param inputs input texts
+   * @param maxSampleCount Max sampling value. See {@link #identify(String, int)}
+   * @param executor executor that runs identification tasks. It is not shut down.
+   * @param blockSize amount of inputs processed in a task.
+   * @return identified language ids. Result at index i belongs to inputs[i].
+   * @throws InterruptedException if interrupted while waiting. Unfinished tasks are cancelled.
+   */
+  public List<String> identify(
+      List<String> inputs,
+      int maxSampleCount,
+      ExecutorService executor,
+      int blockSize) throws InterruptedException {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("Block size must be positive but it is " + blockSize);
+    }
+    String[] results = new String[inputs.size()];
+    List<Future<?>> futures = new ArrayList<>();
+    for (int start = 0; start < inputs.size(); start += blockSize) {
+      final int begin = start;
+      final int end = Math.min(start + blockSize, inputs.size());
+      futures.add(executor.submit(() -> {
+        ScoringBuffers buffers = new ScoringBuffers();
+        for (int i = begin; i < end; i++) {
+          String clean = preprocess(inputs.get(i));
+          results[i] = clean.length() < order ? UNKNOWN :
+              identifySamples(clean, getStepping(clean, maxSampleCount), buffers);
+        }
+      }));
+    }
+    try {
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      cancelAll(futures);
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      cancelAll(futures);
+      throw e;
+    }
+    return Arrays.asList(results);
+  }
+
+  private static void cancelAll(List<Future<?>> futures) {
+    for (Future<?> future : futures) {
+      future.cancel(true);
+    }
+  }
+
+  /**
+   * Creates a {@link StreamingIdentifier} that consumes text incrementally and stops scoring when
+   * confidence of the best language reaches [confidenceThreshold].
+   *
+   * @param confidenceThreshold confidence threshold in [0..1] range. Confidence is the probability
+   * of the best language normalized over all languages.
+   */
+  public StreamingIdentifier streamingIdentifier(double confidenceThreshold) {
+    return new StreamingIdentifier(this, scorer, confidenceThreshold);
   }
 
   /**
@@ -401,18 +493,15 @@ public class LanguageIdentifier {
     return false;
   }
 
-  private String identifySamples(String input, int[] samplingPoints) {
-    String[] grams = getGrams(input, samplingPoints);
+  private String identifySamples(String input, int[] samplingPoints, ScoringBuffers buffers) {
+    double[] scores = buffers.clearScores();
+    scorer.accumulate(buffers.load(input), samplingPoints, buffers.hashes, scores);
     double max = -Double.MAX_VALUE;
     String maxLanguage = null;
-    for (CharNgramLanguageModel model : models.values()) {
-      double prob = 0;
-      for (String gram : grams) {
-        prob += model.gramProbability(gram);
-      }
-      if (prob > max) {
-        max = prob;
-        maxLanguage = model.getId();
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] > max) {
+        max = scores[i];
+        maxLanguage = scorer.getModel(i).getId();
       }
     }
     return maxLanguage;
@@ -425,17 +514,11 @@ public class LanguageIdentifier {
     } else {
       samplingPoints = getStepping(input, maxSampleCount);
     }
+    double[] scores = new double[scorer.modelCount()];
+    scorer.accumulate(GramScorer.toData(input), samplingPoints, scorer.newHashBuffer(), scores);
     List<ModelScore> modelScores = Lists.newArrayListWithCapacity(modelIdArray.length);
-    for (CharNgramLanguageModel model : models.values()) {
-      modelScores.add(new ModelScore(model, 0));
-    }
-    String[] grams = getGrams(input, samplingPoints);
-    int gramCounter = 0;
-    while (gramCounter < grams.length) {
-      for (ModelScore modelScore : modelScores) {
-        modelScore.score += modelScore.model.gramProbability(grams[gramCounter]);
-      }
-      gramCounter++;
+    for (int i = 0; i < scores.length; i++) {
+      modelScores.add(new ModelScore(scorer.getModel(i), scores[i]));
     }
     Collections.sort(modelScores);
     return modelScores;
@@ -458,20 +541,23 @@ public class LanguageIdentifier {
       samplingPoints = getStepping(input, maxSampleCount);
     }
     List<ModelScore> modelScores = Lists.newArrayListWithCapacity(modelIdArray.length);
-    for (CharNgramLanguageModel model : models.values()) {
-      modelScores.add(new ModelScore(model, 0));
+    for (int i = 0; i < scorer.modelCount(); i++) {
+      modelScores.add(new ModelScore(scorer.getModel(i), 0));
     }
-    String[] grams = getGrams(input, samplingPoints);
+    int[] data = GramScorer.toData(input);
+    int[] hashes = scorer.newHashBuffer();
     int gramCounter = 0;
     int intervalCounter = 0;
-    while (gramCounter < grams.length) {
+    while (gramCounter < samplingPoints.length) {
       if (intervalCounter == ELIMINATION_SAMPLE_STEP && modelScores.size() > 2) {
         intervalCounter = 0;
         Collections.sort(modelScores);
         modelScores = modelScores.subList(0, modelScores.size() / 2 + 1);
       }
+      int gramStart = samplingPoints[gramCounter];
+      scorer.hashGram(data, gramStart, hashes);
       for (ModelScore modelScore : modelScores) {
-        modelScore.score += modelScore.model.gramProbability(grams[gramCounter]);
+        modelScore.score += modelScore.model.gramProbability(data, gramStart, order, hashes);
       }
       intervalCounter++;
       gramCounter++;
@@ -480,58 +566,98 @@ public class LanguageIdentifier {
     return modelScores;
   }
 
-  // TODO make it public after proper testing
-  private String identify(String input, int maxSampleCount, double threshold) {
-    String clean = preprocess(input);
-    if (clean.length() < order) {
-      return UNKNOWN;
-    }
-    IdResult result = identifyConf(clean, getStepping(clean, maxSampleCount));
-    if (result.score >= threshold) {
+  /**
+   * Identifies input text's language using sampling. If confidence of the best language is lower
+   * than [confidenceThreshold], {@link #UNKNOWN} is returned.
+   *
+   * @param input content
+   * @param maxSampleCount Max sampling value. See {@link #identify(String, int)}
+   * @param confidenceThreshold confidence threshold in [0..1] range. Confidence is the probability
+   * of the best language normalized over all languages.
+   * @return identified language's id or {@link #UNKNOWN}
+   */
+  public String identify(String input, int maxSampleCount, double confidenceThreshold) {
+    IdResult result = identifyWithConfidence(input, maxSampleCount);
+    if (result.score >= confidenceThreshold) {
       return result.id;
     } else {
-      return BaseCharNgramModel.UNKNOWN;
+      return UNKNOWN;
     }
   }
 
-  // TODO make it public after proper testing
-  private String identify(String input, double confidenceThreshold) {
+  /**
+   * Identifies input text's language using all data in the content. If confidence of the best
+   * language is lower than [confidenceThreshold], {@link #UNKNOWN} is returned.
+   *
+   * @param input content
+   * @param confidenceThreshold confidence threshold in [0..1] range. Confidence is the probability
+   * of the best language normalized over all languages.
+   * @return identified language's id or {@link #UNKNOWN}
+   */
+  public String identify(String input, double confidenceThreshold) {
+    return identify(input, -1, confidenceThreshold);
+  }
+
+  /**
+   * Returns the best language and its confidence. Confidence is the probability of the best
+   * language normalized over all languages. If input is too short, {@link #UNKNOWN} with zero
+   * confidence is returned.
+   *
+   * @param input content
+   * @param maxSampleCount Max sampling value. See {@link #identify(String, int)}
+   */
+  public IdResult identifyWithConfidence(String input, int maxSampleCount) {
     String clean = preprocess(input);
     if (clean.length() < order) {
-      return UNKNOWN;
-    }
-    IdResult result = identifyConf(clean, getSequencial(clean));
-    if (result.score >= confidenceThreshold) {
-      return result.id;
-    } else {
-      return UNKNOWN;
+      return new IdResult(UNKNOWN, 0);
     }
+    ScoringBuffers buffers = new ScoringBuffers();
+    double[] scores = buffers.clearScores();
+    scorer.accumulate(
+        buffers.load(clean), getStepping(clean, maxSampleCount), buffers.hashes, scores);
+    return bestWithConfidence(scores);
   }
 
-  private IdResult identifyConf(String input, int[] samplingPoints) {
-    String[] grams = getGrams(input, samplingPoints);
-    double[] scores = new double[models.size()];
+  IdResult bestWithConfidence(double[] scores) {
     double max = -Double.MAX_VALUE;
-    int i = 0;
     int best = 0;
     double totalScore = LogMath.LOG_ZERO;
-    for (String modelId : modelIdArray) {
-      CharNgramLanguageModel charNgramLanguageModel = models.get(modelId);
-      double prob = 0;
-      for (String gram : grams) {
-        prob += charNgramLanguageModel.gramProbability(gram);
-      }
-      scores[i] = prob;
-      totalScore = LogMath.logSum(totalScore, prob);
-      if (prob > max) {
-        max = prob;
+    for (int i = 0; i < scores.length; i++) {
+      totalScore = LogMath.logSum(totalScore, scores[i]);
+      if (scores[i] > max) {
+        max = scores[i];
         best = i;
       }
-      i++;
     }
     return new IdResult(modelIdArray[best], Math.exp(scores[best] - totalScore));
   }
 
+  /**
+   * Working buffers for scoring an input. They are reused when many inputs are processed in the
+   * same thread.
+   */
+  private class ScoringBuffers {
+
+    int[] data = new int[128];
+    int[] hashes = scorer.newHashBuffer();
+    double[] scores = new double[scorer.modelCount()];
+
+    int[] load(String input) {
+      if (data.length < input.length()) {
+        data = new int[Math.max(input.length(), data.length * 2)];
+      }
+      for (int i = 0; i < input.length(); i++) {
+        data[i] = input.charAt(i);
+      }
+      return data;
+    }
+
+    double[] clearScores() {
+      Arrays.fill(scores, 0);
+      return scores;
+    }
+  }
+
   private static class ModelScore implements Comparable<ModelScore> {
 
     CharNgramLanguageModel model;
@@ -0,0 +1,130 @@
+package zemberek.langid;
+
+import java.util.Arrays;
+import zemberek.langid.LanguageIdentifier.IdResult;
+
+/**
+ * Identifies the language of a text that is consumed incrementally. All grams of the consumed text
+ * are scored, and after every {@link #CHECK_INTERVAL} grams, confidence of the best language is
+ * checked. Once confidence reaches the threshold, identifier is decided and rest of the input is
+ * ignored. This way, language of long documents can be found by scoring only the beginning of the
+ * content. Instances are not thread safe. Use {@link LanguageIdentifier#streamingIdentifier(double)}
+ * for creating one.
+ * <pre>
+ *   StreamingIdentifier identifier = lid.streamingIdentifier(0.99);
+ *   for (String chunk : chunks) {
+ *     if (identifier.add(chunk)) {
+ *       break;
+ *     }
+ *   }
+ *   IdResult result = identifier.getResult();
+ * </pre>
+ */
+public class StreamingIdentifier {
+
+  public static final int CHECK_INTERVAL = 20;
+
+  private final LanguageIdentifier identifier;
+  private final GramScorer scorer;
+  private final double confidenceThreshold;
+  private final int order;
+
+  private final double[] scores;
+  private final int[] hashes;
+  // Cleaned characters that are not scored yet. Last [order-1] characters of previous chunks are
+  // kept so that grams spanning chunk boundaries are also scored.
+  private int[] data = new int[256];
+  private int length = 0;
+  private int gramCount = 0;
+  private boolean decided = false;
+
+  StreamingIdentifier(LanguageIdentifier identifier, GramScorer scorer,
+      double confidenceThreshold) {
+    this.identifier = identifier;
+    this.scorer = scorer;
+    this.confidenceThreshold = confidenceThreshold;
+    this.order = identifier.order;
+    this.scores = new double[scorer.modelCount()];
+    this.hashes = scorer.newHashBuffer();
+  }
+
+  /**
+   * Consumes next part of the text and scores its grams.
+   *
+   * @param text next part of the input.
+   * @return true if a decision is reached. In that case further calls have no effect.
+   */
+  public boolean add(CharSequence text) {
+    if (decided) {
+      return true;
+    }
+    String clean = LanguageIdentifier.preprocess(text.toString());
+    int start = 0;
+    // whitespace is already collapsed in a chunk, do it also between chunks.
+    if (length > 0 && data[length - 1] == ' ' && clean.length() > 0 && clean.charAt(0) == ' ') {
+      start = 1;
+    }
+    ensureCapacity(length + clean.length() - start);
+    for (int i = start; i < clean.length(); i++) {
+      data[length++] = clean.charAt(i);
+    }
+    int gramStart = 0;
+    while (gramStart + order <= length) {
+      scorer.hashGram(data, gramStart, hashes);
+      for (int i = 0; i < scores.length; i++) {
+        scores[i] += scorer.getModel(i).gramProbability(data, gramStart, order, hashes);
+      }
+      gramStart++;
+      gramCount++;
+      if (gramCount % CHECK_INTERVAL == 0 &&
+          identifier.bestWithConfidence(scores).score >= confidenceThreshold) {
+        decided = true;
+        break;
+      }
+    }
+    // keep the characters of the unfinished gram.
+    System.arraycopy(data, gramStart, data, 0, length - gramStart);
+    length = length - gramStart;
+    return decided;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (data.length < capacity) {
+      data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+    }
+  }
+
+  /**
+   * @return true if confidence of the best language reached the threshold.
+   */
+  public boolean isDecided() {
+    return decided;
+  }
+
+  /**
+   * @return amount of grams scored so far.
+   */
+  public int getGramCount() {
+    return gramCount;
+  }
+
+  /**
+   * Returns the best language so far and its confidence. If no gram is scored yet,
+   * {@link LanguageIdentifier#UNKNOWN} with zero confidence is returned.
+   */
+  public IdResult getResult() {
+    if (gramCount == 0) {
+      return new IdResult(LanguageIdentifier.UNKNOWN, 0);
+    }
+    return identifier.bestWithConfidence(scores);
+  }
+
+  /**
+   * Returns the best language id if confidence reached the threshold, otherwise returns {@link
+   * LanguageIdentifier#UNKNOWN}
+   */
+  public String getLanguage() {
+    IdResult result = getResult();
+    return result.score >= confidenceThreshold ? result.id : LanguageIdentifier.UNKNOWN;
+  }
+}
@@ -138,6 +138,13 @@ public class CharNgramCountModel extends BaseCharNgramModel implements Serializa
     gramCounts[order].add(key);
   }
 
+  /**
+   * Adds all counts of [counts] to the grams of [order].
+   */
+  public void add(int order, Histogram<String> counts) {
+    gramCounts[order].add(counts);
+  }
+
   public int keyCount(int order) {
     return gramCounts[order].size();
   }
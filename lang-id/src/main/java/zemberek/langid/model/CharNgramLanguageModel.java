@@ -11,6 +11,27 @@ public interface CharNgramLanguageModel {
    */
   double gramProbability(String gram);
 
+  /**
+   * Calculates log probability of the gram represented with characters data[begin, begin+length).
+   * Scorers that query many models with the same gram use this method so that gram is not
+   * converted to a String or hashed again for every model.
+   *
+   * @param data characters of the input as integers.
+   * @param begin gram start index.
+   * @param length gram length.
+   * @param prefixHashes prefixHashes[k] is the default seeded MultiLevelMphf hash of the first k+1
+   * characters of the gram. See {@link zemberek.core.hash.MultiLevelMphf#prefixHashes(int[], int,
+   * int, int[])}
+   * @return natural log probability value.
+   */
+  default double gramProbability(int[] data, int begin, int length, int[] prefixHashes) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = begin; i < begin + length; i++) {
+      sb.append((char) data[i]);
+    }
+    return gramProbability(sb.toString());
+  }
+
   /**
    * Order of the model (usually 2,3,.)
    *
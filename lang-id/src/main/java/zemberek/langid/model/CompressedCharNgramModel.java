@@ -15,6 +15,7 @@ import zemberek.core.collections.Histogram;
 import zemberek.core.hash.IntHashKeyProvider;
 import zemberek.core.hash.Mphf;
 import zemberek.core.hash.MultiLevelMphf;
+import zemberek.core.hash.PartitionedMphf;
 import zemberek.core.quantization.BinningQuantizer;
 import zemberek.core.quantization.DoubleLookup;
 import zemberek.core.quantization.Quantizer;
@@ -56,7 +57,7 @@ public class CompressedCharNgramModel extends BaseCharNgramModel implements Char
 
   public static void compress(MapBasedCharNgramLanguageModel model, File output)
       throws IOException {
-    Mphf[] mphfs = new MultiLevelMphf[model.getOrder() + 1];
+    Mphf[] mphfs = new Mphf[model.getOrder() + 1];
     DoubleLookup[] lookups = new DoubleLookup[model.getOrder() + 1];
     try (DataOutputStream dos = new DataOutputStream(
         new BufferedOutputStream(new FileOutputStream(output)))) {
@@ -79,7 +80,7 @@ public class CompressedCharNgramModel extends BaseCharNgramModel implements Char
         int[] fingerprints = new int[keys.size()];
         int[] probabilityIndexes = new int[keys.size()];
 
-        mphfs[i] = MultiLevelMphf.generate(new StringListKeyProvider(keys));
+        mphfs[i] = PartitionedMphf.generate(new StringListKeyProvider(keys));
 
         for (final String key : keys) {
           final int index = mphfs[i].get(key);
@@ -103,13 +104,13 @@ public class CompressedCharNgramModel extends BaseCharNgramModel implements Char
     try (DataInputStream dis = new DataInputStream(new BufferedInputStream(is))) {
       int order = dis.readInt();
       String modelId = dis.readUTF();
-      MultiLevelMphf[] mphfs = new MultiLevelMphf[order + 1];
+      Mphf[] mphfs = new Mphf[order + 1];
       ProbData[] probDatas = new ProbData[order + 1];
       DoubleLookup[] lookups = new DoubleLookup[order + 1];
       for (int i = 1; i <= order; i++) {
         lookups[i] = DoubleLookup.getLookup(dis);
         probDatas[i] = new ProbData(dis);
-        mphfs[i] = MultiLevelMphf.deserialize(dis);
+        mphfs[i] = Mphf.deserialize(dis);
       }
       return new CompressedCharNgramModel(order, modelId, mphfs, probDatas, lookups);
     }
@@ -143,6 +144,33 @@ public class CompressedCharNgramModel extends BaseCharNgramModel implements Char
     }
   }
 
+  /**
+   * Same as {@link #gramProbability(String)} but uses pre-calculated prefix hashes of the gram.
+   */
+  @Override
+  public double gramProbability(int[] data, int begin, int length, int[] prefixHashes) {
+    if (length > order) {
+      throw new IllegalArgumentException("Gram size is larger than order! gramSize="
+          + length + " but order is:" + order);
+    }
+    int backOffCount = 0;
+    double prob = UNK_CHAR_PENALTY;
+    for (int o = length; o > 0; o--) {
+      int fingerPrint = prefixHashes[o - 1];
+      int hash = mphfs[o].get(data, begin, begin + o, fingerPrint);
+      if ((fingerPrint & FINGER_PRINT_MASK) == gramData[o].getFP(hash)) {
+        prob = lookups[o].get(gramData[o].getProbLookupIndex(hash));
+        break;
+      }
+      backOffCount++;
+    }
+    // Same summation order with the recursive String version.
+    for (int i = 0; i < backOffCount; i++) {
+      prob = BACK_OFF + prob;
+    }
+    return prob;
+  }
+
   @Override
   public int getOrder() {
     return order;
@@ -5,9 +5,13 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import zemberek.core.collections.ConcurrentHistogram;
+import zemberek.core.collections.Histogram;
 import zemberek.langid.LanguageIdentifier;
 import zemberek.langid.model.CharNgramCountModel;
 import zemberek.langid.model.CompressedCharNgramModel;
@@ -15,6 +19,8 @@ import zemberek.langid.model.MapBasedCharNgramLanguageModel;
 
 public class ModelGenerator {
 
+  private static final int LINE_BATCH_SIZE = 10_000;
+
   Set<String> ignoreWords = Sets.newHashSet("://", "wikipedia", ".jpg", "image:", "file:", ".png");
 
   public MapBasedCharNgramLanguageModel generateModel(ModelTrainData modelData) throws IOException {
@@ -33,26 +39,49 @@ public class ModelGenerator {
   public CharNgramCountModel getCountModel(ModelTrainData modelTrainData) throws IOException {
     CharNgramCountModel countModel = new CharNgramCountModel(modelTrainData.modelId,
         modelTrainData.order);
+    int order = modelTrainData.order;
+    // grams are counted in parallel. Every batch of lines is counted locally first.
+    @SuppressWarnings("unchecked")
+    ConcurrentHistogram<String>[] counts = new ConcurrentHistogram[order + 1];
+    for (int i = 1; i <= order; i++) {
+      counts[i] = new ConcurrentHistogram<>();
+    }
     for (File file : modelTrainData.modelFiles) {
       System.out.println("Processing file:" + file);
-      int ignoredCount = 0;
-      Set<String> lines = new HashSet<>(com.google.common.io.Files.readLines(file, Charsets.UTF_8));
-      for (String line : lines) {
-        line = line.toLowerCase();
-        boolean ignore = false;
-        for (String ignoreWord : ignoreWords) {
-          if (line.contains(ignoreWord)) {
-            ignore = true;
-            ignoredCount++;
-            break;
+      AtomicInteger ignoredCount = new AtomicInteger();
+      List<String> lines = new ArrayList<>(
+          new HashSet<>(com.google.common.io.Files.readLines(file, Charsets.UTF_8)));
+      Lists.partition(lines, LINE_BATCH_SIZE).parallelStream().forEach(batch -> {
+        @SuppressWarnings("unchecked")
+        Histogram<String>[] local = new Histogram[order + 1];
+        for (int i = 1; i <= order; i++) {
+          local[i] = new Histogram<>();
+        }
+        for (String line : batch) {
+          line = line.toLowerCase();
+          boolean ignore = false;
+          for (String ignoreWord : ignoreWords) {
+            if (line.contains(ignoreWord)) {
+              ignore = true;
+              ignoredCount.incrementAndGet();
+              break;
+            }
+          }
+          if (!ignore) {
+            line = LanguageIdentifier.preprocess(line);
+            for (int i = 1; i <= order; i++) {
+              local[i].add(countModel.getGram(line, i));
+            }
           }
         }
-        if (!ignore) {
-          line = LanguageIdentifier.preprocess(line);
-          countModel.addGrams(line);
+        for (int i = 1; i <= order; i++) {
+          counts[i].add(local[i]);
         }
-      }
-      System.out.println("Ignored lines for " + file + " : " + ignoredCount);
+      });
+      System.out.println("Ignored lines for " + file + " : " + ignoredCount.get());
+    }
+    for (int i = 1; i <= order; i++) {
+      countModel.add(i, counts[i].toHistogram());
     }
     countModel.applyCutOffs(modelTrainData.cutOffs);
     countModel.dumpGrams(1);
@@ -1,8 +1,19 @@
 package zemberek.langid;
 
 import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
+import zemberek.core.hash.MultiLevelMphf;
+import zemberek.langid.model.CharNgramLanguageModel;
 
 public class LanguageIndentifierTest {
 
@@ -72,4 +83,115 @@ public class LanguageIndentifierTest {
     Assert.assertFalse(lid.getLanguages().contains("unk"));
     Assert.assertFalse(lid.getLanguages().contains("ar"));
   }
+
+  @Test
+  public void hashedGramProbabilityTest() throws IOException {
+    LanguageIdentifier lid = LanguageIdentifier.fromInternalModelGroup("tr_group");
+    String input = LanguageIdentifier.preprocess(
+        "merhaba dünya ve tüm gezegenler Hola mundo y todos los planetas xqzw");
+    int[] data = GramScorer.toData(input);
+    int[] hashes = new int[lid.order];
+    for (CharNgramLanguageModel model : lid.getModels()) {
+      for (int i = 0; i <= input.length() - lid.order; i++) {
+        MultiLevelMphf.prefixHashes(data, i, i + lid.order, hashes);
+        Assert.assertEquals(
+            model.gramProbability(input.substring(i, i + lid.order)),
+            model.gramProbability(data, i, lid.order, hashes), 0);
+      }
+    }
+  }
+
+  @Test
+  public void batchIdentifyTest() throws Exception {
+    LanguageIdentifier lid = LanguageIdentifier.fromInternalModels();
+    List<String> inputs = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      inputs.add("merhaba dünya ve tüm gezegenler");
+      inputs.add("hello world and all the planets what is this?");
+      inputs.add("Hola mundo y todos los planetas");
+      inputs.add("a");
+    }
+    List<String> results = lid.identify(inputs, 20, 4);
+    Assert.assertEquals(inputs.size(), results.size());
+    for (int i = 0; i < inputs.size(); i++) {
+      Assert.assertEquals(lid.identify(inputs.get(i), 20), results.get(i));
+    }
+  }
+
+  @Test
+  public void batchIdentifyCancelsTasksWhenInterrupted() throws Exception {
+    LanguageIdentifier lid = LanguageIdentifier.fromInternalModels();
+    AtomicInteger readCount = new AtomicInteger();
+    List<String> inputs = new AbstractList<String>() {
+      @Override
+      public String get(int index) {
+        readCount.incrementAndGet();
+        return "merhaba dünya ve tüm gezegenler";
+      }
+
+      @Override
+      public int size() {
+        return 100;
+      }
+    };
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    // occupies the only thread, so identification tasks wait in the queue.
+    executor.submit(() -> {
+      release.await();
+      return null;
+    });
+    Thread.currentThread().interrupt();
+    try {
+      lid.identify(inputs, 20, executor, 10);
+      Assert.fail("Interrupted call should throw.");
+    } catch (InterruptedException expected) {
+      // expected.
+    }
+    release.countDown();
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    Assert.assertEquals(0, readCount.get());
+  }
+
+  @Test
+  public void confidenceTest() throws IOException {
+    LanguageIdentifier lid = LanguageIdentifier.fromInternalModels();
+    String input = "merhaba dünya ve tüm gezegenler";
+    LanguageIdentifier.IdResult result = lid.identifyWithConfidence(input, -1);
+    Assert.assertEquals("tr", result.id);
+    Assert.assertTrue(result.score > 0 && result.score <= 1);
+    Assert.assertEquals("tr", lid.identify(input, 0.5));
+    Assert.assertEquals(LanguageIdentifier.UNKNOWN, lid.identify(input, 1.1));
+  }
+
+  @Test
+  public void streamingIdentifyTest() throws IOException {
+    LanguageIdentifier lid = LanguageIdentifier.fromInternalModels();
+    String text = "Bilgisayarlarda üç adet bellek türü bulunur. İşlemci içerisinde yer alan "
+        + "yazmaçlar, son derece hızlı ancak çok sınırlı hafızaya sahiptirler. ";
+    StreamingIdentifier identifier = lid.streamingIdentifier(0.999);
+    int consumed = 0;
+    for (int i = 0; i < 100; i++) {
+      consumed++;
+      if (identifier.add(text)) {
+        break;
+      }
+    }
+    Assert.assertTrue(identifier.isDecided());
+    Assert.assertTrue(consumed < 100);
+    Assert.assertEquals("tr", identifier.getLanguage());
+
+    // grams spanning chunk boundaries are scored same as the whole input.
+    String input = "hello world and all the planets what is this?";
+    StreamingIdentifier chunked = lid.streamingIdentifier(1.1);
+    for (String s : Arrays.asList("hello wo", "rld and all ", " the planets", " what is this?")) {
+      chunked.add(s);
+    }
+    LanguageIdentifier.IdResult expected = lid.identifyWithConfidence(input, -1);
+    Assert.assertFalse(chunked.isDecided());
+    Assert.assertEquals(expected.id, chunked.getResult().id);
+    Assert.assertEquals(expected.score, chunked.getResult().score, 0.0001);
+    Assert.assertEquals(LanguageIdentifier.UNKNOWN, chunked.getLanguage());
+  }
 }
@@ -21,6 +21,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
+import zemberek.core.collections.OffHeapStringUIntMap;
 import zemberek.core.io.SimpleTextReader;
 import zemberek.core.logging.Log;
 
@@ -540,23 +541,22 @@ public class LmVocabulary {
    */
   public static class Builder {
 
-    private Map<String, Integer> map = new HashMap<>();
-    private List<String> tokens = Lists.newArrayList();
+    // words are kept off-heap, values are the indexes. Insertion order is the index order.
+    private OffHeapStringUIntMap map = new OffHeapStringUIntMap();
+    // decoded words, null if words are added after it is created.
+    private List<String> words;
 
     public int add(String word) {
-      int index = indexOf(word);
-      if (index != -1) {
-        return index;
-      } else {
-        index = tokens.size();
-        map.put(word, index);
-        tokens.add(word);
-        return index;
+      int size = map.size();
+      int index = map.putIfAbsent(word, size);
+      if (index == size) {
+        words = null;
       }
+      return index;
     }
 
     int size() {
-      return tokens.size();
+      return map.size();
     }
 
     public Builder addAll(String... words) {
@@ -573,18 +573,38 @@ public class LmVocabulary {
       return this;
     }
 
+    /**
+     * Adds words of [counts] whose count is at least [minCount], in the insertion order of
+     * [counts].
+     */
+    public Builder addAll(OffHeapStringUIntMap counts, int minCount) {
+      counts.forEach((word, count) -> {
+        if (count >= minCount) {
+          add(word);
+        }
+      });
+      return this;
+    }
+
     /**
      * @return index of input. -1 if input does not exist.
      */
     public int indexOf(String key) {
-      return map.getOrDefault(key, -1);
+      return map.get(key);
     }
 
     /**
      * @return an unmodifiable copy of the words so far added.
      */
     public List<String> words() {
-      return Collections.unmodifiableList(tokens);
+      return Collections.unmodifiableList(decodedWords());
+    }
+
+    private List<String> decodedWords() {
+      if (words == null) {
+        words = map.getKeyList();
+      }
+      return words;
     }
 
     /**
@@ -593,7 +613,7 @@ public class LmVocabulary {
      */
     public Iterable<Integer> alphabeticallySortedWordsIds(Locale locale) {
       TreeMap<String, Integer> treeMap = new TreeMap<>(Collator.getInstance(locale));
-      treeMap.putAll(map);
+      map.forEach(treeMap::put);
       return treeMap.values();
     }
 
@@ -601,14 +621,16 @@ public class LmVocabulary {
      * @return indexes of words when the words are alphabetically sorted according to EN locale.
      */
     public Iterable<Integer> alphabeticallySortedWordsIds() {
-      return new TreeMap<>(map).values();
+      TreeMap<String, Integer> treeMap = new TreeMap<>();
+      map.forEach(treeMap::put);
+      return treeMap.values();
     }
 
     /**
      * @return Generated unmodifiable LmVocabulary
      */
     public LmVocabulary generate() {
-      return new LmVocabulary(tokens);
+      return new LmVocabulary(decodedWords());
     }
 
   }
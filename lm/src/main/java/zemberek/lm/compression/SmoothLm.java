@@ -166,9 +166,9 @@ public class SmoothLm extends BaseLanguageModel implements NgramLanguageModel {
         mphfs[i] = LargeNgramMphf.deserialize(dis);
       }
     } else {
-      mphfs = new MultiLevelMphf[order + 1];
+      mphfs = new Mphf[order + 1];
       for (int i = 2; i <= order; i++) {
-        mphfs[i] = MultiLevelMphf.deserialize(dis);
+        mphfs[i] = Mphf.deserialize(dis);
       }
     }
 
@@ -2,15 +2,19 @@ package zemberek.lm.compression;
 
 import com.google.common.io.Files;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.BitSet;
+import zemberek.core.hash.ByteGramProvider;
 import zemberek.core.hash.IntHashKeyProvider;
 import zemberek.core.hash.LargeNgramMphf;
 import zemberek.core.hash.Mphf;
 import zemberek.core.hash.MultiLevelMphf;
+import zemberek.core.hash.PartitionedMphf;
+import zemberek.core.io.IOUtil;
 import zemberek.core.logging.Log;
 import zemberek.core.quantization.QuantizerType;
 
@@ -69,7 +73,7 @@ public class UncompressedToSmoothLmConverter {
         if (type == SmoothLm.MphfType.LARGE) {
           mphf = LargeNgramMphf.generate(lm.getGramFile(i), chunkBits);
         } else {
-          mphf = MultiLevelMphf.generate(lm.getGramFile(i));
+          mphf = PartitionedMphf.generate(new ByteGramProvider(lm.getGramFile(i)));
         }
         Log.info("MPHF is generated for order %d with %d keys. Average bits per key: %.3f",
             i,
@@ -133,7 +137,9 @@ public class UncompressedToSmoothLmConverter {
         if (type == SmoothLm.MphfType.LARGE) {
           reorderData = reorderIndexes(block, lm, i, LargeNgramMphf.deserialize(phfFiles[i]));
         } else {
-          reorderData = reorderIndexes(block, lm, i, MultiLevelMphf.deserialize(phfFiles[i]));
+          try (DataInputStream dis = IOUtil.getDataInputStream(phfFiles[i].toPath())) {
+            reorderData = reorderIndexes(block, lm, i, Mphf.deserialize(dis));
+          }
         }
       }
       Log.info("Validating reordered index array for order: %d", i);
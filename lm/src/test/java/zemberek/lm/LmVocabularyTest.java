@@ -177,6 +177,15 @@ public class LmVocabularyTest {
 
     LmVocabulary vocab = builder.generate();
     Assert.assertEquals(7, vocab.size());
+
+    // words are decoded once, list is updated after new words are added.
+    List<String> builderWords = builder.words();
+    Assert.assertEquals(Lists.newArrayList("elma", "çilek", "karpuz", "armut"), builderWords);
+    builder.add("elma");
+    Assert.assertSame(builderWords.get(0), builder.words().get(0));
+    builder.add("mango");
+    Assert.assertEquals("mango", builder.words().get(4));
+    Assert.assertEquals(4, builder.indexOf("mango"));
   }
 
   @Test
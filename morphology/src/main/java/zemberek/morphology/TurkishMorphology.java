@@ -23,6 +23,8 @@ import zemberek.morphology.analysis.UnidentifiedTokenAnalyzer;
 import zemberek.morphology.analysis.WordAnalysis;
 import zemberek.morphology.generator.WordGenerator;
 import zemberek.morphology.lexicon.RootLexicon;
+import zemberek.morphology.metrics.PipelineListener;
+import zemberek.morphology.metrics.PipelineStage;
 import zemberek.morphology.morphotactics.InformalTurkishMorphotactics;
 import zemberek.morphology.morphotactics.TurkishMorphotactics;
 import zemberek.tokenization.TurkishTokenizer;
@@ -41,6 +43,8 @@ public class TurkishMorphology {
   private AnalysisCache cache;
   private TurkishMorphotactics morphotactics;
   private AmbiguityResolver ambiguityResolver;
+  // null if there is no listener, so that pipeline is not timed.
+  private final PipelineListener listener;
 
   private boolean useUnidentifiedTokenAnalyzer;
   private boolean useCache;
@@ -69,7 +73,8 @@ public class TurkishMorphology {
       } else {
         cache = builder.cache;
       }
-      cache.initializeStaticCache(this::analyzeWithoutCache);
+      // static cache is initialized in background, its analyses are not reported to listener.
+      cache.initializeStaticCache(word -> analyzeWithoutCache(word, null));
     }
     this.useCache = builder.useDynamicCache;
     this.useUnidentifiedTokenAnalyzer = builder.useUnidentifiedTokenAnalyzer;
@@ -86,6 +91,7 @@ public class TurkishMorphology {
     } else {
       this.ambiguityResolver = builder.ambiguityResolver;
     }
+    this.listener = builder.pipelineListener;
   }
 
   public RuleBasedAnalyzer getAnalyzer() {
@@ -112,15 +118,61 @@ public class TurkishMorphology {
   }
 
   public WordAnalysis analyze(String word) {
-    return useCache ? analyzeWithCache(word) : analyzeWithoutCache(word);
+    return useCache ? analyzeWithCache(word) : analyzeWithoutCache(word, listener);
   }
 
   public WordAnalysis analyze(Token token) {
-    return cache.getAnalysis(token, this::analyzeWithoutCache);
+    if (!useCache) {
+      return analyzeWithoutCache(token, listener);
+    }
+    if (listener == null) {
+      return cache.getAnalysis(token, t -> analyzeWithoutCache(t, null));
+    }
+    long start = System.nanoTime();
+    CacheMiss miss = new CacheMiss();
+    WordAnalysis result = cache.getAnalysis(token, t -> {
+      long missStart = System.nanoTime();
+      WordAnalysis analysis = analyzeWithoutCache(t, listener);
+      miss.nanos = System.nanoTime() - missStart;
+      return analysis;
+    });
+    miss.report(System.nanoTime() - start);
+    return result;
   }
 
   private WordAnalysis analyzeWithCache(String word) {
-    return cache.getAnalysis(word, this::analyzeWithoutCache);
+    if (listener == null) {
+      return cache.getAnalysis(word, w -> analyzeWithoutCache(w, null));
+    }
+    long start = System.nanoTime();
+    CacheMiss miss = new CacheMiss();
+    WordAnalysis result = cache.getAnalysis(word, w -> {
+      long missStart = System.nanoTime();
+      WordAnalysis analysis = analyzeWithoutCache(w, listener);
+      miss.nanos = System.nanoTime() - missStart;
+      return analysis;
+    });
+    miss.report(System.nanoTime() - start);
+    return result;
+  }
+
+  // Holds the analysis time of a word that is not found in cache. It is excluded from the cache
+  // lookup time.
+  private class CacheMiss {
+
+    long nanos = -1;
+
+    void report(long lookupNanos) {
+      listener.cacheLookup(nanos < 0);
+      listener.stageCompleted(PipelineStage.CACHE_LOOKUP, lookupNanos - Math.max(nanos, 0));
+    }
+  }
+
+  /**
+   * @return pipeline listener of this instance, or null if there is none.
+   */
+  public PipelineListener getPipelineListener() {
+    return listener;
   }
 
   public void invalidateCache() {
@@ -141,15 +193,16 @@ public class TurkishMorphology {
    * a parse with it.
    *
    * @param word input word.
+   * @param listener pipeline listener, may be null.
    * @return WordAnalysis list.
    */
-  private WordAnalysis analyzeWithoutCache(String word) {
+  private WordAnalysis analyzeWithoutCache(String word, PipelineListener listener) {
 
     List<Token> tokens = tokenizer.tokenize(word);
     if (tokens.size() != 1) {
       return new WordAnalysis(word, word, new ArrayList<>(0));
     }
-    return analyzeWithoutCache(tokens.get(0));
+    return analyzeWithoutCache(tokens.get(0), listener);
   }
 
   public static String normalizeForAnalysis(String word) {
@@ -163,7 +216,7 @@ public class TurkishMorphology {
     return TextUtil.normalizeApostrophes(noDot);
   }
 
-  private WordAnalysis analyzeWithoutCache(Token token) {
+  private WordAnalysis analyzeWithoutCache(Token token, PipelineListener listener) {
 
     String word = token.getText();
     String s = normalizeForAnalysis(word);
@@ -174,25 +227,43 @@ public class TurkishMorphology {
 
     List<SingleAnalysis> result;
 
+    long start = listener == null ? 0 : System.nanoTime();
     if (TurkishAlphabet.INSTANCE.containsApostrophe(s)) {
       s = TurkishAlphabet.INSTANCE.normalizeApostrophe(s);
-      result = analyzeWordsWithApostrophe(s);
+      result = analyzeWordsWithApostrophe(s, listener);
     } else {
-      result = analyzer.analyze(s);
+      result = analyzer.analyze(s, listener);
+    }
+    if (listener != null) {
+      listener.stageCompleted(PipelineStage.ANALYSIS, System.nanoTime() - start);
     }
 
     if (result.size() == 0 && useUnidentifiedTokenAnalyzer) {
+      start = listener == null ? 0 : System.nanoTime();
       result = unidentifiedTokenAnalyzer.analyze(token);
+      if (listener != null) {
+        listener.stageCompleted(
+            PipelineStage.UNIDENTIFIED_TOKEN_ANALYSIS, System.nanoTime() - start);
+      }
     }
 
     if (result.size() == 1 && result.get(0).getDictionaryItem().isUnknown()) {
       result = Collections.emptyList();
     }
 
-    return new WordAnalysis(word, s, result);
+    WordAnalysis analysis = new WordAnalysis(word, s, result);
+    if (listener != null) {
+      listener.wordAnalyzed(analysis);
+    }
+    return analysis;
   }
 
   public List<SingleAnalysis> analyzeWordsWithApostrophe(String word) {
+    return analyzeWordsWithApostrophe(word, listener);
+  }
+
+  private List<SingleAnalysis> analyzeWordsWithApostrophe(String word,
+      PipelineListener listener) {
 
     int index = word.indexOf('\'');
 
@@ -208,7 +279,7 @@ public class TurkishMorphology {
 
     String withoutQuote = word.replace("'", "");
 
-    List<SingleAnalysis> noQuotesParses = analyzer.analyze(withoutQuote);
+    List<SingleAnalysis> noQuotesParses = analyzer.analyze(withoutQuote, listener);
     if (noQuotesParses.size() == 0) {
       return Collections.emptyList();
     }
@@ -224,15 +295,27 @@ public class TurkishMorphology {
 
   public List<WordAnalysis> analyzeSentence(String sentence) {
     String normalized = TextUtil.normalizeQuotesHyphens(sentence);
-    List<WordAnalysis> result = new ArrayList<>();
-    for (Token token : tokenizer.tokenize(normalized)) {
+    long start = listener == null ? 0 : System.nanoTime();
+    List<Token> tokens = tokenizer.tokenize(normalized);
+    if (listener != null) {
+      listener.stageCompleted(PipelineStage.TOKENIZATION, System.nanoTime() - start);
+    }
+    List<WordAnalysis> result = new ArrayList<>(tokens.size());
+    for (Token token : tokens) {
       result.add(analyze(token));
     }
     return result;
   }
 
   public SentenceAnalysis disambiguate(String sentence, List<WordAnalysis> sentenceAnalysis) {
-    return ambiguityResolver.disambiguate(sentence, sentenceAnalysis);
+    if (listener == null) {
+      return ambiguityResolver.disambiguate(sentence, sentenceAnalysis);
+    }
+    listener.sentenceAnalyzed(sentenceAnalysis);
+    long start = System.nanoTime();
+    SentenceAnalysis result = ambiguityResolver.disambiguate(sentence, sentenceAnalysis);
+    listener.stageCompleted(PipelineStage.DISAMBIGUATION, System.nanoTime() - start);
+    return result;
   }
 
   /**
@@ -275,6 +358,7 @@ public class TurkishMorphology {
     TurkishTokenizer tokenizer = TurkishTokenizer.DEFAULT;
     boolean informalAnalysis = false;
     boolean ignoreDiacriticsInAnalysis = false;
+    PipelineListener pipelineListener;
 
     public Builder setLexicon(RootLexicon lexicon) {
       this.lexicon = lexicon;
@@ -321,6 +405,16 @@ public class TurkishMorphology {
       return this;
     }
 
+    /**
+     * Sets a listener that receives stage timings and statistics of the analysis pipeline, like
+     * {@link zemberek.morphology.metrics.PipelineMetrics}. Without a listener, pipeline is not
+     * timed.
+     */
+    public Builder setPipelineListener(PipelineListener pipelineListener) {
+      this.pipelineListener = pipelineListener;
+      return this;
+    }
+
     public TurkishMorphology build() {
       return new TurkishMorphology(this);
     }
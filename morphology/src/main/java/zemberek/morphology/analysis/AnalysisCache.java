@@ -8,6 +8,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import zemberek.core.logging.Log;
 import zemberek.core.text.TextIO;
@@ -25,9 +27,9 @@ public class AnalysisCache {
 
   private static final String MOST_USED_WORDS_FILE = "/tr/first-10K";
   private ConcurrentHashMap<String, WordAnalysis> staticCache;
-  private boolean staticCacheInitialized = false;
-  private long staticCacheHits;
-  private long staticCacheMiss;
+  private final AtomicBoolean staticCacheInitialized = new AtomicBoolean();
+  private final LongAdder staticCacheHits = new LongAdder();
+  private final LongAdder staticCacheMiss = new LongAdder();
   private Cache<String, WordAnalysis> dynamicCache;
   private boolean staticCacheDisabled;
   private boolean dynamicCacheDisabled;
@@ -98,8 +100,10 @@ public class AnalysisCache {
     }
   }
 
-  public synchronized void initializeStaticCache(Function<String, WordAnalysis> analysisProvider) {
-    if (staticCacheDisabled || staticCacheInitialized) {
+  public void initializeStaticCache(Function<String, WordAnalysis> analysisProvider) {
+    // only the first caller starts the loader thread. This does not hold a monitor, so callers on
+    // virtual threads are not pinned.
+    if (staticCacheDisabled || !staticCacheInitialized.compareAndSet(false, true)) {
       return;
     }
     new Thread(() -> {
@@ -119,20 +123,20 @@ public class AnalysisCache {
         e.printStackTrace();
       }
     }).start();
-    staticCacheInitialized = true;
   }
 
   public WordAnalysis getAnalysis(String input, Function<String, WordAnalysis> analysisProvider) {
 
     WordAnalysis analysis = staticCacheDisabled ? null : staticCache.get(input);
     if (analysis != null) {
-      staticCacheHits++;
+      staticCacheHits.increment();
       return analysis;
     }
-    staticCacheMiss++;
+    staticCacheMiss.increment();
     if (dynamicCacheDisabled) {
       return analysisProvider.apply(input);
     } else {
+      // a missing input is analyzed once, other threads that need it wait for the result.
       return dynamicCache.get(input, analysisProvider);
     }
   }
@@ -140,29 +144,25 @@ public class AnalysisCache {
   public WordAnalysis getAnalysis(Token input, Function<Token, WordAnalysis> analysisProvider) {
     WordAnalysis analysis = staticCacheDisabled ? null : staticCache.get(input.getText());
     if (analysis != null) {
-      staticCacheHits++;
+      staticCacheHits.increment();
       return analysis;
     }
-    staticCacheMiss++;
+    staticCacheMiss.increment();
     if (dynamicCacheDisabled) {
       return analysisProvider.apply(input);
     } else {
-      WordAnalysis a = dynamicCache.getIfPresent(input.getText());
-      if (a == null) {
-        a = analysisProvider.apply(input);
-        dynamicCache.put(input.getText(), a);
-      }
-      return a;
+      return dynamicCache.get(input.getText(), k -> analysisProvider.apply(input));
     }
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder();
-    long total = staticCacheHits + staticCacheMiss;
+    long hits = staticCacheHits.sum();
+    long total = hits + staticCacheMiss.sum();
     if (total > 0) {
       sb.append(String.format("Static cache(size: %d) Hit rate: %.3f%n",
-          staticCache.size(), 1.0 * (staticCacheHits) / (staticCacheHits + staticCacheMiss)));
+          staticCache.size(), 1.0 * hits / total));
     }
     sb.append(String.format("Dynamic cache hit rate: %.3f ", dynamicCache.stats().hitRate()));
     return sb.toString();
@@ -2,14 +2,18 @@ package zemberek.morphology.analysis;
 
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import zemberek.core.collections.IntValueMap;
+import zemberek.core.logging.Log;
 import zemberek.core.turkish.PhoneticAttribute;
 import zemberek.core.turkish.TurkishAlphabet;
 import zemberek.morphology.analysis.AnalysisDebugData.RejectedTransition;
 import zemberek.morphology.analysis.SurfaceTransition.SuffixTemplateToken;
 import zemberek.morphology.analysis.SurfaceTransition.TemplateTokenType;
+import zemberek.morphology.lexicon.DictionaryItem;
 import zemberek.morphology.lexicon.RootLexicon;
+import zemberek.morphology.metrics.PipelineListener;
 import zemberek.morphology.morphotactics.AttributeSet;
 import zemberek.morphology.morphotactics.CombinedCondition;
 import zemberek.morphology.morphotactics.Condition;
@@ -92,11 +96,57 @@ public class RuleBasedAnalyzer {
   }
 
   public List<SingleAnalysis> analyze(String input) {
+    return analyze(input, null);
+  }
+
+  /**
+   * Same as {@link #analyze(String)}. If [listener] is not null, amount of generated search paths
+   * is reported to it.
+   */
+  public List<SingleAnalysis> analyze(String input, PipelineListener listener) {
+    // get stem candidates.
+    List<StemTransition> candidates = stemTransitions.getPrefixMatches(input, asciiTolerant);
+    return analyze(input, candidates, listener);
+  }
+
+  /**
+   * Analyzes [input] as if [item] is in the lexicon. Stem transitions of the item are only used
+   * for this call, shared stem transitions are not modified. So this can be used for analyzing
+   * with runtime generated items concurrently.
+   */
+  public List<SingleAnalysis> analyzeWithItem(String input, DictionaryItem item,
+      PipelineListener listener) {
+    List<StemTransition> candidates = stemTransitions.getPrefixMatches(input, asciiTolerant);
+    List<StemTransition> itemTransitions;
+    try {
+      itemTransitions = stemTransitions.generate(item);
+    } catch (Exception e) {
+      Log.warn("Cannot generate stem transition for %s with reason %s", item, e.getMessage());
+      itemTransitions = Collections.emptyList();
+    }
+    for (StemTransition transition : itemTransitions) {
+      String surface = transition.surface;
+      boolean matches = asciiTolerant ?
+          TurkishAlphabet.INSTANCE.startsWithIgnoreDiacritics(input, surface) :
+          input.startsWith(surface);
+      if (!matches) {
+        continue;
+      }
+      // keep the order of candidates as if item was added to stem transitions.
+      int i = candidates.size();
+      while (i > 0 && candidates.get(i - 1).surface.length() > surface.length()) {
+        i--;
+      }
+      candidates.add(i, transition);
+    }
+    return analyze(input, candidates, listener);
+  }
+
+  private List<SingleAnalysis> analyze(String input, List<StemTransition> candidates,
+      PipelineListener listener) {
     if (debugMode) {
       debugData = new AnalysisDebugData();
     }
-    // get stem candidates.
-    List<StemTransition> candidates = stemTransitions.getPrefixMatches(input, asciiTolerant);
 
     if (debugMode) {
       debugData.input = input;
@@ -112,7 +162,8 @@ public class RuleBasedAnalyzer {
     }
 
     // search graph.
-    List<SearchPath> resultPaths = search(paths);
+    int[] pathCount = listener == null ? null : new int[]{paths.size()};
+    List<SearchPath> resultPaths = search(paths, pathCount);
 
     // generate results from successful paths.
     List<SingleAnalysis> result = new ArrayList<>(resultPaths.size());
@@ -123,11 +174,15 @@ public class RuleBasedAnalyzer {
         debugData.results.add(analysis);
       }
     }
+    if (listener != null) {
+      listener.searchCompleted(input, pathCount[0], result.size());
+    }
     return result;
   }
 
-  // searches through morphotactics graph.
-  private List<SearchPath> search(List<SearchPath> currentPaths) {
+  // searches through morphotactics graph. If [pathCount] is not null, amount of new paths is added
+  // to its first item.
+  private List<SearchPath> search(List<SearchPath> currentPaths, int[] pathCount) {
 
     if (currentPaths.size() > 30) {
       currentPaths = pruneCyclicPaths(currentPaths);
@@ -160,6 +215,9 @@ public class RuleBasedAnalyzer {
         // Creates new paths with outgoing and matching transitions.
         List<SearchPath> newPaths = advance(path);
         allNewPaths.addAll(newPaths);
+        if (pathCount != null) {
+          pathCount[0] += newPaths.size();
+        }
 
         if (debugMode) {
           if (newPaths.isEmpty()) {
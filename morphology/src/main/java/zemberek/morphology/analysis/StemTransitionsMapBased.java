@@ -24,7 +24,7 @@ public class StemTransitionsMapBased extends StemTransitionsBase implements Stem
 
   private ArrayListMultimap<String, StemTransition> multiStems =
       ArrayListMultimap.create(1000, 2);
-  private HashMultimap<String, String> asciiKeys = null;
+  private volatile HashMultimap<String, String> asciiKeys = null;
 
   // contains a map that holds dictionary items that has
   // multiple or different than item.root stem surface forms.
@@ -46,8 +46,12 @@ public class StemTransitionsMapBased extends StemTransitionsBase implements Stem
   // and other is not.
   private void generateAsciiTolerantMap() {
     lock.writeLock().lock();
-    asciiKeys = HashMultimap.create(1000, 2);
     try {
+      if (asciiKeys != null) {
+        return;
+      }
+      // map is published after it is filled, so readers do not see a partial map.
+      HashMultimap<String, String> asciiKeys = HashMultimap.create(1000, 2);
 
       // generate MultiMap for ascii tolerant keys
       for (String s : singleStems.keySet()) {
@@ -64,22 +68,29 @@ public class StemTransitionsMapBased extends StemTransitionsBase implements Stem
           asciiKeys.put(ascii, s);
         }
       }
+      this.asciiKeys = asciiKeys;
     } finally {
       lock.writeLock().unlock();
     }
   }
 
-  public synchronized Set<StemTransition> getTransitions() {
-    HashSet<StemTransition> result = new HashSet<>(singleStems.values());
-    result.addAll(multiStems.values());
-    return result;
+  public Set<StemTransition> getTransitions() {
+    lock.readLock().lock();
+    try {
+      HashSet<StemTransition> result = new HashSet<>(singleStems.values());
+      result.addAll(multiStems.values());
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
   }
 
   public RootLexicon getLexicon() {
     return lexicon;
   }
 
-  private synchronized void addStemTransition(StemTransition stemTransition) {
+  // called with write lock.
+  private void addStemTransition(StemTransition stemTransition) {
     final String surfaceForm = stemTransition.surface;
     if (multiStems.containsKey(surfaceForm)) {
       multiStems.put(surfaceForm, stemTransition);
@@ -92,7 +103,8 @@ public class StemTransitionsMapBased extends StemTransitionsBase implements Stem
     }
   }
 
-  private synchronized void removeStemNode(StemTransition stemTransition) {
+  // called with write lock.
+  private void removeStemNode(StemTransition stemTransition) {
     final String surfaceForm = stemTransition.surface;
     if (multiStems.containsKey(surfaceForm)) {
       multiStems.remove(surfaceForm, stemTransition);
@@ -26,13 +26,18 @@ import zemberek.tokenization.Token;
 //TODO: For unknown pronouns, do not analyze as regular nouns if apostrophe is not in the
 //        correct place. Such as [obama'ymış] should not have "oba" root solution.
 
+/**
+ * Analyzes tokens that cannot be analyzed with the lexicon, like proper nouns, numbers and dates.
+ * Runtime dictionary items are not added to the shared stem transitions, so instances are thread
+ * safe.
+ */
 public class UnidentifiedTokenAnalyzer {
 
   public static final TurkishAlphabet ALPHABET = TurkishAlphabet.INSTANCE;
   private static Map<String, String> ordinalMap = TurkishNumbers.getOrdinalMap();
 
-  private RuleBasedAnalyzer analyzer;
-  private RootLexicon lexicon;
+  private final RuleBasedAnalyzer analyzer;
+  private final RootLexicon lexicon;
   private TurkishAlphabet alphabet = TurkishAlphabet.INSTANCE;
   private TurkishNumeralEndingMachine numeralEndingMachine = new TurkishNumeralEndingMachine();
 
@@ -44,7 +49,7 @@ public class UnidentifiedTokenAnalyzer {
   public static final Pattern nonLettersPattern =
       Pattern.compile("[^" + TurkishAlphabet.INSTANCE.getAllLetters() + "]");
 
-  public synchronized List<SingleAnalysis> analyze(Token token) {
+  public List<SingleAnalysis> analyze(Token token) {
     SecondaryPos sPos = guessSecondaryPosType(token);
     String word = token.getText();
 
@@ -68,7 +73,6 @@ public class UnidentifiedTokenAnalyzer {
       return tryNumeral(token);
     }
 
-    //TODO: consider returning analysis results without interfering with analyzer.
     String normalized = nonLettersPattern.matcher(word).replaceAll("");
     DictionaryItem item = new DictionaryItem(word, word, normalized, PrimaryPos.Noun, sPos);
 
@@ -79,16 +83,7 @@ public class UnidentifiedTokenAnalyzer {
       return analyzeWord(word, sPos);
     }
 
-    boolean itemDoesNotExist = !lexicon.containsItem(item);
-    if (itemDoesNotExist) {
-      item.attributes.add(RootAttribute.Runtime);
-      analyzer.getStemTransitions().addDictionaryItem(item);
-    }
-    List<SingleAnalysis> results = analyzer.analyze(word);
-    if (itemDoesNotExist) {
-      analyzer.getStemTransitions().removeDictionaryItem(item);
-    }
-    return results;
+    return analyzeWithItem(word, item);
   }
 
   private SecondaryPos guessSecondaryPosType(Token token) {
@@ -118,7 +113,7 @@ public class UnidentifiedTokenAnalyzer {
   }
 
 
-  public synchronized List<SingleAnalysis> analyzeWord(String word, SecondaryPos secondaryPos) {
+  public List<SingleAnalysis> analyzeWord(String word, SecondaryPos secondaryPos) {
     int index = word.indexOf('\'');
     if (index >= 0) {
       return tryWordWithApostrophe(word, secondaryPos);
@@ -161,17 +156,7 @@ public class UnidentifiedTokenAnalyzer {
       return result;
     }
 
-    boolean itemDoesNotExist = !lexicon.containsItem(item);
-
-    if (itemDoesNotExist) {
-      item.attributes.add(RootAttribute.Runtime);
-      analyzer.getStemTransitions().addDictionaryItem(item);
-    }
-    List<SingleAnalysis> results = analyzer.analyze(normalized);
-    if (itemDoesNotExist) {
-      analyzer.getStemTransitions().removeDictionaryItem(item);
-    }
-    return results;
+    return analyzeWithItem(normalized, item);
   }
 
   private List<SingleAnalysis> tryWordWithApostrophe(String word, SecondaryPos secondaryPos) {
@@ -209,18 +194,9 @@ public class UnidentifiedTokenAnalyzer {
       return result;
     }
 
-    boolean itemDoesNotExist = !lexicon.containsItem(item);
-    if (itemDoesNotExist) {
-      item.attributes.add(RootAttribute.Runtime);
-      analyzer.getStemTransitions().addDictionaryItem(item);
-    }
     String toParse = stemNormalized + endingNormalized;
 
-    List<SingleAnalysis> noQuotesParses = analyzer.analyze(toParse);
-
-    if (itemDoesNotExist) {
-      analyzer.getStemTransitions().removeDictionaryItem(item);
-    }
+    List<SingleAnalysis> noQuotesParses = analyzeWithItem(toParse, item);
 
     List<SingleAnalysis> analyses = noQuotesParses.stream()
         .filter(noQuotesParse -> noQuotesParse.getStem().equals(stemNormalized))
@@ -229,6 +205,16 @@ public class UnidentifiedTokenAnalyzer {
     return analyses;
   }
 
+  // If [item] is not in the lexicon, it is marked as a runtime item and only used for this
+  // analysis. Shared stem transitions are not modified, so this does not need locking.
+  private List<SingleAnalysis> analyzeWithItem(String input, DictionaryItem item) {
+    if (lexicon.containsItem(item)) {
+      return analyzer.analyze(input);
+    }
+    item.attributes.add(RootAttribute.Runtime);
+    return analyzer.analyzeWithItem(input, item, null);
+  }
+
   PronunciationGuesser guesser = new PronunciationGuesser();
 
   private String guessPronunciation(String stem) {
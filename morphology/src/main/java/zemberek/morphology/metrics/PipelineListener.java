@@ -0,0 +1,44 @@
+package zemberek.morphology.metrics;
+
+import java.util.List;
+import zemberek.morphology.analysis.WordAnalysis;
+
+/**
+ * Receives events from the analysis pipeline of {@link zemberek.morphology.TurkishMorphology}.
+ * Methods are called from the analyzing threads, so implementations should be thread safe and
+ * cheap. {@link PipelineMetrics} is an implementation that collects counters and histograms.
+ */
+public interface PipelineListener {
+
+  /**
+   * Called when a [stage] is completed in [nanos] nanoseconds.
+   */
+  default void stageCompleted(PipelineStage stage, long nanos) {
+  }
+
+  /**
+   * Called after an analysis cache lookup. [hit] is false if the word was not in cache.
+   */
+  default void cacheLookup(boolean hit) {
+  }
+
+  /**
+   * Called after rule based analyzer searches the morphotactics graph for [input].
+   * [searchPathCount] is the amount of search paths generated and [analysisCount] is the amount of
+   * results.
+   */
+  default void searchCompleted(String input, int searchPathCount, int analysisCount) {
+  }
+
+  /**
+   * Called after a word is analyzed without cache.
+   */
+  default void wordAnalyzed(WordAnalysis analysis) {
+  }
+
+  /**
+   * Called before disambiguation with the analyses of the words of a sentence.
+   */
+  default void sentenceAnalyzed(List<WordAnalysis> analyses) {
+  }
+}
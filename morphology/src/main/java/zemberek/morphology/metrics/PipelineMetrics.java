@@ -0,0 +1,193 @@
+package zemberek.morphology.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import zemberek.core.concurrency.LatencyHistogram;
+import zemberek.morphology.analysis.WordAnalysis;
+
+/**
+ * A {@link PipelineListener} that collects latency histograms of pipeline stages, cache hit
+ * counts, search path counts of analyzed words and ambiguity statistics of sentences. Recording is
+ * lock free and does not allocate, so it can be kept enabled in production. Use {@link
+ * #snapshot()} for reading the values.
+ */
+public class PipelineMetrics implements PipelineListener {
+
+  private final LatencyHistogram[] stageLatencies =
+      new LatencyHistogram[PipelineStage.values().length];
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
+  private final LatencyHistogram searchPathCounts = new LatencyHistogram();
+  private final LongAdder analyzedWords = new LongAdder();
+  private final LongAdder unanalyzedWords = new LongAdder();
+  private final LongAdder sentenceWords = new LongAdder();
+  private final LongAdder ambiguousWords = new LongAdder();
+  private final LongAdder sentenceWordAnalyses = new LongAdder();
+
+  public PipelineMetrics() {
+    for (int i = 0; i < stageLatencies.length; i++) {
+      stageLatencies[i] = new LatencyHistogram();
+    }
+  }
+
+  @Override
+  public void stageCompleted(PipelineStage stage, long nanos) {
+    stageLatencies[stage.ordinal()].record(nanos);
+  }
+
+  @Override
+  public void cacheLookup(boolean hit) {
+    if (hit) {
+      cacheHits.increment();
+    } else {
+      cacheMisses.increment();
+    }
+  }
+
+  @Override
+  public void searchCompleted(String input, int searchPathCount, int analysisCount) {
+    searchPathCounts.record(searchPathCount);
+  }
+
+  @Override
+  public void wordAnalyzed(WordAnalysis analysis) {
+    analyzedWords.increment();
+    if (analysis.analysisCount() == 0) {
+      unanalyzedWords.increment();
+    }
+  }
+
+  @Override
+  public void sentenceAnalyzed(List<WordAnalysis> analyses) {
+    int ambiguous = 0;
+    int total = 0;
+    for (WordAnalysis analysis : analyses) {
+      int count = analysis.analysisCount();
+      total += count;
+      if (count > 1) {
+        ambiguous++;
+      }
+    }
+    sentenceWords.add(analyses.size());
+    ambiguousWords.add(ambiguous);
+    sentenceWordAnalyses.add(total);
+  }
+
+  public Snapshot snapshot() {
+    return new Snapshot(this);
+  }
+
+  /**
+   * Returns all metrics as human readable text.
+   */
+  public String format() {
+    return snapshot().toString();
+  }
+
+  /**
+   * Immutable view of a latency histogram. Durations are in milliseconds.
+   */
+  public static class StageSnapshot {
+
+    public final long count;
+    public final double mean;
+    public final double p50;
+    public final double p90;
+    public final double p99;
+    public final double p999;
+    public final double max;
+
+    StageSnapshot(LatencyHistogram h) {
+      this.count = h.count();
+      this.mean = h.mean() / 1e6;
+      this.p50 = h.percentile(50) / 1e6;
+      this.p90 = h.percentile(90) / 1e6;
+      this.p99 = h.percentile(99) / 1e6;
+      this.p999 = h.percentile(99.9) / 1e6;
+      this.max = h.max() / 1e6;
+    }
+
+    @Override
+    public String toString() {
+      return String.format(Locale.ENGLISH,
+          "count=%d mean=%.4f p50=%.4f p90=%.4f p99=%.4f p99.9=%.4f max=%.4f",
+          count, mean, p50, p90, p99, p999, max);
+    }
+  }
+
+  public static class Snapshot {
+
+    // Stages that are completed at least once.
+    public final Map<PipelineStage, StageSnapshot> stages;
+    public final long cacheHits;
+    public final long cacheMisses;
+    // Words analyzed without cache, and the ones without any analysis.
+    public final long analyzedWords;
+    public final long unanalyzedWords;
+    // Search paths generated by the rule based analyzer per word.
+    public final double meanSearchPaths;
+    public final long p99SearchPaths;
+    public final long maxSearchPaths;
+    // Words of the analyzed sentences, the ones with more than one analysis and total analysis
+    // count of them.
+    public final long sentenceWords;
+    public final long ambiguousWords;
+    public final long sentenceWordAnalyses;
+
+    Snapshot(PipelineMetrics metrics) {
+      Map<PipelineStage, StageSnapshot> stages = new EnumMap<>(PipelineStage.class);
+      for (PipelineStage stage : PipelineStage.values()) {
+        LatencyHistogram h = metrics.stageLatencies[stage.ordinal()];
+        if (h.count() > 0) {
+          stages.put(stage, new StageSnapshot(h));
+        }
+      }
+      this.stages = Collections.unmodifiableMap(stages);
+      this.cacheHits = metrics.cacheHits.sum();
+      this.cacheMisses = metrics.cacheMisses.sum();
+      this.analyzedWords = metrics.analyzedWords.sum();
+      this.unanalyzedWords = metrics.unanalyzedWords.sum();
+      this.meanSearchPaths = metrics.searchPathCounts.mean();
+      this.p99SearchPaths = metrics.searchPathCounts.percentile(99);
+      this.maxSearchPaths = metrics.searchPathCounts.max();
+      this.sentenceWords = metrics.sentenceWords.sum();
+      this.ambiguousWords = metrics.ambiguousWords.sum();
+      this.sentenceWordAnalyses = metrics.sentenceWordAnalyses.sum();
+    }
+
+    public double cacheHitRatio() {
+      long total = cacheHits + cacheMisses;
+      return total == 0 ? 0 : (double) cacheHits / total;
+    }
+
+    public double ambiguousWordRatio() {
+      return sentenceWords == 0 ? 0 : (double) ambiguousWords / sentenceWords;
+    }
+
+    public double analysesPerWord() {
+      return sentenceWords == 0 ? 0 : (double) sentenceWordAnalyses / sentenceWords;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder();
+      sb.append("Stages latency(ms):\n");
+      for (Map.Entry<PipelineStage, StageSnapshot> e : stages.entrySet()) {
+        sb.append("  ").append(e.getKey()).append(' ').append(e.getValue()).append('\n');
+      }
+      sb.append(String.format(Locale.ENGLISH,
+          "Cache: hits=%d misses=%d hitRatio=%.3f%n", cacheHits, cacheMisses, cacheHitRatio()));
+      sb.append(String.format(Locale.ENGLISH,
+          "Words: analyzed=%d unanalyzed=%d searchPaths(mean=%.2f p99=%d max=%d)%n",
+          analyzedWords, unanalyzedWords, meanSearchPaths, p99SearchPaths, maxSearchPaths));
+      sb.append(String.format(Locale.ENGLISH,
+          "Ambiguity: words=%d ambiguous=%d ambiguousRatio=%.3f analysesPerWord=%.2f%n",
+          sentenceWords, ambiguousWords, ambiguousWordRatio(), analysesPerWord()));
+      return sb.toString();
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package zemberek.morphology.metrics;
+
+/**
+ * Timed stages of {@link zemberek.morphology.TurkishMorphology} analysis.
+ */
+public enum PipelineStage {
+  // tokenization of a sentence.
+  TOKENIZATION,
+  // analysis cache lookup of a word, excluding the analysis of the word if it is not cached.
+  CACHE_LOOKUP,
+  // rule based analysis of a word.
+  ANALYSIS,
+  // analysis of a word that rule based analyzer cannot analyze, like numbers and proper nouns.
+  UNIDENTIFIED_TOKEN_ANALYSIS,
+  // disambiguation of a sentence.
+  DISAMBIGUATION
+}
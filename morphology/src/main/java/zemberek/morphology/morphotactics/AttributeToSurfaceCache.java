@@ -1,35 +1,39 @@
 package zemberek.morphology.morphotactics;
 
+import java.util.concurrent.atomic.AtomicReference;
 import zemberek.core.collections.IntMap;
 
 /**
  * A cache for set of morphemic attributes to surface forms.
  *
- * For thread safety, writes to map are synchronized, when map needs expanding
- * writer thread creates the expanded version and replaces the map. The map
- * reference is volatile so readers always see a consistent albeit possibly
- * stale version of the map.
- *
- * This is also knows as cheap read-write lock trick (see item #5 in the link)
- * https://www.ibm.com/developerworks/java/library/j-jtp06197/index.html
+ * Cache is copy-on-write. A writer thread copies the map (expanding it if necessary), adds the
+ * surface to the copy and replaces the map with compare-and-set, retrying if another writer
+ * replaced it in between. Published maps are never modified, so readers always see a consistent
+ * albeit possibly stale version of the map without locking. Amount of attribute sets for a
+ * transition is small, so copying is cheap and stops after the cache is warmed up.
  */
- class AttributeToSurfaceCache {
-
-  // volatile guarantees atomic reference copy.
-  private volatile IntMap<String> attributeMap;
+class AttributeToSurfaceCache {
 
-  AttributeToSurfaceCache() {
-    attributeMap = IntMap.createManaged();
-  }
+  private final AtomicReference<IntMap<String>> attributeMap =
+      new AtomicReference<>(IntMap.createManaged());
 
-  synchronized void addSurface(int attributes, String surface) {
-    while (!attributeMap.put(attributes, surface)) {
-      attributeMap = attributeMap.expand();
+  void addSurface(int attributes, String surface) {
+    while (true) {
+      IntMap<String> current = attributeMap.get();
+      if (surface.equals(current.get(attributes))) {
+        return;
+      }
+      IntMap<String> updated = current.copy();
+      while (!updated.put(attributes, surface)) {
+        updated = updated.expand();
+      }
+      if (attributeMap.compareAndSet(current, updated)) {
+        return;
+      }
     }
   }
 
   String getSurface(int attributes) {
-    IntMap<String> map = attributeMap;
-    return map.get(attributes);
+    return attributeMap.get().get(attributes);
   }
 }
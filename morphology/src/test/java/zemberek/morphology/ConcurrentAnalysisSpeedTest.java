@@ -0,0 +1,108 @@
+package zemberek.morphology;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import zemberek.core.logging.Log;
+
+/**
+ * Checks that concurrent analysis scales with the processor count. It is a speed test, so it only
+ * runs if `zemberek.speedTests` system property is true. On Java 21 or later, analyses run on
+ * virtual threads, and if JVM is started with `-Djdk.tracePinnedThreads=short`, the test also
+ * fails if a virtual thread is pinned to its carrier by a monitor. For example:
+ * <pre>
+ * mvn test -pl morphology -am -Dtest=ConcurrentAnalysisSpeedTest \
+ *   -Dsurefire.failIfNoSpecifiedTests=false \
+ *   -DargLine="-Dzemberek.speedTests=true -Djdk.tracePinnedThreads=short"
+ * </pre>
+ */
+public class ConcurrentAnalysisSpeedTest {
+
+  private static final int TASK_COUNT = 200_000;
+
+  // Minimum speedup per processor. Concurrent analysis does not share locks, so with N processors
+  // it should be at least 0.6 * N times faster than a single thread.
+  private static final double MIN_EFFICIENCY = 0.6;
+
+  private static final int ROUNDS = 3;
+
+  @Test
+  public void concurrentAnalysisScaling() throws Exception {
+    Assume.assumeTrue("Speed tests are enabled with zemberek.speedTests property.",
+        Boolean.getBoolean("zemberek.speedTests"));
+    TurkishMorphology morphology = TurkishMorphology.builder()
+        .setLexicon(ConcurrentAnalysisTest.LEXICON)
+        .disableCache()
+        .build();
+    String[] inputs = ConcurrentAnalysisTest.INPUTS;
+    String[] expected = new String[inputs.length];
+    for (int i = 0; i < inputs.length; i++) {
+      expected[i] = ConcurrentAnalysisTest.analyze(morphology, inputs[i]);
+    }
+    int cores = Runtime.getRuntime().availableProcessors();
+    boolean virtual = ConcurrentAnalysisTest.virtualThreadExecutor() != null;
+    boolean tracePinned = virtual && System.getProperty("jdk.tracePinnedThreads") != null;
+
+    // pinned virtual threads are reported to standard output.
+    PrintStream out = System.out;
+    ByteArrayOutputStream pinningTrace = new ByteArrayOutputStream();
+    if (tracePinned) {
+      System.setOut(new PrintStream(pinningTrace, true, "UTF-8"));
+    }
+    // best of rounds are used, first round also warms up.
+    long sequentialNanos = Long.MAX_VALUE;
+    long concurrentNanos = Long.MAX_VALUE;
+    try {
+      for (int round = 0; round < ROUNDS; round++) {
+        long start = System.nanoTime();
+        for (int i = 0; i < TASK_COUNT; i++) {
+          ConcurrentAnalysisTest.analyze(morphology, inputs[i % inputs.length]);
+        }
+        sequentialNanos = Math.min(sequentialNanos, System.nanoTime() - start);
+
+        ExecutorService executor = virtual ?
+            ConcurrentAnalysisTest.virtualThreadExecutor() :
+            Executors.newFixedThreadPool(cores);
+        start = System.nanoTime();
+        List<Future<String>> futures = new ArrayList<>(TASK_COUNT);
+        try {
+          for (int i = 0; i < TASK_COUNT; i++) {
+            String input = inputs[i % inputs.length];
+            futures.add(executor.submit(() -> ConcurrentAnalysisTest.analyze(morphology, input)));
+          }
+          for (int i = 0; i < TASK_COUNT; i++) {
+            Assert.assertEquals(expected[i % inputs.length],
+                futures.get(i).get(5, TimeUnit.MINUTES));
+          }
+        } finally {
+          executor.shutdown();
+        }
+        concurrentNanos = Math.min(concurrentNanos, System.nanoTime() - start);
+      }
+    } finally {
+      System.setOut(out);
+    }
+
+    double speedup = (double) sequentialNanos / concurrentNanos;
+    Log.info("%d analyses. Sequential = %d ms, %s = %d ms, speedup = %.2f with %d cores.",
+        TASK_COUNT, sequentialNanos / 1_000_000, virtual ? "virtual threads" : "thread pool",
+        concurrentNanos / 1_000_000, speedup, cores);
+    if (tracePinned) {
+      String trace = new String(pinningTrace.toByteArray(), StandardCharsets.UTF_8);
+      Assert.assertFalse("Virtual threads are pinned:\n" + trace, trace.contains("<== monitors"));
+    } else if (virtual) {
+      Log.warn("Pinning is not checked. Use -Djdk.tracePinnedThreads=short for checking it.");
+    }
+    Assert.assertTrue(String.format("Speedup is %.2f, expected at least %.2f with %d cores.",
+        speedup, MIN_EFFICIENCY * cores, cores), speedup >= MIN_EFFICIENCY * cores);
+  }
+}
@@ -0,0 +1,105 @@
+package zemberek.morphology;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.morphology.analysis.AnalysisCache;
+import zemberek.morphology.analysis.WordAnalysis;
+
+public class ConcurrentAnalysisTest {
+
+  static final String[] LEXICON = {
+      "elma", "kitap", "okumak", "gelmek", "Ankara [P:Noun,Prop]",
+      "dört [P:Num,Card;A:Voicing]", "üç [P:Num,Card]", "dördüncü [P:Num,Ord]"};
+
+  // regular words, proper nouns not in the lexicon, abbreviations, numbers and roman numerals.
+  static final String[] INPUTS = {
+      "elmalar", "kitabı", "okuyorum", "geldi", "Ankara'ya", "Obama'ya", "Obama'nın", "Blah'dan",
+      "IBM'e", "TBMM'de", "Xyz'ye", "4'ü", "3'te", "4.'sü", "IV'ü", "IV.'sü", "kitap'ta",
+      "Ankara'dan Obama'ya 4 kitap geldi", "IBM'e ve TBMM'ye üç elma"};
+
+  private static final int TASK_COUNT = 10_000;
+
+  // a virtual thread per task executor if running on Java 21 or later, otherwise null.
+  static ExecutorService virtualThreadExecutor() {
+    try {
+      Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) method.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  // a virtual thread per task executor if available, otherwise a fixed thread pool.
+  private static ExecutorService executor() {
+    ExecutorService executor = virtualThreadExecutor();
+    return executor == null ? Executors.newFixedThreadPool(32) : executor;
+  }
+
+  static String analyze(TurkishMorphology morphology, String input) {
+    List<String> result = new ArrayList<>();
+    for (WordAnalysis analysis : morphology.analyzeSentence(input)) {
+      result.add(analysis.getInput() + " " + analysis.getAnalysisResults());
+    }
+    return String.join("\n", result);
+  }
+
+  private static void checkConcurrentAnalysis(TurkishMorphology morphology) throws Exception {
+    // results of concurrent runs must be same as sequential results.
+    String[] expected = new String[INPUTS.length];
+    for (int i = 0; i < INPUTS.length; i++) {
+      expected[i] = analyze(morphology, INPUTS[i]);
+    }
+    morphology.invalidateCache();
+    int transitionCount = morphology.getMorphotactics().getStemTransitions()
+        .getTransitions().size();
+
+    ExecutorService executor = executor();
+    List<Future<String>> futures = new ArrayList<>(TASK_COUNT);
+    try {
+      for (int i = 0; i < TASK_COUNT; i++) {
+        String input = INPUTS[i % INPUTS.length];
+        futures.add(executor.submit(() -> analyze(morphology, input)));
+      }
+      for (int i = 0; i < TASK_COUNT; i++) {
+        Assert.assertEquals(expected[i % INPUTS.length], futures.get(i).get(1, TimeUnit.MINUTES));
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // runtime items for unidentified tokens are not added to shared stem transitions.
+    Assert.assertEquals(transitionCount,
+        morphology.getMorphotactics().getStemTransitions().getTransitions().size());
+  }
+
+  @Test
+  public void concurrentAnalysisWithoutCache() throws Exception {
+    checkConcurrentAnalysis(TurkishMorphology.builder()
+        .setLexicon(LEXICON)
+        .disableCache()
+        .build());
+  }
+
+  @Test
+  public void concurrentAnalysisWithCache() throws Exception {
+    checkConcurrentAnalysis(TurkishMorphology.builder()
+        .setLexicon(LEXICON)
+        .setCache(AnalysisCache.builder().disableStaticCache().build())
+        .build());
+  }
+
+  @Test
+  public void concurrentAsciiTolerantAnalysis() throws Exception {
+    checkConcurrentAnalysis(TurkishMorphology.builder()
+        .setLexicon(LEXICON)
+        .ignoreDiacriticsInAnalysis()
+        .disableCache()
+        .build());
+  }
+}
@@ -0,0 +1,50 @@
+package zemberek.morphology.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.morphology.TurkishMorphology;
+import zemberek.morphology.analysis.AnalysisCache;
+import zemberek.morphology.metrics.PipelineMetrics.Snapshot;
+
+public class PipelineMetricsTest {
+
+  @Test
+  public void pipelineTest() {
+    PipelineMetrics metrics = new PipelineMetrics();
+    TurkishMorphology morphology = TurkishMorphology.builder()
+        .setLexicon("elma", "armut", "yüz [P:Num]", "yüz [P:Verb]")
+        .setCache(AnalysisCache.builder().disableStaticCache().build())
+        .setPipelineListener(metrics)
+        .build();
+    Assert.assertSame(metrics, morphology.getPipelineListener());
+
+    morphology.analyzeAndDisambiguate("elmalar yüz armut xyzq");
+    morphology.analyzeAndDisambiguate("elmalar yüz");
+
+    Snapshot snapshot = metrics.snapshot();
+    Assert.assertEquals(2, snapshot.stages.get(PipelineStage.TOKENIZATION).count);
+    Assert.assertEquals(2, snapshot.stages.get(PipelineStage.DISAMBIGUATION).count);
+    Assert.assertEquals(6, snapshot.stages.get(PipelineStage.CACHE_LOOKUP).count);
+    Assert.assertEquals(4, snapshot.stages.get(PipelineStage.ANALYSIS).count);
+    Assert.assertEquals(1, snapshot.stages.get(PipelineStage.UNIDENTIFIED_TOKEN_ANALYSIS).count);
+    Assert.assertEquals(2, snapshot.cacheHits);
+    Assert.assertEquals(4, snapshot.cacheMisses);
+    Assert.assertEquals(4, snapshot.analyzedWords);
+    Assert.assertTrue(snapshot.meanSearchPaths > 0);
+    Assert.assertEquals(6, snapshot.sentenceWords);
+    // yüz is ambiguous.
+    Assert.assertTrue(snapshot.ambiguousWords >= 2);
+    Assert.assertTrue(snapshot.analysesPerWord() > 1);
+    Assert.assertTrue(snapshot.toString().contains("DISAMBIGUATION"));
+  }
+
+  @Test
+  public void noListenerTest() {
+    TurkishMorphology morphology = TurkishMorphology.builder()
+        .setLexicon("elma")
+        .disableCache()
+        .build();
+    Assert.assertNull(morphology.getPipelineListener());
+    Assert.assertEquals(1, morphology.analyzeSentence("elmalar").size());
+  }
+}
@@ -4,11 +4,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import zemberek.core.ScoredItem;
+import zemberek.core.collections.IntValueMap;
 import zemberek.core.data.CompressedWeights;
 import zemberek.core.data.WeightLookup;
 import zemberek.core.data.Weights;
@@ -17,7 +20,6 @@ import zemberek.core.text.TextUtil;
 import zemberek.morphology.TurkishMorphology;
 import zemberek.morphology.analysis.SingleAnalysis;
 import zemberek.morphology.analysis.WordAnalysis;
-import zemberek.morphology.analysis.WordAnalysisSurfaceFormatter;
 import zemberek.tokenization.TurkishTokenizer;
 
 /**
@@ -29,9 +31,18 @@ public class PerceptronNer {
 
   private TurkishMorphology morphology;
 
+  // Feature major form of the model used for prediction. It is null if model weights are
+  // compressed.
+  private WeightTable weightTable;
+
   public PerceptronNer(Map<String, ClassModel> model, TurkishMorphology morphology) {
     this.model = model;
     this.morphology = morphology;
+    this.weightTable = WeightTable.create(model);
+  }
+
+  Map<String, ClassModel> getModel() {
+    return model;
   }
 
   public void saveModelAsText(Path modelRoot) throws IOException {
@@ -106,34 +117,7 @@ public class PerceptronNer {
     List<NerSentence> resultSentences = new ArrayList<>();
 
     for (NerSentence sentence : set.sentences) {
-      List<NerToken> predictedTokens = new ArrayList<>();
-
-      for (int i = 0; i < sentence.tokens.size(); i++) {
-
-        NerToken currentToken = sentence.tokens.get(i);
-
-        FeatureData data = new FeatureData(morphology, sentence, i);
-        List<String> sparseInputs = data.getTextualFeatures();
-
-        if (i > 0) {
-          sparseInputs.add("PreType=" + predictedTokens.get(i - 1).tokenId);
-        }
-        if (i > 1) {
-          sparseInputs.add("2PreType=" + predictedTokens.get(i - 2).tokenId);
-        }
-        if (i > 2) {
-          sparseInputs.add("3PreType=" + predictedTokens.get(i - 3).tokenId);
-        }
-
-        ScoredItem<String> predicted = PerceptronNer.predictTypeAndPosition(model, sparseInputs);
-
-        NerToken predictedToken = NerToken.fromTypePositionString(
-            currentToken.index, currentToken.word, currentToken.normalized, predicted.item);
-        predictedTokens.add(predictedToken);
-
-      }
-      NerSentence predictedSentence = new NerSentence(sentence.content, predictedTokens);
-      resultSentences.add(predictedSentence);
+      resultSentences.add(new NerSentence(sentence.content, predictTokens(sentence)));
     }
     return new NerDataSet(resultSentences);
   }
@@ -151,34 +135,47 @@ public class PerceptronNer {
     }
 
     NerSentence nerSentence = new NerSentence(sentence, tokens);
+    return new NerSentence(nerSentence.content, predictTokens(nerSentence));
+  }
 
+  // Predicts the tokens of [sentence] one by one. Predicted types of three previous tokens are
+  // features of a token. If there is a weight table, textual features of all tokens are converted
+  // to feature ids once, and only previous type features are looked up for each token.
+  private List<NerToken> predictTokens(NerSentence sentence) {
     List<NerToken> predictedTokens = new ArrayList<>();
+    SentenceFeatures sentenceFeatures = new SentenceFeatures(morphology, sentence);
+    int[][] featureIds = weightTable == null ? null : sentenceFeatures.featureIds(weightTable);
 
-    for (int i = 0; i < nerSentence.tokens.size(); i++) {
+    for (int i = 0; i < sentence.tokens.size(); i++) {
 
-      NerToken currentToken = nerSentence.tokens.get(i);
-
-      FeatureData data = new FeatureData(morphology, nerSentence, i);
-      List<String> sparseInputs = data.getTextualFeatures();
+      NerToken currentToken = sentence.tokens.get(i);
 
+      List<String> typeFeatures = new ArrayList<>(3);
       if (i > 0) {
-        sparseInputs.add("PreType=" + predictedTokens.get(i - 1).tokenId);
+        typeFeatures.add("PreType=" + predictedTokens.get(i - 1).tokenId);
       }
       if (i > 1) {
-        sparseInputs.add("2PreType=" + predictedTokens.get(i - 2).tokenId);
+        typeFeatures.add("2PreType=" + predictedTokens.get(i - 2).tokenId);
       }
       if (i > 2) {
-        sparseInputs.add("3PreType=" + predictedTokens.get(i - 3).tokenId);
+        typeFeatures.add("3PreType=" + predictedTokens.get(i - 3).tokenId);
       }
 
-      ScoredItem<String> predicted = predictTypeAndPosition(model, sparseInputs);
+      ScoredItem<String> predicted;
+      if (weightTable != null) {
+        predicted = weightTable.predict(featureIds[i], typeFeatures);
+      } else {
+        List<String> sparseInputs = sentenceFeatures.getTextualFeatures(i);
+        sparseInputs.addAll(typeFeatures);
+        predicted = predictTypeAndPosition(model, sparseInputs);
+      }
 
       NerToken predictedToken = NerToken.fromTypePositionString(
           currentToken.index, currentToken.word, currentToken.normalized, predicted.item);
       predictedTokens.add(predictedToken);
 
     }
-    return new NerSentence(nerSentence.content, predictedTokens);
+    return predictedTokens;
   }
 
   public NerSentence findNamedEntities(String sentence) {
@@ -279,67 +276,29 @@ public class PerceptronNer {
     }
   }
 
-  static class FeatureData {
-
-    static WordAnalysisSurfaceFormatter formatter = new WordAnalysisSurfaceFormatter();
-    TurkishMorphology morphology;
-    String currentWord;
-    String currentWordOrig;
-    String nextWord;
-    String nextWordOrig;
-    String nextWord2;
-    String nextWord2Orig;
-    String previousWord;
-    String previousWordOrig;
-    String previousWord2;
-    String previousWord2Orig;
-
-    FeatureData(
-        TurkishMorphology morphology,
-        NerSentence sentence,
-        int index) {
-      this.morphology = morphology;
-      List<NerToken> tokens = sentence.tokens;
-      this.currentWord = tokens.get(index).normalized;
-      this.currentWordOrig = tokens.get(index).word;
-      if (index == tokens.size() - 1) {
-        //this.nextWord = "</s>";
-        //this.nextWord2 = "</s>";
-        //this.nextWordOrig = "</s>";
-        //this.nextWord2Orig = "</s>";
-      } else if (index == tokens.size() - 2) {
-        this.nextWord = tokens.get(index + 1).normalized;
-        //this.nextWord2 = "</s>";
-        this.nextWordOrig = tokens.get(index + 1).word;
-        this.nextWord2Orig = tokens.get(index + 1).word;
-      } else {
-        this.nextWord = tokens.get(index + 1).normalized;
-        this.nextWord2 = tokens.get(index + 2).normalized;
-        this.nextWordOrig = tokens.get(index + 1).word;
-        this.nextWord2Orig = tokens.get(index + 1).word;
-      }
-      if (index == 0) {
-        //this.previousWord = "<s>";
-        //this.previousWord2 = "<s>";
-        //this.previousWordOrig = "<s>";
-        //this.previousWord2Orig = "<s>";
-      } else if (index == 1) {
-        this.previousWord = tokens.get(index - 1).normalized;
-        //this.previousWord2 = "<s>";
-        this.previousWordOrig = tokens.get(index - 1).word;
-        this.previousWord2Orig = tokens.get(index - 1).word;
-      } else {
-        this.previousWord = tokens.get(index - 1).normalized;
-        this.previousWord2 = tokens.get(index - 2).normalized;
-        this.previousWordOrig = tokens.get(index - 1).word;
-        this.previousWord2Orig = tokens.get(index - 1).word;
+  /**
+   * Feature extraction for all tokens of a sentence. Each token is analyzed only once and its word
+   * and morphological features are re-used by the feature sets of the token itself and its
+   * neighbours.
+   */
+  static class SentenceFeatures {
+
+    List<NerToken> tokens;
+    List<List<String>> wordFeatures;
+    List<List<String>> morphologicalFeatures;
+
+    SentenceFeatures(TurkishMorphology morphology, NerSentence sentence) {
+      this.tokens = sentence.tokens;
+      this.wordFeatures = new ArrayList<>(tokens.size());
+      this.morphologicalFeatures = new ArrayList<>(tokens.size());
+      for (NerToken token : tokens) {
+        wordFeatures.add(wordFeatures(token.word));
+        morphologicalFeatures.add(morphologicalFeatures(morphology, token.word));
       }
     }
 
-    void morphologicalFeatures(String word, String featurePrefix, List<String> features) {
-      if (word == null) {
-        return;
-      }
+    static List<String> morphologicalFeatures(TurkishMorphology morphology, String word) {
+      List<String> features = new ArrayList<>(5);
       WordAnalysis analyses = morphology.analyze(word);
       SingleAnalysis longest =
           analyses.analysisCount() > 0 ?
@@ -347,7 +306,7 @@ public class PerceptronNer {
               SingleAnalysis.unknown(word);
       for (SingleAnalysis analysis : analyses) {
         if (analysis.isUnknown()) {
-          return;
+          return features;
         }
         if (analysis == longest) {
           continue;
@@ -361,18 +320,82 @@ public class PerceptronNer {
         }
       }
       List<String> lemmas = longest.getLemmas();
-      features.add(featurePrefix + "Stem:" + longest.getStem());
+      features.add("Stem:" + longest.getStem());
       String ending = longest.getEnding();
       if (ending.length() > 0) {
-        features.add(featurePrefix + "Ending:" + ending);
+        features.add("Ending:" + ending);
       }
-      features.add(featurePrefix + "LongLemma:" + lemmas.get(lemmas.size() - 1));
-      features.add(featurePrefix + "POS:" + longest.getPos());
-      features.add(featurePrefix + "LastIg:" + longest.getLastGroup().lexicalForm());
-      //features.add(featurePrefix + "ContainsProper:" + containsProper);
+      features.add("LongLemma:" + lemmas.get(lemmas.size() - 1));
+      features.add("POS:" + longest.getPos());
+      features.add("LastIg:" + longest.getLastGroup().lexicalForm());
+      //features.add("ContainsProper:" + containsProper);
+      return features;
     }
 
-    List<String> getTextualFeatures() {
+    static List<String> wordFeatures(String word) {
+      List<String> features = new ArrayList<>(6);
+      features.add("Upper:" + Character.isUpperCase(word.charAt(0)));
+      features.add("Punct:" + (word.length() == 1));
+      boolean allCap = true;
+      for (char c : word.toCharArray()) {
+        if (!Character.isUpperCase(c)) {
+          allCap = false;
+          break;
+        }
+      }
+      features.add("AllCap:" + allCap);
+      String s = TextUtil.normalizeApostrophes(word);
+      int apostropheIndex = s.indexOf('\'');
+      features.add("Apost:" + (apostropheIndex >= 0));
+      if (apostropheIndex >= 0) {
+        String stem = word.substring(0, apostropheIndex);
+        String ending = word.substring(apostropheIndex + 1);
+        features.add("Stem:" + stem);
+        features.add("Ending:" + ending);
+      }
+      return features;
+    }
+
+    int size() {
+      return tokens.size();
+    }
+
+    /**
+     * Returns ids of the textual features of every token in [table]. Features that are not in the
+     * table are skipped. Feature strings are only used for finding the ids, they are not kept.
+     */
+    int[][] featureIds(WeightTable table) {
+      int[][] ids = new int[tokens.size()][];
+      for (int i = 0; i < tokens.size(); i++) {
+        ids[i] = table.featureIds(getTextualFeatures(i));
+      }
+      return ids;
+    }
+
+    private String normalized(int index) {
+      return index >= 0 && index < tokens.size() ? tokens.get(index).normalized : null;
+    }
+
+    private void addTokenFeatures(
+        List<List<String>> tokenFeatures,
+        int index,
+        String featurePrefix,
+        List<String> features) {
+      if (index < 0 || index >= tokens.size()) {
+        return;
+      }
+      for (String feature : tokenFeatures.get(index)) {
+        features.add(featurePrefix + feature);
+      }
+    }
+
+    List<String> getTextualFeatures(int index) {
+
+      String currentWord = tokens.get(index).normalized;
+      String nextWord = normalized(index + 1);
+      String nextWord2 = normalized(index + 2);
+      String previousWord = normalized(index - 1);
+      String previousWord2 = normalized(index - 2);
 
       List<String> features = new ArrayList<>();
       features.add("CW:" + currentWord);
@@ -388,13 +411,13 @@ public class PerceptronNer {
 
       features.add("PW-CW-NW:" + previousWord + currentWord + nextWord);
 
-      wordFeatures(currentWordOrig, "CW", features);
-      wordFeatures(previousWordOrig, "PW", features);
-      wordFeatures(nextWordOrig, "NW", features);
+      addTokenFeatures(wordFeatures, index, "CW", features);
+      addTokenFeatures(wordFeatures, index - 1, "PW", features);
+      addTokenFeatures(wordFeatures, index + 1, "NW", features);
 
-      morphologicalFeatures(currentWordOrig, "CW", features);
-      morphologicalFeatures(previousWordOrig, "PW", features);
-      morphologicalFeatures(nextWordOrig, "NW", features);
+      addTokenFeatures(morphologicalFeatures, index, "CW", features);
+      addTokenFeatures(morphologicalFeatures, index - 1, "PW", features);
+      addTokenFeatures(morphologicalFeatures, index + 1, "NW", features);
 
       String cwLast2 =
           currentWord.length() > 2 ? currentWord.substring(currentWord.length() - 2) : "";
@@ -418,30 +441,141 @@ public class PerceptronNer {
 
       return features;
     }
+  }
+
+  /**
+   * Weights of all classes in a single feature major table, so scores of all classes are calculated
+   * with one hash lookup per feature. Only non-zero weights are stored: row of a feature contains
+   * the indexes and weights of the classes that have a weight for it. A row takes 6 bytes per
+   * non-zero weight, instead of 4 bytes for every class. Class order and summation order are same
+   * as {@link #predictTypeAndPosition(Map, List)}.
+   */
+  static class WeightTable {
+
+    String[] classIds;
+    // feature -> row index + 1, so that missing features return 0.
+    IntValueMap<String> rows;
+    // weights of row i are in [rowStarts[i], rowStarts[i + 1]) of classIndexes and weights.
+    int[] rowStarts;
+    short[] classIndexes;
+    float[] weights;
+
+    WeightTable(
+        String[] classIds,
+        IntValueMap<String> rows,
+        int[] rowStarts,
+        short[] classIndexes,
+        float[] weights) {
+      this.classIds = classIds;
+      this.rows = rows;
+      this.rowStarts = rowStarts;
+      this.classIndexes = classIndexes;
+      this.weights = weights;
+    }
 
-    void wordFeatures(String word, String featurePrefix, List<String> features) {
-      if (word == null) {
-        return;
+    /**
+     * Creates a table from the model. Returns null if weights of a class cannot be enumerated
+     * (compressed) or table becomes too large.
+     */
+    static WeightTable create(Map<String, ClassModel> model) {
+      if (model.isEmpty() || model.size() > Short.MAX_VALUE) {
+        return null;
       }
-      features.add(featurePrefix + "Upper:" + Character.isUpperCase(word.charAt(0)));
-      features.add(featurePrefix + "Punct:" + (word.length() == 1));
-      boolean allCap = true;
-      for (char c : word.toCharArray()) {
-        if (!Character.isUpperCase(c)) {
-          allCap = false;
-          break;
+      for (ClassModel classModel : model.values()) {
+        if (!(classModel.sparseWeights instanceof Weights)) {
+          return null;
         }
       }
-      features.add(featurePrefix + "AllCap:" + allCap);
-      String s = TextUtil.normalizeApostrophes(word);
-      int apostropheIndex = s.indexOf('\'');
-      features.add(featurePrefix + "Apost:" + (apostropheIndex >= 0));
-      if (apostropheIndex >= 0) {
-        String stem = word.substring(0, apostropheIndex);
-        String ending = word.substring(apostropheIndex + 1);
-        features.add(featurePrefix + "Stem:" + stem);
-        features.add(featurePrefix + "Ending:" + ending);
+      String[] classIds = model.keySet().toArray(new String[0]);
+      IntValueMap<String> rows = new IntValueMap<>();
+      for (String classId : classIds) {
+        for (String feature : (Weights) model.get(classId).sparseWeights) {
+          if (rows.get(feature) == 0) {
+            rows.put(feature, rows.size() + 1);
+          }
+        }
+      }
+      // count non-zero weights of each row, then place them class by class.
+      int[] rowStarts = new int[rows.size() + 1];
+      long total = 0;
+      for (String classId : classIds) {
+        Weights w = (Weights) model.get(classId).sparseWeights;
+        for (String feature : w) {
+          if (w.get(feature) != 0) {
+            rowStarts[rows.get(feature)]++;
+            total++;
+          }
+        }
+      }
+      if (total > Integer.MAX_VALUE - 8) {
+        return null;
+      }
+      for (int i = 1; i < rowStarts.length; i++) {
+        rowStarts[i] += rowStarts[i - 1];
+      }
+      int[] cursors = Arrays.copyOf(rowStarts, rows.size());
+      short[] classIndexes = new short[(int) total];
+      float[] weights = new float[(int) total];
+      for (int c = 0; c < classIds.length; c++) {
+        Weights w = (Weights) model.get(classIds[c]).sparseWeights;
+        for (String feature : w) {
+          float weight = w.get(feature);
+          if (weight != 0) {
+            int k = cursors[rows.get(feature) - 1]++;
+            classIndexes[k] = (short) c;
+            weights[k] = weight;
+          }
+        }
+      }
+      return new WeightTable(classIds, rows, rowStarts, classIndexes, weights);
+    }
+
+    /**
+     * Returns ids of [features] that are in the table, in the same order.
+     */
+    int[] featureIds(List<String> features) {
+      int[] ids = new int[features.size()];
+      int count = 0;
+      for (String feature : features) {
+        int row = rows.get(feature);
+        if (row > 0) {
+          ids[count++] = row - 1;
+        }
+      }
+      return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    private void addWeights(int featureId, float[] scores) {
+      for (int k = rowStarts[featureId]; k < rowStarts[featureId + 1]; k++) {
+        scores[classIndexes[k]] += weights[k];
+      }
+    }
+
+    ScoredItem<String> predict(List<String> sparseKeys) {
+      return predict(featureIds(sparseKeys), Collections.emptyList());
+    }
+
+    /**
+     * Predicts the class with features [featureIds] followed by [sparseKeys].
+     */
+    ScoredItem<String> predict(int[] featureIds, List<String> sparseKeys) {
+      float[] scores = new float[classIds.length];
+      for (int featureId : featureIds) {
+        addWeights(featureId, scores);
+      }
+      for (String s : sparseKeys) {
+        int row = rows.get(s);
+        if (row > 0) {
+          addWeights(row - 1, scores);
+        }
+      }
+      int best = 0;
+      for (int c = 1; c < classIds.length; c++) {
+        if (scores[c] > scores[best]) {
+          best = c;
+        }
       }
+      return new ScoredItem<>(classIds[best], scores[best]);
     }
   }
 
@@ -14,7 +14,7 @@ import zemberek.core.data.Weights;
 import zemberek.core.logging.Log;
 import zemberek.morphology.TurkishMorphology;
 import zemberek.ner.PerceptronNer.ClassModel;
-import zemberek.ner.PerceptronNer.FeatureData;
+import zemberek.ner.PerceptronNer.SentenceFeatures;
 
 public class PerceptronNerTrainer {
 
@@ -49,14 +49,15 @@ public class PerceptronNerTrainer {
 
       for (NerSentence sentence : trainingSet.sentences) {
 
+        SentenceFeatures sentenceFeatures = new SentenceFeatures(morphology, sentence);
+
         for (int i = 0; i < sentence.tokens.size(); i++) {
 
           tokenCount++;
           NerToken currentToken = sentence.tokens.get(i);
           String currentId = currentToken.tokenId;
 
-          FeatureData data = new FeatureData(morphology, sentence, i);
-          List<String> sparseFeatures = data.getTextualFeatures();
+          List<String> sparseFeatures = sentenceFeatures.getTextualFeatures(i);
 
           if (i > 0) {
             sparseFeatures.add("PreType=" + sentence.tokens.get(i - 1).tokenId);
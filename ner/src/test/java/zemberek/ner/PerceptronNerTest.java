@@ -0,0 +1,52 @@
+package zemberek.ner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import zemberek.core.ScoredItem;
+import zemberek.core.io.TestUtil;
+import zemberek.morphology.TurkishMorphology;
+import zemberek.ner.NerDataSet.AnnotationStyle;
+import zemberek.ner.PerceptronNer.SentenceFeatures;
+import zemberek.ner.PerceptronNer.WeightTable;
+
+public class PerceptronNerTest {
+
+  @Test
+  public void weightTablePredictionTest() throws IOException {
+    Path p = TestUtil.tempFileWithData(
+        "[PER Ali Veli] dün [LOC Ankara'ya] gitti .",
+        "[ORG Türk Telekom] [LOC İstanbul'da] bir toplantı yaptı .",
+        "[PER Ayşe] ve [PER Fatma] [LOC İzmir'e] taşındı .");
+    NerDataSet set = NerDataSet.load(p, AnnotationStyle.BRACKET);
+    TurkishMorphology morphology = TurkishMorphology.createWithDefaults();
+    PerceptronNer ner = new PerceptronNerTrainer(morphology).train(set, null, 3, 0.1f);
+
+    WeightTable table = WeightTable.create(ner.getModel());
+    Assert.assertNotNull(table);
+    // only non-zero weights are stored.
+    for (float weight : table.weights) {
+      Assert.assertNotEquals(0, weight, 0);
+    }
+    for (NerSentence sentence : set.sentences) {
+      SentenceFeatures features = new SentenceFeatures(morphology, sentence);
+      Assert.assertEquals(sentence.tokens.size(), features.size());
+      int[][] featureIds = features.featureIds(table);
+      for (int i = 0; i < features.size(); i++) {
+        List<String> sparseKeys = features.getTextualFeatures(i);
+        Assert.assertTrue(sparseKeys.contains("CW:" + sentence.tokens.get(i).normalized));
+        ScoredItem<String> expected = PerceptronNer
+            .predictTypeAndPosition(ner.getModel(), sparseKeys);
+        ScoredItem<String> actual = table.predict(sparseKeys);
+        Assert.assertEquals(expected.item, actual.item);
+        Assert.assertEquals(expected.score, actual.score, 0);
+        actual = table.predict(featureIds[i], Collections.emptyList());
+        Assert.assertEquals(expected.item, actual.item);
+        Assert.assertEquals(expected.score, actual.score, 0);
+      }
+    }
+  }
+}
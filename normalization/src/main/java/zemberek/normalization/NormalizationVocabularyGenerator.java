@@ -9,7 +9,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
+import zemberek.core.collections.ConcurrentHistogram;
 import zemberek.core.collections.Histogram;
 import zemberek.core.concurrency.BlockingExecutor;
 import zemberek.core.logging.Log;
@@ -29,7 +29,6 @@ import zemberek.tokenization.Token.Type;
 public class NormalizationVocabularyGenerator {
 
   private TurkishMorphology morphology;
-  private ReentrantLock lock = new ReentrantLock();
   boolean normalize;
 
   public NormalizationVocabularyGenerator(TurkishMorphology morphology) {
@@ -139,6 +138,34 @@ public class NormalizationVocabularyGenerator {
 
   }
 
+  /**
+   * Vocabulary that is shared by collector threads. Local counts of the threads are added to it
+   * without a global lock.
+   */
+  static class ConcurrentVocabulary {
+
+    ConcurrentHistogram<String> correct = new ConcurrentHistogram<>();
+    ConcurrentHistogram<String> incorrect = new ConcurrentHistogram<>();
+    ConcurrentHistogram<String> ignored = new ConcurrentHistogram<>();
+
+    void add(Vocabulary local) {
+      correct.add(local.correct);
+      incorrect.add(local.incorrect);
+      ignored.add(local.ignored);
+    }
+
+    Vocabulary toVocabulary() {
+      return new Vocabulary(correct.toHistogram(), incorrect.toHistogram(), ignored.toHistogram());
+    }
+
+    public String toString() {
+      return String.format("Correct =%d Incorrect=%d Ignored=%d",
+          correct.size(),
+          incorrect.size(),
+          ignored.size());
+    }
+  }
+
   void createVocabulary(
       BlockTextLoader corpora,
       int threadCount,
@@ -174,7 +201,7 @@ public class NormalizationVocabularyGenerator {
       throws Exception {
 
     ExecutorService executorService = new BlockingExecutor(threadCount);
-    Vocabulary result = new Vocabulary();
+    ConcurrentVocabulary result = new ConcurrentVocabulary();
 
     for (TextChunk chunk : corpora) {
       Log.info("Processing %s", chunk);
@@ -182,15 +209,15 @@ public class NormalizationVocabularyGenerator {
     }
     executorService.shutdown();
     executorService.awaitTermination(1, TimeUnit.DAYS);
-    return result;
+    return result.toVocabulary();
   }
 
   class WordCollectorTask implements Callable<Vocabulary> {
 
     TextChunk chunk;
-    Vocabulary globalVocabulary;
+    ConcurrentVocabulary globalVocabulary;
 
-    WordCollectorTask(TextChunk chunk, Vocabulary globalVocabulary) {
+    WordCollectorTask(TextChunk chunk, ConcurrentVocabulary globalVocabulary) {
       this.chunk = chunk;
       this.globalVocabulary = globalVocabulary;
     }
@@ -240,19 +267,8 @@ public class NormalizationVocabularyGenerator {
         }
       }
       Log.info("%s processed. %s", chunk.toString(), local.toString());
-      try {
-        lock.lock();
-        globalVocabulary.correct.add(local.correct);
-        globalVocabulary.incorrect.add(local.incorrect);
-        globalVocabulary.ignored.add(local.ignored);
-        Log.info("Correct = %d, Incorrect = %d, Ignored = %d",
-            globalVocabulary.correct.size(),
-            globalVocabulary.incorrect.size(),
-            globalVocabulary.ignored.size()
-        );
-      } finally {
-        lock.unlock();
-      }
+      globalVocabulary.add(local);
+      Log.info("Global: %s", globalVocabulary.toString());
       return local;
     }
   }
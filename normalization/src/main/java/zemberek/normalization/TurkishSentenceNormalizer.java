@@ -63,6 +63,7 @@ public class TurkishSentenceNormalizer {
   private HashSet<String> commonConnectedSuffixes = new HashSet<>();
   private HashSet<String> noSplitWords = new HashSet<>();
   boolean alwaysApplyDeasciifier = false;
+  private Deasciifier deasciifier = Deasciifier.getDefault();
 
   public TurkishSentenceNormalizer(
       TurkishMorphology morphology,
@@ -123,6 +124,10 @@ public class TurkishSentenceNormalizer {
     this.alwaysApplyDeasciifier = alwaysApplyDeasciifier;
   }
 
+  public void setDeasciifier(Deasciifier deasciifier) {
+    this.deasciifier = deasciifier;
+  }
+
   // load data with line format: "key=val1,val2"
   private ArrayListMultimap<String, String> loadMultiMap(Path path) throws IOException {
     List<String> lines = TextIO.loadLines(path);
@@ -424,7 +429,7 @@ public class TurkishSentenceNormalizer {
     tokens = TurkishTokenizer.DEFAULT.tokenize(s);
     s = splitNecessaryWords(tokens, false);
     if (alwaysApplyDeasciifier || probablyRequiresDeasciifier(s)) {
-      s = Deasciifier.deasciify(s);
+      s = deasciifier.convertToTurkish(s);
     }
     tokens = TurkishTokenizer.DEFAULT.tokenize(s);
     s = combineNecessaryWords(tokens);
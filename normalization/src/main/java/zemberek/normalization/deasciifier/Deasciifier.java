@@ -1,13 +1,9 @@
 package zemberek.normalization.deasciifier;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import java.util.Arrays;
-import java.util.HashMap;
 
 /**
  * This class provides functionality to deasciify a given ASCII based Turkish text. <p> <p> Note:
@@ -18,148 +14,174 @@ import java.util.HashMap;
  * Deasciifier on Emre Sevinc's Blog</a><br /> <a href="http://github.com/emres/turkish-deasciifier/">Turkish
  * Deasciifier for Python on Emre Sevinc's Github Repo</a><br /> </p> <p> <p> <h3>Usage</h3> <p>
  * <pre>
- * String deasciified = Deasciifier.deasciify(&quot;Hadi bir masal uyduralim, icinde mutlu, doygun, 
+ * Deasciifier deasciifier = Deasciifier.getDefault();
+ * String deasciified = deasciifier.convertToTurkish(&quot;Hadi bir masal uyduralim, icinde mutlu, doygun,
  * telassiz durdugumuz.&quot;);
  * System.out.println(deasciified);
  * </pre>
- * <p> </p>
+ * <p> Instances are immutable and can be shared between threads. A Deasciifier with a different
+ * pattern table can be created with {@link #Deasciifier(PatternTable)} </p>
  *
  * @author Ahmet Alp Balkan <ahmet at ahmetalpbalkan.com>
  */
 public final class Deasciifier {
 
-  private static HashMap<Character, HashMap<String, Integer>> turkishPatternTable = getPatternTableFromResource();
+  private static final int DEFAULT_CONTEXT_SIZE = 10;
 
-  private static HashMap<Character, Character> turkishAsciifyTable = new HashMap<>();
-  private static HashMap<Character, Character> turkishDowncaseAsciifyTable = new HashMap<>();
-  private static HashMap<Character, Character> turkishUpcaseAccentsTable = new HashMap<>();
-  private static HashMap<Character, Character> turkishToggleAccentTable = new HashMap<>();
+  private enum Singleton {
+    Instance;
+    final Deasciifier defaultDeasciifier = new Deasciifier(getPatternTableFromResource());
+    // set by deprecated loadPatternTable, used only by deprecated static methods.
+    volatile Deasciifier loaded;
+
+    Deasciifier legacy() {
+      Deasciifier d = loaded;
+      return d != null ? d : defaultDeasciifier;
+    }
+  }
+
+  private final PatternTable turkishPatternTable;
+
+  // Character lookup tables are indexed by the character itself, 0 value means there is no entry.
+  // All characters used in tables are smaller than TABLE_SIZE.
+  private static final int TABLE_SIZE = 0x160;
+
+  private static final char[] turkishAsciifyTable = new char[TABLE_SIZE];
+  private static final char[] turkishDowncaseAsciifyTable = new char[TABLE_SIZE];
+  private static final char[] turkishUpcaseAccentsTable = new char[TABLE_SIZE];
+  private static final char[] turkishToggleAccentTable = new char[TABLE_SIZE];
 
   static {
-    turkishAsciifyTable.put('ç', 'c');
-    turkishAsciifyTable.put('Ç', 'C');
-    turkishAsciifyTable.put('ğ', 'g');
-    turkishAsciifyTable.put('Ğ', 'G');
-    turkishAsciifyTable.put('ö', 'o');
-    turkishAsciifyTable.put('Ö', 'O');
-    turkishAsciifyTable.put('ı', 'i');
-    turkishAsciifyTable.put('İ', 'I');
-    turkishAsciifyTable.put('ş', 's');
-    turkishAsciifyTable.put('Ş', 'S');
+    turkishAsciifyTable['ç'] = 'c';
+    turkishAsciifyTable['Ç'] = 'C';
+    turkishAsciifyTable['ğ'] = 'g';
+    turkishAsciifyTable['Ğ'] = 'G';
+    turkishAsciifyTable['ö'] = 'o';
+    turkishAsciifyTable['Ö'] = 'O';
+    turkishAsciifyTable['ı'] = 'i';
+    turkishAsciifyTable['İ'] = 'I';
+    turkishAsciifyTable['ş'] = 's';
+    turkishAsciifyTable['Ş'] = 'S';
   }
 
   static {
-    for (Character c = 'A'; c <= 'Z'; c++) {
-      Character lowerCaseCharacter = Character.toLowerCase(c);
-      turkishDowncaseAsciifyTable.put(c, lowerCaseCharacter);
-      turkishDowncaseAsciifyTable.put(lowerCaseCharacter, lowerCaseCharacter);
+    for (char c = 'A'; c <= 'Z'; c++) {
+      char lowerCaseCharacter = Character.toLowerCase(c);
+      turkishDowncaseAsciifyTable[c] = lowerCaseCharacter;
+      turkishDowncaseAsciifyTable[lowerCaseCharacter] = lowerCaseCharacter;
     }
 
-    turkishDowncaseAsciifyTable.put('ç', 'c');
-    turkishDowncaseAsciifyTable.put('Ç', 'c');
-    turkishDowncaseAsciifyTable.put('ğ', 'g');
-    turkishDowncaseAsciifyTable.put('Ğ', 'g');
-    turkishDowncaseAsciifyTable.put('ö', 'o');
-    turkishDowncaseAsciifyTable.put('Ö', 'o');
-    turkishDowncaseAsciifyTable.put('ı', 'i');
-    turkishDowncaseAsciifyTable.put('İ', 'i');
-    turkishDowncaseAsciifyTable.put('ş', 's');
-    turkishDowncaseAsciifyTable.put('Ş', 's');
-    turkishDowncaseAsciifyTable.put('ü', 'u');
-    turkishDowncaseAsciifyTable.put('Ü', 'u');
+    turkishDowncaseAsciifyTable['ç'] = 'c';
+    turkishDowncaseAsciifyTable['Ç'] = 'c';
+    turkishDowncaseAsciifyTable['ğ'] = 'g';
+    turkishDowncaseAsciifyTable['Ğ'] = 'g';
+    turkishDowncaseAsciifyTable['ö'] = 'o';
+    turkishDowncaseAsciifyTable['Ö'] = 'o';
+    turkishDowncaseAsciifyTable['ı'] = 'i';
+    turkishDowncaseAsciifyTable['İ'] = 'i';
+    turkishDowncaseAsciifyTable['ş'] = 's';
+    turkishDowncaseAsciifyTable['Ş'] = 's';
+    turkishDowncaseAsciifyTable['ü'] = 'u';
+    turkishDowncaseAsciifyTable['Ü'] = 'u';
   }
 
   static {
-    for (Character c = 'A'; c <= 'Z'; c++) {
-      Character lowerCaseCharacter = Character.toLowerCase(c);
-      turkishUpcaseAccentsTable.put(c, lowerCaseCharacter);
-      turkishUpcaseAccentsTable.put(lowerCaseCharacter, lowerCaseCharacter);
+    for (char c = 'A'; c <= 'Z'; c++) {
+      char lowerCaseCharacter = Character.toLowerCase(c);
+      turkishUpcaseAccentsTable[c] = lowerCaseCharacter;
+      turkishUpcaseAccentsTable[lowerCaseCharacter] = lowerCaseCharacter;
     }
 
-    turkishUpcaseAccentsTable.put('ç', 'C');
-    turkishUpcaseAccentsTable.put('Ç', 'C');
-    turkishUpcaseAccentsTable.put('ğ', 'G');
-    turkishUpcaseAccentsTable.put('Ğ', 'G');
-    turkishUpcaseAccentsTable.put('ö', 'O');
-    turkishUpcaseAccentsTable.put('Ö', 'O');
-    turkishUpcaseAccentsTable.put('ı', 'I');
-    turkishUpcaseAccentsTable.put('İ', 'i');
-    turkishUpcaseAccentsTable.put('ş', 'S');
-    turkishUpcaseAccentsTable.put('Ş', 'S');
-    turkishUpcaseAccentsTable.put('ü', 'U');
-    turkishUpcaseAccentsTable.put('Ü', 'U');
+    turkishUpcaseAccentsTable['ç'] = 'C';
+    turkishUpcaseAccentsTable['Ç'] = 'C';
+    turkishUpcaseAccentsTable['ğ'] = 'G';
+    turkishUpcaseAccentsTable['Ğ'] = 'G';
+    turkishUpcaseAccentsTable['ö'] = 'O';
+    turkishUpcaseAccentsTable['Ö'] = 'O';
+    turkishUpcaseAccentsTable['ı'] = 'I';
+    turkishUpcaseAccentsTable['İ'] = 'i';
+    turkishUpcaseAccentsTable['ş'] = 'S';
+    turkishUpcaseAccentsTable['Ş'] = 'S';
+    turkishUpcaseAccentsTable['ü'] = 'U';
+    turkishUpcaseAccentsTable['Ü'] = 'U';
   }
 
   static {
-    turkishToggleAccentTable.put('c', 'ç'); // initial direction
-    turkishToggleAccentTable.put('C', 'Ç');
-    turkishToggleAccentTable.put('g', 'ğ');
-    turkishToggleAccentTable.put('G', 'Ğ');
-    turkishToggleAccentTable.put('o', 'ö');
-    turkishToggleAccentTable.put('O', 'Ö');
-    turkishToggleAccentTable.put('u', 'ü');
-    turkishToggleAccentTable.put('U', 'Ü');
-    turkishToggleAccentTable.put('i', 'ı');
-    turkishToggleAccentTable.put('I', 'İ');
-    turkishToggleAccentTable.put('s', 'ş');
-    turkishToggleAccentTable.put('S', 'Ş');
-    turkishToggleAccentTable.put('ç', 'c'); // other direction
-    turkishToggleAccentTable.put('Ç', 'C');
-    turkishToggleAccentTable.put('ğ', 'g');
-    turkishToggleAccentTable.put('Ğ', 'G');
-    turkishToggleAccentTable.put('ö', 'o');
-    turkishToggleAccentTable.put('Ö', 'O');
-    turkishToggleAccentTable.put('ü', 'u');
-    turkishToggleAccentTable.put('Ü', 'U');
-    turkishToggleAccentTable.put('ı', 'i');
-    turkishToggleAccentTable.put('İ', 'I');
-    turkishToggleAccentTable.put('ş', 's');
-    turkishToggleAccentTable.put('Ş', 'S');
+    turkishToggleAccentTable['c'] = 'ç'; // initial direction
+    turkishToggleAccentTable['C'] = 'Ç';
+    turkishToggleAccentTable['g'] = 'ğ';
+    turkishToggleAccentTable['G'] = 'Ğ';
+    turkishToggleAccentTable['o'] = 'ö';
+    turkishToggleAccentTable['O'] = 'Ö';
+    turkishToggleAccentTable['u'] = 'ü';
+    turkishToggleAccentTable['U'] = 'Ü';
+    turkishToggleAccentTable['i'] = 'ı';
+    turkishToggleAccentTable['I'] = 'İ';
+    turkishToggleAccentTable['s'] = 'ş';
+    turkishToggleAccentTable['S'] = 'Ş';
+    turkishToggleAccentTable['ç'] = 'c'; // other direction
+    turkishToggleAccentTable['Ç'] = 'C';
+    turkishToggleAccentTable['ğ'] = 'g';
+    turkishToggleAccentTable['Ğ'] = 'G';
+    turkishToggleAccentTable['ö'] = 'o';
+    turkishToggleAccentTable['Ö'] = 'O';
+    turkishToggleAccentTable['ü'] = 'u';
+    turkishToggleAccentTable['Ü'] = 'U';
+    turkishToggleAccentTable['ı'] = 'i';
+    turkishToggleAccentTable['İ'] = 'I';
+    turkishToggleAccentTable['ş'] = 's';
+    turkishToggleAccentTable['Ş'] = 'S';
+  }
+
+  public Deasciifier(PatternTable turkishPatternTable) {
+    this.turkishPatternTable = turkishPatternTable;
+  }
+
+  /**
+   * Returns the Deasciifier that uses default pattern table. Table is loaded in the first call.
+   */
+  public static Deasciifier getDefault() {
+    return Singleton.Instance.defaultDeasciifier;
+  }
+
+  public PatternTable getPatternTable() {
+    return turkishPatternTable;
   }
 
-  private Deasciifier() {
-    // prevent instances
+  private static char lookup(final char[] table, final char c) {
+    return c < TABLE_SIZE ? table[c] : 0;
   }
 
   private static char turkishToggleAccent(final char c) {
-    return turkishToggleAccentTable.containsKey(c) ? turkishToggleAccentTable.get(c) : c;
+    final char t = lookup(turkishToggleAccentTable, c);
+    return t != 0 ? t : c;
   }
 
-  private static boolean turkishMatchPattern(final char[] buffer, final HashMap<String, Integer> dlist, final int point,
-      final int turkishContextSize) {
-    Integer rank = dlist.size() * 2;
-    final char[] context = turkishGetContext(buffer, turkishContextSize, point);
-    int start = 0;
-    final int contextLength = context.length;
-    while (start <= turkishContextSize) {
-      int end = turkishContextSize + 1;
-      while (end <= contextLength) {
-        final String s = new String(context, start, end - start);
-        final Integer r = dlist.get(s);
-        if (r != null && Math.abs(r) < Math.abs(rank)) {
-          rank = r;
-        }
-        end++;
-      }
-      start++;
-    }
-    return rank > 0;
+  private static boolean turkishMatchPattern(final char[] buffer, final int length,
+      final PatternAutomaton automaton, final int point, final int turkishContextSize,
+      final char[] context) {
+    final int contextLength = turkishGetContext(buffer, length, turkishContextSize, point, context);
+    return automaton.bestRank(context, contextLength) > 0;
   }
 
-  private static char[] turkishGetContext(final char[] buffer, final int size, final int point) {
-    char[] s = new char[1 + (2 * size)];
-    Arrays.fill(s, ' ');
-    s[size] = 'X';
+  /**
+   * Fills the context of the character at [point] to [context] buffer and returns the context
+   * length. Only first [length] characters of the [buffer] are used. Context buffer size must be at
+   * least 1 + 2 * [size].
+   */
+  private static int turkishGetContext(final char[] buffer, final int length, final int size,
+      final int point, final char[] context) {
+    Arrays.fill(context, 0, 1 + (2 * size), ' ');
+    context[size] = PatternAutomaton.MARKER;
 
     int i = size + 1;
     boolean space = false;
     int index = point + 1;
 
-    while (i < s.length && !space && index < buffer.length) {
-      char currentChar = buffer[index];
-      if (turkishDowncaseAsciifyTable.containsKey(currentChar)) {
-        final char x = turkishDowncaseAsciifyTable.get(currentChar);
-        s[i] = x;
+    while (i < 1 + (2 * size) && !space && index < length) {
+      final char x = lookup(turkishDowncaseAsciifyTable, buffer[index]);
+      if (x != 0) {
+        context[i] = x;
       } else {
         space = true;
       }
@@ -167,17 +189,16 @@ public final class Deasciifier {
       index++;
     }
 
-    s = Arrays.copyOf(s, i);
+    final int contextLength = i;
 
     index = point - 1;
     i = size - 1;
     space = false;
 
     while (i >= 0 && index >= 0) {
-      final char currentChar = buffer[index];
-      if (turkishUpcaseAccentsTable.containsKey(currentChar)) {
-        final char x = turkishUpcaseAccentsTable.get(currentChar);
-        s[i] = x;
+      final char x = lookup(turkishUpcaseAccentsTable, buffer[index]);
+      if (x != 0) {
+        context[i] = x;
         i--;
         space = false;
       } else {
@@ -188,19 +209,20 @@ public final class Deasciifier {
       }
       index--;
     }
-    return s;
+    return contextLength;
   }
 
-  private static boolean turkishNeedCorrection(final char[] buffer, final char c, final int point,
-      final int turkishContextSize) {
+  private boolean turkishNeedCorrection(final char[] buffer, final int length, final char c,
+      final int point, final int turkishContextSize, final char[] context) {
 
-    final char tr = turkishAsciifyTable.containsKey(c) ? turkishAsciifyTable.get(c) : c;
+    final char a = lookup(turkishAsciifyTable, c);
+    final char tr = a != 0 ? a : c;
 
-    final HashMap<String, Integer> pl = turkishPatternTable.get(Character.toLowerCase(tr));
+    final PatternAutomaton automaton = turkishPatternTable.get(Character.toLowerCase(tr));
 
     boolean m = false;
-    if (pl != null) {
-      m = turkishMatchPattern(buffer, pl, point, turkishContextSize);
+    if (automaton != null) {
+      m = turkishMatchPattern(buffer, length, automaton, point, turkishContextSize, context);
     }
 
     if (tr == 'I') {
@@ -214,9 +236,10 @@ public final class Deasciifier {
    *
    * @return Deasciified text.
    */
-  public static String deasciify(final String asciiString, final int turkishContextSize) {
+  public String convertToTurkish(final String asciiString, final int turkishContextSize) {
     final char[] buffer = asciiString.toCharArray();
-    deasciify(buffer, buffer.length, turkishContextSize);
+    convertToTurkish(buffer, buffer.length, turkishContextSize,
+        new char[1 + (2 * turkishContextSize)]);
     return new String(buffer);
   }
 
@@ -225,8 +248,33 @@ public final class Deasciifier {
    *
    * @return Deasciified text.
    */
-  public static String deasciify(final String asciiString) {
-    return deasciify(asciiString, 10);
+  public String convertToTurkish(final String asciiString) {
+    return convertToTurkish(asciiString, DEFAULT_CONTEXT_SIZE);
+  }
+
+  /**
+   * Converts all inputs with ASCII-only letters into ones with Turkish letters. Working buffers are
+   * reused for all inputs.
+   *
+   * @return Deasciified texts, in the same order with the input.
+   */
+  public String[] convertToTurkish(final CharSequence[] asciiInputs) {
+    final String[] result = new String[asciiInputs.length];
+    final char[] context = new char[1 + (2 * DEFAULT_CONTEXT_SIZE)];
+    char[] buffer = new char[64];
+    for (int i = 0; i < asciiInputs.length; i++) {
+      final CharSequence input = asciiInputs[i];
+      final int length = input.length();
+      if (buffer.length < length) {
+        buffer = new char[Math.max(length, buffer.length * 2)];
+      }
+      for (int j = 0; j < length; j++) {
+        buffer[j] = input.charAt(j);
+      }
+      convertToTurkish(buffer, length, DEFAULT_CONTEXT_SIZE, context);
+      result[i] = new String(buffer, 0, length);
+    }
+    return result;
   }
 
   /**
@@ -235,69 +283,106 @@ public final class Deasciifier {
    *
    * @return true if any modification has been made.
    */
-  public static boolean deasciify(final char[] buffer, final int length, final int turkishContextSize) {
+  public boolean convertToTurkish(final char[] buffer, final int length, final int turkishContextSize) {
+    return convertToTurkish(buffer, length, turkishContextSize, new char[1 + (2 * turkishContextSize)]);
+  }
+
+  /**
+   * Convert a char buffer with ASCII-only letters into one with Turkish letters
+   * (in-place).
+   *
+   * @return true if any modification has been made.
+   */
+  public boolean convertToTurkish(final char[] buffer, final int length) {
+    return convertToTurkish(buffer, length, DEFAULT_CONTEXT_SIZE);
+  }
+
+  // context buffer is reused for all characters.
+  private boolean convertToTurkish(final char[] buffer, final int length, final int turkishContextSize,
+      final char[] context) {
     boolean altered = false;
     for (int i = 0; i < length; i++) {
       final char c = buffer[i];
-      if (turkishNeedCorrection(buffer, c, i, turkishContextSize)) {
+      if (turkishNeedCorrection(buffer, length, c, i, turkishContextSize, context)) {
         buffer[i] = turkishToggleAccent(c);
         altered = true;
-      } else {
-        buffer[i] = c;
       }
     }
     return altered;
   }
 
+  private static PatternTable getPatternTableFromResource() {
+    try {
+      return PatternTable.loadDefault();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   /**
-   * Convert a char buffer with ASCII-only letters into one with Turkish letters
-   * (in-place).
+   * Convert a string with ASCII-only letters into one with Turkish letters.
    *
-   * @return true if any modification has been made.
+   * @return Deasciified text.
+   * @deprecated use {@link #getDefault()} and {@link #convertToTurkish(String, int)}.
    */
-  public static boolean deasciify(final char[] buffer, final int length) {
-    return deasciify(buffer, length, 10);
+  @Deprecated
+  public static String deasciify(final String asciiString, final int turkishContextSize) {
+    return Singleton.Instance.legacy().convertToTurkish(asciiString, turkishContextSize);
   }
 
-  private static HashMap<Character, HashMap<String, Integer>> getPatternTableFromResource() {
-    final InputStream is = Deasciifier.class.getResourceAsStream("/patterns/turkishPatternTable");
-    return getPatternTable(is);
+  /**
+   * Convert a string with ASCII-only letters into one with Turkish letters.
+   *
+   * @return Deasciified text.
+   * @deprecated use {@link #getDefault()} and {@link #convertToTurkish(String)}.
+   */
+  @Deprecated
+  public static String deasciify(final String asciiString) {
+    return Singleton.Instance.legacy().convertToTurkish(asciiString);
   }
 
-  private static HashMap<Character, HashMap<String, Integer>> getPatternTable(final InputStream is) {
-    try (final ObjectInputStream ois = new ObjectInputStream(is)) {
-      return (HashMap<Character, HashMap<String, Integer>>) ois.readObject();
-    } catch (final Exception e) {
-      e.printStackTrace();
-      return null;
-    }
+  /**
+   * Convert a char buffer with ASCII-only letters into one with Turkish letters (in-place).
+   *
+   * @return true if any modification has been made.
+   * @deprecated use {@link #getDefault()} and {@link #convertToTurkish(char[], int, int)}.
+   */
+  @Deprecated
+  public static boolean deasciify(final char[] buffer, final int length,
+      final int turkishContextSize) {
+    return Singleton.Instance.legacy().convertToTurkish(buffer, length, turkishContextSize);
   }
 
-  public static synchronized void loadPatternTable(final String filename) throws IOException {
-    FileInputStream f = null;
-    try {
-      f = new FileInputStream(filename);
-      turkishPatternTable = getPatternTable(f);
-    }
-    finally {
-      if (f != null) {
-        f.close();
-      }
-    }
+  /**
+   * Convert a char buffer with ASCII-only letters into one with Turkish letters (in-place).
+   *
+   * @return true if any modification has been made.
+   * @deprecated use {@link #getDefault()} and {@link #convertToTurkish(char[], int)}.
+   */
+  @Deprecated
+  public static boolean deasciify(final char[] buffer, final int length) {
+    return Singleton.Instance.legacy().convertToTurkish(buffer, length);
   }
 
+  /**
+   * Loads a pattern table in binary {@link PatternTable} format. Only the deprecated static
+   * methods use the loaded table, {@link #getDefault()} is not affected.
+   *
+   * @deprecated use {@link #Deasciifier(PatternTable)} with {@link PatternTable#load(java.nio.file.Path)}.
+   */
+  @Deprecated
+  public static void loadPatternTable(final String filename) throws IOException {
+    Singleton.Instance.loaded = new Deasciifier(PatternTable.load(Paths.get(filename)));
+  }
+
+  /**
+   * Saves the pattern table used by the deprecated static methods in binary {@link PatternTable}
+   * format.
+   *
+   * @deprecated use {@link #getPatternTable()} and {@link PatternTable#save(java.nio.file.Path)}.
+   */
+  @Deprecated
   public static void savePatternTable(final String filename) throws IOException {
-    FileOutputStream f = null;
-    try {
-      f = new FileOutputStream(filename);
-      final ObjectOutputStream out = new ObjectOutputStream(f);
-      out.writeObject(turkishPatternTable);
-      out.close();
-    }
-    finally {
-      if (f != null) {
-        f.close();
-      }
-    }
+    Singleton.Instance.legacy().getPatternTable().save(Paths.get(filename));
   }
 }
@@ -0,0 +1,228 @@
+package zemberek.normalization.deasciifier;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton compiled from the decision list patterns of a single letter. Every
+ * pattern contains the 'X' marker that stands for the letter being decided. Input context is
+ * scanned once and the rank with the smallest absolute value among all matching patterns is
+ * returned. Automaton is stored in flat primitive arrays, children of a state are kept sorted by
+ * label so lookups do not allocate.
+ */
+final class PatternAutomaton {
+
+  static final char MARKER = 'X';
+
+  // Used for states that do not end any pattern.
+  static final int NO_RANK = Integer.MAX_VALUE;
+
+  // children of state s are stored in [childStart[s], childStart[s+1])
+  private final int[] childStart;
+  private final char[] labels;
+  private final int[] targets;
+  private final int[] fail;
+  // rank of the pattern that ends at this state, NO_RANK if none.
+  private final int[] ownRank;
+  // best (smallest absolute) rank of all patterns that are suffixes of this state.
+  private final int[] outRank;
+  private final int patternCount;
+
+  private PatternAutomaton(
+      int[] childStart,
+      char[] labels,
+      int[] targets,
+      int[] fail,
+      int[] ownRank,
+      int[] outRank,
+      int patternCount) {
+    this.childStart = childStart;
+    this.labels = labels;
+    this.targets = targets;
+    this.fail = fail;
+    this.ownRank = ownRank;
+    this.outRank = outRank;
+    this.patternCount = patternCount;
+  }
+
+  int patternCount() {
+    return patternCount;
+  }
+
+  int stateCount() {
+    return fail.length;
+  }
+
+  /**
+   * Returns the rank of the matching pattern with the smallest absolute rank value in
+   * context[0..length). If there is no match, `patternCount * 2` is returned, same as the original
+   * decision list implementation.
+   */
+  int bestRank(char[] context, int length) {
+    int rank = patternCount * 2;
+    int state = 0;
+    for (int i = 0; i < length; i++) {
+      state = next(state, context[i]);
+      int r = outRank[state];
+      if (r != NO_RANK && Math.abs(r) < Math.abs(rank)) {
+        rank = r;
+      }
+    }
+    return rank;
+  }
+
+  private int next(int state, char c) {
+    while (true) {
+      int t = child(state, c);
+      if (t >= 0) {
+        return t;
+      }
+      if (state == 0) {
+        return 0;
+      }
+      state = fail[state];
+    }
+  }
+
+  private int child(int state, char c) {
+    int lo = childStart[state];
+    int hi = childStart[state + 1] - 1;
+    while (lo <= hi) {
+      int mid = (lo + hi) >>> 1;
+      char l = labels[mid];
+      if (l < c) {
+        lo = mid + 1;
+      } else if (l > c) {
+        hi = mid - 1;
+      } else {
+        return targets[mid];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns patterns and their ranks that generated this automaton.
+   */
+  Map<String, Integer> patterns() {
+    Map<String, Integer> result = new TreeMap<>();
+    collect(0, new StringBuilder(), result);
+    return result;
+  }
+
+  private void collect(int state, StringBuilder sb, Map<String, Integer> result) {
+    if (ownRank[state] != NO_RANK) {
+      result.put(sb.toString(), ownRank[state]);
+    }
+    for (int i = childStart[state]; i < childStart[state + 1]; i++) {
+      sb.append(labels[i]);
+      collect(targets[i], sb, result);
+      sb.setLength(sb.length() - 1);
+    }
+  }
+
+  /**
+   * Compiles an automaton from pattern -> rank map. Each pattern must contain the marker character
+   * 'X' and ranks must be non zero.
+   */
+  static PatternAutomaton compile(Map<String, Integer> patterns) {
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    List<Integer> ranks = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    ranks.add(NO_RANK);
+
+    for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+      String pattern = entry.getKey();
+      int rank = entry.getValue();
+      if (pattern.indexOf(MARKER) < 0) {
+        throw new IllegalArgumentException(
+            "Pattern [" + pattern + "] does not contain marker character " + MARKER);
+      }
+      if (rank == 0 || rank == NO_RANK) {
+        throw new IllegalArgumentException(
+            "Illegal rank " + rank + " for pattern [" + pattern + "]");
+      }
+      int state = 0;
+      for (int i = 0; i < pattern.length(); i++) {
+        char c = pattern.charAt(i);
+        Integer t = trie.get(state).get(c);
+        if (t == null) {
+          t = trie.size();
+          trie.add(new TreeMap<>());
+          ranks.add(NO_RANK);
+          trie.get(state).put(c, t);
+        }
+        state = t;
+      }
+      ranks.set(state, rank);
+    }
+
+    int stateCount = trie.size();
+    int[] childStart = new int[stateCount + 1];
+    int edgeCount = 0;
+    for (int i = 0; i < stateCount; i++) {
+      childStart[i] = edgeCount;
+      edgeCount += trie.get(i).size();
+    }
+    childStart[stateCount] = edgeCount;
+
+    char[] labels = new char[edgeCount];
+    int[] targets = new int[edgeCount];
+    int[] ownRank = new int[stateCount];
+    for (int i = 0; i < stateCount; i++) {
+      int k = childStart[i];
+      for (Map.Entry<Character, Integer> e : trie.get(i).entrySet()) {
+        labels[k] = e.getKey();
+        targets[k] = e.getValue();
+        k++;
+      }
+      ownRank[i] = ranks.get(i);
+    }
+
+    // Breadth first traversal for failure links. Because parents are processed before children,
+    // outRank of the failure state is final when a state is visited.
+    int[] fail = new int[stateCount];
+    int[] outRank = new int[stateCount];
+    outRank[0] = ownRank[0];
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int i = childStart[0]; i < childStart[1]; i++) {
+      int t = targets[i];
+      fail[t] = 0;
+      outRank[t] = ownRank[t];
+      queue.add(t);
+    }
+
+    PatternAutomaton automaton = new PatternAutomaton(
+        childStart, labels, targets, fail, ownRank, outRank, patterns.size());
+
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = childStart[state]; i < childStart[state + 1]; i++) {
+        int t = targets[i];
+        int f = fail[state];
+        int ft;
+        while ((ft = automaton.child(f, labels[i])) < 0 && f != 0) {
+          f = fail[f];
+        }
+        fail[t] = ft < 0 ? 0 : ft;
+        outRank[t] = better(ownRank[t], outRank[fail[t]]);
+        queue.add(t);
+      }
+    }
+    return automaton;
+  }
+
+  private static int better(int a, int b) {
+    if (a == NO_RANK) {
+      return b;
+    }
+    if (b == NO_RANK) {
+      return a;
+    }
+    return Math.abs(a) <= Math.abs(b) ? a : b;
+  }
+}
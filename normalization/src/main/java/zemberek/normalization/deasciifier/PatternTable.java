@@ -0,0 +1,141 @@
+package zemberek.normalization.deasciifier;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import zemberek.core.io.IOUtil;
+
+/**
+ * Deasciifier decision list patterns compiled into one {@link PatternAutomaton} per ascii letter
+ * [c, g, i, o, s, u].
+ * <p>
+ * Binary format:
+ * <pre>
+ * int   magic
+ * int   letter count
+ * for each letter:
+ *   char  letter
+ *   int   pattern count
+ *   for each pattern:
+ *     utf  pattern
+ *     int  rank
+ * </pre>
+ */
+public final class PatternTable {
+
+  private static final int MAGIC = 0xdea5c11f;
+
+  static final String DEFAULT_RESOURCE = "/patterns/turkish-patterns.bin";
+
+  // Indexed by ascii lowercase letter.
+  private final PatternAutomaton[] automata = new PatternAutomaton[128];
+
+  private PatternTable(Map<Character, ? extends Map<String, Integer>> patterns) {
+    for (Map.Entry<Character, ? extends Map<String, Integer>> entry : patterns.entrySet()) {
+      char letter = entry.getKey();
+      if (letter >= automata.length) {
+        throw new IllegalArgumentException("Pattern table letter must be ascii but it is " + letter);
+      }
+      automata[letter] = PatternAutomaton.compile(entry.getValue());
+    }
+  }
+
+  /**
+   * Creates a pattern table from a letter -> (pattern -> rank) map.
+   */
+  public static PatternTable fromMap(Map<Character, ? extends Map<String, Integer>> patterns) {
+    return new PatternTable(patterns);
+  }
+
+  /**
+   * Loads the default pattern table from class path.
+   */
+  public static PatternTable loadDefault() throws IOException {
+    try (InputStream is = PatternTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+      if (is == null) {
+        throw new IOException("Resource " + DEFAULT_RESOURCE + " not found.");
+      }
+      return load(is);
+    }
+  }
+
+  public static PatternTable load(Path path) throws IOException {
+    try (DataInputStream dis = IOUtil.getDataInputStream(path)) {
+      return load(dis);
+    }
+  }
+
+  /**
+   * Loads a pattern table in binary format. Stream is not closed.
+   */
+  public static PatternTable load(InputStream is) throws IOException {
+    DataInputStream dis = IOUtil.getDataInputStream(is);
+    int magic = dis.readInt();
+    if (magic != MAGIC) {
+      throw new IllegalStateException("Stream does not carry expected value in the beginning.");
+    }
+    int letterCount = dis.readInt();
+    Map<Character, Map<String, Integer>> patterns = new TreeMap<>();
+    for (int i = 0; i < letterCount; i++) {
+      char letter = dis.readChar();
+      int count = dis.readInt();
+      Map<String, Integer> ranks = new TreeMap<>();
+      for (int j = 0; j < count; j++) {
+        ranks.put(dis.readUTF(), dis.readInt());
+      }
+      patterns.put(letter, ranks);
+    }
+    return new PatternTable(patterns);
+  }
+
+  /**
+   * Loads a pattern table that is stored as a Java serialized
+   * <code>HashMap&lt;Character, HashMap&lt;String, Integer&gt;&gt;</code>. This was the format used
+   * by older versions. It is only intended for converting those tables with {@link #save(Path)}.
+   */
+  @SuppressWarnings("unchecked")
+  public static PatternTable loadJavaSerialized(InputStream is) throws IOException {
+    try (ObjectInputStream ois = new ObjectInputStream(is)) {
+      return new PatternTable((Map<Character, Map<String, Integer>>) ois.readObject());
+    } catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
+
+  public void save(Path path) throws IOException {
+    try (DataOutputStream dos = IOUtil.getDataOutputStream(path)) {
+      int letterCount = 0;
+      for (PatternAutomaton automaton : automata) {
+        if (automaton != null) {
+          letterCount++;
+        }
+      }
+      dos.writeInt(MAGIC);
+      dos.writeInt(letterCount);
+      for (char c = 0; c < automata.length; c++) {
+        if (automata[c] == null) {
+          continue;
+        }
+        Map<String, Integer> patterns = automata[c].patterns();
+        dos.writeChar(c);
+        dos.writeInt(patterns.size());
+        for (Map.Entry<String, Integer> entry : patterns.entrySet()) {
+          dos.writeUTF(entry.getKey());
+          dos.writeInt(entry.getValue());
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the automaton for ascii lowercase letter, or null if table has no patterns for it.
+   */
+  PatternAutomaton get(char letter) {
+    return letter < automata.length ? automata[letter] : null;
+  }
+}
@@ -0,0 +1,78 @@
+package zemberek.normalization.deasciifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DeasciifierTest {
+
+  @Test
+  public void deasciifyTest() {
+    Deasciifier deasciifier = Deasciifier.getDefault();
+    for (int i = 0; i < TestDeasciifier.asciiStrings.length; i++) {
+      Assert.assertEquals(
+          TestDeasciifier.turkishStrings[i],
+          deasciifier.convertToTurkish(TestDeasciifier.asciiStrings[i]));
+    }
+  }
+
+  @Test
+  public void bulkDeasciifyTest() {
+    String[] result = Deasciifier.getDefault().convertToTurkish(TestDeasciifier.asciiStrings);
+    Assert.assertArrayEquals(TestDeasciifier.turkishStrings, result);
+    // shorter inputs after longer ones should not be affected from stale buffer content.
+    result = Deasciifier.getDefault().convertToTurkish(new CharSequence[]{
+        TestDeasciifier.asciiStrings[4], new StringBuilder("Bogurtuler")});
+    Assert.assertEquals("Böğürtüler", result[1]);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void deprecatedStaticApiTest() {
+    for (int i = 0; i < TestDeasciifier.asciiStrings.length; i++) {
+      Assert.assertEquals(
+          TestDeasciifier.turkishStrings[i],
+          Deasciifier.deasciify(TestDeasciifier.asciiStrings[i]));
+    }
+    char[] buffer = "Bogurtuler".toCharArray();
+    Assert.assertTrue(Deasciifier.deasciify(buffer, buffer.length));
+    Assert.assertEquals("Böğürtüler", new String(buffer));
+  }
+
+  @Test
+  public void customTableTest() {
+    Map<String, Integer> patterns = new HashMap<>();
+    patterns.put("aX", 1);
+    patterns.put("eX", -2);
+    Map<Character, Map<String, Integer>> table = new HashMap<>();
+    table.put('c', patterns);
+    Deasciifier custom = new Deasciifier(PatternTable.fromMap(table));
+
+    Assert.assertEquals("açe", custom.convertToTurkish("ace"));
+    Assert.assertEquals("ece", custom.convertToTurkish("ece"));
+    // default instance is not affected.
+    Assert.assertEquals("ece", Deasciifier.getDefault().convertToTurkish("ece"));
+  }
+
+  @Test
+  public void multiThreadedTest() throws Exception {
+    Deasciifier deasciifier = Deasciifier.getDefault();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<Boolean>> futures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      int k = i % TestDeasciifier.asciiStrings.length;
+      futures.add(executor.submit(() -> TestDeasciifier.turkishStrings[k]
+          .equals(deasciifier.convertToTurkish(TestDeasciifier.asciiStrings[k]))));
+    }
+    for (Future<Boolean> future : futures) {
+      Assert.assertTrue(future.get());
+    }
+    executor.shutdown();
+  }
+}
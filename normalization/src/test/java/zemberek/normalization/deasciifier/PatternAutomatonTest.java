@@ -0,0 +1,104 @@
+package zemberek.normalization.deasciifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PatternAutomatonTest {
+
+  @Test
+  public void bestRankTest() {
+    Map<String, Integer> patterns = new HashMap<>();
+    patterns.put("aX", 5);
+    patterns.put("Xb", -3);
+    patterns.put("caXb", 2);
+    patterns.put("X", 7);
+    PatternAutomaton automaton = PatternAutomaton.compile(patterns);
+
+    Assert.assertEquals(7, automaton.bestRank("  X  ".toCharArray(), 5));
+    Assert.assertEquals(5, automaton.bestRank(" aXc".toCharArray(), 4));
+    Assert.assertEquals(-3, automaton.bestRank(" aXb".toCharArray(), 4));
+    Assert.assertEquals(2, automaton.bestRank("caXb".toCharArray(), 4));
+  }
+
+  @Test
+  public void noMatchReturnsDefaultRank() {
+    Map<String, Integer> patterns = new HashMap<>();
+    patterns.put("aX", 1);
+    patterns.put("bX", 2);
+    PatternAutomaton automaton = PatternAutomaton.compile(patterns);
+    Assert.assertEquals(4, automaton.bestRank("cX".toCharArray(), 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void patternWithoutMarkerFails() {
+    Map<String, Integer> patterns = new HashMap<>();
+    patterns.put("abc", 1);
+    PatternAutomaton.compile(patterns);
+  }
+
+  @Test
+  public void randomPatternsMatchBruteForce() {
+    Random random = new Random(1);
+    char[] alphabet = {'a', 'b', 'c', ' '};
+    Map<String, Integer> patterns = new HashMap<>();
+    int rank = 1;
+    while (patterns.size() < 300) {
+      String p = randomString(random, alphabet, random.nextInt(3)) + 'X'
+          + randomString(random, alphabet, random.nextInt(3));
+      if (!patterns.containsKey(p)) {
+        patterns.put(p, random.nextBoolean() ? rank : -rank);
+        rank++;
+      }
+    }
+    PatternAutomaton automaton = PatternAutomaton.compile(patterns);
+    Assert.assertEquals(patterns, automaton.patterns());
+
+    for (int i = 0; i < 1000; i++) {
+      char[] context = (randomString(random, alphabet, 4) + 'X' + randomString(random, alphabet,
+          random.nextInt(5))).toCharArray();
+      Assert.assertEquals(
+          bruteForceRank(patterns, context, 4),
+          automaton.bestRank(context, context.length));
+    }
+  }
+
+  @Test
+  public void saveLoadTest() throws IOException {
+    PatternTable table = PatternTable.loadDefault();
+    Path tmp = Files.createTempFile("patterns", ".bin");
+    tmp.toFile().deleteOnExit();
+    table.save(tmp);
+    PatternTable loaded = PatternTable.load(tmp);
+    for (char c : "cgiosu".toCharArray()) {
+      Assert.assertEquals(table.get(c).patterns(), loaded.get(c).patterns());
+    }
+  }
+
+  // Decision list lookup of the original implementation.
+  private static int bruteForceRank(Map<String, Integer> patterns, char[] context, int size) {
+    int rank = patterns.size() * 2;
+    for (int start = 0; start <= size; start++) {
+      for (int end = size + 1; end <= context.length; end++) {
+        Integer r = patterns.get(new String(context, start, end - start));
+        if (r != null && Math.abs(r) < Math.abs(rank)) {
+          rank = r;
+        }
+      }
+    }
+    return rank;
+  }
+
+  private static String randomString(Random random, char[] alphabet, int length) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      sb.append(alphabet[random.nextInt(alphabet.length)]);
+    }
+    return sb.toString();
+  }
+}
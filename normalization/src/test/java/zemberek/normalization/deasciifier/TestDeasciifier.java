@@ -28,7 +28,7 @@ public class TestDeasciifier {
       System.out.println("Test "
           + (i + 1)
           + " : "
-          + Deasciifier.deasciify(asciiStrings[i])
+          + Deasciifier.getDefault().convertToTurkish(asciiStrings[i])
           .equals(turkishStrings[i]));
     }
   }